@@ -0,0 +1,141 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Servlet deployed on embedded servers during benchmarks: responses are precomputed, so that
+ * benchmarks measure http clients rather than the application.
+ *
+ * <ul>
+ *   <li>{@code GET /small}: returns a small text body.</li>
+ *   <li>{@code POST /form}: reads form parameters and returns their number.</li>
+ *   <li>{@code GET /large}: returns a body of {@link #LARGE_BODY_SIZE} bytes.</li>
+ *   <li>{@code POST /large}: reads the request body and returns its size.</li>
+ *   <li>{@code GET /cookies}: reads request cookies, returns their number and sets a cookie.</li>
+ * </ul>
+ */
+public class BenchmarkServlet extends HttpServlet {
+
+	/**
+	 * The size of large bodies, in bytes.
+	 */
+	static final int LARGE_BODY_SIZE = 1024 * 1024;
+
+	/**
+	 * The small body.
+	 */
+	private static final byte[] SMALL_BODY = "Hello World".getBytes();
+
+	/**
+	 * The large body.
+	 */
+	private static final byte[] LARGE_BODY = largeBody();
+
+	@Override
+	protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+		String path = req.getPathInfo();
+		if ("/small".equals(path)) {
+			write(resp, "text/plain", SMALL_BODY);
+		}
+		else if ("/large".equals(path)) {
+			write(resp, "application/octet-stream", LARGE_BODY);
+		}
+		else if ("/cookies".equals(path)) {
+			Cookie[] cookies = req.getCookies();
+			resp.addCookie(new Cookie("session", "benchmark"));
+			write(resp, "text/plain", String.valueOf(cookies == null ? 0 : cookies.length).getBytes());
+		}
+		else {
+			resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+		}
+	}
+
+	@Override
+	protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+		String path = req.getPathInfo();
+		if ("/form".equals(path)) {
+			write(resp, "text/plain", String.valueOf(req.getParameterMap().size()).getBytes());
+		}
+		else if ("/large".equals(path)) {
+			write(resp, "text/plain", String.valueOf(read(req.getInputStream())).getBytes());
+		}
+		else {
+			resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+		}
+	}
+
+	/**
+	 * Write response.
+	 *
+	 * @param resp The response.
+	 * @param contentType The content type.
+	 * @param body The response body.
+	 * @throws IOException If an error occurred while writing the body.
+	 */
+	private static void write(HttpServletResponse resp, String contentType, byte[] body) throws IOException {
+		resp.setStatus(HttpServletResponse.SC_OK);
+		resp.setContentType(contentType);
+		resp.setContentLength(body.length);
+		resp.getOutputStream().write(body);
+	}
+
+	/**
+	 * Read (and discard) a request body.
+	 *
+	 * @param stream The body stream.
+	 * @return The number of bytes read.
+	 * @throws IOException If an error occurred while reading the body.
+	 */
+	private static long read(InputStream stream) throws IOException {
+		byte[] buffer = new byte[8192];
+		long size = 0;
+		int read;
+		while ((read = stream.read(buffer)) >= 0) {
+			size += read;
+		}
+
+		return size;
+	}
+
+	/**
+	 * Create the large body.
+	 *
+	 * @return The body.
+	 */
+	private static byte[] largeBody() {
+		byte[] body = new byte[LARGE_BODY_SIZE];
+		Arrays.fill(body, (byte) 'a');
+		return body;
+	}
+}
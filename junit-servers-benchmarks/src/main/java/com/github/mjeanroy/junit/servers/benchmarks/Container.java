@@ -0,0 +1,73 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.benchmarks;
+
+import java.io.File;
+
+import com.github.mjeanroy.junit.servers.jetty.EmbeddedJetty;
+import com.github.mjeanroy.junit.servers.jetty.EmbeddedJettyConfiguration;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.tomcat.EmbeddedTomcat;
+import com.github.mjeanroy.junit.servers.tomcat.EmbeddedTomcatConfiguration;
+
+/**
+ * Embedded servers used by benchmarks.
+ */
+public enum Container {
+
+	/**
+	 * Use an {@link EmbeddedJetty} server.
+	 */
+	JETTY {
+		@Override
+		EmbeddedServer<?> create(File webapp) {
+			return new EmbeddedJetty(EmbeddedJettyConfiguration.builder()
+				.withWebapp(webapp)
+				.withClasspath(webapp.getAbsolutePath())
+				.build());
+		}
+	},
+
+	/**
+	 * Use an {@link EmbeddedTomcat} server.
+	 */
+	TOMCAT {
+		@Override
+		EmbeddedServer<?> create(File webapp) {
+			return new EmbeddedTomcat(EmbeddedTomcatConfiguration.builder()
+				.withWebapp(webapp)
+				.withClasspath(webapp.getAbsolutePath())
+				.build());
+		}
+	};
+
+	/**
+	 * Create the embedded server (not started), serving given webapp directory.
+	 *
+	 * @param webapp The webapp directory.
+	 * @return The embedded server.
+	 */
+	abstract EmbeddedServer<?> create(File webapp);
+}
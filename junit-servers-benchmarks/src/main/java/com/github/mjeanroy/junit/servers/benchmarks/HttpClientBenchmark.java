@@ -0,0 +1,234 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.mjeanroy.junit.servers.client.Cookie;
+import com.github.mjeanroy.junit.servers.client.Cookies;
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
+import com.github.mjeanroy.junit.servers.client.HttpRequest;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+
+/**
+ * Benchmarks of the {@link HttpClientStrategy} implementations, querying an in-process embedded server.
+ *
+ * <p>
+ *
+ * Each benchmark executes a request synchronously and reads the full response body. Build the
+ * module and run the benchmarks with the JMH command line, for example (with allocation rates):
+ *
+ * <pre><code>
+ *   mvn -pl junit-servers-benchmarks -am package
+ *   java -jar junit-servers-benchmarks/target/benchmarks.jar HttpClientBenchmark -prof gc
+ * </code></pre>
+ *
+ * Parameters can be restricted with the {@code -p} option, such as {@code -p container=JETTY -p strategy=OK_HTTP3}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpClientBenchmark {
+
+	/**
+	 * The number of cookies sent by cookie-heavy requests.
+	 */
+	private static final int COOKIES = 20;
+
+	/**
+	 * The http client implementation.
+	 */
+	@Param({ "OK_HTTP3", "ASYNC_HTTP_CLIENT", "NING_ASYNC_HTTP_CLIENT", "APACHE_HTTP_CLIENT" })
+	public HttpClientStrategy strategy;
+
+	/**
+	 * The embedded server.
+	 */
+	@Param({ "JETTY", "TOMCAT" })
+	public Container container;
+
+	/**
+	 * The webapp directory, deleted once benchmarks are executed.
+	 */
+	private Path webapp;
+
+	/**
+	 * The embedded server.
+	 */
+	private EmbeddedServer<?> server;
+
+	/**
+	 * The http client.
+	 */
+	private HttpClient client;
+
+	/**
+	 * The body of large requests.
+	 */
+	private byte[] largeBody;
+
+	/**
+	 * The cookies of cookie-heavy requests.
+	 */
+	private List<Cookie> cookies;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		webapp = createWebapp();
+		server = container.create(webapp.toFile());
+		server.start();
+		client = strategy.build(server);
+
+		largeBody = new byte[BenchmarkServlet.LARGE_BODY_SIZE];
+		Arrays.fill(largeBody, (byte) 'a');
+
+		cookies = new ArrayList<>(COOKIES);
+		for (int i = 0; i < COOKIES; i++) {
+			cookies.add(Cookies.cookie("cookie" + i, "value-of-cookie-number-" + i));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try {
+			client.destroy();
+			server.stop();
+		}
+		finally {
+			delete(webapp);
+		}
+	}
+
+	@Benchmark
+	public byte[] smallGet() {
+		return execute(client.prepareGet("/small"));
+	}
+
+	@Benchmark
+	public byte[] formPost() {
+		return execute(client.preparePost("/form")
+			.addFormParam("firstName", "John")
+			.addFormParam("lastName", "Doe")
+			.addFormParam("email", "john.doe@example.com")
+			.addFormParam("age", "42"));
+	}
+
+	@Benchmark
+	public byte[] largeGet() {
+		return execute(client.prepareGet("/large"));
+	}
+
+	@Benchmark
+	public byte[] largePost() {
+		return execute(client.preparePost("/large").setBody(largeBody));
+	}
+
+	@Benchmark
+	public byte[] cookieGet() {
+		HttpRequest rq = client.prepareGet("/cookies");
+		for (Cookie cookie : cookies) {
+			rq.addCookie(cookie);
+		}
+
+		return execute(rq);
+	}
+
+	/**
+	 * Execute request and read the response body.
+	 *
+	 * @param rq The request.
+	 * @return The response body.
+	 * @throws IllegalStateException If the server returned an error.
+	 */
+	private static byte[] execute(HttpRequest rq) {
+		HttpResponse rsp = rq.execute();
+		if (rsp.status() != 200) {
+			throw new IllegalStateException("Unexpected status: " + rsp.status());
+		}
+
+		return rsp.bodyAsBytes();
+	}
+
+	/**
+	 * Copy the webapp (declaring the {@link BenchmarkServlet}) from the classpath to a temporary
+	 * directory, so that benchmarks can be executed from the benchmarks jar.
+	 *
+	 * @return The webapp directory.
+	 * @throws IOException If an error occurred while copying the webapp.
+	 */
+	private static Path createWebapp() throws IOException {
+		Path dir = Files.createTempDirectory("junit-servers-benchmarks");
+		Path webXml = dir.resolve("WEB-INF").resolve("web.xml");
+		Files.createDirectories(webXml.getParent());
+
+		try (InputStream stream = HttpClientBenchmark.class.getResourceAsStream("/webapp/WEB-INF/web.xml")) {
+			Files.copy(stream, webXml);
+		}
+
+		return dir;
+	}
+
+	/**
+	 * Delete given directory, recursively.
+	 *
+	 * @param dir The directory.
+	 * @throws IOException If an error occurred while deleting the directory.
+	 */
+	private static void delete(Path dir) throws IOException {
+		try (Stream<Path> paths = Files.walk(dir)) {
+			for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+				Files.delete(path);
+			}
+		}
+	}
+}
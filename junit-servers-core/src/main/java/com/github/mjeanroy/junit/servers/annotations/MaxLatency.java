@@ -0,0 +1,107 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation that can be added on a test method run with {@link com.github.mjeanroy.junit.servers.runner.JunitServerRunner}
+ * to define a latency budget: the test method is executed repeatedly, the duration of each http request
+ * executed (synchronously) by the test method is recorded, and the test fails if a latency percentile exceeds
+ * its budget. For example:
+ *
+ * <pre><code>
+ *   &#064;Test
+ *   &#064;MaxLatency(p99 = "50ms", invocations = 200, warmup = 50)
+ *   public void it_should_get_people() {
+ *     HttpResponse rsp = client.prepareGet("/api/people").execute();
+ *     assertThat(rsp.status()).isEqualTo(200);
+ *   }
+ * </code></pre>
+ *
+ * Budgets are durations, such as {@code "500us"}, {@code "50ms"} or {@code "1s"} (supported units are
+ * {@code ns}, {@code us}, {@code ms} and {@code s}): an empty budget (the default) is not checked.
+ *
+ * @see MinThroughput
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+@Documented
+public @interface MaxLatency {
+
+	/**
+	 * Get the maximum median latency.
+	 *
+	 * @return The budget, default is empty (not checked).
+	 */
+	String p50() default "";
+
+	/**
+	 * Get the maximum 90th percentile latency.
+	 *
+	 * @return The budget, default is empty (not checked).
+	 */
+	String p90() default "";
+
+	/**
+	 * Get the maximum 99th percentile latency.
+	 *
+	 * @return The budget, default is empty (not checked).
+	 */
+	String p99() default "";
+
+	/**
+	 * Get the maximum 99.9th percentile latency.
+	 *
+	 * @return The budget, default is empty (not checked).
+	 */
+	String p999() default "";
+
+	/**
+	 * Get the maximum latency.
+	 *
+	 * @return The budget, default is empty (not checked).
+	 */
+	String max() default "";
+
+	/**
+	 * Get the number of measured invocations of the test method.
+	 *
+	 * @return Number of invocations, default is {@code 100}.
+	 */
+	int invocations() default 100;
+
+	/**
+	 * Get the number of warmup invocations of the test method: these invocations are executed
+	 * before measured invocations, and are not measured.
+	 *
+	 * @return Number of warmup invocations, default is {@code 0}.
+	 */
+	int warmup() default 0;
+}
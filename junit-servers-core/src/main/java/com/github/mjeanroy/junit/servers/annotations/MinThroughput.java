@@ -0,0 +1,79 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation that can be added on a test method run with {@link com.github.mjeanroy.junit.servers.runner.JunitServerRunner}
+ * to define a throughput budget: the test method is executed repeatedly, the http requests executed (synchronously)
+ * by the test method are counted, and the test fails if the number of requests per second (over the duration of
+ * measured invocations) is lower than the budget. For example:
+ *
+ * <pre><code>
+ *   &#064;Test
+ *   &#064;MinThroughput(value = 500, invocations = 1000, warmup = 100)
+ *   public void it_should_get_people() {
+ *     HttpResponse rsp = client.prepareGet("/api/people").execute();
+ *     assertThat(rsp.status()).isEqualTo(200);
+ *   }
+ * </code></pre>
+ *
+ * This annotation can be combined with {@link MaxLatency}: the test method is then executed with the greatest
+ * number of invocations (and warmup invocations) of both annotations.
+ *
+ * @see MaxLatency
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+@Documented
+public @interface MinThroughput {
+
+	/**
+	 * Get the minimum number of requests per second.
+	 *
+	 * @return The budget.
+	 */
+	double value();
+
+	/**
+	 * Get the number of measured invocations of the test method.
+	 *
+	 * @return Number of invocations, default is {@code 100}.
+	 */
+	int invocations() default 100;
+
+	/**
+	 * Get the number of warmup invocations of the test method: these invocations are executed
+	 * before measured invocations, and are not measured.
+	 *
+	 * @return Number of warmup invocations, default is {@code 0}.
+	 */
+	int warmup() default 0;
+}
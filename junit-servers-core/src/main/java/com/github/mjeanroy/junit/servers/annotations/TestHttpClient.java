@@ -37,7 +37,7 @@ import java.lang.annotation.Target;
  * client to query embedded server.
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target({ ElementType.FIELD})
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
 @Documented
 public @interface TestHttpClient {
 
@@ -49,4 +49,19 @@ public @interface TestHttpClient {
 	 * @return Strategy, default is {@link HttpClientStrategy#AUTO}.
 	 */
 	HttpClientStrategy strategy() default HttpClientStrategy.AUTO;
+
+	/**
+	 * Get the flag to know if the http client should be shared by all the tests
+	 * of the test class.
+	 *
+	 * <p>
+	 *
+	 * When enabled, a single client (and its connection pool) is created for the test class
+	 * and destroyed once all tests have been executed: its state (such as stored cookies) is
+	 * reset after each test.
+	 * When disabled (the default), a new client is created before each test and destroyed after.
+	 *
+	 * @return Shared flag, default is {@code false}.
+	 */
+	boolean shared() default false;
 }
@@ -24,6 +24,8 @@
 
 package com.github.mjeanroy.junit.servers.client;
 
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Date;
 
 /**
@@ -114,7 +116,7 @@ public interface HttpRequest {
 	HttpRequest addFormParams(HttpParameter parameter, HttpParameter... parameters);
 
 	/**
-	 * Set request body.
+	 * Set request body, encoded in {@code UTF-8}.
 	 * This method should be used for POST or PUT request only, otherwise
 	 * it will throw {@link UnsupportedOperationException} exception.
 	 *
@@ -124,6 +126,53 @@ public interface HttpRequest {
 	 */
 	HttpRequest setBody(String body);
 
+	/**
+	 * Set request body, as raw bytes.
+	 * This method should be used for POST or PUT request only, otherwise
+	 * it will throw {@link UnsupportedOperationException} exception.
+	 *
+	 * @param body Body request.
+	 * @return Http request that can be used for chaining.
+	 * @throws UnsupportedOperationException If request method does not allow body (i.e {@code GET}, {@code HEAD} or {@code DELETE}).
+	 */
+	HttpRequest setBody(byte[] body);
+
+	/**
+	 * Set request body, streamed from given input: the stream is read while the request is sent,
+	 * and is closed once the request has been sent.
+	 * This method should be used for POST or PUT request only, otherwise
+	 * it will throw {@link UnsupportedOperationException} exception.
+	 *
+	 * @param body Body request.
+	 * @param length The body length, a negative value if it is unknown (the body is then sent chunked).
+	 * @return Http request that can be used for chaining.
+	 * @throws UnsupportedOperationException If request method does not allow body (i.e {@code GET}, {@code HEAD} or {@code DELETE}).
+	 */
+	HttpRequest setBody(InputStream body, long length);
+
+	/**
+	 * Set request body, read from given file: when supported by the underlying client, the file
+	 * is sent without being copied in memory (zero-copy transfer).
+	 * This method should be used for POST or PUT request only, otherwise
+	 * it will throw {@link UnsupportedOperationException} exception.
+	 *
+	 * @param body Body request.
+	 * @return Http request that can be used for chaining.
+	 * @throws UnsupportedOperationException If request method does not allow body (i.e {@code GET}, {@code HEAD} or {@code DELETE}).
+	 */
+	HttpRequest setBody(Path body);
+
+	/**
+	 * Set request body, sent chunked: chunks are requested while the request is sent.
+	 * This method should be used for POST or PUT request only, otherwise
+	 * it will throw {@link UnsupportedOperationException} exception.
+	 *
+	 * @param chunks The source of body chunks.
+	 * @return Http request that can be used for chaining.
+	 * @throws UnsupportedOperationException If request method does not allow body (i.e {@code GET}, {@code HEAD} or {@code DELETE}).
+	 */
+	HttpRequest setChunkedBody(HttpBodyChunks chunks);
+
 	/**
 	 * Most library (such as jQuery) add automatically header
 	 * named "X-Requested-With" with value "XMLHttpRequest", this
@@ -378,6 +427,19 @@ public interface HttpRequest {
 	 */
 	HttpResponse execute();
 
+	/**
+	 * Execute request asynchronously: this method does not block and returns a future that
+	 * will be completed once the response is available.
+	 *
+	 * <p>
+	 *
+	 * The request is executed with the non-blocking API of the underlying client whenever
+	 * it is available, so that a single thread can keep many requests in flight.
+	 *
+	 * @return The pending response.
+	 */
+	HttpResponseFuture executeAsync();
+
 	/**
 	 * Execute request and return http response: execution is synchronous and will block until
 	 * response is available.
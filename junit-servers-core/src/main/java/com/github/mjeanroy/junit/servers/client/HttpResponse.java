@@ -24,6 +24,9 @@
 
 package com.github.mjeanroy.junit.servers.client;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.List;
 
 /**
@@ -31,9 +34,9 @@ import java.util.List;
  *
  * <ul>
  *   <li>A status code: http return code (i.e 200, 400, 500 etc.).</li>
- *   <li>A response body: this is the body of the http response as textual representation.</li>
+ *   <li>A response body: this is the body of the http response, as textual representation, bytes or stream.</li>
  *   <li>A set of headers.</li>
- *   <li>Duration: time to produce http response.</li>
+ *   <li>Duration: time to produce http response, and timings of each request phase.</li>
  * </ul>
  *
  * @see <a href="https://tools.ietf.org/html/rfc2616#section-6">https://tools.ietf.org/html/rfc2616#section-6</a>
@@ -48,13 +51,26 @@ public interface HttpResponse {
 	long getRequestDuration();
 
 	/**
-	 * Get duration of request execution in milli seconds (shortcut for {@code getRequestDuration() / 100}).
+	 * Get duration of request execution in milli seconds (shortcut for {@code getRequestDuration() / 1000000}).
 	 *
 	 * @return Request execution duration.
 	 * @see #getRequestDuration()
 	 */
 	long getRequestDurationInMillis();
 
+	/**
+	 * Get the timings of the request phases (DNS lookup, connect, TLS handshake, request write,
+	 * time to first byte and body read), so that network cost can be distinguished from server
+	 * processing time.
+	 *
+	 * <p>
+	 *
+	 * Response body may be read lazily, so the body read phase is known only once the body has been read.
+	 *
+	 * @return The request timings.
+	 */
+	HttpTimings getTimings();
+
 	/**
 	 * Http status code.
 	 *
@@ -72,6 +88,46 @@ public interface HttpResponse {
 	 */
 	String body();
 
+	/**
+	 * Http response body, as raw bytes: contrary to {@link #body()}, the body is not decoded.
+	 *
+	 * @return Body.
+	 * @see #body()
+	 */
+	byte[] bodyAsBytes();
+
+	/**
+	 * Http response body, as a buffer: when the response has been buffered by the underlying
+	 * client, the returned buffer is backed by the client buffer and is not copied.
+	 *
+	 * @return Body.
+	 * @see #bodyAsBytes()
+	 */
+	ByteBuffer bodyAsByteBuffer();
+
+	/**
+	 * Http response body, as a stream: when the response is streamed by the underlying client, the
+	 * body is read from the connection as the stream is consumed, so it is never fully loaded in memory.
+	 *
+	 * <p>
+	 *
+	 * The stream must be closed by the caller, and the body cannot be read again once consumed.
+	 *
+	 * @return Body stream.
+	 */
+	InputStream bodyAsStream();
+
+	/**
+	 * Write http response body to given file: the body is streamed to the file channel with a bounded
+	 * buffer, the file is created if it does not exist and is truncated otherwise.
+	 *
+	 * @param path The file path.
+	 * @return The number of bytes written.
+	 * @throws NullPointerException If {@code path} is {@code null}.
+	 * @see #bodyAsStream()
+	 */
+	long bodyTo(Path path);
+
 	/**
 	 * Check that given header is available.
 	 *
@@ -0,0 +1,54 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client;
+
+import java.util.concurrent.Future;
+
+/**
+ * The pending result of an asynchronous HTTP request, returned by {@link HttpRequest#executeAsync()}.
+ *
+ * <p>
+ *
+ * In addition to the {@link Future} contract, listeners can be registered to be notified
+ * when the request completes (successfully, with an error, or because it has been cancelled).
+ */
+public interface HttpResponseFuture extends Future<HttpResponse> {
+
+	/**
+	 * Register a listener that will be executed once the request has completed. If the request
+	 * is already completed, the listener is executed immediately by the calling thread, otherwise
+	 * it is executed by the thread completing the request (usually an I/O thread of the underlying
+	 * client): listeners should be fast and should not block.
+	 *
+	 * <p>
+	 *
+	 * Listeners can use {@link #get()} to retrieve the response: it will not block.
+	 *
+	 * @param listener The listener.
+	 * @return The current future, that can be used for chaining.
+	 * @throws NullPointerException If {@code listener} is {@code null}.
+	 */
+	HttpResponseFuture addListener(Runnable listener);
+}
@@ -0,0 +1,52 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client;
+
+/**
+ * Listener notified of the responses received by an {@link HttpClient}: it can be used
+ * to collect metrics, such as the duration of requests, without changing the test code.
+ *
+ * <p>
+ *
+ * Listeners are executed by the thread executing the request: they should be fast and should not block.
+ */
+public interface HttpResponseListener {
+
+	/**
+	 * Called once a request executed with {@link HttpRequest#execute()} has returned a response.
+	 *
+	 * @param response The response.
+	 */
+	void onResponse(HttpResponse response);
+
+	/**
+	 * Called once a request has been submitted with {@link HttpRequest#executeAsync()}: the response
+	 * may not be available yet, use {@link HttpResponseFuture#addListener(Runnable)} to be notified when
+	 * the request completes.
+	 *
+	 * @param response The pending response.
+	 */
+	void onPendingResponse(HttpResponseFuture response);
+}
@@ -0,0 +1,287 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client;
+
+import java.util.Objects;
+
+import com.github.mjeanroy.junit.servers.commons.ToStringBuilder;
+
+/**
+ * Timings of the phases of an HTTP request, in nanoseconds:
+ *
+ * <ul>
+ *   <li>DNS lookup: resolution of the server host name.</li>
+ *   <li>Connect: establishment of the TCP connection.</li>
+ *   <li>TLS handshake: negotiation of the secure connection.</li>
+ *   <li>Request write: writing of the request headers and body.</li>
+ *   <li>Time to first byte: time between the end of the request write and the reception of the response status and headers,
+ *   this is where server processing time is accounted.</li>
+ *   <li>Body read: reading of the response body.</li>
+ * </ul>
+ *
+ * A phase that has not been observed is reported as {@link #UNKNOWN}: this is the case when a pooled connection
+ * has been reused (no DNS lookup, connect or TLS handshake), when the response body has not been read yet, or when
+ * the underlying client does not expose the phase.
+ */
+public final class HttpTimings {
+
+	/**
+	 * The value of a phase that has not been observed.
+	 */
+	public static final long UNKNOWN = -1L;
+
+	/**
+	 * DNS lookup duration.
+	 */
+	private final long dnsLookup;
+
+	/**
+	 * TCP connect duration.
+	 */
+	private final long connect;
+
+	/**
+	 * TLS handshake duration.
+	 */
+	private final long tlsHandshake;
+
+	/**
+	 * Request write duration.
+	 */
+	private final long requestWrite;
+
+	/**
+	 * Time to first byte.
+	 */
+	private final long timeToFirstByte;
+
+	/**
+	 * Response body read duration.
+	 */
+	private final long bodyRead;
+
+	/**
+	 * Create timings.
+	 *
+	 * @param builder The builder.
+	 */
+	private HttpTimings(Builder builder) {
+		this.dnsLookup = builder.dnsLookup;
+		this.connect = builder.connect;
+		this.tlsHandshake = builder.tlsHandshake;
+		this.requestWrite = builder.requestWrite;
+		this.timeToFirstByte = builder.timeToFirstByte;
+		this.bodyRead = builder.bodyRead;
+	}
+
+	/**
+	 * Get {@link #dnsLookup}
+	 *
+	 * @return {@link #dnsLookup}, or {@link #UNKNOWN}.
+	 */
+	public long getDnsLookup() {
+		return dnsLookup;
+	}
+
+	/**
+	 * Get {@link #connect}
+	 *
+	 * @return {@link #connect}, or {@link #UNKNOWN}.
+	 */
+	public long getConnect() {
+		return connect;
+	}
+
+	/**
+	 * Get {@link #tlsHandshake}
+	 *
+	 * @return {@link #tlsHandshake}, or {@link #UNKNOWN}.
+	 */
+	public long getTlsHandshake() {
+		return tlsHandshake;
+	}
+
+	/**
+	 * Get {@link #requestWrite}
+	 *
+	 * @return {@link #requestWrite}, or {@link #UNKNOWN}.
+	 */
+	public long getRequestWrite() {
+		return requestWrite;
+	}
+
+	/**
+	 * Get {@link #timeToFirstByte}
+	 *
+	 * @return {@link #timeToFirstByte}, or {@link #UNKNOWN}.
+	 */
+	public long getTimeToFirstByte() {
+		return timeToFirstByte;
+	}
+
+	/**
+	 * Get {@link #bodyRead}
+	 *
+	 * @return {@link #bodyRead}, or {@link #UNKNOWN}.
+	 */
+	public long getBodyRead() {
+		return bodyRead;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof HttpTimings) {
+			HttpTimings t = (HttpTimings) o;
+			return dnsLookup == t.dnsLookup
+					&& connect == t.connect
+					&& tlsHandshake == t.tlsHandshake
+					&& requestWrite == t.requestWrite
+					&& timeToFirstByte == t.timeToFirstByte
+					&& bodyRead == t.bodyRead;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(dnsLookup, connect, tlsHandshake, requestWrite, timeToFirstByte, bodyRead);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("dnsLookup", dnsLookup)
+			.append("connect", connect)
+			.append("tlsHandshake", tlsHandshake)
+			.append("requestWrite", requestWrite)
+			.append("timeToFirstByte", timeToFirstByte)
+			.append("bodyRead", bodyRead)
+			.build();
+	}
+
+	/**
+	 * Builder of {@link HttpTimings}: each phase is {@link #UNKNOWN} unless it is explicitly set.
+	 */
+	public static final class Builder {
+		private long dnsLookup;
+		private long connect;
+		private long tlsHandshake;
+		private long requestWrite;
+		private long timeToFirstByte;
+		private long bodyRead;
+
+		/**
+		 * Create builder.
+		 */
+		public Builder() {
+			this.dnsLookup = UNKNOWN;
+			this.connect = UNKNOWN;
+			this.tlsHandshake = UNKNOWN;
+			this.requestWrite = UNKNOWN;
+			this.timeToFirstByte = UNKNOWN;
+			this.bodyRead = UNKNOWN;
+		}
+
+		/**
+		 * Set DNS lookup duration.
+		 *
+		 * @param dnsLookup Duration, in nanoseconds.
+		 * @return this
+		 */
+		public Builder withDnsLookup(long dnsLookup) {
+			this.dnsLookup = dnsLookup;
+			return this;
+		}
+
+		/**
+		 * Set TCP connect duration.
+		 *
+		 * @param connect Duration, in nanoseconds.
+		 * @return this
+		 */
+		public Builder withConnect(long connect) {
+			this.connect = connect;
+			return this;
+		}
+
+		/**
+		 * Set TLS handshake duration.
+		 *
+		 * @param tlsHandshake Duration, in nanoseconds.
+		 * @return this
+		 */
+		public Builder withTlsHandshake(long tlsHandshake) {
+			this.tlsHandshake = tlsHandshake;
+			return this;
+		}
+
+		/**
+		 * Set request write duration.
+		 *
+		 * @param requestWrite Duration, in nanoseconds.
+		 * @return this
+		 */
+		public Builder withRequestWrite(long requestWrite) {
+			this.requestWrite = requestWrite;
+			return this;
+		}
+
+		/**
+		 * Set time to first byte.
+		 *
+		 * @param timeToFirstByte Duration, in nanoseconds.
+		 * @return this
+		 */
+		public Builder withTimeToFirstByte(long timeToFirstByte) {
+			this.timeToFirstByte = timeToFirstByte;
+			return this;
+		}
+
+		/**
+		 * Set body read duration.
+		 *
+		 * @param bodyRead Duration, in nanoseconds.
+		 * @return this
+		 */
+		public Builder withBodyRead(long bodyRead) {
+			this.bodyRead = bodyRead;
+			return this;
+		}
+
+		/**
+		 * Create timings.
+		 *
+		 * @return The timings.
+		 */
+		public HttpTimings build() {
+			return new HttpTimings(this);
+		}
+	}
+}
@@ -29,12 +29,16 @@ import static com.github.mjeanroy.junit.servers.commons.Strings.removePrefix;
 import static com.github.mjeanroy.junit.servers.commons.UrlUtils.concatenatePath;
 import static com.github.mjeanroy.junit.servers.commons.UrlUtils.startsWithHttpScheme;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import com.github.mjeanroy.junit.servers.client.Cookie;
 import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
+import com.github.mjeanroy.junit.servers.client.HttpResponseListener;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 
@@ -57,6 +61,11 @@ public abstract class AbstractHttpClient implements HttpClient {
 	 */
 	private final EmbeddedServer<?> server;
 
+	/**
+	 * The listeners notified of responses received by this client.
+	 */
+	private final List<HttpResponseListener> listeners;
+
 	/**
 	 * Create abstract skeleton.
 	 *
@@ -67,6 +76,7 @@ public abstract class AbstractHttpClient implements HttpClient {
 	protected AbstractHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
 		this.configuration = notNull(configuration, "configuration");
 		this.server = notNull(server, "server");
+		this.listeners = new CopyOnWriteArrayList<>();
 	}
 
 	@Override
@@ -127,6 +137,9 @@ public abstract class AbstractHttpClient implements HttpClient {
 		}
 
 		HttpRequest rq = buildRequest(httpMethod, requestEndpoint);
+		if (rq instanceof AbstractHttpRequest) {
+			((AbstractHttpRequest) rq).setResponseListeners(listeners);
+		}
 
 		// Add default headers.
 		for (HttpHeader header : configuration.getDefaultHeaders().values()) {
@@ -141,6 +154,34 @@ public abstract class AbstractHttpClient implements HttpClient {
 		return rq;
 	}
 
+	/**
+	 * Register a listener notified of the responses received by this client, including responses
+	 * of requests already prepared but not executed yet.
+	 *
+	 * @param listener The listener.
+	 * @throws NullPointerException If {@code listener} is {@code null}.
+	 */
+	public void addResponseListener(HttpResponseListener listener) {
+		listeners.add(notNull(listener, "listener"));
+	}
+
+	/**
+	 * Remove a listener registered with {@link #addResponseListener(HttpResponseListener)}.
+	 *
+	 * @param listener The listener.
+	 */
+	public void removeResponseListener(HttpResponseListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Reset the state of the client, such as cookies stored by the underlying
+	 * library, so that it can be reused by another test.
+	 * Default implementation does nothing.
+	 */
+	public void reset() {
+	}
+
 	/**
 	 * Build request object.
 	 *
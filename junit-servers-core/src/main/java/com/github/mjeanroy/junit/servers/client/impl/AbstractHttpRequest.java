@@ -51,7 +51,10 @@ import static com.github.mjeanroy.junit.servers.commons.Dates.format;
 import static com.github.mjeanroy.junit.servers.commons.Preconditions.notBlank;
 import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
 
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -59,11 +62,14 @@ import java.util.Map;
 
 import com.github.mjeanroy.junit.servers.client.Cookie;
 import com.github.mjeanroy.junit.servers.client.Cookies;
+import com.github.mjeanroy.junit.servers.client.HttpBodyChunks;
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpParameter;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpResponseFuture;
+import com.github.mjeanroy.junit.servers.client.HttpResponseListener;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
 
@@ -100,7 +106,7 @@ public abstract class AbstractHttpRequest implements HttpRequest {
 	/**
 	 * The request body.
 	 */
-	protected String body;
+	protected HttpRequestBody body;
 
 	/**
 	 * Cookie elements.
@@ -112,6 +118,11 @@ public abstract class AbstractHttpRequest implements HttpRequest {
 	 */
 	protected final Map<String, HttpHeader> headers;
 
+	/**
+	 * The listeners notified of the response.
+	 */
+	private List<HttpResponseListener> listeners;
+
 	protected AbstractHttpRequest(HttpUrl endpoint, HttpMethod method) {
 		this.endpoint = notNull(endpoint, "endpoint");
 		this.method = notNull(method, "method");
@@ -120,6 +131,7 @@ public abstract class AbstractHttpRequest implements HttpRequest {
 		this.formParams = new LinkedHashMap<>();
 		this.headers = new LinkedHashMap<>();
 		this.cookies = new ArrayList<>(10);
+		this.listeners = Collections.emptyList();
 	}
 
 	@Override
@@ -280,8 +292,38 @@ public abstract class AbstractHttpRequest implements HttpRequest {
 
 	@Override
 	public HttpRequest setBody(String body) {
-		notNull(body, "body");
+		return setRequestBody(HttpRequestBody.of(body));
+	}
+
+	@Override
+	public HttpRequest setBody(byte[] body) {
+		return setRequestBody(HttpRequestBody.of(body));
+	}
+
+	@Override
+	public HttpRequest setBody(InputStream body, long length) {
+		return setRequestBody(HttpRequestBody.of(body, length));
+	}
 
+	@Override
+	public HttpRequest setBody(Path body) {
+		return setRequestBody(HttpRequestBody.of(body));
+	}
+
+	@Override
+	public HttpRequest setChunkedBody(HttpBodyChunks chunks) {
+		return setRequestBody(HttpRequestBody.chunked(chunks));
+	}
+
+	/**
+	 * Set the request body.
+	 *
+	 * @param body The request body.
+	 * @return Http request that can be used for chaining.
+	 * @throws UnsupportedOperationException If request method does not allow body.
+	 * @throws IllegalStateException If form parameters have already been defined.
+	 */
+	private HttpRequest setRequestBody(HttpRequestBody body) {
 		// Ensure request body is allowed.
 		if (!getMethod().isBodyAllowed()) {
 			throw new UnsupportedOperationException("Http method " + getMethod() + " does not support request body");
@@ -344,12 +386,38 @@ public abstract class AbstractHttpRequest implements HttpRequest {
 
 	@Override
 	public HttpResponse execute() {
+		HttpResponse response;
+
 		try {
-			return doExecute();
+			response = doExecute();
 		}
 		catch (Exception ex) {
 			throw new HttpClientException(ex);
 		}
+
+		for (HttpResponseListener listener : listeners) {
+			listener.onResponse(response);
+		}
+
+		return response;
+	}
+
+	@Override
+	public HttpResponseFuture executeAsync() {
+		HttpResponseFuture response;
+
+		try {
+			response = doExecuteAsync();
+		}
+		catch (Exception ex) {
+			throw new HttpClientException(ex);
+		}
+
+		for (HttpResponseListener listener : listeners) {
+			listener.onPendingResponse(response);
+		}
+
+		return response;
 	}
 
 	@Override
@@ -362,6 +430,16 @@ public abstract class AbstractHttpRequest implements HttpRequest {
 		return asXml().acceptXml().execute();
 	}
 
+	/**
+	 * Set the listeners notified of the response: the list is not copied, so that listeners
+	 * registered on the client after the request has been prepared are also notified.
+	 *
+	 * @param listeners The listeners.
+	 */
+	void setResponseListeners(List<HttpResponseListener> listeners) {
+		this.listeners = notNull(listeners, "listeners");
+	}
+
 	/**
 	 * Check if the request have a body content (form parameters or request body value).
 	 *
@@ -380,4 +458,14 @@ public abstract class AbstractHttpRequest implements HttpRequest {
 	 * @throws Exception If an error occurred.
 	 */
 	protected abstract HttpResponse doExecute() throws Exception;
+
+	/**
+	 * Execute request asynchronously: this method should not block.
+	 * Exception thrown while submitting the request will be automatically
+	 * translated into an instance of {@link HttpClientException}.
+	 *
+	 * @return The pending response.
+	 * @throws Exception If an error occurred.
+	 */
+	protected abstract HttpResponseFuture doExecuteAsync() throws Exception;
 }
@@ -27,7 +27,15 @@ package com.github.mjeanroy.junit.servers.client.impl;
 import com.github.mjeanroy.junit.servers.client.Cookie;
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
-
+import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -46,6 +54,10 @@ import static com.github.mjeanroy.junit.servers.client.HttpHeaders.X_CONTENT_TYP
 import static com.github.mjeanroy.junit.servers.client.HttpHeaders.X_WEBKIT_CSP;
 import static com.github.mjeanroy.junit.servers.client.HttpHeaders.X_XSS_PROTECTION;
 import static com.github.mjeanroy.junit.servers.commons.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 
@@ -60,7 +72,33 @@ public abstract class AbstractHttpResponse implements HttpResponse {
 
 	@Override
 	public long getRequestDurationInMillis() {
-		return getRequestDuration() / 1000;
+		return getRequestDuration() / 1000000;
+	}
+
+	@Override
+	public ByteBuffer bodyAsByteBuffer() {
+		return ByteBuffer.wrap(bodyAsBytes());
+	}
+
+	@Override
+	public long bodyTo(Path path) {
+		notNull(path, "path");
+
+		try (InputStream stream = bodyAsStream(); FileChannel channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING)) {
+			ReadableByteChannel source = Channels.newChannel(stream);
+
+			// The file channel reads the source with a bounded buffer, until the end of the stream.
+			long position = 0;
+			long count;
+			while ((count = channel.transferFrom(source, position, Long.MAX_VALUE)) > 0) {
+				position += count;
+			}
+
+			return position;
+		}
+		catch (IOException ex) {
+			throw new HttpClientException(ex);
+		}
 	}
 
 	@Override
@@ -0,0 +1,289 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl;
+
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpResponseFuture;
+
+/**
+ * Default implementation of {@link HttpResponseFuture}, completed by the
+ * HTTP client implementations.
+ *
+ * <p>
+ *
+ * <strong>This class is not part of the public API and should not be used publicly.</strong>
+ */
+public final class DefaultHttpResponseFuture implements HttpResponseFuture {
+
+	/**
+	 * Latch released once the future is completed.
+	 */
+	private final CountDownLatch done;
+
+	/**
+	 * Listeners executed once the future is completed, {@code null} once they have been executed.
+	 */
+	private List<Runnable> listeners;
+
+	/**
+	 * The task executed when the future is cancelled.
+	 */
+	private Runnable cancellation;
+
+	/**
+	 * The response, if request succeeded.
+	 */
+	private volatile HttpResponse response;
+
+	/**
+	 * The failure, if request failed.
+	 */
+	private volatile Throwable failure;
+
+	/**
+	 * Flag set if the future has been cancelled.
+	 */
+	private volatile boolean cancelled;
+
+	/**
+	 * Create pending future.
+	 */
+	public DefaultHttpResponseFuture() {
+		this.done = new CountDownLatch(1);
+		this.listeners = new ArrayList<>(1);
+	}
+
+	/**
+	 * Complete the future with the response.
+	 *
+	 * @param response The response.
+	 * @return {@code true} if the future has been completed by this call, {@code false} if it was already completed.
+	 * @throws RuntimeException The first failure of a listener, once all listeners have been executed.
+	 */
+	public boolean complete(HttpResponse response) {
+		List<Runnable> toRun;
+
+		synchronized (this) {
+			if (listeners == null) {
+				return false;
+			}
+
+			this.response = response;
+			toRun = detachListeners();
+		}
+
+		release(toRun);
+		return true;
+	}
+
+	/**
+	 * Complete the future with a failure.
+	 *
+	 * @param failure The failure.
+	 * @return {@code true} if the future has been completed by this call, {@code false} if it was already completed.
+	 * @throws RuntimeException The first failure of a listener, once all listeners have been executed.
+	 */
+	public boolean fail(Throwable failure) {
+		notNull(failure, "failure");
+
+		List<Runnable> toRun;
+
+		synchronized (this) {
+			if (listeners == null) {
+				return false;
+			}
+
+			this.failure = failure;
+			toRun = detachListeners();
+		}
+
+		release(toRun);
+		return true;
+	}
+
+	/**
+	 * Set the task aborting the underlying request when this future is cancelled.
+	 * If the future is already cancelled, the task is executed immediately.
+	 *
+	 * @param cancellation The cancellation task.
+	 */
+	public void onCancel(Runnable cancellation) {
+		notNull(cancellation, "cancellation");
+
+		synchronized (this) {
+			if (!cancelled) {
+				if (listeners != null) {
+					this.cancellation = cancellation;
+				}
+
+				return;
+			}
+		}
+
+		cancellation.run();
+	}
+
+	@Override
+	public HttpResponseFuture addListener(Runnable listener) {
+		notNull(listener, "listener");
+
+		synchronized (this) {
+			if (listeners != null) {
+				listeners.add(listener);
+				return this;
+			}
+		}
+
+		listener.run();
+		return this;
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		Runnable task;
+		List<Runnable> toRun;
+
+		synchronized (this) {
+			if (listeners == null) {
+				return false;
+			}
+
+			cancelled = true;
+			task = cancellation;
+			toRun = detachListeners();
+		}
+
+		try {
+			release(toRun);
+		}
+		finally {
+			if (task != null) {
+				task.run();
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	@Override
+	public boolean isDone() {
+		return done.getCount() == 0;
+	}
+
+	@Override
+	public HttpResponse get() throws InterruptedException, ExecutionException {
+		done.await();
+		return getNow();
+	}
+
+	@Override
+	public HttpResponse get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+		if (!done.await(timeout, unit)) {
+			throw new TimeoutException();
+		}
+
+		return getNow();
+	}
+
+	/**
+	 * Get the result of the completed future.
+	 *
+	 * @return The response.
+	 * @throws ExecutionException If request failed.
+	 * @throws CancellationException If future has been cancelled.
+	 */
+	private HttpResponse getNow() throws ExecutionException {
+		if (cancelled) {
+			throw new CancellationException();
+		}
+
+		if (failure != null) {
+			throw new ExecutionException(failure);
+		}
+
+		return response;
+	}
+
+	/**
+	 * Detach the pending listeners and release waiting threads: once detached, the future is considered
+	 * as completed and its state cannot change anymore. Must be called while holding the lock, so that
+	 * a listener added concurrently (and executed immediately) sees the future as done.
+	 *
+	 * @return The pending listeners.
+	 */
+	private List<Runnable> detachListeners() {
+		List<Runnable> toRun = listeners;
+		listeners = null;
+		cancellation = null;
+		done.countDown();
+		return toRun;
+	}
+
+	/**
+	 * Execute given listeners: a failing listener does not prevent other listeners from being executed,
+	 * the first failure is rethrown once all listeners have been executed (other failures are suppressed).
+	 *
+	 * @param toRun The listeners to execute.
+	 */
+	private static void release(List<Runnable> toRun) {
+		Throwable error = null;
+
+		for (Runnable listener : toRun) {
+			try {
+				listener.run();
+			}
+			catch (RuntimeException | Error ex) {
+				if (error == null) {
+					error = ex;
+				} else {
+					error.addSuppressed(ex);
+				}
+			}
+		}
+
+		if (error instanceof RuntimeException) {
+			throw (RuntimeException) error;
+		}
+
+		if (error != null) {
+			throw (Error) error;
+		}
+	}
+}
@@ -0,0 +1,288 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl;
+
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.github.mjeanroy.junit.servers.client.HttpBodyChunks;
+import com.github.mjeanroy.junit.servers.commons.ToStringBuilder;
+
+/**
+ * Body of an http request: each client maps the body type to its native body, so that bytes, streams
+ * and files are sent without being converted to a string first.
+ *
+ * <p>
+ *
+ * <strong>This class is not part of the public API and should not be used publicly.</strong>
+ */
+public final class HttpRequestBody {
+
+	/**
+	 * Create body from a string, encoded in {@code UTF-8}.
+	 *
+	 * @param body The body.
+	 * @return The request body.
+	 * @throws NullPointerException If {@code body} is {@code null}.
+	 */
+	static HttpRequestBody of(String body) {
+		return new HttpRequestBody(Type.STRING, notNull(body, "body"), -1);
+	}
+
+	/**
+	 * Create body from raw bytes.
+	 *
+	 * @param body The body.
+	 * @return The request body.
+	 * @throws NullPointerException If {@code body} is {@code null}.
+	 */
+	static HttpRequestBody of(byte[] body) {
+		return new HttpRequestBody(Type.BYTES, notNull(body, "body"), body.length);
+	}
+
+	/**
+	 * Create body from a stream.
+	 *
+	 * @param body The body.
+	 * @param length The body length, a negative value if it is unknown (the body is then chunked).
+	 * @return The request body.
+	 * @throws NullPointerException If {@code body} is {@code null}.
+	 */
+	static HttpRequestBody of(InputStream body, long length) {
+		return new HttpRequestBody(Type.STREAM, notNull(body, "body"), length < 0 ? -1 : length);
+	}
+
+	/**
+	 * Create body from a file.
+	 *
+	 * @param body The file.
+	 * @return The request body.
+	 * @throws NullPointerException If {@code body} is {@code null}.
+	 */
+	static HttpRequestBody of(Path body) {
+		return new HttpRequestBody(Type.FILE, notNull(body, "body"), -1);
+	}
+
+	/**
+	 * Create chunked body.
+	 *
+	 * @param chunks The chunks source.
+	 * @return The request body.
+	 * @throws NullPointerException If {@code chunks} is {@code null}.
+	 */
+	static HttpRequestBody chunked(HttpBodyChunks chunks) {
+		return new HttpRequestBody(Type.CHUNKED, notNull(chunks, "chunks"), -1);
+	}
+
+	/**
+	 * The body type.
+	 */
+	public enum Type {
+		STRING,
+		BYTES,
+		STREAM,
+		FILE,
+		CHUNKED
+	}
+
+	/**
+	 * The body type.
+	 */
+	private final Type type;
+
+	/**
+	 * The body content, depending on the body type.
+	 */
+	private final Object content;
+
+	/**
+	 * The body length, {@code -1} if unknown.
+	 */
+	private final long length;
+
+	private HttpRequestBody(Type type, Object content, long length) {
+		this.type = type;
+		this.content = content;
+		this.length = length;
+	}
+
+	/**
+	 * Get {@link #type}
+	 *
+	 * @return {@link #type}
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Get the body length given with a {@link Type#STREAM} body.
+	 *
+	 * @return The body length, {@code -1} if unknown (or for other body types).
+	 */
+	public long getLength() {
+		return length;
+	}
+
+	/**
+	 * Get the string content of a {@link Type#STRING} body.
+	 *
+	 * @return The body.
+	 */
+	public String getString() {
+		return (String) content;
+	}
+
+	/**
+	 * Get the raw content of a {@link Type#STRING} or a {@link Type#BYTES} body.
+	 *
+	 * @return The body.
+	 */
+	public byte[] getBytes() {
+		return type == Type.STRING ? getString().getBytes(UTF_8) : (byte[]) content;
+	}
+
+	/**
+	 * Get the file of a {@link Type#FILE} body.
+	 *
+	 * @return The body.
+	 */
+	public Path getPath() {
+		return (Path) content;
+	}
+
+	/**
+	 * Get the chunks source of a {@link Type#CHUNKED} body.
+	 *
+	 * @return The body.
+	 */
+	public HttpBodyChunks getChunks() {
+		return (HttpBodyChunks) content;
+	}
+
+	/**
+	 * Check if the body must be sent chunked, i.e if its length cannot be known before the body is sent.
+	 *
+	 * @return {@code true} if the body is chunked, {@code false} otherwise.
+	 */
+	public boolean isChunked() {
+		return type == Type.CHUNKED || (type == Type.STREAM && length < 0);
+	}
+
+	/**
+	 * Check if the body is empty.
+	 *
+	 * @return {@code true} if the body is known to be empty, {@code false} otherwise.
+	 */
+	public boolean isEmpty() {
+		switch (type) {
+			case STRING:
+				return getString().isEmpty();
+			case BYTES:
+				return getBytes().length == 0;
+			case STREAM:
+				return length == 0;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Open the body as a stream, for clients that do not support the body type: the
+	 * content is read as the stream is consumed.
+	 *
+	 * @return The body stream.
+	 * @throws IOException If the body file cannot be read.
+	 */
+	public InputStream openStream() throws IOException {
+		switch (type) {
+			case STREAM:
+				return (InputStream) content;
+			case FILE:
+				return Files.newInputStream(getPath());
+			case CHUNKED:
+				return new ChunksInputStream(getChunks());
+			default:
+				return new ByteArrayInputStream(getBytes());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("type", type)
+			.append("length", length)
+			.build();
+	}
+
+	/**
+	 * Stream reading chunks as they are consumed.
+	 */
+	private static class ChunksInputStream extends InputStream {
+		private final HttpBodyChunks chunks;
+		private byte[] chunk;
+		private int position;
+		private boolean done;
+
+		private ChunksInputStream(HttpBodyChunks chunks) {
+			this.chunks = chunks;
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] b = new byte[1];
+			return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+
+			// Skip empty chunks.
+			while (!done && (chunk == null || position >= chunk.length)) {
+				chunk = chunks.next();
+				position = 0;
+				done = chunk == null;
+			}
+
+			if (done) {
+				return -1;
+			}
+
+			int count = Math.min(len, chunk.length - position);
+			System.arraycopy(chunk, position, b, off, count);
+			position += count;
+			return count;
+		}
+	}
+}
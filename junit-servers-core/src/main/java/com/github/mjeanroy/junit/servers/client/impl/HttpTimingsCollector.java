@@ -0,0 +1,192 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl;
+
+import static java.lang.System.nanoTime;
+
+import com.github.mjeanroy.junit.servers.client.HttpTimings;
+
+/**
+ * Collector of the events of an HTTP request, used to build {@link HttpTimings}: each
+ * HTTP client implementation records events from the hooks exposed by the underlying
+ * library (event listeners, interceptors, async handlers, etc.).
+ *
+ * <p>
+ *
+ * Events may be recorded by different threads (for example, I/O threads of asynchronous clients), and
+ * an event recorded several times (for example, if the request is retried) keeps its last value.
+ *
+ * <p>
+ *
+ * <strong>This class is not part of the public API and should not be used publicly.</strong>
+ */
+public final class HttpTimingsCollector {
+
+	/**
+	 * The value of an event that has not been recorded.
+	 */
+	private static final long NONE = Long.MIN_VALUE;
+
+	private volatile long dnsStart;
+	private volatile long dnsEnd;
+	private volatile long connectStart;
+	private volatile long connectEnd;
+	private volatile long tlsStart;
+	private volatile long tlsEnd;
+	private volatile long requestWriteStart;
+	private volatile long requestWriteEnd;
+	private volatile long firstByte;
+	private volatile long bodyStart;
+	private volatile long bodyEnd;
+
+	/**
+	 * Create collector, without any recorded event.
+	 */
+	public HttpTimingsCollector() {
+		this.dnsStart = NONE;
+		this.dnsEnd = NONE;
+		this.connectStart = NONE;
+		this.connectEnd = NONE;
+		this.tlsStart = NONE;
+		this.tlsEnd = NONE;
+		this.requestWriteStart = NONE;
+		this.requestWriteEnd = NONE;
+		this.firstByte = NONE;
+		this.bodyStart = NONE;
+		this.bodyEnd = NONE;
+	}
+
+	/**
+	 * Record the beginning of the DNS lookup.
+	 */
+	public void dnsStart() {
+		dnsStart = nanoTime();
+	}
+
+	/**
+	 * Record the end of the DNS lookup.
+	 */
+	public void dnsEnd() {
+		dnsEnd = nanoTime();
+	}
+
+	/**
+	 * Record the beginning of the TCP connection.
+	 */
+	public void connectStart() {
+		connectStart = nanoTime();
+	}
+
+	/**
+	 * Record the establishment of the TCP connection.
+	 */
+	public void connectEnd() {
+		connectEnd = nanoTime();
+	}
+
+	/**
+	 * Record the beginning of the TLS handshake.
+	 */
+	public void tlsStart() {
+		tlsStart = nanoTime();
+	}
+
+	/**
+	 * Record the end of the TLS handshake.
+	 */
+	public void tlsEnd() {
+		tlsEnd = nanoTime();
+	}
+
+	/**
+	 * Record the beginning of the request write.
+	 */
+	public void requestWriteStart() {
+		requestWriteStart = nanoTime();
+	}
+
+	/**
+	 * Record the end of the request write.
+	 */
+	public void requestWriteEnd() {
+		requestWriteEnd = nanoTime();
+	}
+
+	/**
+	 * Record the reception of the response status and headers.
+	 */
+	public void firstByte() {
+		firstByte = nanoTime();
+	}
+
+	/**
+	 * Record the beginning of the response body read: this event should only be recorded when
+	 * the response body is read lazily, otherwise the body read starts with the first byte.
+	 */
+	public void bodyStart() {
+		bodyStart = nanoTime();
+	}
+
+	/**
+	 * Record the end of the response body read.
+	 */
+	public void bodyEnd() {
+		bodyEnd = nanoTime();
+	}
+
+	/**
+	 * Build the timings from the events recorded so far.
+	 *
+	 * @return The timings.
+	 */
+	public HttpTimings build() {
+		long writeEnd = requestWriteEnd != NONE ? requestWriteEnd : requestWriteStart;
+		long readStart = bodyStart != NONE ? bodyStart : firstByte;
+
+		return new HttpTimings.Builder()
+			.withDnsLookup(duration(dnsStart, dnsEnd))
+			.withConnect(duration(connectStart, connectEnd))
+			.withTlsHandshake(duration(tlsStart, tlsEnd))
+			.withRequestWrite(duration(requestWriteStart, requestWriteEnd))
+			.withTimeToFirstByte(duration(writeEnd, firstByte))
+			.withBodyRead(duration(readStart, bodyEnd))
+			.build();
+	}
+
+	/**
+	 * Compute the duration between two events.
+	 *
+	 * @param start The start event.
+	 * @param end The end event.
+	 * @return The duration, {@link HttpTimings#UNKNOWN} if one of the event has not been recorded.
+	 */
+	private static long duration(long start, long end) {
+		if (start == NONE || end == NONE || end < start) {
+			return HttpTimings.UNKNOWN;
+		}
+
+		return end - start;
+	}
+}
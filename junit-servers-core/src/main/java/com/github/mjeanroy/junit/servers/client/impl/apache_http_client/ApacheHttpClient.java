@@ -29,8 +29,11 @@ import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
 import java.io.IOException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.http.client.CookieStore;
+import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 
 import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
@@ -50,6 +53,11 @@ import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
  */
 public class ApacheHttpClient extends AbstractHttpClient implements HttpClient {
 
+	/**
+	 * The maximum number of pooled connections.
+	 */
+	private static final int MAX_CONNECTIONS = 200;
+
 	/**
 	 * Create new http client using internal with custom internal client.
 	 *
@@ -61,7 +69,7 @@ public class ApacheHttpClient extends AbstractHttpClient implements HttpClient {
 	 */
 	@Deprecated
 	public static ApacheHttpClient newApacheHttpClient(EmbeddedServer<?> server, CloseableHttpClient client) {
-		return new ApacheHttpClient(HttpClientConfiguration.defaultConfiguration(), server, client);
+		return new ApacheHttpClient(HttpClientConfiguration.defaultConfiguration(), server, client, null);
 	}
 
 	/**
@@ -85,13 +93,23 @@ public class ApacheHttpClient extends AbstractHttpClient implements HttpClient {
 	 * @throws NullPointerException If {@code server} or {@code configuration} are {@code null}.
 	 */
 	public static ApacheHttpClient newApacheHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
-		HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
+		// The default pool allows only two connections per route, while all requests target the same server.
+		PoolingHttpClientConnectionManager connectionManager = ApacheHttpTimings.newConnectionManager();
+		connectionManager.setMaxTotal(MAX_CONNECTIONS);
+		connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS);
+
+		CookieStore cookieStore = new BasicCookieStore();
+		HttpClientBuilder httpClientBuilder = HttpClientBuilder.create()
+			.setDefaultCookieStore(cookieStore)
+			.setConnectionManager(connectionManager)
+			.setRequestExecutor(ApacheHttpTimings.newRequestExecutor());
+
 		if (!configuration.isFollowRedirect()) {
 			httpClientBuilder.disableRedirectHandling();
 		}
 
 		CloseableHttpClient client = httpClientBuilder.build();
-		return new ApacheHttpClient(configuration, server, client);
+		return new ApacheHttpClient(configuration, server, client, cookieStore);
 	}
 
 	/**
@@ -106,10 +124,17 @@ public class ApacheHttpClient extends AbstractHttpClient implements HttpClient {
 	 */
 	private final CloseableHttpClient client;
 
+	/**
+	 * The cookie store used by the internal client, may be {@code null} if
+	 * the internal client has been created by the caller.
+	 */
+	private final CookieStore cookieStore;
+
 	// Use static factory
-	private ApacheHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server, CloseableHttpClient client) {
+	private ApacheHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server, CloseableHttpClient client, CookieStore cookieStore) {
 		super(configuration, server);
 		this.client = notNull(client, "client");
+		this.cookieStore = cookieStore;
 		this.destroyed = new AtomicBoolean(false);
 	}
 
@@ -129,6 +154,13 @@ public class ApacheHttpClient extends AbstractHttpClient implements HttpClient {
 		}
 	}
 
+	@Override
+	public void reset() {
+		if (cookieStore != null) {
+			cookieStore.clear();
+		}
+	}
+
 	@Override
 	public boolean isDestroyed() {
 		return destroyed.get();
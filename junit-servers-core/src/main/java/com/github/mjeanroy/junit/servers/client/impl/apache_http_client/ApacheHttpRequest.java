@@ -28,6 +28,7 @@ import static com.github.mjeanroy.junit.servers.client.HttpHeaders.COOKIE;
 import static com.github.mjeanroy.junit.servers.commons.CollectionUtils.map;
 import static java.lang.System.nanoTime;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
@@ -47,9 +48,16 @@ import org.apache.http.client.methods.HttpPatch;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.FileEntity;
+import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
 
 import com.github.mjeanroy.junit.servers.client.Cookies;
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
@@ -57,8 +65,12 @@ import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpParameter;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpResponseFuture;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpRequest;
+import com.github.mjeanroy.junit.servers.client.impl.DefaultHttpResponseFuture;
+import com.github.mjeanroy.junit.servers.client.impl.HttpTimingsCollector;
+import com.github.mjeanroy.junit.servers.commons.ConcurrentUtils;
 import com.github.mjeanroy.junit.servers.commons.Mapper;
 
 /**
@@ -91,6 +103,85 @@ class ApacheHttpRequest extends AbstractHttpRequest implements HttpRequest {
 
 	@Override
 	protected HttpResponse doExecute() throws Exception {
+		HttpRequestBase httpRequest = buildRequest();
+		HttpTimingsCollector timings = new HttpTimingsCollector();
+
+		long start = nanoTime();
+		org.apache.http.HttpResponse httpResponse = client.execute(httpRequest, buildContext(timings));
+		return new ApacheHttpResponse(httpResponse, nanoTime() - start, timings);
+	}
+
+	/**
+	 * Execute request asynchronously: apache http-client is a blocking client, so the request
+	 * is executed by a thread of the default executor, and cancelling the returned future
+	 * aborts the request. The response body is read before the future is completed.
+	 *
+	 * @return The pending response.
+	 * @throws Exception If an error occurred while building the request.
+	 * @see ConcurrentUtils#defaultExecutor()
+	 */
+	@Override
+	protected HttpResponseFuture doExecuteAsync() throws Exception {
+		final HttpRequestBase httpRequest = buildRequest();
+		final DefaultHttpResponseFuture result = new DefaultHttpResponseFuture();
+		final HttpTimingsCollector timings = new HttpTimingsCollector();
+		final long start = nanoTime();
+
+		result.onCancel(new Runnable() {
+			@Override
+			public void run() {
+				httpRequest.abort();
+			}
+		});
+
+		ConcurrentUtils.defaultExecutor().execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					org.apache.http.HttpResponse httpResponse = client.execute(httpRequest, buildContext(timings));
+
+					// Read the body now, so that the connection is released to the pool even
+					// if the response is never read (otherwise, pending requests would starve).
+					HttpEntity entity = httpResponse.getEntity();
+					if (entity != null) {
+						timings.bodyStart();
+						httpResponse.setEntity(new BufferedHttpEntity(entity));
+						EntityUtils.consume(entity);
+						timings.bodyEnd();
+					}
+
+					result.complete(new ApacheHttpResponse(httpResponse, nanoTime() - start, timings));
+				}
+				catch (Exception ex) {
+					result.fail(ex);
+				}
+			}
+		});
+
+		return result;
+	}
+
+	/**
+	 * Create the execution context of the request, holding the collector of the request timings.
+	 *
+	 * @param timings The timings collector.
+	 * @return The execution context.
+	 * @see ApacheHttpTimings
+	 */
+	private static HttpContext buildContext(HttpTimingsCollector timings) {
+		HttpClientContext context = HttpClientContext.create();
+		context.setAttribute(ApacheHttpTimings.ATTRIBUTE, timings);
+		return context;
+	}
+
+	/**
+	 * Create the native request.
+	 *
+	 * @return The native request.
+	 * @throws URISyntaxException If an error occurred while building URI.
+	 * @throws IOException If the body stream cannot be opened.
+	 */
+	private HttpRequestBase buildRequest() throws URISyntaxException, IOException {
 		HttpMethod method = getMethod();
 
 		HttpRequestBase httpRequest = FACTORY.create(method);
@@ -98,18 +189,16 @@ class ApacheHttpRequest extends AbstractHttpRequest implements HttpRequest {
 		handleHeaders(httpRequest);
 		handleCookies(httpRequest);
 		handleBody(httpRequest);
-
-		long start = nanoTime();
-		org.apache.http.HttpResponse httpResponse = client.execute(httpRequest);
-		return new ApacheHttpResponse(httpResponse, nanoTime() - start);
+		return httpRequest;
 	}
 
 	/**
 	 * Add request body.
 	 *
 	 * @param httpRequest The HTTP request.
+	 * @throws IOException If the body stream cannot be opened.
 	 */
-	private void handleBody(HttpRequestBase httpRequest) {
+	private void handleBody(HttpRequestBase httpRequest) throws IOException {
 		if (hasBody()) {
 			HttpEntityEnclosingRequestBase rq = (HttpEntityEnclosingRequestBase) httpRequest;
 			if (!formParams.isEmpty()) {
@@ -164,12 +253,30 @@ class ApacheHttpRequest extends AbstractHttpRequest implements HttpRequest {
 	}
 
 	/**
-	 * Set request body value to http request.
+	 * Set request body value to http request: string body is encoded in {@code UTF-8}, stream
+	 * body with an unknown length and chunked body are sent with chunked transfer encoding.
 	 *
 	 * @param httpRequest Http request in creation.
+	 * @throws IOException If the body stream cannot be opened.
 	 */
-	private void handleRequestBody(HttpEntityEnclosingRequestBase httpRequest) {
-		HttpEntity entity = new StringEntity(body, Charset.defaultCharset());
+	private void handleRequestBody(HttpEntityEnclosingRequestBase httpRequest) throws IOException {
+		HttpEntity entity;
+
+		switch (body.getType()) {
+			case STRING:
+				entity = new StringEntity(body.getString(), StandardCharsets.UTF_8);
+				break;
+			case BYTES:
+				entity = new ByteArrayEntity(body.getBytes());
+				break;
+			case FILE:
+				entity = new FileEntity(body.getPath().toFile());
+				break;
+			default:
+				entity = new InputStreamEntity(body.openStream(), body.getLength());
+				break;
+		}
+
 		httpRequest.setEntity(entity);
 	}
 
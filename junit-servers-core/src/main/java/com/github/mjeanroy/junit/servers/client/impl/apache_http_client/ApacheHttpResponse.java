@@ -25,14 +25,19 @@
 package com.github.mjeanroy.junit.servers.client.impl.apache_http_client;
 
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
+import com.github.mjeanroy.junit.servers.client.HttpTimings;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.HttpTimingsCollector;
 import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.util.EntityUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -60,17 +65,24 @@ class ApacheHttpResponse extends AbstractHttpResponse {
 	 */
 	private final long duration;
 
+	/**
+	 * The collector of the request timings.
+	 */
+	private final HttpTimingsCollector timings;
+
 	/**
 	 * Create apache http response.
 	 *
 	 * @param response Original http response.
 	 * @param duration Request duration.
+	 * @param timings The collector of the request timings.
 	 * @throws NullPointerException If {@code response} is null.
 	 * @throws IllegalArgumentException If {@code duration} is not positive.
 	 */
-	ApacheHttpResponse(HttpResponse response, long duration) {
+	ApacheHttpResponse(HttpResponse response, long duration, HttpTimingsCollector timings) {
 		this.response = notNull(response, "response");
 		this.duration = positive(duration, "duration");
+		this.timings = timings;
 	}
 
 	@Override
@@ -78,6 +90,11 @@ class ApacheHttpResponse extends AbstractHttpResponse {
 		return duration;
 	}
 
+	@Override
+	public HttpTimings getTimings() {
+		return timings.build();
+	}
+
 	@Override
 	public int status() {
 		return response.getStatusLine().getStatusCode();
@@ -87,13 +104,85 @@ class ApacheHttpResponse extends AbstractHttpResponse {
 	public String body() {
 		try {
 			HttpEntity entity = response.getEntity();
-			return entity == null ? "" : EntityUtils.toString(entity);
+			if (entity == null) {
+				return "";
+			}
+
+			boolean streamed = startBodyRead(entity);
+			String body = EntityUtils.toString(entity);
+			endBodyRead(streamed);
+			return body;
+		}
+		catch (IOException ex) {
+			throw new HttpClientException(ex);
+		}
+	}
+
+	@Override
+	public byte[] bodyAsBytes() {
+		try {
+			HttpEntity entity = response.getEntity();
+			if (entity == null) {
+				return new byte[0];
+			}
+
+			boolean streamed = startBodyRead(entity);
+			byte[] body = EntityUtils.toByteArray(entity);
+			endBodyRead(streamed);
+			return body;
+		}
+		catch (IOException ex) {
+			throw new HttpClientException(ex);
+		}
+	}
+
+	@Override
+	public InputStream bodyAsStream() {
+		try {
+			HttpEntity entity = response.getEntity();
+			return entity == null ? new ByteArrayInputStream(new byte[0]) : entity.getContent();
 		}
 		catch (IOException ex) {
 			throw new HttpClientException(ex);
 		}
 	}
 
+	@Override
+	public long bodyTo(Path path) {
+		HttpEntity entity = response.getEntity();
+		boolean streamed = entity != null && startBodyRead(entity);
+		long size = super.bodyTo(path);
+		endBodyRead(streamed);
+		return size;
+	}
+
+	/**
+	 * Mark the start of the body read: the body of a streamed entity is read from the connection,
+	 * otherwise it has already been read (and the body read phase has already been recorded).
+	 *
+	 * @param entity The response entity.
+	 * @return {@code true} if the entity is streamed, {@code false} otherwise.
+	 */
+	private boolean startBodyRead(HttpEntity entity) {
+		boolean streamed = !entity.isRepeatable();
+		if (streamed) {
+			timings.bodyStart();
+		}
+
+		return streamed;
+	}
+
+	/**
+	 * Mark the end of the body read, if the entity is streamed.
+	 *
+	 * @param streamed The streamed flag, returned by {@link #startBodyRead(HttpEntity)}.
+	 */
+	private void endBodyRead(boolean streamed) {
+		if (streamed) {
+			timings.bodyEnd();
+		}
+	}
+
 	@Override
 	public HttpHeader getHeader(String name) {
 		Header[] headers = response.getHeaders(name);
@@ -0,0 +1,178 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.apache_http_client;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.config.SocketConfig;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.conn.DefaultHttpClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+import org.apache.http.ssl.SSLContexts;
+
+import com.github.mjeanroy.junit.servers.client.impl.HttpTimingsCollector;
+
+/**
+ * Hooks recording request timings with apache http-client: the {@link HttpTimingsCollector} of
+ * a request is stored in the execution context, and retrieved by the connection operator, the socket
+ * factories and the request executor used by the internal client.
+ */
+final class ApacheHttpTimings {
+
+	/**
+	 * The name of the context attribute holding the timings collector.
+	 */
+	static final String ATTRIBUTE = ApacheHttpTimings.class.getName();
+
+	// Ensure non instantiation.
+	private ApacheHttpTimings() {
+	}
+
+	/**
+	 * Create the connection manager recording DNS lookup, connect and TLS handshake timings.
+	 *
+	 * @return The connection manager.
+	 */
+	static PoolingHttpClientConnectionManager newConnectionManager() {
+		RegistryBuilder<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+			.register("http", new TimingsPlainSocketFactory())
+			.register("https", new TimingsSslSocketFactory());
+
+		TimingsConnectionOperator operator = new TimingsConnectionOperator(registry);
+		return new PoolingHttpClientConnectionManager(operator, null, -1, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Create the request executor recording request write and time to first byte timings.
+	 *
+	 * @return The request executor.
+	 */
+	static HttpRequestExecutor newRequestExecutor() {
+		return new TimingsRequestExecutor();
+	}
+
+	/**
+	 * Get the timings collector of the request being executed.
+	 *
+	 * @param context The execution context.
+	 * @return The collector, a new (ignored) one if the request has been executed without collector.
+	 */
+	private static HttpTimingsCollector timings(HttpContext context) {
+		Object timings = context == null ? null : context.getAttribute(ATTRIBUTE);
+		return timings instanceof HttpTimingsCollector ? (HttpTimingsCollector) timings : new HttpTimingsCollector();
+	}
+
+	/**
+	 * Connection operator, marking the start of the host resolution.
+	 */
+	private static class TimingsConnectionOperator extends DefaultHttpClientConnectionOperator {
+		private TimingsConnectionOperator(RegistryBuilder<ConnectionSocketFactory> registry) {
+			super(registry.build(), null, null);
+		}
+
+		@Override
+		public void connect(ManagedHttpClientConnection conn, HttpHost host, InetSocketAddress localAddress, int connectTimeout, SocketConfig socketConfig, HttpContext context) throws IOException {
+			timings(context).dnsStart();
+			super.connect(conn, host, localAddress, connectTimeout, socketConfig, context);
+		}
+	}
+
+	/**
+	 * Plain socket factory: the host has been resolved when the socket is connected.
+	 */
+	private static class TimingsPlainSocketFactory extends PlainConnectionSocketFactory {
+		@Override
+		public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress, InetSocketAddress localAddress, HttpContext context) throws IOException {
+			HttpTimingsCollector timings = timings(context);
+			timings.dnsEnd();
+			timings.connectStart();
+			Socket result = super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+			timings.connectEnd();
+			return result;
+		}
+	}
+
+	/**
+	 * SSL socket factory: the TLS handshake is made once the plain socket is connected.
+	 */
+	private static class TimingsSslSocketFactory extends SSLConnectionSocketFactory {
+		private TimingsSslSocketFactory() {
+			super(SSLContexts.createDefault(), getDefaultHostnameVerifier());
+		}
+
+		@Override
+		public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress, InetSocketAddress localAddress, HttpContext context) throws IOException {
+			HttpTimingsCollector timings = timings(context);
+			timings.dnsEnd();
+			timings.connectStart();
+			return super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+		}
+
+		@Override
+		public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+			HttpTimingsCollector timings = timings(context);
+			timings.connectEnd();
+			timings.tlsStart();
+			Socket result = super.createLayeredSocket(socket, target, port, context);
+			timings.tlsEnd();
+			return result;
+		}
+	}
+
+	/**
+	 * Request executor, marking the request write and the reception of the response headers.
+	 */
+	private static class TimingsRequestExecutor extends HttpRequestExecutor {
+		@Override
+		protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection conn, HttpContext context) throws IOException, HttpException {
+			HttpTimingsCollector timings = timings(context);
+			timings.requestWriteStart();
+			HttpResponse response = super.doSendRequest(request, conn, context);
+			timings.requestWriteEnd();
+			return response;
+		}
+
+		@Override
+		protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection conn, HttpContext context) throws HttpException, IOException {
+			HttpResponse response = super.doReceiveResponse(request, conn, context);
+			timings(context).firstByte();
+			return response;
+		}
+	}
+}
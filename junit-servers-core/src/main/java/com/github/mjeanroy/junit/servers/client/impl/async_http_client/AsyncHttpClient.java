@@ -24,6 +24,7 @@
 
 package com.github.mjeanroy.junit.servers.client.impl.async_http_client;
 
+import static com.github.mjeanroy.junit.servers.commons.ConcurrentUtils.daemonThreadFactory;
 import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
 
 import java.io.IOException;
@@ -32,6 +33,11 @@ import org.asynchttpclient.AsyncHttpClientConfig;
 import org.asynchttpclient.DefaultAsyncHttpClient;
 import org.asynchttpclient.DefaultAsyncHttpClientConfig;
 
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+
 import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
 import com.github.mjeanroy.junit.servers.client.HttpMethod;
@@ -45,6 +51,12 @@ import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
  * Implementation of {@link HttpClient} using async-http-client
  * under the hood.
  *
+ * <p>
+ *
+ * Clients created with {@link #newAsyncHttpClient(HttpClientConfiguration, EmbeddedServer)} share
+ * the same netty event loop group and the same timer: destroying a client only closes its
+ * own connections.
+ *
  * @see <a href="https://asynchttpclient.github.io/">https://asynchttpclient.github.io/</a>
  * @see com.github.mjeanroy.junit.servers.client.HttpClientStrategy#ASYNC_HTTP_CLIENT
  */
@@ -87,6 +99,8 @@ public class AsyncHttpClient extends AbstractHttpClient implements HttpClient {
 	public static AsyncHttpClient newAsyncHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
 		AsyncHttpClientConfig config = new DefaultAsyncHttpClientConfig.Builder()
 			.setFollowRedirect(configuration.isFollowRedirect())
+			.setEventLoopGroup(SharedResourcesHolder.EVENT_LOOP_GROUP)
+			.setNettyTimer(SharedResourcesHolder.TIMER)
 			.build();
 
 		DefaultAsyncHttpClient client = new DefaultAsyncHttpClient(config);
@@ -122,4 +136,13 @@ public class AsyncHttpClient extends AbstractHttpClient implements HttpClient {
 	public boolean isDestroyed() {
 		return client.isClosed();
 	}
+
+	/**
+	 * Holder of the netty resources shared by all clients, created on demand.
+	 * Threads are daemon threads, so that they do not prevent the JVM from exiting.
+	 */
+	private static final class SharedResourcesHolder {
+		private static final EventLoopGroup EVENT_LOOP_GROUP = new NioEventLoopGroup(0, daemonThreadFactory("junit-servers-async-http-client"));
+		private static final Timer TIMER = new HashedWheelTimer(daemonThreadFactory("junit-servers-async-http-client-timer"));
+	}
 }
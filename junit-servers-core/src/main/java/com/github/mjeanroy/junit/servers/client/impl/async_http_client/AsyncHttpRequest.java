@@ -26,10 +26,14 @@ package com.github.mjeanroy.junit.servers.client.impl.async_http_client;
 
 import static java.lang.System.nanoTime;
 
+import java.io.File;
+import java.io.IOException;
+
 import org.asynchttpclient.ListenableFuture;
 import org.asynchttpclient.Request;
 import org.asynchttpclient.RequestBuilder;
 import org.asynchttpclient.Response;
+import org.asynchttpclient.request.body.generator.InputStreamBodyGenerator;
 import org.asynchttpclient.uri.Uri;
 import org.asynchttpclient.util.Utf8UrlEncoder;
 
@@ -40,8 +44,11 @@ import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpParameter;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpResponseFuture;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpRequest;
+import com.github.mjeanroy.junit.servers.client.impl.DefaultHttpResponseFuture;
+import com.github.mjeanroy.junit.servers.client.impl.HttpTimingsCollector;
 
 /**
  * Implementation for {@link HttpRequest} that use async-http-client
@@ -71,6 +78,51 @@ class AsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 
 	@Override
 	protected HttpResponse doExecute() throws Exception {
+		Request request = buildRequest();
+		HttpTimingsCollector timings = new HttpTimingsCollector();
+		long start = nanoTime();
+		Response response = client.executeRequest(request, new TimingsCompletionHandler(timings)).get();
+		return new AsyncHttpResponse(response, nanoTime() - start, timings);
+	}
+
+	@Override
+	protected HttpResponseFuture doExecuteAsync() throws Exception {
+		Request request = buildRequest();
+		final HttpTimingsCollector timings = new HttpTimingsCollector();
+		final DefaultHttpResponseFuture result = new DefaultHttpResponseFuture();
+		final long start = nanoTime();
+
+		final ListenableFuture<Response> future = client.executeRequest(request, new TimingsCompletionHandler(timings) {
+			@Override
+			public Response onCompleted(Response response) throws Exception {
+				super.onCompleted(response);
+				result.complete(new AsyncHttpResponse(response, nanoTime() - start, timings));
+				return response;
+			}
+
+			@Override
+			public void onThrowable(Throwable t) {
+				result.fail(t);
+			}
+		});
+
+		result.onCancel(new Runnable() {
+			@Override
+			public void run() {
+				future.cancel(true);
+			}
+		});
+
+		return result;
+	}
+
+	/**
+	 * Create the native request.
+	 *
+	 * @return The native request.
+	 * @throws IOException If the body stream cannot be opened.
+	 */
+	private Request buildRequest() throws IOException {
 		HttpUrl endpoint = getEndpoint();
 		String scheme = endpoint.getScheme();
 		String userInfo = null;
@@ -88,13 +140,7 @@ class AsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 		handleHeaders(builder);
 		handleCookies(builder);
 
-		Request request = builder.build();
-		ListenableFuture<Response> future = client.executeRequest(request);
-
-		long start = nanoTime();
-		Response response = future.get();
-		long duration = nanoTime() - start;
-		return new AsyncHttpResponse(response, duration);
+		return builder.build();
 	}
 
 	/**
@@ -115,8 +161,9 @@ class AsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 	 * @param builder The pending HTTP request.
 	 * @see RequestBuilder#addFormParam(String, String)
 	 * @see RequestBuilder#setBody(String)
+	 * @throws IOException If the body stream cannot be opened.
 	 */
-	private void handleBody(RequestBuilder builder) {
+	private void handleBody(RequestBuilder builder) throws IOException {
 		if (!hasBody()) {
 			return;
 		}
@@ -141,13 +188,30 @@ class AsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 	}
 
 	/**
-	 * Set body to the final HTTP request.
+	 * Set body to the final HTTP request: file body is sent with a zero-copy transfer (if
+	 * the connection is not secured), stream body with an unknown length and chunked body
+	 * are sent with chunked transfer encoding.
 	 *
 	 * @param builder The pending HTTP request.
-	 * @see RequestBuilder#setBody(String)
+	 * @throws IOException If the body stream cannot be opened.
+	 * @see RequestBuilder#setBody(byte[])
+	 * @see RequestBuilder#setBody(File)
+	 * @see InputStreamBodyGenerator
 	 */
-	private void handleRequestBody(RequestBuilder builder) {
-		builder.setBody(body);
+	private void handleRequestBody(RequestBuilder builder) throws IOException {
+		switch (body.getType()) {
+			// String body is sent as bytes, since the default charset of the client is not UTF-8.
+			case STRING:
+			case BYTES:
+				builder.setBody(body.getBytes());
+				break;
+			case FILE:
+				builder.setBody(body.getPath().toFile());
+				break;
+			default:
+				builder.setBody(new InputStreamBodyGenerator(body.openStream(), body.getLength()));
+				break;
+		}
 	}
 
 	/**
@@ -26,9 +26,13 @@ package com.github.mjeanroy.junit.servers.client.impl.async_http_client;
 
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpTimings;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.HttpTimingsCollector;
 import org.asynchttpclient.Response;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import static com.github.mjeanroy.junit.servers.client.HttpHeader.header;
@@ -55,17 +59,24 @@ class AsyncHttpResponse extends AbstractHttpResponse implements HttpResponse {
 	 */
 	private final long duration;
 
+	/**
+	 * The collector of the request timings.
+	 */
+	private final HttpTimingsCollector timings;
+
 	/**
 	 * Create http response.
 	 *
 	 * @param response Original http response from async-http-client.
 	 * @param duration Duration of request execution (a.k.a time to produce response).
+	 * @param timings The collector of the request timings.
 	 * @throws NullPointerException if response is null.
 	 * @throws IllegalArgumentException if duration is not positive.
 	 */
-	AsyncHttpResponse(Response response, long duration) {
+	AsyncHttpResponse(Response response, long duration, HttpTimingsCollector timings) {
 		this.response = notNull(response, "response");
 		this.duration = positive(duration, "duration");
+		this.timings = timings;
 	}
 
 	@Override
@@ -73,6 +84,11 @@ class AsyncHttpResponse extends AbstractHttpResponse implements HttpResponse {
 		return duration;
 	}
 
+	@Override
+	public HttpTimings getTimings() {
+		return timings.build();
+	}
+
 	@Override
 	public int status() {
 		return response.getStatusCode();
@@ -83,6 +99,21 @@ class AsyncHttpResponse extends AbstractHttpResponse implements HttpResponse {
 		return response.getResponseBody();
 	}
 
+	@Override
+	public byte[] bodyAsBytes() {
+		return response.getResponseBodyAsBytes();
+	}
+
+	@Override
+	public ByteBuffer bodyAsByteBuffer() {
+		return response.getResponseBodyAsByteBuffer();
+	}
+
+	@Override
+	public InputStream bodyAsStream() {
+		return response.getResponseBodyAsStream();
+	}
+
 	@Override
 	public HttpHeader getHeader(String name) {
 		List<String> headers = response.getHeaders(name);
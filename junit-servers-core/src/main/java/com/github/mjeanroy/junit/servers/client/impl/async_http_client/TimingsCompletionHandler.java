@@ -0,0 +1,145 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.async_http_client;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import io.netty.channel.Channel;
+import org.asynchttpclient.AsyncCompletionHandler;
+import org.asynchttpclient.HttpResponseStatus;
+import org.asynchttpclient.Response;
+import org.asynchttpclient.handler.AsyncHandlerExtensions;
+import org.asynchttpclient.netty.request.NettyRequest;
+
+import com.github.mjeanroy.junit.servers.client.impl.HttpTimingsCollector;
+
+/**
+ * Completion handler recording request timings from the async-http-client
+ * events (see {@link AsyncHandlerExtensions}).
+ */
+class TimingsCompletionHandler extends AsyncCompletionHandler<Response> implements AsyncHandlerExtensions {
+
+	/**
+	 * The timings collector.
+	 */
+	private final HttpTimingsCollector timings;
+
+	/**
+	 * Create handler.
+	 *
+	 * @param timings The timings collector.
+	 */
+	TimingsCompletionHandler(HttpTimingsCollector timings) {
+		this.timings = timings;
+	}
+
+	@Override
+	public Response onCompleted(Response response) throws Exception {
+		timings.bodyEnd();
+		return response;
+	}
+
+	@Override
+	public State onStatusReceived(HttpResponseStatus status) throws Exception {
+		timings.firstByte();
+		return super.onStatusReceived(status);
+	}
+
+	@Override
+	public State onHeadersWritten() {
+		timings.requestWriteEnd();
+		return super.onHeadersWritten();
+	}
+
+	@Override
+	public State onContentWritten() {
+		timings.requestWriteEnd();
+		return super.onContentWritten();
+	}
+
+	@Override
+	public void onHostnameResolutionAttempt(String name) {
+		timings.dnsStart();
+	}
+
+	@Override
+	public void onHostnameResolutionSuccess(String name, List<InetSocketAddress> addresses) {
+		timings.dnsEnd();
+	}
+
+	@Override
+	public void onHostnameResolutionFailure(String name, Throwable cause) {
+	}
+
+	@Override
+	public void onTcpConnectAttempt(InetSocketAddress remoteAddress) {
+		timings.connectStart();
+	}
+
+	@Override
+	public void onTcpConnectSuccess(InetSocketAddress remoteAddress, Channel connection) {
+		timings.connectEnd();
+	}
+
+	@Override
+	public void onTcpConnectFailure(InetSocketAddress remoteAddress, Throwable cause) {
+	}
+
+	@Override
+	public void onTlsHandshakeAttempt() {
+		timings.tlsStart();
+	}
+
+	@Override
+	public void onTlsHandshakeSuccess() {
+		timings.tlsEnd();
+	}
+
+	@Override
+	public void onTlsHandshakeFailure(Throwable cause) {
+	}
+
+	@Override
+	public void onConnectionPoolAttempt() {
+	}
+
+	@Override
+	public void onConnectionPooled(Channel connection) {
+	}
+
+	@Override
+	public void onConnectionOffer(Channel connection) {
+	}
+
+	@Override
+	public void onRequestSend(NettyRequest request) {
+		timings.requestWriteStart();
+	}
+
+	@Override
+	public void onRetry() {
+	}
+}
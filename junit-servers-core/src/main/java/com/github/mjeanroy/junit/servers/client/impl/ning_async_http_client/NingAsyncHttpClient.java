@@ -24,8 +24,15 @@
 
 package com.github.mjeanroy.junit.servers.client.impl.ning_async_http_client;
 
+import static com.github.mjeanroy.junit.servers.commons.ConcurrentUtils.daemonThreadFactory;
 import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
 
+import java.util.concurrent.Executors;
+
+import org.jboss.netty.channel.socket.nio.NioClientSocketChannelFactory;
+import org.jboss.netty.util.HashedWheelTimer;
+import org.jboss.netty.util.Timer;
+
 import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
 import com.github.mjeanroy.junit.servers.client.HttpMethod;
@@ -35,11 +42,18 @@ import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpClient;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 import com.ning.http.client.AsyncHttpClient;
 import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.providers.netty.NettyAsyncHttpProviderConfig;
 
 /**
  * Implementation of {@link HttpClient} using (Ning) async-http-client
  * under the hood.
  *
+ * <p>
+ *
+ * Clients created with {@link #newAsyncHttpClient(HttpClientConfiguration, EmbeddedServer)} share
+ * the same netty socket channel factory (i.e boss and worker threads) and the same timer: destroying
+ * a client only closes its own connections.
+ *
  * @see <a href="https://github.com/ning/async-http-client">https://github.com/ning/async-http-client</a>
  * @see com.github.mjeanroy.junit.servers.client.HttpClientStrategy#NING_ASYNC_HTTP_CLIENT
  */
@@ -71,11 +85,7 @@ public class NingAsyncHttpClient extends AbstractHttpClient implements HttpClien
 	 */
 	public static NingAsyncHttpClient defaultAsyncHttpClient(EmbeddedServer<?> server) {
 		HttpClientConfiguration configuration = HttpClientConfiguration.defaultConfiguration();
-		AsyncHttpClientConfig config = new AsyncHttpClientConfig.Builder()
-			.setFollowRedirect(configuration.isFollowRedirect())
-			.build();
-
-		return new NingAsyncHttpClient(configuration, server, new com.ning.http.client.AsyncHttpClient(config));
+		return newAsyncHttpClient(configuration, server);
 	}
 
 	/**
@@ -87,8 +97,13 @@ public class NingAsyncHttpClient extends AbstractHttpClient implements HttpClien
 	 * @throws NullPointerException If {@code server} or {@code configuration} is {@code null}.
 	 */
 	public static NingAsyncHttpClient newAsyncHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
+		NettyAsyncHttpProviderConfig providerConfig = new NettyAsyncHttpProviderConfig();
+		providerConfig.setSocketChannelFactory(SharedResourcesHolder.SOCKET_CHANNEL_FACTORY);
+		providerConfig.setNettyTimer(SharedResourcesHolder.TIMER);
+
 		AsyncHttpClientConfig config = new AsyncHttpClientConfig.Builder()
 			.setFollowRedirect(configuration.isFollowRedirect())
+			.setAsyncHttpClientProviderConfig(providerConfig)
 			.build();
 
 		AsyncHttpClient client = new AsyncHttpClient(config);
@@ -121,4 +136,17 @@ public class NingAsyncHttpClient extends AbstractHttpClient implements HttpClien
 	public boolean isDestroyed() {
 		return client.isClosed();
 	}
+
+	/**
+	 * Holder of the netty resources shared by all clients, created on demand.
+	 * Threads are daemon threads, so that they do not prevent the JVM from exiting.
+	 */
+	private static final class SharedResourcesHolder {
+		private static final NioClientSocketChannelFactory SOCKET_CHANNEL_FACTORY = new NioClientSocketChannelFactory(
+			Executors.newCachedThreadPool(daemonThreadFactory("junit-servers-ning-boss")),
+			Executors.newCachedThreadPool(daemonThreadFactory("junit-servers-ning-worker"))
+		);
+
+		private static final Timer TIMER = new HashedWheelTimer(daemonThreadFactory("junit-servers-ning-timer"));
+	}
 }
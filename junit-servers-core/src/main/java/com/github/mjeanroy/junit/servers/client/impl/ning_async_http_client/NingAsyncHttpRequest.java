@@ -26,6 +26,10 @@ package com.github.mjeanroy.junit.servers.client.impl.ning_async_http_client;
 
 import static java.lang.System.nanoTime;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
 import com.github.mjeanroy.junit.servers.client.Cookies;
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpHeaders;
@@ -33,12 +37,17 @@ import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpParameter;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpResponseFuture;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpRequest;
+import com.github.mjeanroy.junit.servers.client.impl.DefaultHttpResponseFuture;
+import com.github.mjeanroy.junit.servers.client.impl.HttpTimingsCollector;
 import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.ListenableFuture;
 import com.ning.http.client.Request;
 import com.ning.http.client.RequestBuilder;
 import com.ning.http.client.Response;
+import com.ning.http.client.generators.InputStreamBodyGenerator;
 import com.ning.http.client.uri.Uri;
 import com.ning.http.util.UTF8UrlEncoder;
 
@@ -70,6 +79,51 @@ class NingAsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 
 	@Override
 	protected HttpResponse doExecute() throws Exception {
+		Request request = buildRequest();
+		HttpTimingsCollector timings = new HttpTimingsCollector();
+		long start = nanoTime();
+		Response response = client.executeRequest(request, new TimingsCompletionHandler(timings)).get();
+		return new NingAsyncHttpResponse(response, nanoTime() - start, timings);
+	}
+
+	@Override
+	protected HttpResponseFuture doExecuteAsync() throws Exception {
+		Request request = buildRequest();
+		final HttpTimingsCollector timings = new HttpTimingsCollector();
+		final DefaultHttpResponseFuture result = new DefaultHttpResponseFuture();
+		final long start = nanoTime();
+
+		final ListenableFuture<Response> future = client.executeRequest(request, new TimingsCompletionHandler(timings) {
+			@Override
+			public Response onCompleted(Response response) throws Exception {
+				super.onCompleted(response);
+				result.complete(new NingAsyncHttpResponse(response, nanoTime() - start, timings));
+				return response;
+			}
+
+			@Override
+			public void onThrowable(Throwable t) {
+				result.fail(t);
+			}
+		});
+
+		result.onCancel(new Runnable() {
+			@Override
+			public void run() {
+				future.cancel(true);
+			}
+		});
+
+		return result;
+	}
+
+	/**
+	 * Create the native request.
+	 *
+	 * @return The native request.
+	 * @throws IOException If the body stream cannot be opened.
+	 */
+	private Request buildRequest() throws IOException {
 		HttpUrl endpoint = getEndpoint();
 		String scheme = endpoint.getScheme();
 		String userInfo = null;
@@ -87,10 +141,7 @@ class NingAsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 		handleHeaders(builder);
 		handleCookies(builder);
 
-		Request request = builder.build();
-		long start = nanoTime();
-		Response response = client.executeRequest(request).get();
-		return new NingAsyncHttpResponse(response, nanoTime() - start);
+		return builder.build();
 	}
 
 	/**
@@ -116,8 +167,9 @@ class NingAsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 	 * @param builder The pending HTTP request.
 	 * @see RequestBuilder#addFormParam(String, String)
 	 * @see RequestBuilder#setBody(String)
+	 * @throws IOException If the body stream cannot be opened.
 	 */
-	private void handleBody(RequestBuilder builder) {
+	private void handleBody(RequestBuilder builder) throws IOException {
 		if (!hasBody()) {
 			return;
 		}
@@ -142,13 +194,32 @@ class NingAsyncHttpRequest extends AbstractHttpRequest implements HttpRequest {
 	}
 
 	/**
-	 * Set request body value.
+	 * Set request body value: file body is sent with a zero-copy transfer (if the connection
+	 * is not secured), stream body with an unknown length and chunked body are sent with
+	 * chunked transfer encoding.
 	 *
 	 * @param builder The pending HTTP request.
-	 * @see RequestBuilder#setBody(String)
+	 * @throws IOException If the body stream cannot be opened.
+	 * @see RequestBuilder#setBody(byte[])
+	 * @see RequestBuilder#setBody(File)
+	 * @see StreamBodyGenerator
+	 * @see InputStreamBodyGenerator
 	 */
-	private void handleRequestBody(RequestBuilder builder) {
-		builder.setBody(body);
+	private void handleRequestBody(RequestBuilder builder) throws IOException {
+		switch (body.getType()) {
+			// String body is sent as bytes, since the default charset of the client is not UTF-8.
+			case STRING:
+			case BYTES:
+				builder.setBody(body.getBytes());
+				break;
+			case FILE:
+				builder.setBody(body.getPath().toFile());
+				break;
+			default:
+				InputStream stream = body.openStream();
+				builder.setBody(body.isChunked() ? new InputStreamBodyGenerator(stream) : new StreamBodyGenerator(stream, body.getLength()));
+				break;
+		}
 	}
 
 	/**
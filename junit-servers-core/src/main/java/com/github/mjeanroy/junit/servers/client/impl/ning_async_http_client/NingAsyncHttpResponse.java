@@ -26,11 +26,15 @@ package com.github.mjeanroy.junit.servers.client.impl.ning_async_http_client;
 
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpTimings;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.HttpTimingsCollector;
 import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
 import com.ning.http.client.Response;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import static com.github.mjeanroy.junit.servers.client.HttpHeader.header;
@@ -59,17 +63,24 @@ class NingAsyncHttpResponse extends AbstractHttpResponse implements HttpResponse
 	 */
 	private final long duration;
 
+	/**
+	 * The collector of the request timings.
+	 */
+	private final HttpTimingsCollector timings;
+
 	/**
 	 * Create http response.
 	 *
 	 * @param response Original http response from async-http-client.
 	 * @param duration Duration of request execution (a.k.a time to produce response).
+	 * @param timings The collector of the request timings.
 	 * @throws NullPointerException if response is null.
 	 * @throws IllegalArgumentException if duration is not positive.
 	 */
-	NingAsyncHttpResponse(Response response, long duration) {
+	NingAsyncHttpResponse(Response response, long duration, HttpTimingsCollector timings) {
 		this.response = notNull(response, "response");
 		this.duration = positive(duration, "duration");
+		this.timings = timings;
 	}
 
 	@Override
@@ -77,6 +88,11 @@ class NingAsyncHttpResponse extends AbstractHttpResponse implements HttpResponse
 		return duration;
 	}
 
+	@Override
+	public HttpTimings getTimings() {
+		return timings.build();
+	}
+
 	@Override
 	public int status() {
 		return response.getStatusCode();
@@ -92,6 +108,36 @@ class NingAsyncHttpResponse extends AbstractHttpResponse implements HttpResponse
 		}
 	}
 
+	@Override
+	public byte[] bodyAsBytes() {
+		try {
+			return response.getResponseBodyAsBytes();
+		}
+		catch (IOException ex) {
+			throw new HttpClientException(ex);
+		}
+	}
+
+	@Override
+	public ByteBuffer bodyAsByteBuffer() {
+		try {
+			return response.getResponseBodyAsByteBuffer();
+		}
+		catch (IOException ex) {
+			throw new HttpClientException(ex);
+		}
+	}
+
+	@Override
+	public InputStream bodyAsStream() {
+		try {
+			return response.getResponseBodyAsStream();
+		}
+		catch (IOException ex) {
+			throw new HttpClientException(ex);
+		}
+	}
+
 	@Override
 	public HttpHeader getHeader(String name) {
 		List<String> headers = response.getHeaders(name);
@@ -0,0 +1,97 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.ning_async_http_client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import com.ning.http.client.Body;
+import com.ning.http.client.BodyGenerator;
+
+/**
+ * Body generator streaming a body of a known length: the body is sent with a {@code Content-Length}
+ * header, while {@link com.ning.http.client.generators.InputStreamBodyGenerator} always sends it chunked.
+ */
+class StreamBodyGenerator implements BodyGenerator {
+
+	/**
+	 * The body stream.
+	 */
+	private final InputStream stream;
+
+	/**
+	 * The body length.
+	 */
+	private final long length;
+
+	/**
+	 * Create generator.
+	 *
+	 * @param stream The body stream.
+	 * @param length The body length.
+	 */
+	StreamBodyGenerator(InputStream stream, long length) {
+		this.stream = stream;
+		this.length = length;
+	}
+
+	@Override
+	public Body createBody() {
+		return new StreamBody();
+	}
+
+	private class StreamBody implements Body {
+		@Override
+		public long getContentLength() {
+			return length;
+		}
+
+		@Override
+		public long read(ByteBuffer buffer) throws IOException {
+			if (!buffer.hasArray()) {
+				byte[] bytes = new byte[buffer.remaining()];
+				int count = stream.read(bytes);
+				if (count > 0) {
+					buffer.put(bytes, 0, count);
+				}
+
+				return count;
+			}
+
+			int count = stream.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			if (count > 0) {
+				buffer.position(buffer.position() + count);
+			}
+
+			return count;
+		}
+
+		@Override
+		public void close() throws IOException {
+			stream.close();
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.ning_async_http_client;
+
+import java.net.InetAddress;
+
+import com.github.mjeanroy.junit.servers.client.impl.HttpTimingsCollector;
+import com.ning.http.client.AsyncCompletionHandler;
+import com.ning.http.client.AsyncHandlerExtensions;
+import com.ning.http.client.HttpResponseStatus;
+import com.ning.http.client.Response;
+
+/**
+ * Completion handler recording request timings from the (ning) async-http-client
+ * events (see {@link AsyncHandlerExtensions}).
+ */
+class TimingsCompletionHandler extends AsyncCompletionHandler<Response> implements AsyncHandlerExtensions {
+
+	/**
+	 * The timings collector.
+	 */
+	private final HttpTimingsCollector timings;
+
+	/**
+	 * Create handler.
+	 *
+	 * @param timings The timings collector.
+	 */
+	TimingsCompletionHandler(HttpTimingsCollector timings) {
+		this.timings = timings;
+	}
+
+	@Override
+	public Response onCompleted(Response response) throws Exception {
+		timings.bodyEnd();
+		return response;
+	}
+
+	@Override
+	public STATE onStatusReceived(HttpResponseStatus status) throws Exception {
+		timings.firstByte();
+		return super.onStatusReceived(status);
+	}
+
+	@Override
+	public STATE onHeaderWriteCompleted() {
+		timings.requestWriteEnd();
+		return super.onHeaderWriteCompleted();
+	}
+
+	@Override
+	public STATE onContentWriteCompleted() {
+		timings.requestWriteEnd();
+		return super.onContentWriteCompleted();
+	}
+
+	@Override
+	public void onOpenConnection() {
+		// Host name is resolved before connection is opened, if DNS event is not triggered
+		// connect phase includes the DNS lookup.
+		timings.dnsStart();
+		timings.connectStart();
+	}
+
+	@Override
+	public void onDnsResolved(InetAddress address) {
+		timings.dnsEnd();
+		timings.connectStart();
+	}
+
+	@Override
+	public void onConnectionOpen() {
+		timings.connectEnd();
+
+		// The TLS handshake, if any, starts once the connection is opened.
+		timings.tlsStart();
+	}
+
+	@Override
+	public void onSslHandshakeCompleted() {
+		timings.tlsEnd();
+	}
+
+	@Override
+	public void onPoolConnection() {
+	}
+
+	@Override
+	public void onConnectionPooled() {
+	}
+
+	@Override
+	public void onSendRequest(Object request) {
+		timings.requestWriteStart();
+	}
+
+	@Override
+	public void onRetry() {
+	}
+}
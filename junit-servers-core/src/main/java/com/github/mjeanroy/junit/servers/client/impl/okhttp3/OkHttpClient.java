@@ -24,8 +24,16 @@
 
 package com.github.mjeanroy.junit.servers.client.impl.okhttp3;
 
+import static com.github.mjeanroy.junit.servers.commons.ConcurrentUtils.daemonThreadFactory;
+
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+
 import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
 import com.github.mjeanroy.junit.servers.client.HttpMethod;
@@ -37,11 +45,22 @@ import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 /**
  * Implementation of {@link HttpClient} using OkHttp library from Square.
  *
+ * <p>
+ *
+ * Clients created with {@link #newOkHttpClient(HttpClientConfiguration, EmbeddedServer)} share
+ * the same dispatcher and the same connection pool: destroying a client does not release
+ * these shared resources, but closes the responses of the client whose body has not been read.
+ *
  * @see com.github.mjeanroy.junit.servers.client.HttpClientStrategy#OK_HTTP3
  * @see <a href="http://square.github.io/okhttp">http://square.github.io/okhttp</a>
  */
 public class OkHttpClient extends AbstractHttpClient implements HttpClient {
 
+	/**
+	 * The maximum number of concurrent asynchronous requests.
+	 */
+	private static final int MAX_CONCURRENT_REQUESTS = 200;
+
 	/**
 	 * Create new http client using internal
 	 * http client from ok-http library.
@@ -64,11 +83,11 @@ public class OkHttpClient extends AbstractHttpClient implements HttpClient {
 	 * @throws NullPointerException If {@code server} or {@code configuration} are {@code null}.
 	 */
 	public static OkHttpClient newOkHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
-		okhttp3.OkHttpClient client = new okhttp3.OkHttpClient.Builder()
+		okhttp3.OkHttpClient client = SharedResourcesHolder.CLIENT.newBuilder()
 			.followRedirects(configuration.isFollowRedirect())
 			.build();
 
-		return new OkHttpClient(configuration, server, client);
+		return new OkHttpClient(configuration, server, client, true);
 	}
 
 	/**
@@ -83,7 +102,7 @@ public class OkHttpClient extends AbstractHttpClient implements HttpClient {
 	 */
 	@Deprecated
 	public static OkHttpClient newOkHttpClient(EmbeddedServer<?> server, okhttp3.OkHttpClient client) {
-		return new OkHttpClient(HttpClientConfiguration.defaultConfiguration(), server, client);
+		return new OkHttpClient(HttpClientConfiguration.defaultConfiguration(), server, client, false);
 	}
 
 	/**
@@ -96,25 +115,46 @@ public class OkHttpClient extends AbstractHttpClient implements HttpClient {
 	 */
 	private final okhttp3.OkHttpClient client;
 
+	/**
+	 * Flag to know if the dispatcher and the connection pool of the internal client are shared
+	 * with other clients (in which case they must not be released when the client is destroyed).
+	 */
+	private final boolean sharedResources;
+
+	/**
+	 * The responses whose body has not been closed yet.
+	 */
+	private final OpenResponses openResponses;
+
 	/**
 	 * Create the client.
 	 * @param server The embedded server that will be queried.
 	 * @param client The internal client.
+	 * @param sharedResources Flag to know if resources of the internal client are shared.
 	 */
-	private OkHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server, okhttp3.OkHttpClient client) {
+	private OkHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server, okhttp3.OkHttpClient client, boolean sharedResources) {
 		super(configuration, server);
 		this.client = client;
+		this.sharedResources = sharedResources;
+		this.openResponses = new OpenResponses();
 		this.destroyed = new AtomicBoolean(false);
 	}
 
 	@Override
 	protected HttpRequest buildRequest(HttpMethod httpMethod, HttpUrl endpoint) {
-		return new OkHttpRequest(this.client, httpMethod, endpoint);
+		return new OkHttpRequest(this.client, this.openResponses, httpMethod, endpoint);
 	}
 
 	@Override
 	public void destroy() {
-		if (destroyed.compareAndSet(false, true)) {
+		if (!destroyed.compareAndSet(false, true)) {
+			return;
+		}
+
+		// Release connections held by responses whose body has not been read.
+		openResponses.closeAll();
+
+		if (!sharedResources) {
 			client.dispatcher().executorService().shutdown();
 			client.connectionPool().evictAll();
 		}
@@ -124,4 +164,29 @@ public class OkHttpClient extends AbstractHttpClient implements HttpClient {
 	public boolean isDestroyed() {
 		return destroyed.get();
 	}
+
+	/**
+	 * Holder of the internal client, created on demand, owning the dispatcher and the connection pool
+	 * shared by all clients. Threads are daemon threads, so that they do not prevent the JVM from exiting.
+	 */
+	private static final class SharedResourcesHolder {
+		private static final okhttp3.OkHttpClient CLIENT = new okhttp3.OkHttpClient.Builder()
+			.dispatcher(newDispatcher())
+			.connectionPool(new ConnectionPool())
+			.eventListenerFactory(TimingsEventListener.FACTORY)
+			.build();
+
+		/**
+		 * Create the dispatcher of asynchronous requests: the default dispatcher executes
+		 * at most five concurrent requests per host, while all requests target the same server.
+		 *
+		 * @return The dispatcher.
+		 */
+		private static Dispatcher newDispatcher() {
+			Dispatcher dispatcher = new Dispatcher(new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), daemonThreadFactory("junit-servers-okhttp")));
+			dispatcher.setMaxRequests(MAX_CONCURRENT_REQUESTS);
+			dispatcher.setMaxRequestsPerHost(MAX_CONCURRENT_REQUESTS);
+			return dispatcher;
+		}
+	}
 }
@@ -33,15 +33,26 @@ import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpParameter;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpResponseFuture;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpRequest;
+import com.github.mjeanroy.junit.servers.client.impl.DefaultHttpResponseFuture;
+import com.github.mjeanroy.junit.servers.client.impl.HttpRequestBody;
+import com.github.mjeanroy.junit.servers.client.impl.HttpTimingsCollector;
+
+import java.io.File;
+import java.io.IOException;
 
 import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.FormBody;
 import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
 
 /**
  * Implementation of {@link HttpRequest} using OkHttp library.
@@ -56,20 +67,74 @@ class OkHttpRequest extends AbstractHttpRequest implements HttpRequest {
 	 */
 	private final okhttp3.OkHttpClient client;
 
+	/**
+	 * The open responses of the client.
+	 */
+	private final OpenResponses openResponses;
+
 	/**
 	 * Create apache http request.
 	 *
 	 * @param client Apache http client.
+	 * @param openResponses The open responses of the client.
 	 * @param httpMethod Http method.
 	 * @param endpoint Http request url.
 	 */
-	OkHttpRequest(okhttp3.OkHttpClient client, HttpMethod httpMethod, HttpUrl endpoint) {
+	OkHttpRequest(okhttp3.OkHttpClient client, OpenResponses openResponses, HttpMethod httpMethod, HttpUrl endpoint) {
 		super(endpoint, httpMethod);
 		this.client = client;
+		this.openResponses = openResponses;
 	}
 
 	@Override
 	protected HttpResponse doExecute() throws Exception {
+		HttpTimingsCollector timings = new HttpTimingsCollector();
+		Call call = client.newCall(buildRequest(timings));
+
+		long start = System.nanoTime();
+		Response response = call.execute();
+		long duration = System.nanoTime() - start;
+
+		return new OkHttpResponse(response, duration, timings, openResponses);
+	}
+
+	@Override
+	protected HttpResponseFuture doExecuteAsync() throws Exception {
+		final HttpTimingsCollector timings = new HttpTimingsCollector();
+		final Call call = client.newCall(buildRequest(timings));
+		final DefaultHttpResponseFuture result = new DefaultHttpResponseFuture();
+		final long start = System.nanoTime();
+
+		call.enqueue(new Callback() {
+			@Override
+			public void onResponse(Call call, Response response) {
+				result.complete(new OkHttpResponse(response, System.nanoTime() - start, timings, openResponses));
+			}
+
+			@Override
+			public void onFailure(Call call, IOException ex) {
+				result.fail(ex);
+			}
+		});
+
+		result.onCancel(new Runnable() {
+			@Override
+			public void run() {
+				call.cancel();
+			}
+		});
+
+		return result;
+	}
+
+	/**
+	 * Create the native request.
+	 *
+	 * @param timings The collector of the request timings, set as a request tag.
+	 * @return The native request.
+	 * @see TimingsEventListener
+	 */
+	private Request buildRequest(HttpTimingsCollector timings) {
 		HttpUrl endpoint = getEndpoint();
 		okhttp3.HttpUrl.Builder httpUrlBuilder = new okhttp3.HttpUrl.Builder()
 			.scheme(endpoint.getScheme())
@@ -82,18 +147,14 @@ class OkHttpRequest extends AbstractHttpRequest implements HttpRequest {
 			httpUrlBuilder.addEncodedQueryParameter(queryParam.getEncodedName(), queryParam.getEncodedValue());
 		}
 
-		Request.Builder builder = new Request.Builder().url(httpUrlBuilder.build());
+		Request.Builder builder = new Request.Builder()
+			.url(httpUrlBuilder.build())
+			.tag(HttpTimingsCollector.class, timings);
+
 		handleCookies(builder);
 		handleHeaders(builder);
 		handleBody(builder);
-
-		Call call = client.newCall(builder.build());
-
-		long start = System.nanoTime();
-		Response response = call.execute();
-		long duration = System.nanoTime() - start;
-
-		return new OkHttpResponse(response, duration);
+		return builder.build();
 	}
 
 	/**
@@ -161,7 +222,7 @@ class OkHttpRequest extends AbstractHttpRequest implements HttpRequest {
 
 		// Try request body first.
 		if (body != null && !body.isEmpty()) {
-			rqBody = RequestBody.create(null, body);
+			rqBody = createRequestBody(body);
 		}
 
 		else if (!formParams.isEmpty()) {
@@ -178,6 +239,46 @@ class OkHttpRequest extends AbstractHttpRequest implements HttpRequest {
 		return rqBody;
 	}
 
+	/**
+	 * Create the OkHttp request body from the {@link #body} value: stream body with an unknown
+	 * length and chunked body are sent with chunked transfer encoding.
+	 *
+	 * @param body The request body.
+	 * @return OkHttp {@link RequestBody} instance.
+	 * @see RequestBody#create(MediaType, String)
+	 * @see RequestBody#create(MediaType, byte[])
+	 * @see RequestBody#create(MediaType, File)
+	 */
+	private static RequestBody createRequestBody(final HttpRequestBody body) {
+		switch (body.getType()) {
+			case STRING:
+				return RequestBody.create(null, body.getString());
+			case BYTES:
+				return RequestBody.create(null, body.getBytes());
+			case FILE:
+				return RequestBody.create(null, body.getPath().toFile());
+			default:
+				return new RequestBody() {
+					@Override
+					public MediaType contentType() {
+						return null;
+					}
+
+					@Override
+					public long contentLength() {
+						return body.getLength();
+					}
+
+					@Override
+					public void writeTo(BufferedSink sink) throws IOException {
+						try (Source source = Okio.source(body.openStream())) {
+							sink.writeAll(source);
+						}
+					}
+				};
+		}
+	}
+
 	/**
 	 * Create a new empty request body.
 	 *
@@ -26,12 +26,17 @@ package com.github.mjeanroy.junit.servers.client.impl.okhttp3;
 
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpTimings;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpResponse;
+import com.github.mjeanroy.junit.servers.client.impl.HttpTimingsCollector;
 import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 import static com.github.mjeanroy.junit.servers.client.HttpHeader.header;
@@ -54,15 +59,30 @@ class OkHttpResponse extends AbstractHttpResponse implements HttpResponse {
 	 */
 	private final long duration;
 
+	/**
+	 * The collector of the request timings.
+	 */
+	private final HttpTimingsCollector timings;
+
+	/**
+	 * The open responses of the client, until the response body is closed.
+	 */
+	private final OpenResponses openResponses;
+
 	/**
 	 * Create the response.
 	 *
 	 * @param response OkHttp response.
 	 * @param duration Request duration.
+	 * @param timings The collector of the request timings.
+	 * @param openResponses The open responses of the client, the response is registered until its body is closed.
 	 */
-	OkHttpResponse(Response response, long duration) {
+	OkHttpResponse(Response response, long duration, HttpTimingsCollector timings, OpenResponses openResponses) {
 		this.response = response;
 		this.duration = duration;
+		this.timings = timings;
+		this.openResponses = openResponses;
+		this.openResponses.add(response);
 	}
 
 	@Override
@@ -70,6 +90,11 @@ class OkHttpResponse extends AbstractHttpResponse implements HttpResponse {
 		return duration;
 	}
 
+	@Override
+	public HttpTimings getTimings() {
+		return timings.build();
+	}
+
 	@Override
 	public int status() {
 		return response.code();
@@ -82,9 +107,43 @@ class OkHttpResponse extends AbstractHttpResponse implements HttpResponse {
 			return body == null ? "" : body.string();
 		} catch (IOException ex) {
 			throw new HttpClientException(ex);
+		} finally {
+			openResponses.remove(response);
+		}
+	}
+
+	@Override
+	public byte[] bodyAsBytes() {
+		try {
+			ResponseBody body = response.body();
+			return body == null ? new byte[0] : body.bytes();
+		} catch (IOException ex) {
+			throw new HttpClientException(ex);
+		} finally {
+			openResponses.remove(response);
 		}
 	}
 
+	@Override
+	public InputStream bodyAsStream() {
+		ResponseBody body = response.body();
+		if (body == null) {
+			openResponses.remove(response);
+			return new ByteArrayInputStream(new byte[0]);
+		}
+
+		return new FilterInputStream(body.byteStream()) {
+			@Override
+			public void close() throws IOException {
+				try {
+					super.close();
+				} finally {
+					openResponses.remove(response);
+				}
+			}
+		};
+	}
+
 	@Override
 	public HttpHeader getHeader(String name) {
 		List<String> values = response.headers(name);
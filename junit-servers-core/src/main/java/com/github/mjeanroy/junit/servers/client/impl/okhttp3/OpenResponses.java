@@ -0,0 +1,106 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.okhttp3;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * The responses of a client whose body has not been consumed yet: an OkHttp response holds its
+ * connection until its body is closed, so responses left open are closed when the client is destroyed
+ * (otherwise, OkHttp reports the connection as leaked once the response is garbage collected).
+ */
+final class OpenResponses {
+
+	/**
+	 * The open responses.
+	 */
+	private final Set<Response> responses;
+
+	/**
+	 * Flag to know if responses have been closed: responses added afterwards are closed immediately.
+	 */
+	private volatile boolean closed;
+
+	/**
+	 * Create the set of open responses.
+	 */
+	OpenResponses() {
+		this.responses = Collections.newSetFromMap(new ConcurrentHashMap<Response, Boolean>());
+		this.closed = false;
+	}
+
+	/**
+	 * Register an open response.
+	 *
+	 * @param response The response.
+	 */
+	void add(Response response) {
+		responses.add(response);
+
+		// The client may have been destroyed concurrently.
+		if (closed && responses.remove(response)) {
+			close(response);
+		}
+	}
+
+	/**
+	 * Unregister a response whose body has been closed.
+	 *
+	 * @param response The response.
+	 */
+	void remove(Response response) {
+		responses.remove(response);
+	}
+
+	/**
+	 * Close all open responses.
+	 */
+	void closeAll() {
+		closed = true;
+
+		for (Response response : responses) {
+			if (responses.remove(response)) {
+				close(response);
+			}
+		}
+	}
+
+	/**
+	 * Close given response body, releasing its connection.
+	 *
+	 * @param response The response.
+	 */
+	private static void close(Response response) {
+		ResponseBody body = response.body();
+		if (body != null) {
+			body.close();
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl.okhttp3;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import com.github.mjeanroy.junit.servers.client.impl.HttpTimingsCollector;
+
+/**
+ * OkHttp event listener recording request timings in the {@link HttpTimingsCollector} set
+ * as a tag of the request.
+ */
+class TimingsEventListener extends EventListener {
+
+	/**
+	 * The factory, creating a listener for each call of a request tagged with a {@link HttpTimingsCollector}.
+	 */
+	static final EventListener.Factory FACTORY = new EventListener.Factory() {
+		@Override
+		public EventListener create(Call call) {
+			HttpTimingsCollector timings = call.request().tag(HttpTimingsCollector.class);
+			return timings == null ? EventListener.NONE : new TimingsEventListener(timings);
+		}
+	};
+
+	/**
+	 * The timings collector.
+	 */
+	private final HttpTimingsCollector timings;
+
+	/**
+	 * Flag set when a TLS handshake has started: OkHttp notifies the end of the
+	 * connect phase once the handshake is completed.
+	 */
+	private volatile boolean secure;
+
+	/**
+	 * Create listener.
+	 *
+	 * @param timings The timings collector.
+	 */
+	private TimingsEventListener(HttpTimingsCollector timings) {
+		this.timings = timings;
+	}
+
+	@Override
+	public void dnsStart(Call call, String domainName) {
+		timings.dnsStart();
+	}
+
+	@Override
+	public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+		timings.dnsEnd();
+	}
+
+	@Override
+	public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+		secure = false;
+		timings.connectStart();
+	}
+
+	@Override
+	public void secureConnectStart(Call call) {
+		secure = true;
+		timings.connectEnd();
+		timings.tlsStart();
+	}
+
+	@Override
+	public void secureConnectEnd(Call call, Handshake handshake) {
+		timings.tlsEnd();
+	}
+
+	@Override
+	public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+		if (!secure) {
+			timings.connectEnd();
+		}
+	}
+
+	@Override
+	public void requestHeadersStart(Call call) {
+		timings.requestWriteStart();
+	}
+
+	@Override
+	public void requestHeadersEnd(Call call, Request request) {
+		timings.requestWriteEnd();
+	}
+
+	@Override
+	public void requestBodyEnd(Call call, long byteCount) {
+		timings.requestWriteEnd();
+	}
+
+	@Override
+	public void responseHeadersEnd(Call call, Response response) {
+		timings.firstByte();
+	}
+
+	@Override
+	public void responseBodyStart(Call call) {
+		timings.bodyStart();
+	}
+
+	@Override
+	public void responseBodyEnd(Call call, long byteCount) {
+		timings.bodyEnd();
+	}
+}
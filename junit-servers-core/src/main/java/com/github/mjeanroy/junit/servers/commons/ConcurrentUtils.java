@@ -0,0 +1,140 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.commons;
+
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Static concurrency utilities.
+ *
+ * <p>
+ *
+ * <strong>Internal API</strong>: these methods are part of the internal API and may be removed, have their signature change,
+ * or have their access level decreased from public to protected, package, or private in future versions without notice.
+ */
+public final class ConcurrentUtils {
+
+	// Ensure non instantiation
+	private ConcurrentUtils() {
+	}
+
+	/**
+	 * Get the default executor, used to run asynchronous tasks (such as starting
+	 * or stopping embedded servers). Threads are daemon threads, so that they do not
+	 * prevent the JVM from exiting.
+	 *
+	 * @return The default executor.
+	 */
+	public static Executor defaultExecutor() {
+		return DefaultExecutorHolder.EXECUTOR;
+	}
+
+	/**
+	 * Create a thread factory creating daemon threads.
+	 *
+	 * @param name The thread name prefix.
+	 * @return The thread factory.
+	 */
+	public static ThreadFactory daemonThreadFactory(final String name) {
+		notNull(name, "name");
+
+		final AtomicInteger counter = new AtomicInteger(0);
+		return new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		};
+	}
+
+	/**
+	 * Submit given task to the executor.
+	 *
+	 * @param executor The executor.
+	 * @param task The task.
+	 * @param <T> Type of result.
+	 * @return The future result.
+	 */
+	public static <T> Future<T> submit(Executor executor, Callable<T> task) {
+		notNull(executor, "executor");
+		notNull(task, "task");
+
+		FutureTask<T> future = new FutureTask<>(task);
+		executor.execute(future);
+		return future;
+	}
+
+	/**
+	 * Wait for given future and returns its result.
+	 *
+	 * <p>
+	 *
+	 * If the task failed with an unchecked exception (or an error), the original exception is
+	 * rethrown, otherwise it is wrapped into an {@link IllegalStateException}.
+	 *
+	 * @param future The future.
+	 * @param <T> Type of result.
+	 * @return The result.
+	 */
+	public static <T> T await(Future<T> future) {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * Holder of default executor, created on demand.
+	 */
+	private static final class DefaultExecutorHolder {
+		private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(daemonThreadFactory("junit-servers"));
+	}
+}
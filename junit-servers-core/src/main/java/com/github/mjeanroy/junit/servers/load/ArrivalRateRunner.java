@@ -0,0 +1,468 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.load;
+
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.positive;
+import static java.lang.System.nanoTime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
+import com.github.mjeanroy.junit.servers.client.HttpMethod;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpResponseFuture;
+import com.github.mjeanroy.junit.servers.commons.ToStringBuilder;
+import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+
+/**
+ * Open-model load generator, running requests against an embedded server at a constant arrival
+ * rate: requests are sent on a fixed schedule, whatever the response times of the server. For example:
+ *
+ * <pre><code>
+ *   LoadReport report = ArrivalRateRunner.against(server)
+ *     .rate(5000)
+ *     .requests(100000)
+ *     .request(HttpMethod.GET, "/api/people")
+ *     .run();
+ * </code></pre>
+ *
+ * Requests are executed with {@link com.github.mjeanroy.junit.servers.client.HttpRequest#executeAsync()},
+ * so that a slow response never delays the next requests, and latencies are measured from the
+ * <strong>intended</strong> send time of each request (not from the time it has actually been sent): when
+ * the server (or the client) cannot keep up with the rate, the time requests wait before being sent is
+ * included in the reported latencies. This corrects the "coordinated omission" of closed-loop
+ * generators such as {@link LoadRunner}, and makes it possible to find the saturation point of a server
+ * by increasing the rate until latency percentiles diverge.
+ *
+ * <p>
+ *
+ * Asynchronous clients ({@link HttpClientStrategy#ASYNC_HTTP_CLIENT} or {@link HttpClientStrategy#OK_HTTP3})
+ * should be preferred, since other clients use a thread per pending request.
+ */
+public final class ArrivalRateRunner {
+
+	/**
+	 * Create a load runner targeting given server.
+	 *
+	 * @param server The embedded server.
+	 * @return The load runner.
+	 * @throws NullPointerException If {@code server} is {@code null}.
+	 */
+	public static ArrivalRateRunner against(EmbeddedServer<?> server) {
+		return new ArrivalRateRunner(server);
+	}
+
+	/**
+	 * The size of the buffer used to read response bodies.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * The number of nanoseconds in one second.
+	 */
+	private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	/**
+	 * The targeted server.
+	 */
+	private final EmbeddedServer<?> server;
+
+	/**
+	 * The strategy used to create the http client.
+	 */
+	private HttpClientStrategy strategy;
+
+	/**
+	 * The number of requests sent per second.
+	 */
+	private int rate;
+
+	/**
+	 * The number of measured requests.
+	 */
+	private long requests;
+
+	/**
+	 * The maximum time to wait for pending requests once all requests have been sent, in milliseconds.
+	 */
+	private long timeout;
+
+	/**
+	 * The executed request.
+	 */
+	private LoadRequest request;
+
+	// Use static factory.
+	private ArrivalRateRunner(EmbeddedServer<?> server) {
+		this.server = notNull(server, "server");
+		this.strategy = HttpClientStrategy.AUTO;
+		this.rate = 100;
+		this.requests = 1000;
+		this.timeout = TimeUnit.SECONDS.toMillis(30);
+		this.request = new DefaultLoadRequest(HttpMethod.GET, "/");
+	}
+
+	/**
+	 * Set the strategy used to create the http client (default is {@link HttpClientStrategy#AUTO}).
+	 *
+	 * @param strategy The strategy.
+	 * @return The load runner, for chaining.
+	 * @throws NullPointerException If {@code strategy} is {@code null}.
+	 */
+	public ArrivalRateRunner strategy(HttpClientStrategy strategy) {
+		this.strategy = notNull(strategy, "strategy");
+		return this;
+	}
+
+	/**
+	 * Set the number of requests sent per second (default is {@code 100}).
+	 *
+	 * @param rate The number of requests per second.
+	 * @return The load runner, for chaining.
+	 * @throws IllegalArgumentException If {@code rate} is not strictly positive.
+	 */
+	public ArrivalRateRunner rate(int rate) {
+		if (rate <= 0) {
+			throw new IllegalArgumentException("rate must be strictly positive");
+		}
+
+		this.rate = rate;
+		return this;
+	}
+
+	/**
+	 * Set the number of measured requests (default is {@code 1000}).
+	 *
+	 * @param requests The number of requests.
+	 * @return The load runner, for chaining.
+	 * @throws IllegalArgumentException If {@code requests} is negative.
+	 */
+	public ArrivalRateRunner requests(long requests) {
+		this.requests = positive(requests, "requests");
+		return this;
+	}
+
+	/**
+	 * Set the maximum time to wait for pending requests once all requests have been sent (default
+	 * is {@code 30} seconds): requests still pending after this timeout are cancelled and reported as errors.
+	 *
+	 * @param timeout The timeout.
+	 * @param unit The timeout unit.
+	 * @return The load runner, for chaining.
+	 * @throws NullPointerException If {@code unit} is {@code null}.
+	 * @throws IllegalArgumentException If {@code timeout} is negative.
+	 */
+	public ArrivalRateRunner timeout(long timeout, TimeUnit unit) {
+		this.timeout = notNull(unit, "unit").toMillis(positive(timeout, "timeout"));
+		return this;
+	}
+
+	/**
+	 * Set the executed request (default is a {@code GET} request on {@code "/"}).
+	 *
+	 * @param method The http method.
+	 * @param endpoint The request endpoint.
+	 * @return The load runner, for chaining.
+	 * @throws NullPointerException If {@code method} is {@code null}.
+	 * @throws IllegalArgumentException If {@code endpoint} is blank.
+	 * @see HttpClient#prepareRequest(HttpMethod, String)
+	 */
+	public ArrivalRateRunner request(HttpMethod method, String endpoint) {
+		return request(new DefaultLoadRequest(notNull(method, "method"), notBlank(endpoint, "endpoint")));
+	}
+
+	/**
+	 * Set the executed request.
+	 *
+	 * @param request The request.
+	 * @return The load runner, for chaining.
+	 * @throws NullPointerException If {@code request} is {@code null}.
+	 */
+	public ArrivalRateRunner request(LoadRequest request) {
+		this.request = notNull(request, "request");
+		return this;
+	}
+
+	/**
+	 * Run the load: this method blocks until all requests have been sent and completed (or until
+	 * the timeout expires).
+	 *
+	 * @return The report of measured requests.
+	 * @throws IllegalStateException If the server is not started.
+	 */
+	public LoadReport run() {
+		if (!server.isStarted()) {
+			throw new IllegalStateException("Server must be started to run load");
+		}
+
+		HttpClient client = strategy.build(server);
+
+		try {
+			return execute(client);
+		}
+		finally {
+			client.destroy();
+		}
+	}
+
+	/**
+	 * Send all requests on schedule and wait for their completion.
+	 *
+	 * @param client The http client.
+	 * @return The report.
+	 */
+	private LoadReport execute(HttpClient client) {
+		Recorder recorder = new Recorder(requests);
+
+		// Futures are removed once completed, so that only pending requests are retained.
+		Set<HttpResponseFuture> pending = Collections.newSetFromMap(new ConcurrentHashMap<HttpResponseFuture, Boolean>());
+
+		long interval = NANOS_PER_SECOND / rate;
+		long start = nanoTime();
+
+		for (long i = 0; i < requests; i++) {
+			long intended = start + i * interval;
+			waitUntil(intended);
+
+			if (Thread.currentThread().isInterrupted()) {
+				recorder.cancel(requests - i);
+				break;
+			}
+
+			try {
+				HttpResponseFuture future = request.prepare(client).executeAsync();
+				pending.add(future);
+				future.addListener(new Completion(future, intended, recorder, pending));
+			}
+			catch (HttpClientException ex) {
+				recorder.fail();
+			}
+		}
+
+		if (!recorder.await(timeout)) {
+			for (HttpResponseFuture future : pending) {
+				future.cancel(true);
+			}
+		}
+
+		long duration = nanoTime() - start;
+		return recorder.report(duration);
+	}
+
+	/**
+	 * Park the current thread until given time.
+	 *
+	 * @param deadline The deadline, as returned by {@link System#nanoTime()}.
+	 */
+	private static void waitUntil(long deadline) {
+		long remaining = deadline - nanoTime();
+		while (remaining > 0 && !Thread.currentThread().isInterrupted()) {
+			LockSupport.parkNanos(remaining);
+			remaining = deadline - nanoTime();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("server", server)
+			.append("strategy", strategy)
+			.append("rate", rate)
+			.append("requests", requests)
+			.append("timeout", timeout)
+			.build();
+	}
+
+	/**
+	 * Record results of completed requests: requests are completed concurrently by the threads of
+	 * the http client, so recording is synchronized.
+	 */
+	private static class Recorder {
+		private final long requests;
+		private final LatencyHistogram histogram;
+		private long completed;
+		private long errors;
+
+		private Recorder(long requests) {
+			this.requests = requests;
+			this.histogram = new LatencyHistogram();
+			this.completed = 0;
+			this.errors = 0;
+		}
+
+		/**
+		 * Record a completed request.
+		 *
+		 * @param latency The request latency, in nanoseconds.
+		 * @param error {@code true} if the request has failed, {@code false} otherwise.
+		 */
+		private synchronized void record(long latency, boolean error) {
+			histogram.record(latency);
+			if (error) {
+				errors++;
+			}
+
+			complete(1);
+		}
+
+		/**
+		 * Record a request that failed without response.
+		 */
+		private synchronized void fail() {
+			cancel(1);
+		}
+
+		/**
+		 * Record requests that have not been sent.
+		 *
+		 * @param count The number of requests.
+		 */
+		private synchronized void cancel(long count) {
+			errors += count;
+			complete(count);
+		}
+
+		/**
+		 * Record completed requests, and wake up the waiting thread once all requests have completed.
+		 *
+		 * @param count The number of requests.
+		 */
+		private void complete(long count) {
+			completed += count;
+			if (completed >= requests) {
+				notifyAll();
+			}
+		}
+
+		/**
+		 * Wait for all requests to complete.
+		 *
+		 * @param timeout The maximum time to wait, in milliseconds.
+		 * @return {@code true} if all requests have completed, {@code false} otherwise.
+		 */
+		private synchronized boolean await(long timeout) {
+			long deadline = nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+
+			try {
+				while (completed < requests) {
+					long remaining = deadline - nanoTime();
+					if (remaining <= 0) {
+						return false;
+					}
+
+					TimeUnit.NANOSECONDS.timedWait(this, remaining);
+				}
+
+				return true;
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+		/**
+		 * Create the report of requests completed so far: pending requests are reported as errors.
+		 *
+		 * @param duration The total duration, in nanoseconds.
+		 * @return The report.
+		 */
+		private synchronized LoadReport report(long duration) {
+			LatencyHistogram copy = new LatencyHistogram();
+			copy.add(histogram);
+			return new LoadReport(requests, errors + (requests - completed), duration, copy);
+		}
+	}
+
+	/**
+	 * Listener executed when a request completes: the response body is read, so that the connection
+	 * can be reused, and the latency is recorded from the intended send time.
+	 */
+	private static class Completion implements Runnable {
+		private final HttpResponseFuture future;
+		private final long intended;
+		private final Recorder recorder;
+		private final Set<HttpResponseFuture> pending;
+
+		private Completion(HttpResponseFuture future, long intended, Recorder recorder, Set<HttpResponseFuture> pending) {
+			this.future = future;
+			this.intended = intended;
+			this.recorder = recorder;
+			this.pending = pending;
+		}
+
+		@Override
+		public void run() {
+			pending.remove(future);
+
+			if (future.isCancelled()) {
+				return;
+			}
+
+			try {
+				HttpResponse rsp = future.get();
+				drain(rsp.bodyAsStream());
+				recorder.record(nanoTime() - intended, rsp.status() >= 400);
+			}
+			catch (ExecutionException | CancellationException | HttpClientException | IOException ex) {
+				recorder.fail();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				recorder.fail();
+			}
+		}
+
+		/**
+		 * Read the response body.
+		 *
+		 * @param stream The body stream.
+		 * @throws IOException If an error occurred while reading the body.
+		 */
+		private static void drain(InputStream stream) throws IOException {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			try {
+				while (stream.read(buffer) >= 0) {
+					// Discard body.
+				}
+			}
+			finally {
+				stream.close();
+			}
+		}
+	}
+}
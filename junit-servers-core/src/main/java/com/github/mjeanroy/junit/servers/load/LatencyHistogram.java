@@ -0,0 +1,259 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.load;
+
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
+
+import com.github.mjeanroy.junit.servers.commons.ToStringBuilder;
+
+/**
+ * Histogram of latency values (in nanoseconds), with a bounded relative error: values are recorded in
+ * log-linear buckets (each power of two is split in 128 buckets), so that percentiles are computed with
+ * a relative error lower than 1% while the histogram has a fixed size, whatever the range of recorded values.
+ *
+ * <p>
+ *
+ * Counts are stored in a primitive array allocated once: recording a value does not allocate. This
+ * class is not thread-safe: concurrent writers should record values in their own histogram, and
+ * merge them with {@link #add(LatencyHistogram)}.
+ */
+public final class LatencyHistogram {
+
+	/**
+	 * The number of buckets of values recorded exactly, also the number of buckets of
+	 * each power of two above this range (the upper half of a sub-bucket range).
+	 */
+	private static final int SUB_BUCKET_COUNT = 256;
+
+	/**
+	 * The number of buckets of each power of two above {@link #SUB_BUCKET_COUNT}.
+	 */
+	private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+
+	/**
+	 * The number of bits of {@link #SUB_BUCKET_COUNT}.
+	 */
+	private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+
+	/**
+	 * The number of buckets needed to record any positive {@code long} value.
+	 */
+	private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT;
+
+	/**
+	 * The counts, by bucket.
+	 */
+	private final long[] counts;
+
+	/**
+	 * The total number of recorded values.
+	 */
+	private long totalCount;
+
+	/**
+	 * The smallest recorded value.
+	 */
+	private long min;
+
+	/**
+	 * The largest recorded value.
+	 */
+	private long max;
+
+	/**
+	 * The sum of recorded values, used to compute the mean.
+	 */
+	private double sum;
+
+	/**
+	 * Create empty histogram.
+	 */
+	public LatencyHistogram() {
+		this.counts = new long[BUCKET_COUNT];
+		this.min = Long.MAX_VALUE;
+		this.max = 0;
+	}
+
+	/**
+	 * Record given value.
+	 *
+	 * @param value The value, in nanoseconds.
+	 * @throws IllegalArgumentException If {@code value} is negative.
+	 */
+	public void record(long value) {
+		if (value < 0) {
+			throw new IllegalArgumentException("Value must be positive");
+		}
+
+		counts[indexOf(value)]++;
+		totalCount++;
+		sum += value;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+
+	/**
+	 * Add all values recorded in given histogram to this histogram.
+	 *
+	 * @param histogram The histogram to add.
+	 * @throws NullPointerException If {@code histogram} is {@code null}.
+	 */
+	public void add(LatencyHistogram histogram) {
+		notNull(histogram, "histogram");
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts[i] += histogram.counts[i];
+		}
+
+		totalCount += histogram.totalCount;
+		sum += histogram.sum;
+		min = Math.min(min, histogram.min);
+		max = Math.max(max, histogram.max);
+	}
+
+	/**
+	 * Remove all recorded values.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts[i] = 0;
+		}
+
+		totalCount = 0;
+		sum = 0;
+		min = Long.MAX_VALUE;
+		max = 0;
+	}
+
+	/**
+	 * Get {@link #totalCount}
+	 *
+	 * @return {@link #totalCount}
+	 */
+	public long getTotalCount() {
+		return totalCount;
+	}
+
+	/**
+	 * Get the smallest recorded value.
+	 *
+	 * @return The smallest value, {@code 0} if no value has been recorded.
+	 */
+	public long getMin() {
+		return totalCount == 0 ? 0 : min;
+	}
+
+	/**
+	 * Get {@link #max}
+	 *
+	 * @return {@link #max}
+	 */
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * Get the mean of recorded values.
+	 *
+	 * @return The mean, {@code 0} if no value has been recorded.
+	 */
+	public double getMean() {
+		return totalCount == 0 ? 0 : sum / totalCount;
+	}
+
+	/**
+	 * Get the value at given percentile: this is the largest value that is equivalent (i.e recorded
+	 * in the same bucket) to the value below which the given percentage of recorded values fall.
+	 *
+	 * @param percentile The percentile, between {@code 0} and {@code 100}.
+	 * @return The value, {@code 0} if no value has been recorded.
+	 * @throws IllegalArgumentException If {@code percentile} is not between {@code 0} and {@code 100}.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("Percentile must be between 0 and 100");
+		}
+
+		if (totalCount == 0) {
+			return 0;
+		}
+
+		long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			count += counts[i];
+			if (count >= countAtPercentile) {
+				return Math.min(highestEquivalentValue(i), max);
+			}
+		}
+
+		return max;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("totalCount", totalCount)
+			.append("min", getMin())
+			.append("max", max)
+			.append("p50", getValueAtPercentile(50))
+			.append("p99", getValueAtPercentile(99))
+			.append("p999", getValueAtPercentile(99.9))
+			.build();
+	}
+
+	/**
+	 * Get the bucket of given value: values lower than {@link #SUB_BUCKET_COUNT} are recorded exactly,
+	 * larger values are recorded with their {@link #SUB_BUCKET_BITS} most significant bits.
+	 *
+	 * @param value The value.
+	 * @return The bucket index.
+	 */
+	private static int indexOf(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+
+		int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift);
+		return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + (subBucket - SUB_BUCKET_HALF_COUNT);
+	}
+
+	/**
+	 * Get the largest value recorded in given bucket.
+	 *
+	 * @param index The bucket index.
+	 * @return The largest value of the bucket.
+	 */
+	private static long highestEquivalentValue(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+
+		int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+		long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+		return (subBucket << shift) + (1L << shift) - 1;
+	}
+}
@@ -0,0 +1,175 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.load;
+
+import com.github.mjeanroy.junit.servers.commons.ToStringBuilder;
+
+/**
+ * Report of a {@link LoadRunner} execution: throughput, errors and latency distribution (latency
+ * values are in nanoseconds).
+ */
+public final class LoadReport {
+
+	/**
+	 * The number of executed requests (including failed requests).
+	 */
+	private final long requests;
+
+	/**
+	 * The number of failed requests: requests that failed with an I/O error or returned an
+	 * error status code (i.e {@code 4xx} or {@code 5xx}).
+	 */
+	private final long errors;
+
+	/**
+	 * The total duration, in nanoseconds.
+	 */
+	private final long duration;
+
+	/**
+	 * The latency histogram of completed requests.
+	 */
+	private final LatencyHistogram histogram;
+
+	/**
+	 * Create report.
+	 *
+	 * @param requests The number of executed requests.
+	 * @param errors The number of failed requests.
+	 * @param duration The total duration, in nanoseconds.
+	 * @param histogram The latency histogram of completed requests.
+	 */
+	LoadReport(long requests, long errors, long duration, LatencyHistogram histogram) {
+		this.requests = requests;
+		this.errors = errors;
+		this.duration = duration;
+		this.histogram = histogram;
+	}
+
+	/**
+	 * Get {@link #requests}
+	 *
+	 * @return {@link #requests}
+	 */
+	public long getRequests() {
+		return requests;
+	}
+
+	/**
+	 * Get {@link #errors}
+	 *
+	 * @return {@link #errors}
+	 */
+	public long getErrors() {
+		return errors;
+	}
+
+	/**
+	 * Get {@link #duration}
+	 *
+	 * @return {@link #duration}
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Get the total duration, in milliseconds.
+	 *
+	 * @return Total duration, in milliseconds.
+	 */
+	public long getDurationInMillis() {
+		return duration / 1000000;
+	}
+
+	/**
+	 * Get the throughput, in requests per second.
+	 *
+	 * @return The throughput.
+	 */
+	public double getThroughput() {
+		return duration == 0 ? 0 : requests * 1e9 / duration;
+	}
+
+	/**
+	 * Get the latency at given percentile.
+	 *
+	 * @param percentile The percentile, between {@code 0} and {@code 100}.
+	 * @return The latency, in nanoseconds.
+	 * @see LatencyHistogram#getValueAtPercentile(double)
+	 */
+	public long getLatencyAtPercentile(double percentile) {
+		return histogram.getValueAtPercentile(percentile);
+	}
+
+	/**
+	 * Get the median latency.
+	 *
+	 * @return The latency, in nanoseconds.
+	 */
+	public long getP50() {
+		return getLatencyAtPercentile(50);
+	}
+
+	/**
+	 * Get the 99th percentile latency.
+	 *
+	 * @return The latency, in nanoseconds.
+	 */
+	public long getP99() {
+		return getLatencyAtPercentile(99);
+	}
+
+	/**
+	 * Get the 99.9th percentile latency.
+	 *
+	 * @return The latency, in nanoseconds.
+	 */
+	public long getP999() {
+		return getLatencyAtPercentile(99.9);
+	}
+
+	/**
+	 * Get {@link #histogram}
+	 *
+	 * @return {@link #histogram}
+	 */
+	public LatencyHistogram getHistogram() {
+		return histogram;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("requests", requests)
+			.append("errors", errors)
+			.append("duration", duration)
+			.append("throughput", getThroughput())
+			.append("p50", getP50())
+			.append("p99", getP99())
+			.append("p999", getP999())
+			.build();
+	}
+}
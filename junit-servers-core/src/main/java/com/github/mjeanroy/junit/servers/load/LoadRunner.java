@@ -0,0 +1,340 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.load;
+
+import static com.github.mjeanroy.junit.servers.commons.ConcurrentUtils.await;
+import static com.github.mjeanroy.junit.servers.commons.ConcurrentUtils.daemonThreadFactory;
+import static com.github.mjeanroy.junit.servers.commons.ConcurrentUtils.submit;
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.positive;
+import static java.lang.System.nanoTime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
+import com.github.mjeanroy.junit.servers.client.HttpMethod;
+import com.github.mjeanroy.junit.servers.client.HttpRequest;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.commons.ToStringBuilder;
+import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+
+/**
+ * Closed-loop load generator, running requests against an embedded server: a fixed number of
+ * workers execute requests concurrently, each worker sending its next request as soon as the
+ * previous response has been read. For example:
+ *
+ * <pre><code>
+ *   LoadReport report = LoadRunner.against(server)
+ *     .concurrency(64)
+ *     .requests(100000)
+ *     .request(HttpMethod.GET, "/api/people")
+ *     .run();
+ * </code></pre>
+ *
+ * Workers share a single http client, created with the given strategy, and record latencies (from the
+ * request execution to the end of the response body) in their own {@link LatencyHistogram}, so that
+ * recording does not allocate nor contend.
+ *
+ * <p>
+ *
+ * Note that, in a closed-loop model, a slow response delays the next requests of a worker: latency
+ * percentiles do not include the time requests would have waited if they had been sent at a fixed rate.
+ */
+public final class LoadRunner {
+
+	/**
+	 * Create a load runner targeting given server.
+	 *
+	 * @param server The embedded server.
+	 * @return The load runner.
+	 * @throws NullPointerException If {@code server} is {@code null}.
+	 */
+	public static LoadRunner against(EmbeddedServer<?> server) {
+		return new LoadRunner(server);
+	}
+
+	/**
+	 * The size of the buffer used by each worker to read response bodies.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * The targeted server.
+	 */
+	private final EmbeddedServer<?> server;
+
+	/**
+	 * The strategy used to create the http client.
+	 */
+	private HttpClientStrategy strategy;
+
+	/**
+	 * The number of concurrent workers.
+	 */
+	private int concurrency;
+
+	/**
+	 * The number of measured requests.
+	 */
+	private long requests;
+
+	/**
+	 * The number of warmup requests, executed (and not measured) before the measured requests.
+	 */
+	private long warmup;
+
+	/**
+	 * The executed request.
+	 */
+	private LoadRequest request;
+
+	// Use static factory.
+	private LoadRunner(EmbeddedServer<?> server) {
+		this.server = notNull(server, "server");
+		this.strategy = HttpClientStrategy.AUTO;
+		this.concurrency = 1;
+		this.requests = 1000;
+		this.warmup = 0;
+		this.request = new DefaultLoadRequest(HttpMethod.GET, "/");
+	}
+
+	/**
+	 * Set the strategy used to create the http client (default is {@link HttpClientStrategy#AUTO}).
+	 *
+	 * @param strategy The strategy.
+	 * @return The load runner, for chaining.
+	 * @throws NullPointerException If {@code strategy} is {@code null}.
+	 */
+	public LoadRunner strategy(HttpClientStrategy strategy) {
+		this.strategy = notNull(strategy, "strategy");
+		return this;
+	}
+
+	/**
+	 * Set the number of concurrent workers (default is {@code 1}).
+	 *
+	 * @param concurrency The number of workers.
+	 * @return The load runner, for chaining.
+	 * @throws IllegalArgumentException If {@code concurrency} is not strictly positive.
+	 */
+	public LoadRunner concurrency(int concurrency) {
+		if (concurrency <= 0) {
+			throw new IllegalArgumentException("concurrency must be strictly positive");
+		}
+
+		this.concurrency = concurrency;
+		return this;
+	}
+
+	/**
+	 * Set the number of measured requests (default is {@code 1000}).
+	 *
+	 * @param requests The number of requests.
+	 * @return The load runner, for chaining.
+	 * @throws IllegalArgumentException If {@code requests} is negative.
+	 */
+	public LoadRunner requests(long requests) {
+		this.requests = positive(requests, "requests");
+		return this;
+	}
+
+	/**
+	 * Set the number of warmup requests (default is {@code 0}): these requests are executed before the
+	 * measured requests and are not reported, so that measures are not biased by JIT compilation or
+	 * connection establishment.
+	 *
+	 * @param warmup The number of warmup requests.
+	 * @return The load runner, for chaining.
+	 * @throws IllegalArgumentException If {@code warmup} is negative.
+	 */
+	public LoadRunner warmup(long warmup) {
+		this.warmup = positive(warmup, "warmup");
+		return this;
+	}
+
+	/**
+	 * Set the executed request (default is a {@code GET} request on {@code "/"}).
+	 *
+	 * @param method The http method.
+	 * @param endpoint The request endpoint.
+	 * @return The load runner, for chaining.
+	 * @throws NullPointerException If {@code method} is {@code null}.
+	 * @throws IllegalArgumentException If {@code endpoint} is blank.
+	 * @see HttpClient#prepareRequest(HttpMethod, String)
+	 */
+	public LoadRunner request(HttpMethod method, String endpoint) {
+		return request(new DefaultLoadRequest(notNull(method, "method"), notBlank(endpoint, "endpoint")));
+	}
+
+	/**
+	 * Set the executed request.
+	 *
+	 * @param request The request.
+	 * @return The load runner, for chaining.
+	 * @throws NullPointerException If {@code request} is {@code null}.
+	 */
+	public LoadRunner request(LoadRequest request) {
+		this.request = notNull(request, "request");
+		return this;
+	}
+
+	/**
+	 * Run the load: this method blocks until all requests have been executed.
+	 *
+	 * @return The report of measured requests.
+	 * @throws IllegalStateException If the server is not started.
+	 */
+	public LoadReport run() {
+		if (!server.isStarted()) {
+			throw new IllegalStateException("Server must be started to run load");
+		}
+
+		HttpClient client = strategy.build(server);
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency, daemonThreadFactory("junit-servers-load"));
+
+		try {
+			if (warmup > 0) {
+				execute(client, executor, warmup);
+			}
+
+			return execute(client, executor, requests);
+		}
+		finally {
+			executor.shutdownNow();
+			client.destroy();
+		}
+	}
+
+	/**
+	 * Execute given number of requests with all workers.
+	 *
+	 * @param client The http client.
+	 * @param executor The executor running workers.
+	 * @param count The number of requests.
+	 * @return The report.
+	 */
+	private LoadReport execute(HttpClient client, ExecutorService executor, long count) {
+		AtomicLong remaining = new AtomicLong(count);
+		List<Future<Worker>> workers = new ArrayList<>(concurrency);
+
+		long start = nanoTime();
+		for (int i = 0; i < concurrency; i++) {
+			workers.add(submit(executor, new Worker(client, request, remaining)));
+		}
+
+		LatencyHistogram histogram = new LatencyHistogram();
+		long errors = 0;
+		for (Future<Worker> future : workers) {
+			Worker worker = await(future);
+			histogram.add(worker.histogram);
+			errors += worker.errors;
+		}
+
+		long duration = nanoTime() - start;
+		return new LoadReport(count, errors, duration, histogram);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("server", server)
+			.append("strategy", strategy)
+			.append("concurrency", concurrency)
+			.append("requests", requests)
+			.append("warmup", warmup)
+			.build();
+	}
+
+	/**
+	 * Worker, executing requests until all requests have been executed.
+	 */
+	private static class Worker implements Callable<Worker> {
+		private final HttpClient client;
+		private final LoadRequest request;
+		private final AtomicLong remaining;
+		private final LatencyHistogram histogram;
+		private final byte[] buffer;
+		private long errors;
+
+		private Worker(HttpClient client, LoadRequest request, AtomicLong remaining) {
+			this.client = client;
+			this.request = request;
+			this.remaining = remaining;
+			this.histogram = new LatencyHistogram();
+			this.buffer = new byte[BUFFER_SIZE];
+		}
+
+		@Override
+		public Worker call() throws Exception {
+			while (remaining.getAndDecrement() > 0 && !Thread.currentThread().isInterrupted()) {
+				HttpRequest rq = request.prepare(client);
+				long start = nanoTime();
+
+				try {
+					HttpResponse rsp = rq.execute();
+					drain(rsp.bodyAsStream());
+					histogram.record(nanoTime() - start);
+
+					if (rsp.status() >= 400) {
+						errors++;
+					}
+				}
+				catch (HttpClientException | IOException ex) {
+					errors++;
+				}
+			}
+
+			return this;
+		}
+
+		/**
+		 * Read the response body, so that the connection can be reused.
+		 *
+		 * @param stream The body stream.
+		 * @throws IOException If an error occurred while reading the body.
+		 */
+		private void drain(InputStream stream) throws IOException {
+			try {
+				while (stream.read(buffer) >= 0) {
+					// Discard body.
+				}
+			}
+			finally {
+				stream.close();
+			}
+		}
+	}
+}
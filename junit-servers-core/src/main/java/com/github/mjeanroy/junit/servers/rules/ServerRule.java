@@ -24,13 +24,24 @@
 
 package com.github.mjeanroy.junit.servers.rules;
 
+import static com.github.mjeanroy.junit.servers.commons.ConcurrentUtils.await;
 import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
 import static com.github.mjeanroy.junit.servers.servers.utils.Servers.instantiate;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.Future;
+
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+
 import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
 import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.StartupReport;
 import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration;
 
 /**
@@ -53,9 +64,38 @@ import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfigura
  *     }
  *   }
  * </code></pre>
+ *
+ * <p>
+ *
+ * The embedded server can be started asynchronously in the {@code before} step (see {@link #ServerRule(EmbeddedServer, boolean)}):
+ * the rule then waits for the server to be fully started only when it is needed (for example, to get the port, the URL
+ * or the HTTP client). This allows to execute other initialization (such as {@code BeforeClass} methods) while
+ * the server is starting, but code using the embedded server directly must call {@link #awaitStarted()} first.
+ *
+ * <p>
+ *
+ * The server startup report (see {@link StartupReport}) can be written, as JSON, for each test class: set the
+ * {@code junit-servers.startup-report.dir} system property to the output directory, a file named after the test
+ * class will be written when the server is stopped.
+ *
+ * <p>
+ *
+ * To share the embedded server with other test classes using an equal configuration, use a server
+ * from the {@link com.github.mjeanroy.junit.servers.servers.utils.ServerPool}:
+ *
+ * <pre><code>
+ *   &#064;ClassRule
+ *   public static serverRule = new ServerRule(ServerPool.defaultServerPool().get(configuration));
+ * </code></pre>
  */
 public class ServerRule extends AbstractRule {
 
+	/**
+	 * Name of the system property defining the directory where startup reports are written.
+	 * If this property is not set, startup reports are not written.
+	 */
+	public static final String STARTUP_REPORT_DIR = "junit-servers.startup-report.dir";
+
 	/**
 	 * Embedded server that will be start and stopped.
 	 */
@@ -66,6 +106,21 @@ public class ServerRule extends AbstractRule {
 	 */
 	private final HttpClientHolder client;
 
+	/**
+	 * Flag to know if the server is started asynchronously in the {@code before} step.
+	 */
+	private final boolean async;
+
+	/**
+	 * The pending startup, started in the {@code before} step, may be {@code null}.
+	 */
+	private volatile Future<?> startup;
+
+	/**
+	 * The name of the test (i.e the test class name when used as a class rule), may be {@code null}.
+	 */
+	private volatile String testName;
+
 	/**
 	 * Create rule with default embedded server.
 	 *
@@ -110,15 +165,37 @@ public class ServerRule extends AbstractRule {
 	 * @throws NullPointerException If {@code server} is {@code null}.
 	 */
 	public ServerRule(EmbeddedServer<?> server) {
+		this(server, false);
+	}
+
+	/**
+	 * Create rule with an embedded server, started asynchronously if {@code async} is {@code true}.
+	 *
+	 * @param server Embedded server, not null.
+	 * @param async {@code true} to start the server asynchronously, {@code false} to wait for the server in the {@code before} step.
+	 * @throws NullPointerException If {@code server} is {@code null}.
+	 */
+	public ServerRule(EmbeddedServer<?> server, boolean async) {
 		notNull(server, "server");
 
 		this.server = server;
+		this.async = async;
 		this.client = new HttpClientHolder(HttpClientStrategy.AUTO, HttpClientConfiguration.defaultConfiguration(), server);
 	}
 
+	@Override
+	public Statement apply(Statement base, Description description) {
+		this.testName = description.getClassName();
+		return super.apply(base, description);
+	}
+
 	@Override
 	protected void before() {
-		start();
+		if (async) {
+			startup = server.startAsync();
+		} else {
+			server.start();
+		}
 	}
 
 	@Override
@@ -141,8 +218,64 @@ public class ServerRule extends AbstractRule {
 	 * @see EmbeddedServer#stop()
 	 */
 	public void stop() {
-		server.stop();
-		client.destroy();
+		try {
+			try {
+				awaitStarted();
+			}
+			finally {
+				startup = null;
+				server.stop();
+				client.destroy();
+			}
+		}
+		catch (RuntimeException | Error ex) {
+			// Do not hide the original failure if the report cannot be written.
+			try {
+				writeStartupReport();
+			}
+			catch (RuntimeException reportFailure) {
+				ex.addSuppressed(reportFailure);
+			}
+
+			throw ex;
+		}
+
+		writeStartupReport();
+	}
+
+	/**
+	 * Write the startup report of the server, if the {@link #STARTUP_REPORT_DIR} system property is set.
+	 */
+	private void writeStartupReport() {
+		String directory = System.getProperty(STARTUP_REPORT_DIR);
+		StartupReport report = server.getStartupReport();
+		if (directory == null || testName == null || report == null) {
+			return;
+		}
+
+		try {
+			File dir = new File(directory);
+			if (!dir.exists() && !dir.mkdirs()) {
+				throw new IOException("Cannot create directory: " + dir);
+			}
+
+			File output = new File(dir, testName + ".startup.json");
+			Files.write(output.toPath(), report.toJson().getBytes(StandardCharsets.UTF_8));
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Cannot write startup report", ex);
+		}
+	}
+
+	/**
+	 * Wait for the embedded server to be fully started, if it is currently starting.
+	 * If server failed to start, the original exception is thrown.
+	 */
+	public void awaitStarted() {
+		Future<?> future = startup;
+		if (future != null) {
+			await(future);
+		}
 	}
 
 	/**
@@ -151,9 +284,21 @@ public class ServerRule extends AbstractRule {
 	 * @see EmbeddedServer#restart()
 	 */
 	public void restart() {
+		awaitStarted();
 		server.restart();
 	}
 
+	/**
+	 * Reload the web application deployed on embedded server, without stopping the server.
+	 * This can be used to reset application state between tests.
+	 *
+	 * @see EmbeddedServer#reload()
+	 */
+	public void reload() {
+		awaitStarted();
+		server.reload();
+	}
+
 	/**
 	 * Check if embedded server is started.
 	 *
@@ -161,6 +306,7 @@ public class ServerRule extends AbstractRule {
 	 * @see EmbeddedServer#isStarted()
 	 */
 	public boolean isStarted() {
+		awaitStarted();
 		return server.isStarted();
 	}
 
@@ -199,6 +345,7 @@ public class ServerRule extends AbstractRule {
 	 * @see EmbeddedServer#getPort()
 	 */
 	public int getPort() {
+		awaitStarted();
 		return server.getPort();
 	}
 
@@ -219,6 +366,7 @@ public class ServerRule extends AbstractRule {
 	 * @see EmbeddedServer#getUrl()
 	 */
 	public String getUrl() {
+		awaitStarted();
 		return server.getUrl();
 	}
 
@@ -228,6 +376,7 @@ public class ServerRule extends AbstractRule {
 	 * @return Server.
 	 */
 	public EmbeddedServer<?> getServer() {
+		awaitStarted();
 		return server;
 	}
 
@@ -238,6 +387,7 @@ public class ServerRule extends AbstractRule {
 	 * @throws UnsupportedOperationException If the client cannot be returned because of missing implementation.
 	 */
 	public HttpClient getClient() {
+		awaitStarted();
 		return client.get();
 	}
 }
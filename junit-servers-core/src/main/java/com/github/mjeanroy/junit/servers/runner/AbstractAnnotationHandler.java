@@ -46,8 +46,17 @@ abstract class AbstractAnnotationHandler implements AnnotationHandler {
 		this.annotationKlass = annotationKlass;
 	}
 
+	/**
+	 * Get {@link #annotationKlass}.
+	 *
+	 * @return {@link #annotationKlass}
+	 */
+	Class<? extends Annotation> getAnnotationKlass() {
+		return annotationKlass;
+	}
+
 	@Override
-	public boolean support(Annotation annotation) {
+	public final boolean support(Annotation annotation) {
 		return annotation.annotationType().equals(annotationKlass);
 	}
 
@@ -63,6 +63,9 @@ class ConfigurationAnnotationHandler extends AbstractAnnotationHandler {
 
 	@Override
 	public void before(Object target, Field field) {
-		setter(target, field, configuration);
+		// A test class run against several servers may declare one configuration field per server.
+		if (field.getType().isInstance(configuration)) {
+			setter(target, field, configuration);
+		}
 	}
 }
@@ -0,0 +1,265 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.runner;
+
+import static com.github.mjeanroy.junit.servers.commons.ReflectionUtils.findAllFields;
+import static com.github.mjeanroy.junit.servers.servers.utils.Servers.instantiateAll;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.runner.Runner;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.Suite;
+import org.junit.runners.model.InitializationError;
+
+import com.github.mjeanroy.junit.servers.annotations.TestHttpClient;
+import com.github.mjeanroy.junit.servers.annotations.TestServer;
+import com.github.mjeanroy.junit.servers.annotations.TestServerConfiguration;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+
+/**
+ * Runner that will run a test class once per available embedded server implementation (for example,
+ * once against jetty and once against tomcat when both are available on the classpath).
+ *
+ * <h3>How to use?</h3>
+ *
+ * <pre><code>
+ *   &#064;RunWith(CrossContainerRunner.class)
+ *   public class MyTest {
+ *
+ *     // Configuration used by jetty.
+ *     &#064;TestServerConfiguration
+ *     private static EmbeddedJettyConfiguration jettyConfiguration = ...;
+ *
+ *     // Configuration used by tomcat.
+ *     &#064;TestServerConfiguration
+ *     private static EmbeddedTomcatConfiguration tomcatConfiguration = ...;
+ *
+ *     &#064;TestHttpClient
+ *     private HttpClient client;
+ *
+ *     &#064;Test
+ *     public void testGET() {
+ *       // ...
+ *     }
+ *   }
+ * </code></pre>
+ *
+ * Each server uses the configuration matching its implementation (or its default configuration), and
+ * the test class is run against each server with a {@link JunitServerRunner}: test names are suffixed with
+ * the server name (for example {@code testGET[EmbeddedJetty]}).
+ *
+ * <p>
+ *
+ * Servers are started and tests are run concurrently, unless the test class declares static fields injected
+ * with a value specific to each server (such as a static {@code TestServer} or {@code TestHttpClient} field):
+ * since these fields are shared by all servers, servers are then run one after another. The time spent by each server (startup
+ * and tests) is available with {@link #getDurations()}, and is written in {@code ClassName.containers.json} if the
+ * {@link #REPORT_DIR} system property is set.
+ */
+public class CrossContainerRunner extends Suite {
+
+	/**
+	 * Name of the system property containing the directory where container timings are written.
+	 */
+	public static final String REPORT_DIR = "junit-servers.cross-container-report.dir";
+
+	/**
+	 * Time spent by each child runner, in nanoseconds.
+	 */
+	private final Map<Runner, Long> durations;
+
+	/**
+	 * Create runner.
+	 *
+	 * @param klass Running class.
+	 * @throws InitializationError If the test class is not valid.
+	 */
+	public CrossContainerRunner(Class<?> klass) throws InitializationError {
+		this(klass, instantiateAll(klass));
+	}
+
+	/**
+	 * Create runner using given embedded servers.
+	 *
+	 * @param klass Running class.
+	 * @param servers Embedded servers.
+	 * @throws InitializationError If the test class is not valid.
+	 */
+	CrossContainerRunner(Class<?> klass, List<EmbeddedServer<?>> servers) throws InitializationError {
+		super(klass, createRunners(klass, servers));
+		this.durations = new ConcurrentHashMap<>();
+
+		if (!hasSharedInjectedFields(klass, servers)) {
+			setScheduler(new ParallelScheduler(Math.max(1, servers.size())));
+		}
+	}
+
+	@Override
+	public void run(RunNotifier notifier) {
+		super.run(notifier);
+		writeReport();
+	}
+
+	@Override
+	protected void runChild(Runner runner, RunNotifier notifier) {
+		long start = System.nanoTime();
+		try {
+			super.runChild(runner, notifier);
+		}
+		finally {
+			durations.put(runner, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Get the time spent by each server (including server startup), in nanoseconds, indexed by
+	 * runner name. Only servers that have been run are returned.
+	 *
+	 * @return Durations.
+	 */
+	public Map<String, Long> getDurations() {
+		Map<String, Long> results = new LinkedHashMap<>();
+		for (Runner runner : getChildren()) {
+			Long duration = durations.get(runner);
+			if (duration != null) {
+				results.put(runner.getDescription().getDisplayName(), duration);
+			}
+		}
+
+		return Collections.unmodifiableMap(results);
+	}
+
+	/**
+	 * Write durations to the report directory, if any.
+	 */
+	private void writeReport() {
+		String directory = System.getProperty(REPORT_DIR);
+		if (directory == null) {
+			return;
+		}
+
+		StringBuilder sb = new StringBuilder("{");
+		for (Map.Entry<String, Long> entry : getDurations().entrySet()) {
+			if (sb.length() > 1) {
+				sb.append(",");
+			}
+
+			sb.append("\"").append(entry.getKey().replace("\\", "\\\\").replace("\"", "\\\"")).append("\":").append(entry.getValue());
+		}
+
+		sb.append("}");
+
+		try {
+			File dir = new File(directory);
+			if (!dir.exists() && !dir.mkdirs()) {
+				throw new IOException("Cannot create directory: " + dir);
+			}
+
+			File output = new File(dir, getTestClass().getName() + ".containers.json");
+			Files.write(output.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Cannot write cross container report", ex);
+		}
+	}
+
+	/**
+	 * Create one runner per embedded server.
+	 *
+	 * @param klass Running class.
+	 * @param servers Embedded servers.
+	 * @return Runners.
+	 * @throws InitializationError If the test class is not valid.
+	 */
+	private static List<Runner> createRunners(Class<?> klass, List<EmbeddedServer<?>> servers) throws InitializationError {
+		List<Runner> runners = new ArrayList<>(servers.size());
+		for (EmbeddedServer<?> server : servers) {
+			runners.add(new JunitServerRunner(klass, server, server.getClass().getSimpleName()));
+		}
+
+		return runners;
+	}
+
+	/**
+	 * Check if the test class declares static fields that would be injected with a different value by
+	 * each server: such fields cannot be used by servers running concurrently.
+	 *
+	 * <ul>
+	 *   <li>Static fields annotated with {@link TestServer} or {@link TestHttpClient}.</li>
+	 *   <li>Static fields annotated with {@link TestServerConfiguration} and accepting the configuration of several servers.</li>
+	 * </ul>
+	 *
+	 * @param klass Running class.
+	 * @param servers Embedded servers.
+	 * @return {@code true} if servers must be run one after another, {@code false} otherwise.
+	 */
+	private static boolean hasSharedInjectedFields(Class<?> klass, List<EmbeddedServer<?>> servers) {
+		for (Field field : findAllFields(klass)) {
+			if (!Modifier.isStatic(field.getModifiers())) {
+				continue;
+			}
+
+			if (field.isAnnotationPresent(TestServer.class) || field.isAnnotationPresent(TestHttpClient.class)) {
+				return true;
+			}
+
+			if (field.isAnnotationPresent(TestServerConfiguration.class) && countAcceptedConfigurations(field, servers) > 1) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Count the servers whose configuration can be injected in given field.
+	 *
+	 * @param field The field.
+	 * @param servers Embedded servers.
+	 * @return The number of servers.
+	 */
+	private static int countAcceptedConfigurations(Field field, List<EmbeddedServer<?>> servers) {
+		int count = 0;
+		for (EmbeddedServer<?> server : servers) {
+			if (field.getType().isInstance(server.getConfiguration())) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+}
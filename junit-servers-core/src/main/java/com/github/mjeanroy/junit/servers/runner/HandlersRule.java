@@ -27,7 +27,10 @@ package com.github.mjeanroy.junit.servers.runner;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
 import static com.github.mjeanroy.junit.servers.commons.ReflectionUtils.findAllFields;
@@ -35,14 +38,37 @@ import static com.github.mjeanroy.junit.servers.commons.ReflectionUtils.findAllF
 /**
  * Create new rule that will execute a list of annotation
  * handlers before and after test executions.
+ *
+ * The injection plan of a test class (i.e annotated fields matched with
+ * handlers) is computed once per class and cached: test classes with many
+ * test methods do not have to scan the class hierarchy, nor to match fields
+ * with handlers, before and after each test.
  */
 class HandlersRule extends AbstractRuleInstance {
 
+	/**
+	 * Injection plans of test classes, computed once per class.
+	 */
+	private static final ClassValue<ClassPlans> PLANS = new ClassValue<ClassPlans>() {
+		@Override
+		protected ClassPlans computeValue(Class<?> type) {
+			return new ClassPlans(resolveAnnotatedFields(type));
+		}
+	};
+
 	/**
 	 * List of handlers.
 	 */
 	private final List<AnnotationHandler> handlers;
 
+	/**
+	 * Injection plan: the list of fields to process with the index of the handler
+	 * supporting them.
+	 * This plan is computed lazily, on first execution, and reused
+	 * for the "after" phase.
+	 */
+	private List<Injection> plan;
+
 	/**
 	 * Create new rules.
 	 *
@@ -81,30 +107,200 @@ class HandlersRule extends AbstractRuleInstance {
 	 * @param before Flag to know if handler has to run "before" phase or "after" phase.
 	 */
 	private void process(boolean before) {
-		List<Field> fields = findAllFields(getTarget().getClass());
-		for (Field field : fields) {
-			for (AnnotationHandler handler : handlers) {
-				processField(handler, field, before);
+		Object target = getTarget();
+		for (Injection injection : plan()) {
+			AnnotationHandler handler = handlers.get(injection.handler);
+			if (before) {
+				handler.before(target, injection.field);
+			} else {
+				handler.after(target, injection.field);
 			}
 		}
 	}
 
 	/**
-	 * Process field for given handler.
+	 * Get injection plan, compute it if it has not been computed yet.
 	 *
-	 * @param handler Handler.
-	 * @param field Field.
-	 * @param before Flag to know if handler has to run "before" phase or "after" phase.
+	 * @return Injection plan.
+	 */
+	private List<Injection> plan() {
+		if (plan == null) {
+			plan = PLANS.get(getTarget().getClass()).plan(handlers);
+		}
+
+		return plan;
+	}
+
+	/**
+	 * Match annotated fields with handlers.
+	 *
+	 * @param fields Annotated fields.
+	 * @param handlers Handlers.
+	 * @return Injection plan.
+	 */
+	private static List<Injection> buildPlan(List<AnnotatedField> fields, List<AnnotationHandler> handlers) {
+		List<Injection> injections = new ArrayList<>(fields.size());
+		for (AnnotatedField field : fields) {
+			for (int i = 0; i < handlers.size(); i++) {
+				for (Annotation annotation : field.annotations) {
+					if (handlers.get(i).support(annotation)) {
+						injections.add(new Injection(field.field, i));
+					}
+				}
+			}
+		}
+
+		return Collections.unmodifiableList(injections);
+	}
+
+	/**
+	 * Get the list of annotations supported by given handlers, in the same order: handlers
+	 * supporting the same annotations always lead to the same injection plan.
+	 *
+	 * @param handlers Handlers.
+	 * @return Annotations supported by handlers, {@code null} if one of the handlers is not
+	 * an {@link AbstractAnnotationHandler} (and its supported annotations are not known).
+	 */
+	private static List<Class<? extends Annotation>> supportedAnnotations(List<AnnotationHandler> handlers) {
+		List<Class<? extends Annotation>> annotations = new ArrayList<>(handlers.size());
+		for (AnnotationHandler handler : handlers) {
+			if (!(handler instanceof AbstractAnnotationHandler)) {
+				return null;
+			}
+
+			annotations.add(((AbstractAnnotationHandler) handler).getAnnotationKlass());
+		}
+
+		return annotations;
+	}
+
+	/**
+	 * Find all annotated fields of given class (including fields
+	 * declared in super classes).
+	 *
+	 * @param type Class.
+	 * @return Annotated fields.
 	 */
-	private void processField(AnnotationHandler handler, Field field, boolean before) {
-		for (Annotation annotation : field.getAnnotations()) {
-			if (handler.support(annotation)) {
-				if (before) {
-					handler.before(getTarget(), field);
-				} else {
-					handler.after(getTarget(), field);
+	private static List<AnnotatedField> resolveAnnotatedFields(Class<?> type) {
+		List<Field> fields = findAllFields(type);
+		List<AnnotatedField> annotatedFields = new ArrayList<>(fields.size());
+		for (Field field : fields) {
+			Annotation[] annotations = field.getAnnotations();
+			if (annotations.length > 0) {
+				if (!field.isAccessible()) {
+					field.setAccessible(true);
 				}
+
+				annotatedFields.add(new AnnotatedField(field, annotations));
 			}
 		}
+
+		return Collections.unmodifiableList(annotatedFields);
+	}
+
+	/**
+	 * Annotated fields of a test class, with the injection plans already computed for this class.
+	 * Plans are indexed by the annotations supported by the handlers, so that
+	 * they do not retain handlers (nor the embedded servers they hold).
+	 */
+	private static class ClassPlans {
+		/**
+		 * Annotated fields of the class.
+		 * Fields are made accessible when the class is resolved, so that
+		 * handlers do not need to toggle accessibility on each invocation.
+		 */
+		private final List<AnnotatedField> fields;
+
+		/**
+		 * Computed injection plans.
+		 */
+		private final ConcurrentMap<List<Class<? extends Annotation>>, List<Injection>> plans;
+
+		/**
+		 * Create class plans.
+		 *
+		 * @param fields Annotated fields of the class.
+		 */
+		private ClassPlans(List<AnnotatedField> fields) {
+			this.fields = fields;
+			this.plans = new ConcurrentHashMap<>();
+		}
+
+		/**
+		 * Get the injection plan for given handlers: the plan is computed once for
+		 * handlers supporting the same annotations.
+		 *
+		 * @param handlers Handlers.
+		 * @return Injection plan.
+		 */
+		private List<Injection> plan(List<AnnotationHandler> handlers) {
+			List<Class<? extends Annotation>> key = supportedAnnotations(handlers);
+			if (key == null) {
+				return buildPlan(fields, handlers);
+			}
+
+			List<Injection> plan = plans.get(key);
+			if (plan == null) {
+				plan = buildPlan(fields, handlers);
+				List<Injection> current = plans.putIfAbsent(key, plan);
+				if (current != null) {
+					plan = current;
+				}
+			}
+
+			return plan;
+		}
+	}
+
+	/**
+	 * A field with its annotations.
+	 */
+	private static class AnnotatedField {
+		/**
+		 * The field.
+		 */
+		private final Field field;
+
+		/**
+		 * Annotations of the field.
+		 */
+		private final Annotation[] annotations;
+
+		/**
+		 * Create annotated field.
+		 *
+		 * @param field The field.
+		 * @param annotations Annotations of the field.
+		 */
+		private AnnotatedField(Field field, Annotation[] annotations) {
+			this.field = field;
+			this.annotations = annotations;
+		}
+	}
+
+	/**
+	 * A field to process with the handler supporting one of its annotations.
+	 */
+	private static class Injection {
+		/**
+		 * The field.
+		 */
+		private final Field field;
+
+		/**
+		 * The index of the handler, in the list of handlers of the rule.
+		 */
+		private final int handler;
+
+		/**
+		 * Create injection.
+		 *
+		 * @param field The field.
+		 * @param handler The index of the handler.
+		 */
+		private Injection(Field field, int handler) {
+			this.field = field;
+			this.handler = handler;
+		}
 	}
 }
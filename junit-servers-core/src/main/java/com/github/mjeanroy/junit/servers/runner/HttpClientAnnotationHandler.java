@@ -25,19 +25,35 @@
 package com.github.mjeanroy.junit.servers.runner;
 
 import com.github.mjeanroy.junit.servers.annotations.TestHttpClient;
-import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
 import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
-import static com.github.mjeanroy.junit.servers.commons.ReflectionUtils.getter;
 import static com.github.mjeanroy.junit.servers.commons.ReflectionUtils.setter;
 
 /**
  * Annotation handler that will set simple http client implementation
  * in test classes.
+ *
+ * <p>
+ *
+ * Injected clients are {@link LazyHttpClient lazy}: the underlying client is only built
+ * if the test sends a request, unless the field is declared with a concrete client type.
+ *
+ * <p>
+ *
+ * Clients declared with {@link TestHttpClient#shared()} are created once and reused
+ * by all tests: they are reset once the last test using them (tests may run concurrently, see
+ * {@link com.github.mjeanroy.junit.servers.annotations.ParallelMethods}) has finished, and
+ * destroyed with {@link #destroySharedClients()}.
  */
 class HttpClientAnnotationHandler extends AbstractAnnotationHandler {
 
@@ -47,7 +63,7 @@ class HttpClientAnnotationHandler extends AbstractAnnotationHandler {
 	 * @return Handler.
 	 * @throws NullPointerException if server is null.
 	 */
-	static AnnotationHandler newHttpClientAnnotationHandler(EmbeddedServer<?> server) {
+	static HttpClientAnnotationHandler newHttpClientAnnotationHandler(EmbeddedServer<?> server) {
 		return new HttpClientAnnotationHandler(notNull(server, "server"));
 	}
 
@@ -56,23 +72,202 @@ class HttpClientAnnotationHandler extends AbstractAnnotationHandler {
 	 */
 	private final EmbeddedServer<?> server;
 
+	/**
+	 * Shared clients, indexed by field.
+	 */
+	private final Map<Field, SharedClient> sharedClients;
+
+	/**
+	 * Clients injected in test instances, and not released yet.
+	 */
+	private final Map<Injection, LazyHttpClient> injectedClients;
+
 	// Use static factory instead
 	private HttpClientAnnotationHandler(EmbeddedServer<?> server) {
 		super(TestHttpClient.class);
 		this.server = server;
+		this.sharedClients = new HashMap<>();
+		this.injectedClients = new ConcurrentHashMap<>();
 	}
 
 	@Override
 	public void before(Object target, Field field) {
 		TestHttpClient httpClient = field.getAnnotation(TestHttpClient.class);
-		HttpClientStrategy strategy = httpClient.strategy();
-		setter(target, field, strategy.build(server));
+		LazyHttpClient client = httpClient.shared() ? acquireSharedClient(field, httpClient.strategy()) : newClient(httpClient.strategy());
+		injectedClients.put(new Injection(target, field), client);
+
+		// A field declared with a concrete client type (such as OkHttpClient) cannot receive the
+		// lazy client: the underlying client is built eagerly and injected instead.
+		setter(target, field, field.getType().isAssignableFrom(LazyHttpClient.class) ? client : client.client());
 	}
 
 	@Override
 	public void after(Object target, Field field) {
-		HttpClient httpClient = getter(target, field);
-		httpClient.destroy();
+		// Release the injected instance: the field may have been re-assigned by the test.
+		LazyHttpClient httpClient = injectedClients.remove(new Injection(target, field));
+		if (httpClient != null) {
+			if (field.getAnnotation(TestHttpClient.class).shared()) {
+				releaseSharedClient(field, httpClient);
+			} else {
+				httpClient.destroy();
+			}
+		}
+
 		setter(target, field, null);
 	}
+
+	/**
+	 * Get the clients injected in given test instance, and not released yet.
+	 *
+	 * @param target The test instance.
+	 * @return The clients.
+	 */
+	List<LazyHttpClient> injectedClients(Object target) {
+		List<LazyHttpClient> clients = new ArrayList<>();
+		for (Map.Entry<Injection, LazyHttpClient> entry : injectedClients.entrySet()) {
+			if (entry.getKey().target == target) {
+				clients.add(entry.getValue());
+			}
+		}
+
+		return clients;
+	}
+
+	/**
+	 * Destroy all shared clients created by this handler.
+	 */
+	void destroySharedClients() {
+		List<SharedClient> clients;
+		synchronized (sharedClients) {
+			clients = new ArrayList<>(sharedClients.values());
+			sharedClients.clear();
+		}
+
+		for (SharedClient client : clients) {
+			client.client.destroy();
+		}
+	}
+
+	/**
+	 * Get shared client for given field, create it if it does not exist yet.
+	 * The client is used until {@link #releaseSharedClient(Field, LazyHttpClient)} is called.
+	 *
+	 * @param field The field.
+	 * @param strategy Strategy used to build the client.
+	 * @return The shared client.
+	 */
+	private LazyHttpClient acquireSharedClient(Field field, HttpClientStrategy strategy) {
+		synchronized (sharedClients) {
+			SharedClient sharedClient = sharedClients.get(field);
+			if (sharedClient == null || sharedClient.client.isDestroyed()) {
+				sharedClient = new SharedClient(newClient(strategy));
+				sharedClients.put(field, sharedClient);
+			}
+
+			sharedClient.users++;
+			return sharedClient.client;
+		}
+	}
+
+	/**
+	 * Release shared client for given field: the client is reset if it is not used
+	 * by another test anymore.
+	 *
+	 * @param field The field.
+	 * @param client The shared client.
+	 */
+	private void releaseSharedClient(Field field, LazyHttpClient client) {
+		synchronized (sharedClients) {
+			SharedClient sharedClient = sharedClients.get(field);
+			if (sharedClient == null || sharedClient.client != client) {
+				// Shared clients have been destroyed in the meantime.
+				return;
+			}
+
+			sharedClient.users--;
+			if (sharedClient.users == 0) {
+				client.reset();
+			}
+		}
+	}
+
+	/**
+	 * Create new lazy client.
+	 *
+	 * @param strategy Strategy used to build the underlying client.
+	 * @return The client.
+	 */
+	private LazyHttpClient newClient(HttpClientStrategy strategy) {
+		return new LazyHttpClient(strategy, HttpClientConfiguration.defaultConfiguration(), server);
+	}
+
+	/**
+	 * A shared client, with the number of tests currently using it.
+	 */
+	private static class SharedClient {
+		/**
+		 * The client.
+		 */
+		private final LazyHttpClient client;
+
+		/**
+		 * The number of tests currently using the client.
+		 */
+		private int users;
+
+		/**
+		 * Create shared client.
+		 *
+		 * @param client The client.
+		 */
+		private SharedClient(LazyHttpClient client) {
+			this.client = client;
+			this.users = 0;
+		}
+	}
+
+	/**
+	 * A field of a test instance: test instances are compared by identity.
+	 */
+	private static class Injection {
+		/**
+		 * The test instance.
+		 */
+		private final Object target;
+
+		/**
+		 * The field.
+		 */
+		private final Field field;
+
+		/**
+		 * Create injection.
+		 *
+		 * @param target The test instance.
+		 * @param field The field.
+		 */
+		private Injection(Object target, Field field) {
+			this.target = target;
+			this.field = field;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+
+			if (o instanceof Injection) {
+				Injection i = (Injection) o;
+				return target == i.target && field.equals(i.field);
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(target) + field.hashCode();
+		}
+	}
 }
@@ -24,18 +24,25 @@
 
 package com.github.mjeanroy.junit.servers.runner;
 
+import com.github.mjeanroy.junit.servers.annotations.MaxLatency;
+import com.github.mjeanroy.junit.servers.annotations.MinThroughput;
+import com.github.mjeanroy.junit.servers.annotations.ParallelMethods;
+import com.github.mjeanroy.junit.servers.annotations.SharedServer;
 import com.github.mjeanroy.junit.servers.rules.ServerRule;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration;
 import org.junit.rules.TestRule;
 import org.junit.runners.BlockJUnit4ClassRunner;
+import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.Statement;
 
 import java.util.List;
 
 import static com.github.mjeanroy.junit.servers.runner.ConfigurationAnnotationHandler.newConfigurationAnnotationHandler;
 import static com.github.mjeanroy.junit.servers.runner.HttpClientAnnotationHandler.newHttpClientAnnotationHandler;
 import static com.github.mjeanroy.junit.servers.runner.ServerAnnotationHandler.newServerAnnotationHandler;
+import static com.github.mjeanroy.junit.servers.servers.utils.ServerPool.defaultServerPool;
 import static com.github.mjeanroy.junit.servers.servers.utils.Servers.instantiate;
 
 /**
@@ -69,6 +76,28 @@ import static com.github.mjeanroy.junit.servers.servers.utils.Servers.instantiat
  *   }
  * </code></pre>
  *
+ * <h3>Server startup</h3>
+ *
+ * The embedded server is started asynchronously, so that {@code BeforeClass} methods are executed while the
+ * server is starting: the runner waits for the server to be fully started before running the first test.
+ *
+ * <h3>Sharing servers between test classes</h3>
+ *
+ * Add the {@link SharedServer} annotation on the test class: the embedded server will be shared with
+ * other test classes using an equal configuration (see {@link com.github.mjeanroy.junit.servers.servers.utils.ServerPool}).
+ *
+ * <h3>Running test methods concurrently</h3>
+ *
+ * Add the {@link ParallelMethods} annotation on the test class: test methods will be executed concurrently
+ * against the same embedded server, each test method getting its own injected http clients.
+ *
+ * <h3>Performance budgets</h3>
+ *
+ * Add the {@link MaxLatency} and/or {@link MinThroughput} annotations on a test method: the test method
+ * will be executed repeatedly, and will fail if the http requests it executes with injected http clients exceed the
+ * latency or throughput budget. The latency distribution is written for each of these test methods if the
+ * {@code junit-servers.performance-report.dir} system property is set to the output directory.
+ *
  * <h3>Should I use the {@link ServerRule} or the runner?</h3>
  *
  * The runner should be used, but due to the limitation of JUnit (only one runner can be used), the rule can
@@ -78,6 +107,12 @@ import static com.github.mjeanroy.junit.servers.servers.utils.Servers.instantiat
  */
 public class JunitServerRunner extends BlockJUnit4ClassRunner {
 
+	/**
+	 * Name of the system property defining the directory where the latency distributions of test methods
+	 * with a performance budget are written. If this property is not set, these distributions are not written.
+	 */
+	public static final String PERFORMANCE_REPORT_DIR = "junit-servers.performance-report.dir";
+
 	/**
 	 * Embedded server defined before and after tests.
 	 */
@@ -88,6 +123,22 @@ public class JunitServerRunner extends BlockJUnit4ClassRunner {
 	 */
 	private final AbstractConfiguration configuration;
 
+	/**
+	 * Rule starting and stopping embedded server.
+	 */
+	private final ServerRule serverRule;
+
+	/**
+	 * Handler injecting http clients: this handler is shared by all tests
+	 * since it holds the clients shared by the test class.
+	 */
+	private final HttpClientAnnotationHandler httpClientHandler;
+
+	/**
+	 * Label appended to the runner and test names, {@code null} to use the default names.
+	 */
+	private final String label;
+
 	/**
 	 * Create runner.
 	 *
@@ -95,17 +146,48 @@ public class JunitServerRunner extends BlockJUnit4ClassRunner {
 	 * @throws InitializationError If an error occurred while starting embedded server.
 	 */
 	public JunitServerRunner(Class<?> klass) throws InitializationError {
+		this(klass, klass.isAnnotationPresent(SharedServer.class) ? defaultServerPool().get(klass) : instantiate(klass), null);
+	}
+
+	/**
+	 * Create runner using given embedded server.
+	 *
+	 * @param klass Running class.
+	 * @param server The embedded server.
+	 * @param label Label appended to the runner and test names, may be {@code null}.
+	 * @throws InitializationError If an error occurred while starting embedded server.
+	 */
+	JunitServerRunner(Class<?> klass, EmbeddedServer<?> server, String label) throws InitializationError {
 		super(klass);
-		this.server = instantiate(klass);
+		this.server = server;
+		this.label = label;
 		this.configuration = this.server.getConfiguration();
+		this.serverRule = new ServerRule(server, true);
+		this.httpClientHandler = newHttpClientAnnotationHandler(server);
+
+		ParallelMethods parallelMethods = klass.getAnnotation(ParallelMethods.class);
+		if (parallelMethods != null) {
+			int threads = parallelMethods.threads() > 0 ? parallelMethods.threads() : Runtime.getRuntime().availableProcessors();
+			setScheduler(new ParallelScheduler(threads));
+		}
+	}
+
+	@Override
+	protected String getName() {
+		return label == null ? super.getName() : super.getName() + "[" + label + "]";
+	}
+
+	@Override
+	protected String testName(FrameworkMethod method) {
+		return label == null ? super.testName(method) : super.testName(method) + "[" + label + "]";
 	}
 
 	@Override
 	protected List<TestRule> classRules() {
 		List<TestRule> classRules = super.classRules();
 
-		ServerRule classRule = new ServerRule(server);
-		classRules.add(classRule);
+		classRules.add(serverRule);
+		classRules.add(new SharedHttpClientsRule(httpClientHandler));
 
 		return classRules;
 	}
@@ -116,11 +198,18 @@ public class JunitServerRunner extends BlockJUnit4ClassRunner {
 
 		AnnotationHandler h1 = newServerAnnotationHandler(server);
 		AnnotationHandler h2 = newConfigurationAnnotationHandler(configuration);
-		AnnotationHandler h3 = newHttpClientAnnotationHandler(server);
 
-		HandlersRule rule = new HandlersRule(target, h1, h2, h3);
+		HandlersRule rule = new HandlersRule(target, h1, h2, httpClientHandler);
 		testRules.add(rule);
 
+		// Server is started asynchronously: wait for it before running the test.
+		testRules.add(new ServerStartedRule(serverRule));
+
 		return testRules;
 	}
+
+	@Override
+	protected Statement methodInvoker(FrameworkMethod method, Object test) {
+		return PerformanceBudgetStatement.wrap(method, super.methodInvoker(method, test), httpClientHandler, test);
+	}
 }
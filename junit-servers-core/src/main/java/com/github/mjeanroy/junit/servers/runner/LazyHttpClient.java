@@ -0,0 +1,213 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.runner;
+
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
+import com.github.mjeanroy.junit.servers.client.HttpMethod;
+import com.github.mjeanroy.junit.servers.client.HttpRequest;
+import com.github.mjeanroy.junit.servers.client.HttpResponseListener;
+import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpClient;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+
+/**
+ * Implementation of {@link HttpClient} injected in test classes: the underlying client
+ * is built on the first request, so that tests that never send any request do not pay
+ * for the creation (and the destruction) of the client.
+ */
+class LazyHttpClient implements HttpClient {
+
+	/**
+	 * The strategy used to build the underlying client.
+	 */
+	private final HttpClientStrategy strategy;
+
+	/**
+	 * The client configuration.
+	 */
+	private final HttpClientConfiguration configuration;
+
+	/**
+	 * The embedded server to query.
+	 */
+	private final EmbeddedServer<?> server;
+
+	/**
+	 * The underlying client, {@code null} until the first request.
+	 */
+	private HttpClient client;
+
+	/**
+	 * The response listeners, registered on the underlying client once it is built.
+	 */
+	private final List<HttpResponseListener> listeners;
+
+	/**
+	 * Flag to know if the client has been destroyed.
+	 */
+	private boolean destroyed;
+
+	/**
+	 * Create the client.
+	 *
+	 * @param strategy The strategy used to build the underlying client.
+	 * @param configuration The client configuration.
+	 * @param server The embedded server to query.
+	 */
+	LazyHttpClient(HttpClientStrategy strategy, HttpClientConfiguration configuration, EmbeddedServer<?> server) {
+		this.strategy = notNull(strategy, "strategy");
+		this.configuration = notNull(configuration, "configuration");
+		this.server = notNull(server, "server");
+		this.listeners = new ArrayList<>();
+	}
+
+	@Override
+	public HttpClientConfiguration getConfiguration() {
+		return configuration;
+	}
+
+	@Override
+	public HttpRequest prepareGet(String endpoint) {
+		return client().prepareGet(endpoint);
+	}
+
+	@Override
+	public HttpRequest preparePost(String endpoint) {
+		return client().preparePost(endpoint);
+	}
+
+	@Override
+	public HttpRequest preparePut(String url) {
+		return client().preparePut(url);
+	}
+
+	@Override
+	public HttpRequest prepareDelete(String endpoint) {
+		return client().prepareDelete(endpoint);
+	}
+
+	@Override
+	public HttpRequest preparePatch(String endpoint) {
+		return client().preparePatch(endpoint);
+	}
+
+	@Override
+	public HttpRequest prepareHead(String endpoint) {
+		return client().prepareHead(endpoint);
+	}
+
+	@Override
+	public HttpRequest prepareRequest(HttpMethod httpMethod, String endpoint) {
+		return client().prepareRequest(httpMethod, endpoint);
+	}
+
+	@Override
+	public synchronized void destroy() {
+		destroyed = true;
+		if (client != null) {
+			client.destroy();
+			client = null;
+		}
+	}
+
+	@Override
+	public synchronized boolean isDestroyed() {
+		return destroyed;
+	}
+
+	/**
+	 * Reset the state of the underlying client (if it has been built).
+	 *
+	 * @see AbstractHttpClient#reset()
+	 */
+	synchronized void reset() {
+		if (client instanceof AbstractHttpClient) {
+			((AbstractHttpClient) client).reset();
+		}
+	}
+
+	/**
+	 * Register a listener notified of the responses received by the underlying client.
+	 *
+	 * @param listener The listener.
+	 * @see AbstractHttpClient#addResponseListener(HttpResponseListener)
+	 */
+	synchronized void addResponseListener(HttpResponseListener listener) {
+		listeners.add(notNull(listener, "listener"));
+		if (client instanceof AbstractHttpClient) {
+			((AbstractHttpClient) client).addResponseListener(listener);
+		}
+	}
+
+	/**
+	 * Remove a listener registered with {@link #addResponseListener(HttpResponseListener)}.
+	 *
+	 * @param listener The listener.
+	 */
+	synchronized void removeResponseListener(HttpResponseListener listener) {
+		listeners.remove(listener);
+		if (client instanceof AbstractHttpClient) {
+			((AbstractHttpClient) client).removeResponseListener(listener);
+		}
+	}
+
+	/**
+	 * Check if the underlying client has been built.
+	 *
+	 * @return {@code true} if the underlying client has been built, {@code false} otherwise.
+	 */
+	synchronized boolean isInitialized() {
+		return client != null;
+	}
+
+	/**
+	 * Get the underlying client, build it if it does not exist yet.
+	 *
+	 * @return The underlying client.
+	 * @throws IllegalStateException If the client has been destroyed.
+	 */
+	synchronized HttpClient client() {
+		if (destroyed) {
+			throw new IllegalStateException("Cannot create request from a destroyed client");
+		}
+
+		if (client == null) {
+			client = strategy.build(configuration, server);
+			if (client instanceof AbstractHttpClient) {
+				for (HttpResponseListener listener : listeners) {
+					((AbstractHttpClient) client).addResponseListener(listener);
+				}
+			}
+		}
+
+		return client;
+	}
+}
@@ -0,0 +1,74 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.runner;
+
+import static com.github.mjeanroy.junit.servers.commons.ConcurrentUtils.daemonThreadFactory;
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.positive;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.runners.model.RunnerScheduler;
+
+/**
+ * Scheduler running test methods concurrently on a fixed number of threads: the scheduler
+ * waits for all test methods to be executed before returning.
+ */
+class ParallelScheduler implements RunnerScheduler {
+
+	/**
+	 * The executor running test methods.
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * Create scheduler.
+	 *
+	 * @param threads The number of threads.
+	 * @throws IllegalArgumentException If {@code threads} is not positive.
+	 */
+	ParallelScheduler(int threads) {
+		this.executor = Executors.newFixedThreadPool(positive(threads, "threads"), daemonThreadFactory("junit-servers-test"));
+	}
+
+	@Override
+	public void schedule(Runnable childStatement) {
+		executor.execute(childStatement);
+	}
+
+	@Override
+	public void finished() {
+		executor.shutdown();
+
+		try {
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException ex) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+}
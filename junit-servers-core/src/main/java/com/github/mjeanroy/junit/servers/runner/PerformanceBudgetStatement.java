@@ -0,0 +1,492 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.runner;
+
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
+import static java.lang.System.nanoTime;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.Statement;
+
+import com.github.mjeanroy.junit.servers.annotations.MaxLatency;
+import com.github.mjeanroy.junit.servers.annotations.MinThroughput;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpResponseFuture;
+import com.github.mjeanroy.junit.servers.client.HttpResponseListener;
+import com.github.mjeanroy.junit.servers.load.LatencyHistogram;
+
+/**
+ * Statement executing a test method repeatedly to check its performance budget, defined with the
+ * {@link MaxLatency} and {@link MinThroughput} annotations: the duration of each http request executed
+ * by measured invocations with the clients injected in the test instance is recorded (responses of
+ * asynchronous requests are awaited at the end of each invocation), and the test fails with the full
+ * latency distribution if the budget is exceeded.
+ *
+ * <p>
+ *
+ * Note that requests sent by shared clients (see {@link com.github.mjeanroy.junit.servers.annotations.TestHttpClient#shared()})
+ * on behalf of other tests running concurrently are recorded too.
+ *
+ * <p>
+ *
+ * The latency distribution is also written, whether the budget is met or not, if the
+ * {@link JunitServerRunner#PERFORMANCE_REPORT_DIR} system property is set.
+ */
+class PerformanceBudgetStatement extends Statement {
+
+	/**
+	 * Wrap the statement invoking given test method, if the test method defines a performance budget.
+	 *
+	 * @param method The test method.
+	 * @param next The statement invoking the test method.
+	 * @param httpClientHandler The handler injecting http clients in test instances.
+	 * @param target The test instance.
+	 * @return The statement checking the performance budget, or {@code next} if the method does not define any budget.
+	 */
+	static Statement wrap(FrameworkMethod method, Statement next, HttpClientAnnotationHandler httpClientHandler, Object target) {
+		MaxLatency maxLatency = method.getAnnotation(MaxLatency.class);
+		MinThroughput minThroughput = method.getAnnotation(MinThroughput.class);
+		if (maxLatency == null && minThroughput == null) {
+			return next;
+		}
+
+		String name = target.getClass().getName() + "." + method.getName();
+		return new PerformanceBudgetStatement(next, maxLatency, minThroughput, name, httpClientHandler, target);
+	}
+
+	/**
+	 * The pattern of a duration, such as {@code "50ms"}.
+	 */
+	private static final Pattern DURATION = Pattern.compile("^\\s*(\\d+(?:\\.\\d+)?)\\s*(ns|us|ms|s)\\s*$");
+
+	/**
+	 * The percentiles included in the reported distribution.
+	 */
+	private static final double[] PERCENTILES = new double[] { 50, 75, 90, 95, 99, 99.9, 99.99 };
+
+	/**
+	 * The number of nanoseconds in one second.
+	 */
+	private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	/**
+	 * The statement invoking the test method.
+	 */
+	private final Statement next;
+
+	/**
+	 * The latency budget, may be {@code null}.
+	 */
+	private final MaxLatency maxLatency;
+
+	/**
+	 * The throughput budget, may be {@code null}.
+	 */
+	private final MinThroughput minThroughput;
+
+	/**
+	 * The name of the test, used to name the report.
+	 */
+	private final String name;
+
+	/**
+	 * The handler injecting http clients in test instances.
+	 */
+	private final HttpClientAnnotationHandler httpClientHandler;
+
+	/**
+	 * The test instance.
+	 */
+	private final Object target;
+
+	/**
+	 * Create statement.
+	 *
+	 * @param next The statement invoking the test method.
+	 * @param maxLatency The latency budget, may be {@code null}.
+	 * @param minThroughput The throughput budget, may be {@code null}.
+	 * @param name The name of the test, used to name the report.
+	 * @param httpClientHandler The handler injecting http clients in test instances.
+	 * @param target The test instance.
+	 */
+	PerformanceBudgetStatement(Statement next, MaxLatency maxLatency, MinThroughput minThroughput, String name, HttpClientAnnotationHandler httpClientHandler, Object target) {
+		this.next = notNull(next, "next");
+		this.maxLatency = maxLatency;
+		this.minThroughput = minThroughput;
+		this.name = notNull(name, "name");
+		this.httpClientHandler = notNull(httpClientHandler, "httpClientHandler");
+		this.target = notNull(target, "target");
+	}
+
+	@Override
+	public void evaluate() throws Throwable {
+		int invocations = Math.max(maxLatency == null ? 0 : maxLatency.invocations(), minThroughput == null ? 0 : minThroughput.invocations());
+		int warmup = Math.max(maxLatency == null ? 0 : maxLatency.warmup(), minThroughput == null ? 0 : minThroughput.warmup());
+		if (invocations <= 0) {
+			throw new IllegalArgumentException("invocations must be strictly positive");
+		}
+
+		// Parse budgets first, so that invalid budgets fail fast.
+		List<Budget> budgets = latencyBudgets();
+
+		for (int i = 0; i < warmup; i++) {
+			next.evaluate();
+		}
+
+		Recorder recorder = new Recorder();
+		long duration = 0;
+
+		// Clients are injected before the test method is invoked, and released after.
+		List<LazyHttpClient> clients = httpClientHandler.injectedClients(target);
+		for (LazyHttpClient client : clients) {
+			client.addResponseListener(recorder);
+		}
+
+		try {
+			for (int i = 0; i < invocations; i++) {
+				long start = nanoTime();
+
+				try {
+					next.evaluate();
+					recorder.awaitPendingResponses();
+				}
+				finally {
+					duration += nanoTime() - start;
+				}
+			}
+		}
+		finally {
+			for (LazyHttpClient client : clients) {
+				client.removeResponseListener(recorder);
+			}
+		}
+
+		LatencyHistogram histogram = recorder.histogram;
+		if (histogram.getTotalCount() == 0) {
+			throw new AssertionError("Performance budget cannot be checked: test method did not execute any http request");
+		}
+
+		double throughput = histogram.getTotalCount() * NANOS_PER_SECOND / duration;
+
+		List<String> violations = new ArrayList<>();
+		for (Budget budget : budgets) {
+			long value = budget.percentile == 100 ? histogram.getMax() : histogram.getValueAtPercentile(budget.percentile);
+			if (value > budget.value) {
+				violations.add(budget.name + " = " + formatDuration(value) + " (budget: " + budget.label + ")");
+			}
+		}
+
+		if (minThroughput != null && throughput < minThroughput.value()) {
+			violations.add("throughput = " + formatThroughput(throughput) + " (budget: " + formatThroughput(minThroughput.value()) + ")");
+		}
+
+		String distribution = distribution(histogram, invocations, duration, throughput);
+		if (violations.isEmpty()) {
+			writeReport(distribution);
+			return;
+		}
+
+		AssertionError error = new AssertionError(message(violations) + distribution);
+		try {
+			writeReport(distribution);
+		}
+		catch (RuntimeException ex) {
+			error.addSuppressed(ex);
+		}
+
+		throw error;
+	}
+
+	/**
+	 * Write the latency distribution, if the {@link JunitServerRunner#PERFORMANCE_REPORT_DIR} system property is set.
+	 *
+	 * @param distribution The latency distribution.
+	 */
+	private void writeReport(String distribution) {
+		String directory = System.getProperty(JunitServerRunner.PERFORMANCE_REPORT_DIR);
+		if (directory == null) {
+			return;
+		}
+
+		try {
+			File dir = new File(directory);
+			if (!dir.exists() && !dir.mkdirs()) {
+				throw new IOException("Cannot create directory: " + dir);
+			}
+
+			File output = new File(dir, name + ".performance.txt");
+			Files.write(output.toPath(), (distribution.trim() + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Cannot write performance report", ex);
+		}
+	}
+
+	/**
+	 * Parse the latency budgets.
+	 *
+	 * @return The latency budgets.
+	 */
+	private List<Budget> latencyBudgets() {
+		List<Budget> budgets = new ArrayList<>();
+		if (maxLatency != null) {
+			addBudget(budgets, "p50", 50, maxLatency.p50());
+			addBudget(budgets, "p90", 90, maxLatency.p90());
+			addBudget(budgets, "p99", 99, maxLatency.p99());
+			addBudget(budgets, "p99.9", 99.9, maxLatency.p999());
+			addBudget(budgets, "max", 100, maxLatency.max());
+		}
+
+		return budgets;
+	}
+
+	/**
+	 * Add a latency budget, unless it is empty.
+	 *
+	 * @param budgets The budgets.
+	 * @param name The budget name.
+	 * @param percentile The percentile.
+	 * @param value The budget, as defined in the annotation.
+	 */
+	private static void addBudget(List<Budget> budgets, String name, double percentile, String value) {
+		if (!value.isEmpty()) {
+			budgets.add(new Budget(name, percentile, parseDuration(value), value.trim()));
+		}
+	}
+
+	/**
+	 * Parse a duration, such as {@code "50ms"}.
+	 *
+	 * @param value The duration.
+	 * @return The duration, in nanoseconds.
+	 * @throws IllegalArgumentException If the duration is not valid.
+	 */
+	static long parseDuration(String value) {
+		Matcher matcher = DURATION.matcher(value);
+		if (!matcher.matches()) {
+			throw new IllegalArgumentException("Invalid duration: '" + value + "', expected a value such as '50ms' (supported units are ns, us, ms and s)");
+		}
+
+		double amount = Double.parseDouble(matcher.group(1));
+		String unit = matcher.group(2);
+
+		double factor;
+		switch (unit) {
+			case "ns":
+				factor = 1;
+				break;
+			case "us":
+				factor = TimeUnit.MICROSECONDS.toNanos(1);
+				break;
+			case "ms":
+				factor = TimeUnit.MILLISECONDS.toNanos(1);
+				break;
+			default:
+				factor = TimeUnit.SECONDS.toNanos(1);
+				break;
+		}
+
+		return (long) (amount * factor);
+	}
+
+	/**
+	 * Build the failure message.
+	 *
+	 * @param violations The exceeded budgets.
+	 * @return The message.
+	 */
+	private static String message(List<String> violations) {
+		StringBuilder sb = new StringBuilder("Performance budget exceeded: ");
+
+		for (int i = 0; i < violations.size(); i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+
+			sb.append(violations.get(i));
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Build the description of the latency distribution.
+	 *
+	 * @param histogram The latency histogram.
+	 * @param invocations The number of measured invocations.
+	 * @param duration The duration of measured invocations, in nanoseconds.
+	 * @param throughput The throughput, in requests per second.
+	 * @return The description, starting with a line separator.
+	 */
+	private static String distribution(LatencyHistogram histogram, int invocations, long duration, double throughput) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format(Locale.ROOT, "%n%d requests in %d invocations (%s, %s)", histogram.getTotalCount(), invocations, formatDuration(duration), formatThroughput(throughput)));
+		sb.append(String.format(Locale.ROOT, "%n  min    = %s", formatDuration(histogram.getMin())));
+		sb.append(String.format(Locale.ROOT, "%n  mean   = %s", formatDuration((long) histogram.getMean())));
+
+		for (double percentile : PERCENTILES) {
+			String name = String.format(Locale.ROOT, "p%s", percentile == (long) percentile ? Long.toString((long) percentile) : Double.toString(percentile));
+			sb.append(String.format(Locale.ROOT, "%n  %-6s = %s", name, formatDuration(histogram.getValueAtPercentile(percentile))));
+		}
+
+		sb.append(String.format(Locale.ROOT, "%n  max    = %s", formatDuration(histogram.getMax())));
+		return sb.toString();
+	}
+
+	/**
+	 * Format a duration.
+	 *
+	 * @param nanos The duration, in nanoseconds.
+	 * @return The formatted duration, in milliseconds.
+	 */
+	private static String formatDuration(long nanos) {
+		return String.format(Locale.ROOT, "%.3fms", nanos / 1000000.0);
+	}
+
+	/**
+	 * Format a throughput.
+	 *
+	 * @param throughput The throughput, in requests per second.
+	 * @return The formatted throughput.
+	 */
+	private static String formatThroughput(double throughput) {
+		return String.format(Locale.ROOT, "%.1f req/s", throughput);
+	}
+
+	/**
+	 * Listener recording the duration of the responses received by the clients of the test instance.
+	 */
+	private static class Recorder implements HttpResponseListener {
+		/**
+		 * The recorded durations: guarded by the recorder, since requests may be executed by several threads.
+		 */
+		private final LatencyHistogram histogram;
+
+		/**
+		 * The pending responses of asynchronous requests, not recorded yet.
+		 */
+		private final List<HttpResponseFuture> pendingResponses;
+
+		/**
+		 * Create recorder.
+		 */
+		private Recorder() {
+			this.histogram = new LatencyHistogram();
+			this.pendingResponses = new ArrayList<>();
+		}
+
+		@Override
+		public synchronized void onResponse(HttpResponse response) {
+			histogram.record(response.getRequestDuration());
+		}
+
+		@Override
+		public synchronized void onPendingResponse(HttpResponseFuture response) {
+			pendingResponses.add(response);
+		}
+
+		/**
+		 * Wait for the pending responses of asynchronous requests, and record them. Failed (or cancelled)
+		 * requests are ignored: the failure, if any, is reported by the test itself.
+		 *
+		 * @throws InterruptedException If the current thread has been interrupted.
+		 */
+		private void awaitPendingResponses() throws InterruptedException {
+			while (true) {
+				List<HttpResponseFuture> responses;
+				synchronized (this) {
+					if (pendingResponses.isEmpty()) {
+						return;
+					}
+
+					responses = new ArrayList<>(pendingResponses);
+					pendingResponses.clear();
+				}
+
+				for (HttpResponseFuture response : responses) {
+					try {
+						onResponse(response.get());
+					}
+					catch (ExecutionException | CancellationException ex) {
+						// Nothing to record.
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * A latency budget, parsed from the {@link MaxLatency} annotation.
+	 */
+	private static class Budget {
+		/**
+		 * The budget name, used in the failure message (such as {@code "p99"}).
+		 */
+		private final String name;
+
+		/**
+		 * The percentile of the latency distribution checked by the budget ({@code 100} for the maximum).
+		 */
+		private final double percentile;
+
+		/**
+		 * The maximum latency, in nanoseconds.
+		 */
+		private final long value;
+
+		/**
+		 * The budget, as defined in the annotation.
+		 */
+		private final String label;
+
+		/**
+		 * Create budget.
+		 *
+		 * @param name The budget name.
+		 * @param percentile The percentile.
+		 * @param value The maximum latency, in nanoseconds.
+		 * @param label The budget, as defined in the annotation.
+		 */
+		private Budget(String name, double percentile, long value, String label) {
+			this.name = name;
+			this.percentile = percentile;
+			this.value = value;
+			this.label = label;
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.runner;
+
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
+
+import com.github.mjeanroy.junit.servers.rules.AbstractRule;
+import com.github.mjeanroy.junit.servers.rules.ServerRule;
+
+/**
+ * Rule that waits for the embedded server (started asynchronously by a {@link ServerRule}) to be fully
+ * started before each test.
+ */
+class ServerStartedRule extends AbstractRule {
+
+	/**
+	 * The server rule, starting the embedded server.
+	 */
+	private final ServerRule serverRule;
+
+	/**
+	 * Create rule.
+	 *
+	 * @param serverRule The server rule.
+	 */
+	ServerStartedRule(ServerRule serverRule) {
+		this.serverRule = notNull(serverRule, "serverRule");
+	}
+
+	@Override
+	protected void before() {
+		serverRule.awaitStarted();
+	}
+}
@@ -24,6 +24,8 @@
 
 package com.github.mjeanroy.junit.servers.servers;
 
+import static com.github.mjeanroy.junit.servers.commons.ConcurrentUtils.defaultExecutor;
+import static com.github.mjeanroy.junit.servers.commons.ConcurrentUtils.submit;
 import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
 import static com.github.mjeanroy.junit.servers.commons.UrlUtils.ensureAbsolutePath;
 import static java.lang.System.clearProperty;
@@ -32,7 +34,13 @@ import static java.lang.System.setProperty;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import com.github.mjeanroy.junit.servers.exceptions.ServerNotReadyException;
+import com.github.mjeanroy.junit.servers.exceptions.ServerStartException;
 import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration;
 
 /**
@@ -42,6 +50,11 @@ import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfigura
  *
  * Subclasses should implement {@link #doStart()} and {@link #doStop()} methods and synchronization is already
  * managed by this abstract implementation.
+ *
+ * <p>
+ *
+ * Synchronization is done per server instance: two different servers can be started
+ * or stopped concurrently, whereas concurrent calls on the same instance are serialized.
  */
 public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration> implements EmbeddedServer<T> {
 
@@ -55,6 +68,17 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 	 */
 	private static final String DEFAULT_HOST = "localhost";
 
+	/**
+	 * The first delay, in milliseconds, between two readiness checks: this delay is doubled
+	 * after each failed check, up to {@link #MAX_READINESS_DELAY}.
+	 */
+	private static final long MIN_READINESS_DELAY = 10L;
+
+	/**
+	 * The maximum delay, in milliseconds, between two readiness checks.
+	 */
+	private static final long MAX_READINESS_DELAY = 500L;
+
 	/**
 	 * Server configuration.
 	 */
@@ -69,14 +93,35 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 	 */
 	private volatile ServerStatus status;
 
+	/**
+	 * Flag set once the underlying server has been started (i.e its port is bound), even
+	 * if it is not ready yet: status remains {@link ServerStatus#STARTING} until the readiness
+	 * probe succeeds.
+	 */
+	private volatile boolean running;
+
 	/**
 	 * Old properties used to restore initial environment properties values when server stops.
 	 * It can be used to set a spring profile property or anything else.
 	 */
 	private final Map<String, String> oldProperties;
 
-	// Lock used to synchronize start and stop tasks
-	private static final Object lock = new Object();
+	/**
+	 * Report of the last startup (or reload), {@code null} until server has been started.
+	 */
+	private volatile StartupReport startupReport;
+
+	/**
+	 * Builder of the startup report, not {@code null} only while server is starting (or reloading).
+	 */
+	private volatile StartupReport.Builder startupReportBuilder;
+
+	/**
+	 * Lock used to synchronize start and stop tasks of this server.
+	 * This lock is not shared between servers, so that independent servers
+	 * can be started (or stopped) in parallel.
+	 */
+	private final Object lock;
 
 	/**
 	 * Build default embedded server.
@@ -87,6 +132,7 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 		this.configuration = notNull(configuration, "configuration");
 		this.status = ServerStatus.STOPPED;
 		this.oldProperties = new LinkedHashMap<>();
+		this.lock = new Object();
 	}
 
 	@Override
@@ -95,13 +141,33 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 			synchronized (lock) {
 				if (status != ServerStatus.STARTED) {
 					status = ServerStatus.STARTING;
-					initEnvironment();
-					execHooks(true);
-					doStart();
-					status = ServerStatus.STARTED;
+					startupReportBuilder = new StartupReport.Builder(getClass().getSimpleName());
 
-					// Server is fully initialized
+					long phaseStart = System.nanoTime();
+					initEnvironment();
+					recordStartupPhase("environment", phaseStart);
+
+					try {
+						execHooks(true);
+
+						phaseStart = System.nanoTime();
+						doStart();
+						running = true;
+						recordStartupPhase("server.start", phaseStart);
+					}
+					catch (RuntimeException | Error ex) {
+						// Rollback, so that server can be started again.
+						startupReportBuilder = null;
+						destroyEnvironment();
+						status = ServerStatus.STOPPED;
+						throw ex;
+					}
+
+					// Server is fully initialized, but it is not started until it is ready.
 					onStarted();
+					awaitReadiness();
+					completeStartupReport();
+					status = ServerStatus.STARTED;
 				}
 			}
 		}
@@ -113,15 +179,54 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 			synchronized (lock) {
 				if (status != ServerStatus.STOPPED) {
 					status = ServerStatus.STOPPING;
-					execHooks(false);
-					doStop();
-					destroyEnvironment();
-					status = ServerStatus.STOPPED;
+					running = false;
+
+					try {
+						execHooks(false);
+						doStop();
+					}
+					finally {
+						// Always release environment, even if server failed to stop.
+						destroyEnvironment();
+						status = ServerStatus.STOPPED;
+					}
 				}
 			}
 		}
 	}
 
+	@Override
+	public Future<EmbeddedServer<T>> startAsync() {
+		return startAsync(defaultExecutor());
+	}
+
+	@Override
+	public Future<EmbeddedServer<T>> startAsync(Executor executor) {
+		return submit(executor, new Callable<EmbeddedServer<T>>() {
+			@Override
+			public EmbeddedServer<T> call() {
+				start();
+				return AbstractEmbeddedServer.this;
+			}
+		});
+	}
+
+	@Override
+	public Future<EmbeddedServer<T>> stopAsync() {
+		return stopAsync(defaultExecutor());
+	}
+
+	@Override
+	public Future<EmbeddedServer<T>> stopAsync(Executor executor) {
+		return submit(executor, new Callable<EmbeddedServer<T>>() {
+			@Override
+			public EmbeddedServer<T> call() {
+				stop();
+				return AbstractEmbeddedServer.this;
+			}
+		});
+	}
+
 	@Override
 	public boolean isStarted() {
 		return status == ServerStatus.STARTED;
@@ -133,9 +238,65 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 		start();
 	}
 
+	/**
+	 * Reload the web application: hooks {@link Hook#pre(EmbeddedServer)} and {@link Hook#post(EmbeddedServer)}
+	 * are not executed (the server is not stopped), but {@link Hook#onStarted(EmbeddedServer, javax.servlet.ServletContext)}
+	 * is executed with the new servlet context.
+	 *
+	 * <p>
+	 *
+	 * If reload fails, the server is stopped.
+	 */
+	@Override
+	public void reload() {
+		synchronized (lock) {
+			if (status != ServerStatus.STARTED) {
+				// Nothing to reload.
+				start();
+				return;
+			}
+
+			status = ServerStatus.STARTING;
+			startupReportBuilder = new StartupReport.Builder(getClass().getSimpleName());
+
+			try {
+				long phaseStart = System.nanoTime();
+				doReload();
+				recordStartupPhase("server.reload", phaseStart);
+			}
+			catch (RuntimeException | Error ex) {
+				// Server is in an unknown state, try to release everything.
+				startupReportBuilder = null;
+				try {
+					stop();
+				}
+				catch (RuntimeException | Error stopEx) {
+					ex.addSuppressed(stopEx);
+				}
+
+				throw ex;
+			}
+
+			onStarted();
+			awaitReadiness();
+			completeStartupReport();
+			status = ServerStatus.STARTED;
+		}
+	}
+
+	/**
+	 * Check if the underlying server has been started: contrary to {@link #isStarted()}, this method
+	 * returns {@code true} while the server is waiting for its readiness probe.
+	 *
+	 * @return {@code true} if the underlying server is running, {@code false} otherwise.
+	 */
+	protected boolean isRunning() {
+		return running;
+	}
+
 	@Override
 	public int getPort() {
-		return isStarted() ? doGetPort() : configuration.getPort();
+		return isRunning() ? doGetPort() : configuration.getPort();
 	}
 
 	@Override
@@ -188,7 +349,9 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 	private void execHooks(boolean pre) {
 		for (Hook hook : configuration.getHooks()) {
 			if (pre) {
+				long phaseStart = System.nanoTime();
 				hook.pre(this);
+				recordStartupPhase("hook.pre:" + hook.getClass().getName(), phaseStart);
 			} else {
 				hook.post(this);
 			}
@@ -197,10 +360,99 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 
 	private void onStarted() {
 		for (Hook hook : configuration.getHooks()) {
+			long phaseStart = System.nanoTime();
 			hook.onStarted(this, getServletContext());
+			recordStartupPhase("hook.onStarted:" + hook.getClass().getName(), phaseStart);
 		}
 	}
 
+	/**
+	 * Wait for the configured readiness probe to succeed, polling it with an exponential backoff.
+	 * If the probe does not succeed before the readiness timeout, the server is stopped and
+	 * a {@link ServerNotReadyException} is thrown.
+	 */
+	private void awaitReadiness() {
+		ReadinessProbe probe = configuration.getReadinessProbe();
+		if (probe == null) {
+			return;
+		}
+
+		long phaseStart = System.nanoTime();
+		long deadline = phaseStart + TimeUnit.MILLISECONDS.toNanos(configuration.getReadinessTimeout());
+		long delay = MIN_READINESS_DELAY;
+
+		try {
+			while (!probe.isReady(this)) {
+				long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+				if (remaining <= 0) {
+					throw new ServerNotReadyException(getUrl(), configuration.getReadinessTimeout());
+				}
+
+				Thread.sleep(Math.min(delay, remaining));
+				delay = Math.min(delay * 2, MAX_READINESS_DELAY);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			ServerStartException startEx = new ServerStartException(ex);
+			stopAfterReadinessFailure(startEx);
+			throw startEx;
+		}
+		catch (RuntimeException | Error ex) {
+			stopAfterReadinessFailure(ex);
+			throw ex;
+		}
+
+		recordStartupPhase("readiness", phaseStart);
+	}
+
+	/**
+	 * Stop the server that did not become ready: the stop failure, if any, is
+	 * added as a suppressed exception of the readiness failure.
+	 *
+	 * @param ex The readiness failure.
+	 */
+	private void stopAfterReadinessFailure(Throwable ex) {
+		startupReportBuilder = null;
+		try {
+			stop();
+		}
+		catch (RuntimeException | Error stopEx) {
+			ex.addSuppressed(stopEx);
+		}
+	}
+
+	/**
+	 * Build the startup report, once server is fully started.
+	 */
+	private void completeStartupReport() {
+		StartupReport.Builder builder = startupReportBuilder;
+		if (builder != null) {
+			startupReport = builder.build();
+			startupReportBuilder = null;
+		}
+	}
+
+	/**
+	 * Record a startup phase, ending now, in the startup report.
+	 * This method can be used by subclasses to record implementation specific phases: it does nothing
+	 * if server is not currently starting (or reloading).
+	 *
+	 * @param name The phase name.
+	 * @param phaseStart The phase start time, as returned by {@link System#nanoTime()}.
+	 */
+	protected void recordStartupPhase(String name, long phaseStart) {
+		StartupReport.Builder builder = startupReportBuilder;
+		if (builder != null) {
+			builder.record(name, phaseStart);
+		}
+	}
+
+	@Override
+	public StartupReport getStartupReport() {
+		return startupReport;
+	}
+
 	@Override
 	public String getScheme() {
 		return DEFAULT_SCHEME;
@@ -252,6 +504,16 @@ public abstract class AbstractEmbeddedServer<S, T extends AbstractConfiguration>
 	 */
 	protected abstract void doStop();
 
+	/**
+	 * Reload the web application, without stopping the server.
+	 * Default implementation stops and starts the server, subclasses should override
+	 * this method to re-create the web application only.
+	 */
+	protected void doReload() {
+		doStop();
+		doStart();
+	}
+
 	/**
 	 * Get port once server is started.
 	 *
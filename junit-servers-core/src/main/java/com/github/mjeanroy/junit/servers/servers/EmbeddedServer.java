@@ -24,6 +24,9 @@
 
 package com.github.mjeanroy.junit.servers.servers;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
 import javax.servlet.ServletContext;
 
 import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration;
@@ -60,6 +63,52 @@ public interface EmbeddedServer<T extends AbstractConfiguration> {
 	 */
 	void restart();
 
+	/**
+	 * Reload the web application deployed on embedded server: contrary to {@link #restart()}, the
+	 * server is not fully stopped (connectors remain bound to the same port), only the web
+	 * application is re-created.
+	 * If server is not started, it is simply started.
+	 */
+	void reload();
+
+	/**
+	 * Start embedded server without blocking: server is started using
+	 * a default executor (using daemon threads).
+	 *
+	 * @return The future, completed when server is fully started.
+	 * @see #start()
+	 */
+	Future<EmbeddedServer<T>> startAsync();
+
+	/**
+	 * Start embedded server without blocking: hooks and server startup are
+	 * executed using given executor.
+	 *
+	 * @param executor The executor.
+	 * @return The future, completed when server is fully started.
+	 * @see #start()
+	 */
+	Future<EmbeddedServer<T>> startAsync(Executor executor);
+
+	/**
+	 * Stop embedded server without blocking: server is stopped using
+	 * a default executor (using daemon threads).
+	 *
+	 * @return The future, completed when server is fully stopped.
+	 * @see #stop()
+	 */
+	Future<EmbeddedServer<T>> stopAsync();
+
+	/**
+	 * Stop embedded server without blocking: hooks and server shutdown are
+	 * executed using given executor.
+	 *
+	 * @param executor The executor.
+	 * @return The future, completed when server is fully stopped.
+	 * @see #stop()
+	 */
+	Future<EmbeddedServer<T>> stopAsync(Executor executor);
+
 	/**
 	 * Return server configuration.
 	 *
@@ -117,6 +166,13 @@ public interface EmbeddedServer<T extends AbstractConfiguration> {
 	 */
 	String getUrl();
 
+	/**
+	 * Get the report of the last server startup (or reload), with duration of each startup phase.
+	 *
+	 * @return The startup report, {@code null} if server has never been started.
+	 */
+	StartupReport getStartupReport();
+
 	/**
 	 * Get servlet context used within container.
 	 * If container is not a servlet container, this method should return null.
@@ -0,0 +1,66 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration;
+
+/**
+ * Factory of embedded servers, discovered at runtime with {@link java.util.ServiceLoader}: an
+ * implementation must be declared in a {@code META-INF/services/com.github.mjeanroy.junit.servers.servers.EmbeddedServerProvider}
+ * file, and must have a public no-args constructor.
+ *
+ * <p>
+ *
+ * When several providers are available, the provider with the highest priority, and supporting
+ * the configuration, is used to create embedded servers.
+ *
+ * @param <T> Type of configuration.
+ */
+public interface EmbeddedServerProvider<T extends AbstractConfiguration> {
+
+	/**
+	 * Get the configuration class supported by this provider: the provider will be used to
+	 * create servers for this configuration class, and all its subclasses.
+	 *
+	 * @return Configuration class.
+	 */
+	Class<T> getConfigurationClass();
+
+	/**
+	 * Get the provider priority: when several providers support a configuration, the provider with
+	 * the highest priority is used.
+	 *
+	 * @return The priority.
+	 */
+	int getPriority();
+
+	/**
+	 * Create a new embedded server.
+	 *
+	 * @param configuration The server configuration, {@code null} to use the default configuration.
+	 * @return The embedded server.
+	 */
+	EmbeddedServer<T> instantiate(T configuration);
+}
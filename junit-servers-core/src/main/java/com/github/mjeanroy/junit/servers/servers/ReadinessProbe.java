@@ -0,0 +1,52 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+/**
+ * Readiness check of an embedded server.
+ *
+ * <p>
+ *
+ * Returning from the container start method does not mean that the application is
+ * warm: lazily initialized contexts may make the first request take seconds. When a probe is
+ * configured (see {@link com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfigurationBuilder#withReadinessProbe(ReadinessProbe)}),
+ * the server start completes only when this probe reports that application is ready: it is
+ * polled, with backoff, until it succeeds or until the readiness timeout expires.
+ *
+ * <p>
+ *
+ * Default implementations are available in {@link ReadinessProbes}.
+ */
+public interface ReadinessProbe {
+
+	/**
+	 * Check if given server is ready to serve requests.
+	 * This method is called once the container is started, and may be called several times.
+	 *
+	 * @param server The started server.
+	 * @return {@code true} if server is ready, {@code false} otherwise.
+	 */
+	boolean isReady(EmbeddedServer<?> server);
+}
@@ -0,0 +1,187 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
+import static com.github.mjeanroy.junit.servers.commons.UrlUtils.concatenatePath;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Objects;
+
+import javax.servlet.ServletContext;
+
+import com.github.mjeanroy.junit.servers.commons.ToStringBuilder;
+
+/**
+ * Static factories for default {@link ReadinessProbe} implementations.
+ */
+public final class ReadinessProbes {
+
+	/**
+	 * The timeout, in milliseconds, of a single HTTP probe request.
+	 */
+	private static final int HTTP_TIMEOUT = 2000;
+
+	// Ensure non instantiation.
+	private ReadinessProbes() {
+	}
+
+	/**
+	 * Create a probe sending a {@code GET} request to given path (relative to the server path) and
+	 * checking that the response status is equal to {@code expectedStatus}.
+	 *
+	 * @param path The path to query, relative to the server path.
+	 * @param expectedStatus The expected response status.
+	 * @return The probe.
+	 * @throws NullPointerException If {@code path} is {@code null}.
+	 */
+	public static ReadinessProbe httpGet(String path, int expectedStatus) {
+		return new HttpGetProbe(notNull(path, "path"), expectedStatus);
+	}
+
+	/**
+	 * Create a probe checking that an attribute with given name has been registered
+	 * in the servlet context (for example, the root application context published by a
+	 * context listener).
+	 *
+	 * @param name The attribute name.
+	 * @return The probe.
+	 * @throws NullPointerException If {@code name} is {@code null}.
+	 * @throws IllegalArgumentException If {@code name} is blank.
+	 */
+	public static ReadinessProbe servletContextAttribute(String name) {
+		return new ServletContextAttributeProbe(notBlank(name, "name"));
+	}
+
+	/**
+	 * Probe sending an HTTP {@code GET} request to the started server.
+	 */
+	private static final class HttpGetProbe implements ReadinessProbe {
+		private final String path;
+		private final int expectedStatus;
+
+		private HttpGetProbe(String path, int expectedStatus) {
+			this.path = path;
+			this.expectedStatus = expectedStatus;
+		}
+
+		@Override
+		public boolean isReady(EmbeddedServer<?> server) {
+			HttpURLConnection connection = null;
+
+			try {
+				URL url = new URL(server.getScheme(), server.getHost(), server.getPort(), concatenatePath(server.getPath(), path));
+				connection = (HttpURLConnection) url.openConnection();
+				connection.setConnectTimeout(HTTP_TIMEOUT);
+				connection.setReadTimeout(HTTP_TIMEOUT);
+				connection.setInstanceFollowRedirects(false);
+				connection.setUseCaches(false);
+				return connection.getResponseCode() == expectedStatus;
+			}
+			catch (IOException ex) {
+				// Server is not able to answer yet.
+				return false;
+			}
+			finally {
+				if (connection != null) {
+					connection.disconnect();
+				}
+			}
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+
+			if (o instanceof HttpGetProbe) {
+				HttpGetProbe p = (HttpGetProbe) o;
+				return Objects.equals(path, p.path) && expectedStatus == p.expectedStatus;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(path, expectedStatus);
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.create(getClass())
+				.append("path", path)
+				.append("expectedStatus", expectedStatus)
+				.build();
+		}
+	}
+
+	/**
+	 * Probe checking the presence of a servlet context attribute.
+	 */
+	private static final class ServletContextAttributeProbe implements ReadinessProbe {
+		private final String name;
+
+		private ServletContextAttributeProbe(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public boolean isReady(EmbeddedServer<?> server) {
+			ServletContext servletContext = server.getServletContext();
+			return servletContext != null && servletContext.getAttribute(name) != null;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+
+			if (o instanceof ServletContextAttributeProbe) {
+				ServletContextAttributeProbe p = (ServletContextAttributeProbe) o;
+				return Objects.equals(name, p.name);
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(name);
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.create(getClass())
+				.append("name", name)
+				.build();
+		}
+	}
+}
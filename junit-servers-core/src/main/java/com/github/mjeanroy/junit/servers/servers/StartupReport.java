@@ -0,0 +1,362 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.github.mjeanroy.junit.servers.commons.ToStringBuilder;
+
+/**
+ * Report of an embedded server startup: each startup phase (environment initialization, hooks,
+ * server startup and implementation specific phases) is recorded with its duration, in nanoseconds.
+ *
+ * <p>
+ *
+ * Phases can be nested (for example, implementation specific phases are executed during the server
+ * startup phase): each phase is recorded with its start offset, relative to the beginning of the
+ * startup, so that nested phases can be identified. Phases are ordered by completion.
+ */
+public final class StartupReport {
+
+	/**
+	 * The server name (i.e the simple name of the server implementation).
+	 */
+	private final String server;
+
+	/**
+	 * The total startup duration, in nanoseconds.
+	 */
+	private final long duration;
+
+	/**
+	 * The recorded phases, ordered by completion.
+	 */
+	private final List<Phase> phases;
+
+	/**
+	 * Create report.
+	 *
+	 * @param server The server name.
+	 * @param duration The total startup duration, in nanoseconds.
+	 * @param phases The recorded phases.
+	 */
+	private StartupReport(String server, long duration, List<Phase> phases) {
+		this.server = server;
+		this.duration = duration;
+		this.phases = unmodifiableList(new ArrayList<>(phases));
+	}
+
+	/**
+	 * Get {@link #server}
+	 *
+	 * @return {@link #server}
+	 */
+	public String getServer() {
+		return server;
+	}
+
+	/**
+	 * Get {@link #duration}
+	 *
+	 * @return {@link #duration}
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Get the total startup duration, in milliseconds.
+	 *
+	 * @return Startup duration, in milliseconds.
+	 */
+	public long getDurationInMillis() {
+		return duration / 1000000;
+	}
+
+	/**
+	 * Get {@link #phases}
+	 *
+	 * @return {@link #phases}
+	 */
+	public List<Phase> getPhases() {
+		return phases;
+	}
+
+	/**
+	 * Find the first phase with given name.
+	 *
+	 * @param name The phase name.
+	 * @return The phase, {@code null} if it has not been recorded.
+	 */
+	public Phase findPhase(String name) {
+		for (Phase phase : phases) {
+			if (phase.getName().equals(name)) {
+				return phase;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Serialize report to JSON.
+	 *
+	 * @return JSON representation of the report.
+	 */
+	public String toJson() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("{");
+		sb.append("\"server\":").append(quote(server)).append(",");
+		sb.append("\"duration\":").append(duration).append(",");
+		sb.append("\"phases\":[");
+
+		for (int i = 0; i < phases.size(); i++) {
+			if (i > 0) {
+				sb.append(",");
+			}
+
+			Phase phase = phases.get(i);
+			sb.append("{");
+			sb.append("\"name\":").append(quote(phase.getName())).append(",");
+			sb.append("\"offset\":").append(phase.getOffset()).append(",");
+			sb.append("\"duration\":").append(phase.getDuration());
+			sb.append("}");
+		}
+
+		sb.append("]}");
+		return sb.toString();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof StartupReport) {
+			StartupReport r = (StartupReport) o;
+			return Objects.equals(server, r.server)
+					&& duration == r.duration
+					&& Objects.equals(phases, r.phases);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(server, duration, phases);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("server", server)
+			.append("duration", duration)
+			.append("phases", phases)
+			.build();
+	}
+
+	/**
+	 * Quote given value as a JSON string.
+	 *
+	 * @param value The value.
+	 * @return The JSON string.
+	 */
+	private static String quote(String value) {
+		StringBuilder sb = new StringBuilder(value.length() + 2);
+		sb.append('"');
+
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				sb.append('\\').append(c);
+			} else if (c < 0x20) {
+				sb.append(String.format("\\u%04x", (int) c));
+			} else {
+				sb.append(c);
+			}
+		}
+
+		sb.append('"');
+		return sb.toString();
+	}
+
+	/**
+	 * A startup phase.
+	 */
+	public static final class Phase {
+
+		/**
+		 * The phase name.
+		 */
+		private final String name;
+
+		/**
+		 * The phase start offset, relative to the beginning of the startup, in nanoseconds.
+		 */
+		private final long offset;
+
+		/**
+		 * The phase duration, in nanoseconds.
+		 */
+		private final long duration;
+
+		/**
+		 * Create phase.
+		 *
+		 * @param name The phase name.
+		 * @param offset The phase start offset, in nanoseconds.
+		 * @param duration The phase duration, in nanoseconds.
+		 */
+		private Phase(String name, long offset, long duration) {
+			this.name = name;
+			this.offset = offset;
+			this.duration = duration;
+		}
+
+		/**
+		 * Get {@link #name}
+		 *
+		 * @return {@link #name}
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Get {@link #offset}
+		 *
+		 * @return {@link #offset}
+		 */
+		public long getOffset() {
+			return offset;
+		}
+
+		/**
+		 * Get {@link #duration}
+		 *
+		 * @return {@link #duration}
+		 */
+		public long getDuration() {
+			return duration;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+
+			if (o instanceof Phase) {
+				Phase p = (Phase) o;
+				return Objects.equals(name, p.name)
+						&& offset == p.offset
+						&& duration == p.duration;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(name, offset, duration);
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.create(getClass())
+				.append("name", name)
+				.append("offset", offset)
+				.append("duration", duration)
+				.build();
+		}
+	}
+
+	/**
+	 * Builder used to record phases during server startup.
+	 * Phases may be recorded from several threads.
+	 *
+	 * <p>
+	 *
+	 * <strong>Internal API</strong>: this builder is part of the internal API and may be removed, have its signature change,
+	 * or have its access level decreased from public to protected, package, or private in future versions without notice.
+	 */
+	public static final class Builder {
+
+		/**
+		 * The server name.
+		 */
+		private final String server;
+
+		/**
+		 * The startup start time, in nanoseconds.
+		 */
+		private final long start;
+
+		/**
+		 * The recorded phases.
+		 */
+		private final List<Phase> phases;
+
+		/**
+		 * Create builder, the startup start time is the current time.
+		 *
+		 * @param server The server name.
+		 */
+		public Builder(String server) {
+			this.server = notNull(server, "server");
+			this.start = System.nanoTime();
+			this.phases = new ArrayList<>();
+		}
+
+		/**
+		 * Record a phase, ending now.
+		 *
+		 * @param name The phase name.
+		 * @param phaseStart The phase start time, as returned by {@link System#nanoTime()}.
+		 * @return The builder.
+		 */
+		public synchronized Builder record(String name, long phaseStart) {
+			long end = System.nanoTime();
+			phases.add(new Phase(notNull(name, "name"), phaseStart - start, end - phaseStart));
+			return this;
+		}
+
+		/**
+		 * Create the report, ending now.
+		 *
+		 * @return The report.
+		 */
+		public synchronized StartupReport build() {
+			return new StartupReport(server, System.nanoTime() - start, phases);
+		}
+	}
+}
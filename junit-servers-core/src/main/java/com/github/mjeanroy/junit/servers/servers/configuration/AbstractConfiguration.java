@@ -36,6 +36,7 @@ import java.util.Objects;
 
 import com.github.mjeanroy.junit.servers.commons.ToStringBuilder;
 import com.github.mjeanroy.junit.servers.servers.Hook;
+import com.github.mjeanroy.junit.servers.servers.ReadinessProbe;
 
 /**
  * Generic configuration that should be extended for
@@ -118,6 +119,20 @@ public abstract class AbstractConfiguration {
 	 */
 	private final String overrideDescriptor;
 
+	/**
+	 * Readiness probe, may be {@code null}.
+	 *
+	 * When set, server start completes only when this probe reports that
+	 * application is ready (or fails after {@link #readinessTimeout}).
+	 */
+	private final ReadinessProbe readinessProbe;
+
+	/**
+	 * The maximum time, in milliseconds, to wait for {@link #readinessProbe} to
+	 * succeed once server is started.
+	 */
+	private final long readinessTimeout;
+
 	/**
 	 * Initialize configuration.
 	 *
@@ -132,6 +147,8 @@ public abstract class AbstractConfiguration {
 		this.hooks = builder.getHooks();
 		this.parentClasspath = builder.getParentClasspath();
 		this.overrideDescriptor = builder.getOverrideDescriptor();
+		this.readinessProbe = builder.getReadinessProbe();
+		this.readinessTimeout = builder.getReadinessTimeout();
 	}
 
 	/**
@@ -188,6 +205,24 @@ public abstract class AbstractConfiguration {
 		return overrideDescriptor ;
 	}
 
+	/**
+	 * Get {@link #readinessProbe}.
+	 *
+	 * @return {@link #readinessProbe}, may be {@code null}.
+	 */
+	public ReadinessProbe getReadinessProbe() {
+		return readinessProbe;
+	}
+
+	/**
+	 * Get {@link #readinessTimeout}.
+	 *
+	 * @return {@link #readinessTimeout}
+	 */
+	public long getReadinessTimeout() {
+		return readinessTimeout;
+	}
+
 	/**
 	 * Get {@link #envProperties} as a non-modifiable map.
 	 *
@@ -222,7 +257,9 @@ public abstract class AbstractConfiguration {
 					Objects.equals(envProperties, c.envProperties) &&
 					Objects.equals(hooks, c.hooks) &&
 					Objects.equals(overrideDescriptor, c.overrideDescriptor) &&
-					Objects.equals(parentClasspath, c.parentClasspath);
+					Objects.equals(parentClasspath, c.parentClasspath) &&
+					Objects.equals(readinessProbe, c.readinessProbe) &&
+					Objects.equals(readinessTimeout, c.readinessTimeout);
 		}
 
 		return false;
@@ -240,7 +277,7 @@ public abstract class AbstractConfiguration {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(port, path, webapp, classpath, envProperties, hooks, overrideDescriptor, parentClasspath);
+		return Objects.hash(port, path, webapp, classpath, envProperties, hooks, overrideDescriptor, parentClasspath, readinessProbe, readinessTimeout);
 	}
 
 	@Override
@@ -252,6 +289,8 @@ public abstract class AbstractConfiguration {
 			.append("classpath", classpath)
 			.append("overrideDescriptor", overrideDescriptor)
 			.append("parentClasspath", parentClasspath)
+			.append("readinessProbe", readinessProbe)
+			.append("readinessTimeout", readinessTimeout)
 			.build();
 	}
 }
@@ -25,6 +25,7 @@
 package com.github.mjeanroy.junit.servers.servers.configuration;
 
 import com.github.mjeanroy.junit.servers.servers.Hook;
+import com.github.mjeanroy.junit.servers.servers.ReadinessProbe;
 
 import java.io.File;
 import java.io.FileFilter;
@@ -72,6 +73,11 @@ public abstract class AbstractConfigurationBuilder<T extends AbstractConfigurati
 	 */
 	private static final int DEFAULT_PORT = 0;
 
+	/**
+	 * The default readiness timeout, in milliseconds.
+	 */
+	private static final long DEFAULT_READINESS_TIMEOUT = 30000L;
+
 	/**
 	 * Path value.
 	 *
@@ -126,6 +132,20 @@ public abstract class AbstractConfigurationBuilder<T extends AbstractConfigurati
 	 */
 	private String overrideDescriptor;
 
+	/**
+	 * Readiness probe.
+	 *
+	 * @see com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration#readinessProbe
+	 */
+	private ReadinessProbe readinessProbe;
+
+	/**
+	 * Readiness timeout, in milliseconds.
+	 *
+	 * @see com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration#readinessTimeout
+	 */
+	private long readinessTimeout;
+
 	/**
 	 * Build default configuration.
 	 */
@@ -137,6 +157,7 @@ public abstract class AbstractConfigurationBuilder<T extends AbstractConfigurati
 		this.envProperties = new HashMap<>();
 		this.hooks = new LinkedList<>();
 		this.parentClasspath = Collections.emptyList();
+		this.readinessTimeout = DEFAULT_READINESS_TIMEOUT;
 	}
 
 	protected abstract T self();
@@ -215,6 +236,24 @@ public abstract class AbstractConfigurationBuilder<T extends AbstractConfigurati
 		return overrideDescriptor;
 	}
 
+	/**
+	 * Get current {@link #readinessProbe}.
+	 *
+	 * @return {@link #readinessProbe}.
+	 */
+	public ReadinessProbe getReadinessProbe() {
+		return readinessProbe;
+	}
+
+	/**
+	 * Get current {@link #readinessTimeout}.
+	 *
+	 * @return {@link #readinessTimeout}.
+	 */
+	public long getReadinessTimeout() {
+		return readinessTimeout;
+	}
+
 	/**
 	 * Change {@link #path} value.
 	 *
@@ -378,4 +417,30 @@ public abstract class AbstractConfigurationBuilder<T extends AbstractConfigurati
 		this.overrideDescriptor = overrideDescriptor;
 		return self();
 	}
+
+	/**
+	 * Change {@link #readinessProbe} value: server start will complete only when this
+	 * probe reports that application is ready.
+	 *
+	 * @param readinessProbe New {@link #readinessProbe} value.
+	 * @return this
+	 * @throws NullPointerException If {@code readinessProbe} is {@code null}.
+	 * @see com.github.mjeanroy.junit.servers.servers.ReadinessProbes
+	 */
+	public T withReadinessProbe(ReadinessProbe readinessProbe) {
+		this.readinessProbe = notNull(readinessProbe, "readinessProbe");
+		return self();
+	}
+
+	/**
+	 * Change {@link #readinessTimeout} value.
+	 *
+	 * @param readinessTimeout New {@link #readinessTimeout} value, in milliseconds.
+	 * @return this
+	 * @throws IllegalArgumentException If {@code readinessTimeout} is strictly lower than zero.
+	 */
+	public T withReadinessTimeout(long readinessTimeout) {
+		this.readinessTimeout = positive(readinessTimeout, "readinessTimeout");
+		return self();
+	}
 }
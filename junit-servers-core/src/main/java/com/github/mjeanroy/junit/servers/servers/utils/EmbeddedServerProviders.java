@@ -0,0 +1,185 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.github.mjeanroy.junit.servers.exceptions.ServerImplMissingException;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServerProvider;
+import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration;
+
+/**
+ * Registry of {@link EmbeddedServerProvider}: providers are sorted by priority, and the provider
+ * used for each configuration class is resolved once, then cached.
+ */
+final class EmbeddedServerProviders {
+
+	/**
+	 * Get providers available on the classpath, discovered (once) with {@link ServiceLoader}.
+	 *
+	 * @return The providers.
+	 */
+	static EmbeddedServerProviders defaultProviders() {
+		return DefaultProvidersHolder.PROVIDERS;
+	}
+
+	/**
+	 * The providers, sorted by priority (highest first).
+	 */
+	private final List<EmbeddedServerProvider<?>> providers;
+
+	/**
+	 * The provider to use for each configuration class.
+	 */
+	private final ConcurrentMap<Class<?>, EmbeddedServerProvider<?>> cache;
+
+	/**
+	 * Create registry.
+	 *
+	 * @param providers The providers.
+	 */
+	EmbeddedServerProviders(Iterable<? extends EmbeddedServerProvider<?>> providers) {
+		List<EmbeddedServerProvider<?>> list = new ArrayList<>();
+		for (EmbeddedServerProvider<?> provider : providers) {
+			list.add(provider);
+		}
+
+		// Sort is stable: providers with the same priority keep the discovery order.
+		Collections.sort(list, new Comparator<EmbeddedServerProvider<?>>() {
+			@Override
+			public int compare(EmbeddedServerProvider<?> p1, EmbeddedServerProvider<?> p2) {
+				return Integer.compare(p2.getPriority(), p1.getPriority());
+			}
+		});
+
+		this.providers = Collections.unmodifiableList(list);
+		this.cache = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Get the providers, sorted by priority (highest first).
+	 *
+	 * @return The providers.
+	 */
+	List<EmbeddedServerProvider<?>> getProviders() {
+		return providers;
+	}
+
+	/**
+	 * Instantiate one embedded server per provider: each provider uses the first configuration
+	 * it supports, or its default configuration if none of the given configurations is supported.
+	 *
+	 * @param configurations The available configurations.
+	 * @return The embedded servers, ordered by provider priority.
+	 * @throws ServerImplMissingException If no provider is available.
+	 */
+	@SuppressWarnings("unchecked")
+	List<EmbeddedServer<?>> instantiateAll(List<? extends AbstractConfiguration> configurations) {
+		if (providers.isEmpty()) {
+			throw new ServerImplMissingException();
+		}
+
+		List<EmbeddedServer<?>> servers = new ArrayList<>(providers.size());
+		for (EmbeddedServerProvider<?> provider : providers) {
+			AbstractConfiguration configuration = null;
+			for (AbstractConfiguration candidate : configurations) {
+				if (provider.getConfigurationClass().isInstance(candidate)) {
+					configuration = candidate;
+					break;
+				}
+			}
+
+			servers.add(((EmbeddedServerProvider<AbstractConfiguration>) provider).instantiate(configuration));
+		}
+
+		return servers;
+	}
+
+	/**
+	 * Instantiate embedded server with given configuration.
+	 *
+	 * @param configuration The configuration, may be {@code null} to use the highest priority provider with its default configuration.
+	 * @return The embedded server.
+	 * @throws ServerImplMissingException If no provider supports given configuration.
+	 */
+	@SuppressWarnings("unchecked")
+	EmbeddedServer<?> instantiate(AbstractConfiguration configuration) {
+		EmbeddedServerProvider<AbstractConfiguration> provider = (EmbeddedServerProvider<AbstractConfiguration>) findProvider(configuration);
+		return provider.instantiate(configuration);
+	}
+
+	private EmbeddedServerProvider<?> findProvider(AbstractConfiguration configuration) {
+		if (configuration == null) {
+			if (providers.isEmpty()) {
+				throw new ServerImplMissingException();
+			}
+
+			return providers.get(0);
+		}
+
+		Class<?> configurationClass = configuration.getClass();
+		EmbeddedServerProvider<?> provider = cache.get(configurationClass);
+		if (provider == null) {
+			provider = resolveProvider(configurationClass);
+			cache.putIfAbsent(configurationClass, provider);
+		}
+
+		return provider;
+	}
+
+	private EmbeddedServerProvider<?> resolveProvider(Class<?> configurationClass) {
+		for (EmbeddedServerProvider<?> provider : providers) {
+			if (provider.getConfigurationClass().isAssignableFrom(configurationClass)) {
+				return provider;
+			}
+		}
+
+		throw new ServerImplMissingException();
+	}
+
+	/**
+	 * Holder of default providers, discovered on demand.
+	 */
+	private static final class DefaultProvidersHolder {
+		private static final EmbeddedServerProviders PROVIDERS = new EmbeddedServerProviders(loadProviders());
+
+		@SuppressWarnings("rawtypes")
+		private static List<EmbeddedServerProvider<?>> loadProviders() {
+			ClassLoader classLoader = EmbeddedServerProvider.class.getClassLoader();
+			List<EmbeddedServerProvider<?>> providers = new ArrayList<>();
+			for (EmbeddedServerProvider provider : ServiceLoader.load(EmbeddedServerProvider.class, classLoader)) {
+				providers.add(provider);
+			}
+			return providers;
+		}
+	}
+}
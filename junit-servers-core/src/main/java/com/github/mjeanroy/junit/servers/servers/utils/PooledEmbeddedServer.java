@@ -0,0 +1,196 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers.utils;
+
+import static com.github.mjeanroy.junit.servers.commons.ConcurrentUtils.defaultExecutor;
+import static com.github.mjeanroy.junit.servers.commons.ConcurrentUtils.submit;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import javax.servlet.ServletContext;
+
+import com.github.mjeanroy.junit.servers.commons.ToStringBuilder;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.StartupReport;
+import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration;
+
+/**
+ * Handle on an embedded server managed by a {@link ServerPool}.
+ *
+ * <p>
+ *
+ * Starting this handle acquires the shared server, stopping this handle releases it: the
+ * shared server is really stopped by the pool once it is not used anymore.
+ */
+final class PooledEmbeddedServer implements EmbeddedServer<AbstractConfiguration> {
+
+	/**
+	 * The pool managing the shared server.
+	 */
+	private final ServerPool pool;
+
+	/**
+	 * The pool entry.
+	 */
+	private final ServerPool.Entry entry;
+
+	/**
+	 * Flag set to {@code true} when this handle has acquired the shared server.
+	 */
+	private boolean acquired;
+
+	/**
+	 * Create handle.
+	 *
+	 * @param pool The pool.
+	 * @param entry The pool entry.
+	 */
+	PooledEmbeddedServer(ServerPool pool, ServerPool.Entry entry) {
+		this.pool = pool;
+		this.entry = entry;
+		this.acquired = false;
+	}
+
+	@Override
+	public synchronized void start() {
+		if (!acquired) {
+			pool.acquire(entry);
+			acquired = true;
+		}
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (acquired) {
+			acquired = false;
+			pool.release(entry);
+		}
+	}
+
+	@Override
+	public Future<EmbeddedServer<AbstractConfiguration>> startAsync() {
+		return startAsync(defaultExecutor());
+	}
+
+	@Override
+	public Future<EmbeddedServer<AbstractConfiguration>> startAsync(Executor executor) {
+		return submit(executor, new Callable<EmbeddedServer<AbstractConfiguration>>() {
+			@Override
+			public EmbeddedServer<AbstractConfiguration> call() {
+				start();
+				return PooledEmbeddedServer.this;
+			}
+		});
+	}
+
+	@Override
+	public Future<EmbeddedServer<AbstractConfiguration>> stopAsync() {
+		return stopAsync(defaultExecutor());
+	}
+
+	@Override
+	public Future<EmbeddedServer<AbstractConfiguration>> stopAsync(Executor executor) {
+		return submit(executor, new Callable<EmbeddedServer<AbstractConfiguration>>() {
+			@Override
+			public EmbeddedServer<AbstractConfiguration> call() {
+				stop();
+				return PooledEmbeddedServer.this;
+			}
+		});
+	}
+
+	/**
+	 * Restart the shared server: note that this will also restart
+	 * the server for all other users.
+	 */
+	@Override
+	public void restart() {
+		entry.server.restart();
+	}
+
+	/**
+	 * Reload the shared server: note that this will also reload
+	 * the web application for all other users.
+	 */
+	@Override
+	public void reload() {
+		entry.server.reload();
+	}
+
+	@Override
+	public AbstractConfiguration getConfiguration() {
+		return entry.server.getConfiguration();
+	}
+
+	@Override
+	public synchronized boolean isStarted() {
+		return acquired && entry.server.isStarted();
+	}
+
+	@Override
+	public String getScheme() {
+		return entry.server.getScheme();
+	}
+
+	@Override
+	public String getHost() {
+		return entry.server.getHost();
+	}
+
+	@Override
+	public int getPort() {
+		return entry.server.getPort();
+	}
+
+	@Override
+	public String getPath() {
+		return entry.server.getPath();
+	}
+
+	@Override
+	public String getUrl() {
+		return entry.server.getUrl();
+	}
+
+	@Override
+	public StartupReport getStartupReport() {
+		return entry.server.getStartupReport();
+	}
+
+	@Override
+	public ServletContext getServletContext() {
+		return entry.server.getServletContext();
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("server", entry.server)
+			.append("acquired", acquired)
+			.build();
+	}
+}
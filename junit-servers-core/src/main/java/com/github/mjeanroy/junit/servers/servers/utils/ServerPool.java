@@ -0,0 +1,403 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers.utils;
+
+import static com.github.mjeanroy.junit.servers.commons.ConcurrentUtils.daemonThreadFactory;
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.positive;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.github.mjeanroy.junit.servers.commons.Mapper;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration;
+
+/**
+ * Pool of embedded servers, shared in the whole JVM.
+ *
+ * <p>
+ *
+ * This pool hands out one embedded server per distinct configuration: two configurations
+ * that are equal (see {@link AbstractConfiguration#equals(Object)}) will share the same
+ * embedded server. Each call to {@link #get(AbstractConfiguration)} returns a new handle: starting
+ * the handle acquires the shared server (and starts it if needed), stopping the handle releases it.
+ *
+ * <p>
+ *
+ * Once a server is not used anymore, it is stopped after a grace period (so that next test class
+ * can reuse it without paying a new startup). All servers are stopped when the JVM shuts down, or
+ * when {@link #shutdown()} is called.
+ *
+ * <p>
+ *
+ * Note that configurations must implement {@code equals} and {@code hashCode} consistently: for example,
+ * a configuration using a hook that does not implement {@code equals} will never be shared.
+ *
+ * <p>
+ *
+ * Here is an example:
+ *
+ * <pre><code>
+ *   public class Test {
+ *     &#064;ClassRule
+ *     public static ServerRule serverRule = new ServerRule(ServerPool.defaultServerPool().get(configuration));
+ *   }
+ * </code></pre>
+ *
+ * @see com.github.mjeanroy.junit.servers.annotations.SharedServer
+ */
+public final class ServerPool {
+
+	/**
+	 * The default grace period (in milliseconds) before stopping idle servers.
+	 */
+	public static final long DEFAULT_GRACE_PERIOD = 10000L;
+
+	/**
+	 * The default pool, created on demand.
+	 */
+	private static volatile ServerPool defaultServerPool;
+
+	/**
+	 * Lock used to create {@link #defaultServerPool}.
+	 */
+	private static final Object lock = new Object();
+
+	/**
+	 * Get the default server pool, shared in the whole JVM.
+	 *
+	 * @return The default server pool.
+	 */
+	public static ServerPool defaultServerPool() {
+		if (defaultServerPool == null) {
+			synchronized (lock) {
+				if (defaultServerPool == null) {
+					defaultServerPool = newServerPool(DEFAULT_GRACE_PERIOD);
+				}
+			}
+		}
+
+		return defaultServerPool;
+	}
+
+	/**
+	 * Create new server pool.
+	 *
+	 * @param gracePeriod The grace period (in milliseconds) before stopping idle servers.
+	 * @return The server pool.
+	 * @throws IllegalArgumentException If {@code gracePeriod} is negative.
+	 */
+	public static ServerPool newServerPool(long gracePeriod) {
+		return new ServerPool(gracePeriod, new Mapper<AbstractConfiguration, EmbeddedServer<?>>() {
+			@Override
+			public EmbeddedServer<?> apply(AbstractConfiguration configuration) {
+				return Servers.instantiate(configuration);
+			}
+		});
+	}
+
+	/**
+	 * The grace period (in milliseconds) before stopping idle servers.
+	 */
+	private final long gracePeriod;
+
+	/**
+	 * The factory used to create new embedded server from a given configuration.
+	 */
+	private final Mapper<AbstractConfiguration, EmbeddedServer<?>> factory;
+
+	/**
+	 * The pooled servers, indexed by configuration.
+	 */
+	private final Map<AbstractConfiguration, Entry> entries;
+
+	/**
+	 * The default configuration of the detected implementation, used as the key when
+	 * no configuration is given: computed once, on demand.
+	 */
+	private volatile AbstractConfiguration defaultConfiguration;
+
+	/**
+	 * The shutdown hook stopping servers when the JVM shuts down, registered when a server
+	 * is acquired and removed by {@link #shutdown()}: {@code null} if not registered.
+	 */
+	private Thread shutdownHook;
+
+	/**
+	 * Lock used to register or remove {@link #shutdownHook}.
+	 */
+	private final Object hookLock;
+
+	/**
+	 * Create the pool.
+	 *
+	 * @param gracePeriod The grace period (in milliseconds) before stopping idle servers.
+	 * @param factory The factory used to create new embedded server.
+	 */
+	ServerPool(long gracePeriod, Mapper<AbstractConfiguration, EmbeddedServer<?>> factory) {
+		this.gracePeriod = positive(gracePeriod, "gracePeriod");
+		this.factory = notNull(factory, "factory");
+		this.entries = new ConcurrentHashMap<>();
+		this.hookLock = new Object();
+	}
+
+	/**
+	 * Get a handle on the shared embedded server using given configuration.
+	 *
+	 * <p>
+	 *
+	 * The configuration is optional, if it is {@code null} the default configuration
+	 * of the detected implementation is used.
+	 *
+	 * @param configuration The configuration, may be {@code null}.
+	 * @return The embedded server handle.
+	 */
+	public EmbeddedServer<?> get(AbstractConfiguration configuration) {
+		return new PooledEmbeddedServer(this, entry(configuration));
+	}
+
+	/**
+	 * Get a handle on the shared embedded server using configuration defined on given class.
+	 *
+	 * @param klass The test class.
+	 * @return The embedded server handle.
+	 * @see Servers#instantiate(Class)
+	 */
+	public EmbeddedServer<?> get(Class<?> klass) {
+		return get(Servers.findConfiguration(klass));
+	}
+
+	/**
+	 * Stop all servers in the pool and remove the JVM shutdown hook.
+	 * Servers stopped this way can still be started again if they are acquired later.
+	 */
+	public void shutdown() {
+		synchronized (hookLock) {
+			if (shutdownHook != null) {
+				Runtime.getRuntime().removeShutdownHook(shutdownHook);
+				shutdownHook = null;
+			}
+		}
+
+		stopAll();
+	}
+
+	/**
+	 * Stop all servers in the pool.
+	 */
+	private void stopAll() {
+		for (Entry entry : new ArrayList<>(entries.values())) {
+			synchronized (entry) {
+				entry.cancelStop();
+				entry.server.stop();
+			}
+		}
+	}
+
+	/**
+	 * Get the number of distinct servers currently managed by this pool.
+	 *
+	 * @return Number of servers.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Acquire the server managed by given entry: the server is started if needed.
+	 *
+	 * @param entry The entry.
+	 */
+	void acquire(Entry entry) {
+		registerShutdownHook();
+
+		synchronized (entry) {
+			entry.cancelStop();
+			entry.users++;
+			try {
+				entry.server.start();
+			}
+			catch (RuntimeException | Error ex) {
+				entry.users--;
+				throw ex;
+			}
+		}
+	}
+
+	/**
+	 * Release the server managed by given entry: the server is stopped after the grace period
+	 * if it is not used anymore.
+	 *
+	 * @param entry The entry.
+	 */
+	void release(final Entry entry) {
+		synchronized (entry) {
+			entry.users--;
+			if (entry.users > 0) {
+				return;
+			}
+
+			if (gracePeriod == 0) {
+				entry.server.stop();
+				return;
+			}
+
+			entry.stopTask = ExecutorHolder.EXECUTOR.schedule(new Runnable() {
+				@Override
+				public void run() {
+					synchronized (entry) {
+						if (entry.users == 0) {
+							entry.stopTask = null;
+							entry.server.stop();
+						}
+					}
+				}
+			}, gracePeriod, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Find (or create) the entry for given configuration.
+	 *
+	 * @param configuration The configuration, may be {@code null}.
+	 * @return The entry.
+	 */
+	private Entry entry(AbstractConfiguration configuration) {
+		AbstractConfiguration key = configuration == null ? defaultConfiguration : configuration;
+		if (key != null) {
+			Entry entry = entries.get(key);
+			if (entry != null) {
+				return entry;
+			}
+		}
+
+		synchronized (entries) {
+			EmbeddedServer<?> server = null;
+
+			if (key == null) {
+				// Use the default configuration of the implementation: the server created to
+				// read it is kept as the pooled server, and the configuration is cached.
+				server = factory.apply(null);
+				key = server.getConfiguration();
+				defaultConfiguration = key;
+			}
+
+			Entry entry = entries.get(key);
+			if (entry == null) {
+				entry = new Entry(server == null ? factory.apply(key) : server);
+				entries.put(key, entry);
+			}
+
+			return entry;
+		}
+	}
+
+	/**
+	 * Register the shutdown hook stopping all servers when the JVM shuts down, if it is
+	 * not already registered.
+	 */
+	private void registerShutdownHook() {
+		synchronized (hookLock) {
+			if (shutdownHook == null) {
+				shutdownHook = new Thread(new Runnable() {
+					@Override
+					public void run() {
+						stopAll();
+					}
+				}, "junit-servers-pool-shutdown");
+
+				Runtime.getRuntime().addShutdownHook(shutdownHook);
+			}
+		}
+	}
+
+	/**
+	 * Holder of the executor used to stop idle servers, created on demand and shared by all pools.
+	 * The thread is a daemon thread, so that it does not prevent the JVM from exiting.
+	 */
+	private static final class ExecutorHolder {
+		private static final ScheduledExecutorService EXECUTOR = newExecutor();
+
+		/**
+		 * Create the executor used to stop idle servers.
+		 *
+		 * @return The executor.
+		 */
+		private static ScheduledExecutorService newExecutor() {
+			ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, daemonThreadFactory("junit-servers-pool"));
+
+			executor.setRemoveOnCancelPolicy(true);
+			return executor;
+		}
+	}
+
+	/**
+	 * A pooled server, with its number of users.
+	 * Each entry is guarded by its own monitor, so that different servers can be started in parallel.
+	 */
+	static final class Entry {
+
+		/**
+		 * The shared server.
+		 */
+		final EmbeddedServer<?> server;
+
+		/**
+		 * The number of users currently using the server.
+		 */
+		int users;
+
+		/**
+		 * The pending task that will stop the server, may be {@code null}.
+		 */
+		ScheduledFuture<?> stopTask;
+
+		/**
+		 * Create entry.
+		 *
+		 * @param server The shared server.
+		 */
+		private Entry(EmbeddedServer<?> server) {
+			this.server = server;
+			this.users = 0;
+		}
+
+		/**
+		 * Cancel pending stop task, if any.
+		 */
+		private void cancelStop() {
+			if (stopTask != null) {
+				stopTask.cancel(false);
+				stopTask = null;
+			}
+		}
+	}
+}
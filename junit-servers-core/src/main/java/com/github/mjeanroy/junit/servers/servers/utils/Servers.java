@@ -29,10 +29,9 @@ import static com.github.mjeanroy.junit.servers.commons.ReflectionUtils.findStat
 import static com.github.mjeanroy.junit.servers.commons.ReflectionUtils.getter;
 import static com.github.mjeanroy.junit.servers.commons.ReflectionUtils.invoke;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.github.mjeanroy.junit.servers.annotations.TestServerConfiguration;
@@ -46,16 +45,6 @@ import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfigura
  */
 public final class Servers {
 
-	/**
-	 * This is the FQN name for the embedded jetty class name that will be instantiated by reflection.
-	 */
-	private static final String EMBEDDED_JETTY_CLASS = "com.github.mjeanroy.junit.servers.jetty.EmbeddedJetty";
-
-	/**
-	 * This is the FQN name for the embedded tomcat class name that will be instantiated by reflection.
-	 */
-	private static final String EMBEDDED_TOMCAT_CLASS = "com.github.mjeanroy.junit.servers.tomcat.EmbeddedTomcat";
-
 	// Ensure non instantiation
 	private Servers() {
 	}
@@ -88,102 +77,66 @@ public final class Servers {
 	 * <p>
 	 *
 	 * Configuration is an optional parameter and can be null.
-	 * If configuration is null, empty constructor will be used to instantiate
-	 * embedded server.
-	 * Otherwise, constructor with one parameter (configuration) will
-	 * be used.
+	 * If configuration is null, the implementation with the highest priority
+	 * is instantiated with its default configuration.
+	 * Otherwise, the implementation with the highest priority supporting
+	 * this configuration is used.
 	 *
 	 * <p>
 	 *
 	 * Server implementation is automatically detected (jetty or
-	 * tomcat) with classpath detection.
+	 * tomcat) with classpath detection: each implementation is declared as an
+	 * {@link com.github.mjeanroy.junit.servers.servers.EmbeddedServerProvider}, discovered
+	 * with {@link java.util.ServiceLoader}.
 	 *
 	 * @param configuration Optional configuration.
 	 * @return Embedded server.
+	 * @throws ServerImplMissingException If no implementation supports given configuration.
 	 */
 	public static EmbeddedServer<?> instantiate(AbstractConfiguration configuration) {
-		// Try Jetty first.
-		EmbeddedServer<? extends AbstractConfiguration> jetty = newJetty(configuration);
-		if (jetty != null) {
-			return jetty;
-		}
-
-		// Ok, jetty is not available, try tomcat.
-		EmbeddedServer<? extends AbstractConfiguration> tomcat = newTomcat(configuration);
-		if (tomcat != null) {
-			return tomcat;
-		}
-
-		// Can't find a valid implementation.
-		throw new ServerImplMissingException();
+		return EmbeddedServerProviders.defaultProviders().instantiate(configuration);
 	}
 
 	/**
-	 * Instantiate jetty embedded server.
+	 * Instantiate one embedded server for each available implementation (for example, jetty
+	 * and tomcat if both are available on the classpath).
 	 *
 	 * <p>
 	 *
-	 * Configuration is an optional parameter and can be {@code null}:
-	 * <ul>
-	 *   <li>If {@code configuration} is {@code null}, empty constructor will be used to instantiate embedded server.</li>
-	 *   <li> Otherwise, constructor with one parameter (configuration) will be used.</li>
-	 * </ul>
+	 * Configurations are read on all static fields / methods available on given class and annotated
+	 * with {@link com.github.mjeanroy.junit.servers.annotations.TestServerConfiguration}: each server uses
+	 * the configuration matching its implementation, or its default configuration.
 	 *
-	 * @param configuration Optional configuration.
-	 * @return Embedded server.
+	 * @param klass Class to inspect.
+	 * @return Embedded servers.
+	 * @throws ServerImplMissingException If no implementation is available.
 	 */
-	private static EmbeddedServer<? extends AbstractConfiguration> newJetty(AbstractConfiguration configuration) {
-		return instantiate(EMBEDDED_JETTY_CLASS, configuration);
+	public static List<EmbeddedServer<?>> instantiateAll(Class<?> klass) {
+		return EmbeddedServerProviders.defaultProviders().instantiateAll(findConfigurations(klass));
 	}
 
 	/**
-	 * Instantiate tomcat embedded server.
-	 *
-	 * <p>
+	 * Find all configuration objects on static fields / methods on running class,
+	 * i.e static methods or static fields annotated with
+	 * {@link com.github.mjeanroy.junit.servers.annotations.TestServerConfiguration} annotation.
 	 *
-	 * Configuration is an optional parameter and can be null.
-	 * <ul>
-	 *   <li>If {@code configuration} is {@code null}, empty constructor will be used to instantiate embedded server.</li>
-	 *   <li> Otherwise, constructor with one parameter (configuration) will be used.</li>
-	 * </ul>
-	 *
-	 * @param configuration Optional configuration.
-	 * @return Embedded server.
+	 * @param klass Class to inspect.
+	 * @return Configurations.
 	 */
-	private static EmbeddedServer<? extends AbstractConfiguration> newTomcat(AbstractConfiguration configuration) {
-		return instantiate(EMBEDDED_TOMCAT_CLASS, configuration);
-	}
+	static List<AbstractConfiguration> findConfigurations(Class<?> klass) {
+		List<AbstractConfiguration> configurations = new ArrayList<>();
 
-	/**
-	 * Instantiate embedded server.
-	 *
-	 * <p>
-	 *
-	 * Configuration is an optional parameter and can be null.
-	 * <ul>
-	 *   <li>If {@code configuration} is {@code null}, empty constructor will be used to instantiate embedded server.</li>
-	 *   <li> Otherwise, constructor with one parameter (configuration) will be used.</li>
-	 * </ul>
-	 *
-	 * @param className Class implementation of embedded server.
-	 * @param configuration Optional configuration, may be {@code null}.
-	 * @return Embedded server.
-	 */
-	@SuppressWarnings("unchecked")
-	private static EmbeddedServer<? extends AbstractConfiguration> instantiate(String className, AbstractConfiguration configuration) {
-		try {
-			Class<?> klass = Class.forName(className);
-			if (configuration == null) {
-				return (EmbeddedServer<? extends AbstractConfiguration>) klass.newInstance();
-			}
-			else {
-				Constructor<?> constructor = klass.getConstructor(configuration.getClass());
-				return (EmbeddedServer<? extends AbstractConfiguration>) constructor.newInstance(configuration);
-			}
+		for (Method method : findStaticMethodsAnnotatedWith(klass, TestServerConfiguration.class)) {
+			AbstractConfiguration configuration = invoke(method);
+			configurations.add(configuration);
 		}
-		catch (ClassNotFoundException | InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException ex) {
-			return null;
+
+		for (Field field : findStaticFieldsAnnotatedWith(klass, TestServerConfiguration.class)) {
+			AbstractConfiguration configuration = getter(field);
+			configurations.add(configuration);
 		}
+
+		return configurations;
 	}
 
 	/**
@@ -195,7 +148,7 @@ public final class Servers {
 	 * @param <T> Type of configuration.
 	 * @return Configuration.
 	 */
-	private static  <T extends AbstractConfiguration> T findConfiguration(Class<?> klass) {
+	static <T extends AbstractConfiguration> T findConfiguration(Class<?> klass) {
 		// Look for static methods first
 		List<Method> methods = findStaticMethodsAnnotatedWith(klass, TestServerConfiguration.class);
 		if (!methods.isEmpty()) {
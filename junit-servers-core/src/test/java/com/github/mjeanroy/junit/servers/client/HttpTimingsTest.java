@@ -0,0 +1,69 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+public class HttpTimingsTest {
+
+	@Test
+	public void it_should_create_timings_with_unknown_phases() {
+		HttpTimings timings = new HttpTimings.Builder()
+			.withConnect(10)
+			.withTimeToFirstByte(20)
+			.build();
+
+		assertThat(timings.getDnsLookup()).isEqualTo(HttpTimings.UNKNOWN);
+		assertThat(timings.getConnect()).isEqualTo(10);
+		assertThat(timings.getTlsHandshake()).isEqualTo(HttpTimings.UNKNOWN);
+		assertThat(timings.getRequestWrite()).isEqualTo(HttpTimings.UNKNOWN);
+		assertThat(timings.getTimeToFirstByte()).isEqualTo(20);
+		assertThat(timings.getBodyRead()).isEqualTo(HttpTimings.UNKNOWN);
+	}
+
+	@Test
+	public void it_should_implement_to_string() {
+		HttpTimings timings = new HttpTimings.Builder()
+			.withDnsLookup(1)
+			.withConnect(2)
+			.withRequestWrite(3)
+			.withTimeToFirstByte(4)
+			.withBodyRead(5)
+			.build();
+
+		assertThat(timings.toString()).isEqualTo(
+			"HttpTimings{dnsLookup: 1, connect: 2, tlsHandshake: -1, requestWrite: 3, timeToFirstByte: 4, bodyRead: 5}"
+		);
+	}
+
+	@Test
+	public void it_should_implement_equals() {
+		EqualsVerifier.forClass(HttpTimings.class).verify();
+	}
+}
@@ -0,0 +1,203 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+
+public class DefaultHttpResponseFutureTest {
+
+	@Test
+	public void it_should_complete_with_response() throws Exception {
+		HttpResponse response = mock(HttpResponse.class);
+		Runnable listener = mock(Runnable.class);
+		DefaultHttpResponseFuture future = new DefaultHttpResponseFuture();
+		future.addListener(listener);
+
+		assertThat(future.isDone()).isFalse();
+		verify(listener, never()).run();
+
+		assertThat(future.complete(response)).isTrue();
+		assertThat(future.complete(mock(HttpResponse.class))).isFalse();
+
+		assertThat(future.isDone()).isTrue();
+		assertThat(future.isCancelled()).isFalse();
+		assertThat(future.get()).isSameAs(response);
+		assertThat(future.get(1, TimeUnit.MILLISECONDS)).isSameAs(response);
+		verify(listener).run();
+	}
+
+	@Test
+	public void it_should_run_all_listeners_and_rethrow_first_failure() throws Exception {
+		IllegalStateException f1 = new IllegalStateException("failure 1");
+		IllegalStateException f2 = new IllegalStateException("failure 2");
+		Runnable failing1 = mock(Runnable.class);
+		Runnable failing2 = mock(Runnable.class);
+		Runnable listener = mock(Runnable.class);
+		doThrow(f1).when(failing1).run();
+		doThrow(f2).when(failing2).run();
+
+		DefaultHttpResponseFuture future = new DefaultHttpResponseFuture();
+		future.addListener(failing1);
+		future.addListener(listener);
+		future.addListener(failing2);
+
+		HttpResponse response = mock(HttpResponse.class);
+
+		try {
+			future.complete(response);
+			fail("Failure of listener should be rethrown");
+		}
+		catch (IllegalStateException ex) {
+			assertThat(ex).isSameAs(f1);
+			assertThat(ex.getSuppressed()).containsExactly(f2);
+		}
+
+		verify(failing1).run();
+		verify(listener).run();
+		verify(failing2).run();
+		assertThat(future.get()).isSameAs(response);
+	}
+
+	@Test
+	public void it_should_be_done_when_listeners_are_executed() {
+		final DefaultHttpResponseFuture future = new DefaultHttpResponseFuture();
+		final boolean[] done = new boolean[2];
+
+		future.addListener(new Runnable() {
+			@Override
+			public void run() {
+				done[0] = future.isDone();
+
+				// Listener added while listeners are executed is executed immediately.
+				future.addListener(new Runnable() {
+					@Override
+					public void run() {
+						done[1] = future.isDone();
+					}
+				});
+			}
+		});
+
+		future.complete(mock(HttpResponse.class));
+
+		assertThat(done[0]).isTrue();
+		assertThat(done[1]).isTrue();
+	}
+
+	@Test
+	public void it_should_run_listener_immediately_if_future_is_completed() {
+		Runnable listener = mock(Runnable.class);
+		DefaultHttpResponseFuture future = new DefaultHttpResponseFuture();
+		future.complete(mock(HttpResponse.class));
+
+		assertThat(future.addListener(listener)).isSameAs(future);
+		verify(listener).run();
+	}
+
+	@Test
+	public void it_should_complete_with_failure() throws Exception {
+		IOException failure = new IOException();
+		DefaultHttpResponseFuture future = new DefaultHttpResponseFuture();
+
+		assertThat(future.fail(failure)).isTrue();
+		assertThat(future.complete(mock(HttpResponse.class))).isFalse();
+
+		try {
+			future.get();
+			fail("Future should have failed");
+		}
+		catch (ExecutionException ex) {
+			assertThat(ex.getCause()).isSameAs(failure);
+		}
+	}
+
+	@Test
+	public void it_should_cancel_request() throws Exception {
+		Runnable cancellation = mock(Runnable.class);
+		Runnable listener = mock(Runnable.class);
+		DefaultHttpResponseFuture future = new DefaultHttpResponseFuture();
+		future.onCancel(cancellation);
+		future.addListener(listener);
+
+		assertThat(future.cancel(true)).isTrue();
+		assertThat(future.cancel(true)).isFalse();
+		assertThat(future.complete(mock(HttpResponse.class))).isFalse();
+
+		assertThat(future.isCancelled()).isTrue();
+		assertThat(future.isDone()).isTrue();
+		verify(cancellation).run();
+		verify(listener).run();
+
+		try {
+			future.get();
+			fail("Future should have been cancelled");
+		}
+		catch (CancellationException ex) {
+			assertThat(ex).isNotNull();
+		}
+	}
+
+	@Test
+	public void it_should_run_cancellation_immediately_if_future_is_cancelled() {
+		Runnable cancellation = mock(Runnable.class);
+		DefaultHttpResponseFuture future = new DefaultHttpResponseFuture();
+		future.cancel(false);
+
+		future.onCancel(cancellation);
+		verify(cancellation).run();
+	}
+
+	@Test
+	public void it_should_not_cancel_completed_request() {
+		Runnable cancellation = mock(Runnable.class);
+		DefaultHttpResponseFuture future = new DefaultHttpResponseFuture();
+		future.onCancel(cancellation);
+		future.complete(mock(HttpResponse.class));
+
+		assertThat(future.cancel(true)).isFalse();
+		assertThat(future.isCancelled()).isFalse();
+		verify(cancellation, never()).run();
+	}
+
+	@Test(expected = TimeoutException.class)
+	public void it_should_time_out() throws Exception {
+		new DefaultHttpResponseFuture().get(1, TimeUnit.MILLISECONDS);
+	}
+}
@@ -0,0 +1,70 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.mjeanroy.junit.servers.client.HttpTimings;
+
+public class HttpTimingsCollectorTest {
+
+	@Test
+	public void it_should_compute_phases() {
+		HttpTimingsCollector collector = new HttpTimingsCollector();
+		collector.dnsStart();
+		collector.dnsEnd();
+		collector.connectStart();
+		collector.connectEnd();
+		collector.requestWriteStart();
+		collector.requestWriteEnd();
+		collector.firstByte();
+		collector.bodyEnd();
+
+		HttpTimings timings = collector.build();
+
+		assertThat(timings.getDnsLookup()).isGreaterThanOrEqualTo(0);
+		assertThat(timings.getConnect()).isGreaterThanOrEqualTo(0);
+		assertThat(timings.getTlsHandshake()).isEqualTo(HttpTimings.UNKNOWN);
+		assertThat(timings.getRequestWrite()).isGreaterThanOrEqualTo(0);
+		assertThat(timings.getTimeToFirstByte()).isGreaterThanOrEqualTo(0);
+		assertThat(timings.getBodyRead()).isGreaterThanOrEqualTo(0);
+	}
+
+	@Test
+	public void it_should_return_unknown_phases_without_events() {
+		HttpTimings timings = new HttpTimingsCollector().build();
+		assertThat(timings).isEqualTo(new HttpTimings.Builder().build());
+	}
+
+	@Test
+	public void it_should_return_unknown_phase_without_start() {
+		HttpTimingsCollector collector = new HttpTimingsCollector();
+		collector.connectEnd();
+
+		assertThat(collector.build().getConnect()).isEqualTo(HttpTimings.UNKNOWN);
+	}
+}
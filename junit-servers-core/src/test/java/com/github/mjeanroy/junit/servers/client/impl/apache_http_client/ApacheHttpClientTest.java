@@ -28,7 +28,10 @@ import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
 import com.github.mjeanroy.junit.servers.client.impl.BaseHttpClientTest;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import org.apache.http.client.CookieStore;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.cookie.BasicClientCookie;
+import org.junit.Test;
 
 import static com.github.mjeanroy.junit.servers.client.impl.apache_http_client.ApacheHttpClient.defaultApacheHttpClient;
 import static com.github.mjeanroy.junit.servers.client.impl.apache_http_client.ApacheHttpClient.newApacheHttpClient;
@@ -69,4 +72,19 @@ public class ApacheHttpClientTest extends BaseHttpClientTest {
 		CloseableHttpClient internalClient = readPrivate(httpClient, "client");
 		assertThat(internalClient).isNotNull();
 	}
+
+	@Test
+	public void it_should_clear_cookies_on_reset() {
+		EmbeddedServer<?> server = mock(EmbeddedServer.class);
+		ApacheHttpClient client = (ApacheHttpClient) createCustomClient(HttpClientConfiguration.defaultConfiguration(), server);
+		CookieStore cookieStore = readPrivate(client, "cookieStore");
+		cookieStore.addCookie(new BasicClientCookie("id", "foo"));
+		assertThat(cookieStore.getCookies()).hasSize(1);
+
+		client.reset();
+		assertThat(cookieStore.getCookies()).isEmpty();
+		assertThat(client.isDestroyed()).isFalse();
+
+		client.destroy();
+	}
 }
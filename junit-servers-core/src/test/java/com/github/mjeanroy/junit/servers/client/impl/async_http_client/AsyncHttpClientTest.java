@@ -31,6 +31,7 @@ import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 import com.github.mjeanroy.junit.servers.utils.junit.run_if.AtLeastJava8;
 import com.github.mjeanroy.junit.servers.utils.junit.run_if.RunIf;
 import org.asynchttpclient.AsyncHttpClientConfig;
+import org.junit.Test;
 
 import static com.github.mjeanroy.junit.servers.client.impl.async_http_client.AsyncHttpClient.defaultAsyncHttpClient;
 import static com.github.mjeanroy.junit.servers.client.impl.async_http_client.AsyncHttpClient.newAsyncHttpClient;
@@ -75,4 +76,23 @@ public class AsyncHttpClientTest extends BaseHttpClientTest {
 		org.asynchttpclient.AsyncHttpClient internalClient = readPrivate(httpClient, "client");
 		assertThat(internalClient).isNotNull();
 	}
+
+	@Test
+	public void it_should_share_event_loop_group_and_timer() {
+		EmbeddedServer<?> server = mock(EmbeddedServer.class);
+		HttpClient c1 = createCustomClient(HttpClientConfiguration.defaultConfiguration(), server);
+		HttpClient c2 = createCustomClient(HttpClientConfiguration.defaultConfiguration(), server);
+
+		AsyncHttpClientConfig config1 = readPrivate(readPrivate(c1, "client"), "config");
+		AsyncHttpClientConfig config2 = readPrivate(readPrivate(c2, "client"), "config");
+		assertThat(config1.getEventLoopGroup()).isNotNull().isSameAs(config2.getEventLoopGroup());
+		assertThat(config1.getNettyTimer()).isNotNull().isSameAs(config2.getNettyTimer());
+
+		c1.destroy();
+		assertThat(c1.isDestroyed()).isTrue();
+		assertThat(c2.isDestroyed()).isFalse();
+		assertThat(config2.getEventLoopGroup().isShuttingDown()).isFalse();
+
+		c2.destroy();
+	}
 }
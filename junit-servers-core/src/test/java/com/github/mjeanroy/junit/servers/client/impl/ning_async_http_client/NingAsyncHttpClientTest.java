@@ -29,6 +29,8 @@ import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
 import com.github.mjeanroy.junit.servers.client.impl.BaseHttpClientTest;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.providers.netty.NettyAsyncHttpProviderConfig;
+import org.junit.Test;
 
 import static com.github.mjeanroy.junit.servers.client.impl.ning_async_http_client.NingAsyncHttpClient.defaultAsyncHttpClient;
 import static com.github.mjeanroy.junit.servers.client.impl.ning_async_http_client.NingAsyncHttpClient.newAsyncHttpClient;
@@ -72,4 +74,24 @@ public class NingAsyncHttpClientTest extends BaseHttpClientTest {
 		com.ning.http.client.AsyncHttpClient internalClient = readPrivate(httpClient, "client");
 		assertThat(internalClient).isNotNull();
 	}
+
+	@Test
+	public void it_should_share_socket_channel_factory_and_timer() {
+		EmbeddedServer<?> server = mock(EmbeddedServer.class);
+		HttpClient c1 = createCustomClient(HttpClientConfiguration.defaultConfiguration(), server);
+		HttpClient c2 = createCustomClient(HttpClientConfiguration.defaultConfiguration(), server);
+
+		com.ning.http.client.AsyncHttpClient i1 = readPrivate(c1, "client");
+		com.ning.http.client.AsyncHttpClient i2 = readPrivate(c2, "client");
+		NettyAsyncHttpProviderConfig config1 = (NettyAsyncHttpProviderConfig) i1.getConfig().getAsyncHttpProviderConfig();
+		NettyAsyncHttpProviderConfig config2 = (NettyAsyncHttpProviderConfig) i2.getConfig().getAsyncHttpProviderConfig();
+		assertThat(config1.getSocketChannelFactory()).isNotNull().isSameAs(config2.getSocketChannelFactory());
+		assertThat(config1.getNettyTimer()).isNotNull().isSameAs(config2.getNettyTimer());
+
+		c1.destroy();
+		assertThat(c1.isDestroyed()).isTrue();
+		assertThat(c2.isDestroyed()).isFalse();
+
+		c2.destroy();
+	}
 }
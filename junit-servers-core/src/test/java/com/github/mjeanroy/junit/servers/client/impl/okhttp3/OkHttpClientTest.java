@@ -28,6 +28,7 @@ import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
 import com.github.mjeanroy.junit.servers.client.impl.BaseHttpClientTest;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import org.junit.Test;
 
 import static com.github.mjeanroy.junit.servers.client.impl.okhttp3.OkHttpClient.defaultOkHttpClient;
 import static com.github.mjeanroy.junit.servers.client.impl.okhttp3.OkHttpClient.newOkHttpClient;
@@ -70,4 +71,24 @@ public class OkHttpClientTest extends BaseHttpClientTest {
 		okhttp3.OkHttpClient internalClient = readPrivate(httpClient, "client");
 		assertThat(internalClient).isNotNull();
 	}
+
+	@Test
+	public void it_should_share_dispatcher_and_connection_pool() {
+		EmbeddedServer<?> server = mock(EmbeddedServer.class);
+		HttpClient c1 = createCustomClient(HttpClientConfiguration.defaultConfiguration(), server);
+		HttpClient c2 = createCustomClient(HttpClientConfiguration.defaultConfiguration(), server);
+
+		okhttp3.OkHttpClient i1 = readPrivate(c1, "client");
+		okhttp3.OkHttpClient i2 = readPrivate(c2, "client");
+		assertThat(i1).isNotSameAs(i2);
+		assertThat(i1.dispatcher()).isSameAs(i2.dispatcher());
+		assertThat(i1.connectionPool()).isSameAs(i2.connectionPool());
+
+		c1.destroy();
+		assertThat(c1.isDestroyed()).isTrue();
+		assertThat(c2.isDestroyed()).isFalse();
+		assertThat(i2.dispatcher().executorService().isShutdown()).isFalse();
+
+		c2.destroy();
+	}
 }
@@ -57,12 +57,14 @@ import static com.github.mjeanroy.junit.servers.client.it.HeaderTestUtils.X_XSS_
 import static com.github.mjeanroy.junit.servers.client.it.HttpTestUtils.encodePath;
 import static com.github.mjeanroy.junit.servers.client.it.HttpTestUtils.encodeFormParam;
 import static com.github.mjeanroy.junit.servers.client.it.HttpTestUtils.encodeQueryParam;
+import static com.github.mjeanroy.junit.servers.client.it.HttpTestUtils.unusedPort;
 import static com.github.mjeanroy.junit.servers.client.it.HttpTestUtils.utcDate;
 import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.assertRequest;
 import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.assertRequestWithBody;
 import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.assertRequestWithCookie;
 import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.assertRequestWithCookies;
 import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.assertRequestWithHeader;
+import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.stubBinaryGetRequest;
 import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.stubDefaultRequest;
 import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.stubDeleteRequest;
 import static com.github.mjeanroy.junit.servers.client.it.WireMockTestUtils.stubGetRequest;
@@ -77,25 +79,43 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.io.IOUtils;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 
 import com.github.mjeanroy.junit.servers.client.Cookie;
 import com.github.mjeanroy.junit.servers.client.Cookies;
+import com.github.mjeanroy.junit.servers.client.HttpBodyChunks;
 import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
 import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
@@ -104,6 +124,10 @@ import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpParameter;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpResponseFuture;
+import com.github.mjeanroy.junit.servers.client.HttpResponseListener;
+import com.github.mjeanroy.junit.servers.client.HttpTimings;
+import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpClient;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 import com.github.mjeanroy.junit.servers.utils.commons.Function;
 import com.github.mjeanroy.junit.servers.utils.commons.MapperFunction;
@@ -122,6 +146,9 @@ public abstract class BaseHttpClientTest {
 	@Rule
 	public ExpectedException thrown = ExpectedException.none();
 
+	@Rule
+	public TemporaryFolder tmp = new TemporaryFolder();
+
 	private EmbeddedServer<?> server;
 	private String scheme;
 	private String host;
@@ -192,6 +219,96 @@ public abstract class BaseHttpClientTest {
 		assertThat(rsp.getContentType().getLastValue()).isEqualTo(APPLICATION_JSON);
 	}
 
+	@Test
+	public void testGetAsync() throws Exception {
+		final String endpoint = ENDPOINT;
+		final int status = 200;
+		final Collection<Pair> headers = singleton(pair(CONTENT_TYPE, APPLICATION_JSON));
+		final String body = "[{\"id\": 1, \"name\": \"John Doe\"}]";
+
+		stubGetRequest(endpoint, status, headers, body);
+
+		final HttpClient client = createDefaultClient();
+		final int nbRequests = 20;
+		final CountDownLatch latch = new CountDownLatch(nbRequests);
+		final List<HttpResponseFuture> futures = new ArrayList<>(nbRequests);
+
+		for (int i = 0; i < nbRequests; i++) {
+			HttpResponseFuture future = client.prepareGet(endpoint).acceptJson().executeAsync();
+			future.addListener(new Runnable() {
+				@Override
+				public void run() {
+					latch.countDown();
+				}
+			});
+
+			futures.add(future);
+		}
+
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+
+		for (HttpResponseFuture future : futures) {
+			assertThat(future.isDone()).isTrue();
+
+			HttpResponse rsp = future.get();
+			assertThat(rsp.status()).isEqualTo(status);
+			assertThat(rsp.body()).isEqualTo(body);
+			assertThat(rsp.getRequestDuration()).isPositive();
+		}
+	}
+
+	@Test
+	public void testGetAsyncFailure() throws Exception {
+		final HttpResponseFuture future = createDefaultClient()
+			.prepareGet(url(scheme, host, unusedPort(), ENDPOINT))
+			.executeAsync();
+
+		try {
+			future.get(10, TimeUnit.SECONDS);
+			fail("Request should have failed");
+		}
+		catch (ExecutionException ex) {
+			assertThat(ex.getCause()).isNotNull();
+		}
+
+		assertThat(future.isDone()).isTrue();
+	}
+
+	@Test
+	public void testResponseListener() throws Exception {
+		final String endpoint = ENDPOINT;
+		final int status = 200;
+		final Collection<Pair> headers = singleton(pair(CONTENT_TYPE, APPLICATION_JSON));
+		final String body = "[{\"id\": 1, \"name\": \"John Doe\"}]";
+
+		stubGetRequest(endpoint, status, headers, body);
+
+		final List<HttpResponse> responses = new ArrayList<>();
+		final List<HttpResponseFuture> pendingResponses = new ArrayList<>();
+		final AbstractHttpClient client = (AbstractHttpClient) createDefaultClient();
+		final HttpRequest request = client.prepareGet(endpoint);
+
+		// Listeners registered after the request has been prepared are notified too.
+		client.addResponseListener(new HttpResponseListener() {
+			@Override
+			public void onResponse(HttpResponse response) {
+				responses.add(response);
+			}
+
+			@Override
+			public void onPendingResponse(HttpResponseFuture response) {
+				pendingResponses.add(response);
+			}
+		});
+
+		final HttpResponse rsp = request.execute();
+		final HttpResponseFuture future = client.prepareGet(endpoint).executeAsync();
+		future.get(10, TimeUnit.SECONDS);
+
+		assertThat(responses).containsExactly(rsp);
+		assertThat(pendingResponses).containsExactly(future);
+	}
+
 	@Test
 	public void testGetWithFullEndpoint() {
 		final String endpoint = ENDPOINT;
@@ -895,6 +1012,99 @@ public abstract class BaseHttpClientTest {
 		});
 	}
 
+	@Test
+	public void testRequest_set_utf8_body() {
+		final String body = "{\"id\": 1, \"firstName\": \"J\u00e9r\u00f4me\", \"lastName\": \"Doe\"}";
+		testRequestBody(body, new Function<HttpRequest>() {
+			@Override
+			public void apply(HttpRequest rq) {
+				rq.asJson().setBody(body);
+			}
+		});
+	}
+
+	@Test
+	public void testRequest_set_body_bytes() {
+		final String body = "{\"id\": 1, \"firstName\": \"John\", \"lastName\": \"Doe\"}";
+		testRequestBody(body, new Function<HttpRequest>() {
+			@Override
+			public void apply(HttpRequest rq) {
+				rq.setBody(body.getBytes(StandardCharsets.UTF_8));
+			}
+		});
+	}
+
+	@Test
+	public void testRequest_set_body_stream() {
+		final String body = "{\"id\": 1, \"firstName\": \"John\", \"lastName\": \"Doe\"}";
+		final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		testRequestBody(body, new Function<HttpRequest>() {
+			@Override
+			public void apply(HttpRequest rq) {
+				rq.setBody(new ByteArrayInputStream(bytes), bytes.length);
+			}
+		});
+	}
+
+	@Test
+	public void testRequest_set_body_stream_with_unknown_length() {
+		final String body = "{\"id\": 1, \"firstName\": \"John\", \"lastName\": \"Doe\"}";
+		final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		testRequestBody(body, new Function<HttpRequest>() {
+			@Override
+			public void apply(HttpRequest rq) {
+				rq.setBody(new ByteArrayInputStream(bytes), -1);
+			}
+		});
+	}
+
+	@Test
+	public void testRequest_set_body_file() throws Exception {
+		final String body = "{\"id\": 1, \"firstName\": \"John\", \"lastName\": \"Doe\"}";
+		final Path file = tmp.newFile().toPath();
+		Files.write(file, body.getBytes(StandardCharsets.UTF_8));
+
+		testRequestBody(body, new Function<HttpRequest>() {
+			@Override
+			public void apply(HttpRequest rq) {
+				rq.setBody(file);
+			}
+		});
+	}
+
+	@Test
+	public void testRequest_set_chunked_body() {
+		final List<String> chunks = asList("{\"id\": 1, ", "", "\"firstName\": \"John\", ", "\"lastName\": \"Doe\"}");
+		final String body = "{\"id\": 1, \"firstName\": \"John\", \"lastName\": \"Doe\"}";
+		testRequestBody(body, new Function<HttpRequest>() {
+			@Override
+			public void apply(HttpRequest rq) {
+				final Iterator<String> it = chunks.iterator();
+				rq.setChunkedBody(new HttpBodyChunks() {
+					@Override
+					public byte[] next() {
+						return it.hasNext() ? it.next().getBytes(StandardCharsets.UTF_8) : null;
+					}
+				});
+			}
+		});
+	}
+
+	@Test
+	public void testRequest_set_large_binary_body() throws Exception {
+		final String endpoint = ENDPOINT;
+		final byte[] body = binaryBody();
+		stubPostRequest(endpoint, 204, Collections.<Pair>emptyList(), "");
+
+		final Path file = tmp.newFile().toPath();
+		Files.write(file, body);
+
+		HttpResponse rsp = createDefaultClient().preparePost(endpoint).setBody(file).execute();
+
+		assertThat(rsp.status()).isEqualTo(204);
+		assertRequestWithBody(endpoint, HttpMethod.POST, body);
+	}
+
 	private void testRequestBody(String body, Function<HttpRequest> func) {
 		// GIVEN
 		final String endpoint = ENDPOINT;
@@ -1372,7 +1582,81 @@ public abstract class BaseHttpClientTest {
 		long durationNano = rsp.getRequestDuration();
 		long durationMillis = rsp.getRequestDurationInMillis();
 		assertThat(durationNano).isGreaterThan(0);
-		assertThat(durationMillis).isEqualTo(durationNano / 1000);
+		assertThat(durationMillis).isEqualTo(durationNano / 1000000);
+	}
+
+	@Test
+	public void testRequest_Response_Body_As_Bytes() {
+		final String endpoint = ENDPOINT;
+		final byte[] body = binaryBody();
+		stubBinaryGetRequest(endpoint, body);
+
+		HttpResponse rsp = createDefaultClient().prepareGet(endpoint).execute();
+
+		assertThat(rsp.status()).isEqualTo(200);
+		assertThat(rsp.bodyAsBytes()).isEqualTo(body);
+	}
+
+	@Test
+	public void testRequest_Response_Body_As_ByteBuffer() {
+		final String endpoint = ENDPOINT;
+		final byte[] body = binaryBody();
+		stubBinaryGetRequest(endpoint, body);
+
+		HttpResponse rsp = createDefaultClient().prepareGet(endpoint).execute();
+		ByteBuffer buffer = rsp.bodyAsByteBuffer();
+
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		assertThat(bytes).isEqualTo(body);
+	}
+
+	@Test
+	public void testRequest_Response_Body_As_Stream() throws Exception {
+		final String endpoint = ENDPOINT;
+		final byte[] body = binaryBody();
+		stubBinaryGetRequest(endpoint, body);
+
+		HttpResponse rsp = createDefaultClient().prepareGet(endpoint).execute();
+
+		try (InputStream stream = rsp.bodyAsStream()) {
+			assertThat(IOUtils.toByteArray(stream)).isEqualTo(body);
+		}
+	}
+
+	@Test
+	public void testRequest_Response_Body_To_File() throws Exception {
+		final String endpoint = ENDPOINT;
+		final byte[] body = binaryBody();
+		stubBinaryGetRequest(endpoint, body);
+
+		// Existing content must be truncated.
+		File file = tmp.newFile();
+		Files.write(file.toPath(), new byte[body.length * 2]);
+
+		HttpResponse rsp = createDefaultClient().prepareGet(endpoint).execute();
+		long size = rsp.bodyTo(file.toPath());
+
+		assertThat(size).isEqualTo(body.length);
+		assertThat(Files.readAllBytes(file.toPath())).isEqualTo(body);
+	}
+
+	@Test
+	public void testRequest_Response_Timings() {
+		String endpoint = ENDPOINT;
+		stubDefaultRequest(endpoint);
+
+		HttpResponse rsp = createDefaultClient()
+			.prepareGet(endpoint)
+			.executeJson();
+
+		rsp.body();
+
+		HttpTimings timings = rsp.getTimings();
+		assertThat(timings.getConnect()).isGreaterThanOrEqualTo(0);
+		assertThat(timings.getTlsHandshake()).isEqualTo(HttpTimings.UNKNOWN);
+		assertThat(timings.getTimeToFirstByte()).isGreaterThanOrEqualTo(0);
+		assertThat(timings.getBodyRead()).isGreaterThanOrEqualTo(0);
 	}
 
 	@Test
@@ -1429,4 +1713,11 @@ public abstract class BaseHttpClientTest {
 	private interface HttpClientFactory {
 		HttpClient create();
 	}
+
+	private static byte[] binaryBody() {
+		// Larger than the default buffers of the clients, with every byte value.
+		byte[] body = new byte[256 * 1024];
+		new Random(0).nextBytes(body);
+		return body;
+	}
 }
@@ -26,6 +26,8 @@ package com.github.mjeanroy.junit.servers.client.it;
 
 import static com.github.mjeanroy.junit.servers.utils.commons.TestUtils.urlEncode;
 
+import java.io.IOException;
+import java.net.ServerSocket;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Calendar;
@@ -100,4 +102,17 @@ final class HttpTestUtils {
 		cal.set(Calendar.MILLISECOND, 0);
 		return cal.getTime();
 	}
+
+	/**
+	 * Find a local port that is not used: nothing listens to this port once this method returns.
+	 *
+	 * @return The port.
+	 */
+	static int unusedPort() {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		} catch (IOException ex) {
+			throw new AssertionError(ex);
+		}
+	}
 }
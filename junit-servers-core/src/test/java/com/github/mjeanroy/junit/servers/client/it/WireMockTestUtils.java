@@ -33,8 +33,10 @@ import static com.github.tomakehurst.wiremock.client.WireMock.request;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Collection;
+import java.util.List;
 
 import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.utils.commons.Pair;
@@ -44,6 +46,7 @@ import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
 import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 
 final class WireMockTestUtils {
 	private static final String GET = "GET";
@@ -84,6 +87,20 @@ final class WireMockTestUtils {
 		stubRequest(GET, endpoint, status, headers, body);
 	}
 
+	/**
+	 * Stub {@code GET} request returning a binary body.
+	 *
+	 * @param endpoint Request endpoint.
+	 * @param body Response body.
+	 */
+	static void stubBinaryGetRequest(String endpoint, byte[] body) {
+		stubFor(request(GET, urlEqualTo(endpoint)).willReturn(aResponse()
+			.withStatus(200)
+			.withHeader(CONTENT_TYPE, "application/octet-stream")
+			.withBody(body)
+		));
+	}
+
 	/**
 	 * Stub {@code HEAD} request.
 	 *
@@ -185,6 +202,22 @@ final class WireMockTestUtils {
 		WireMock.verify(1, rq);
 	}
 
+	/**
+	 * Verify that a given request has been triggered.
+	 *
+	 * @param endpoint Request endpoint.
+	 * @param method Request method.
+	 * @param body Request binary body.
+	 */
+	static void assertRequestWithBody(String endpoint, HttpMethod method, byte[] body) {
+		UrlPattern urlPattern = urlEqualTo(endpoint);
+		RequestMethod rqMethod = new RequestMethod(method.name());
+		RequestPatternBuilder rq = new RequestPatternBuilder(rqMethod, urlPattern);
+		List<LoggedRequest> requests = WireMock.findAll(rq);
+		assertThat(requests).hasSize(1);
+		assertThat(requests.get(0).getBody()).isEqualTo(body);
+	}
+
 	/**
 	 * Verify that a given request has been triggered.
 	 *
@@ -24,8 +24,26 @@
 
 package com.github.mjeanroy.junit.servers.client.it.impl;
 
+import static com.github.mjeanroy.junit.servers.utils.commons.TestUtils.url;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
 import com.github.mjeanroy.junit.servers.client.it.BaseHttpClientTest;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 
 public class OkHttp3ClientTest extends BaseHttpClientTest {
 
@@ -33,4 +51,66 @@ public class OkHttp3ClientTest extends BaseHttpClientTest {
 	protected HttpClientStrategy strategy() {
 		return HttpClientStrategy.OK_HTTP3;
 	}
+
+	@Test
+	public void it_should_not_leak_connections_of_unread_responses() throws Exception {
+		stubFor(get(urlEqualTo("/leak")).willReturn(aResponse().withStatus(200).withBody("Hello World")));
+
+		EmbeddedServer<?> server = mock(EmbeddedServer.class);
+		when(server.getScheme()).thenReturn("http");
+		when(server.getHost()).thenReturn("localhost");
+		when(server.getPort()).thenReturn(wireMockRule.port());
+		when(server.getPath()).thenReturn("/");
+		when(server.getUrl()).thenReturn(url("http", "localhost", wireMockRule.port(), "/"));
+
+		// OkHttp logs leaked connections with the logger of its client.
+		Logger logger = Logger.getLogger(okhttp3.OkHttpClient.class.getName());
+		LeakHandler handler = new LeakHandler();
+		logger.addHandler(handler);
+
+		try {
+			HttpClient client = strategy().build(server);
+			for (int i = 0; i < 10; i++) {
+				assertThat(client.prepareGet("/leak").execute().status()).isEqualTo(200);
+			}
+
+			client.destroy();
+
+			// Unread responses are now unreachable: leaks are detected once they have been garbage collected.
+			for (int i = 0; i < 5; i++) {
+				System.gc();
+				Thread.sleep(50);
+			}
+
+			// A connection becoming idle wakes up the cleanup of the connection pool, that reports leaked connections.
+			HttpClient other = strategy().build(server);
+			assertThat(other.prepareGet("/leak").execute().body()).isEqualTo("Hello World");
+			other.destroy();
+			Thread.sleep(500);
+
+			assertThat(handler.leaks.get()).isZero();
+		}
+		finally {
+			logger.removeHandler(handler);
+		}
+	}
+
+	private static class LeakHandler extends Handler {
+		private final AtomicInteger leaks = new AtomicInteger(0);
+
+		@Override
+		public void publish(LogRecord record) {
+			if (record.getMessage() != null && record.getMessage().contains("was leaked")) {
+				leaks.incrementAndGet();
+			}
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
 }
@@ -0,0 +1,107 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.commons;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.junit.Test;
+
+public class ConcurrentUtilsTest {
+
+	@Test
+	public void it_should_create_daemon_threads() {
+		ThreadFactory factory = ConcurrentUtils.daemonThreadFactory("foo");
+
+		Thread t1 = factory.newThread(new NoopRunnable());
+		Thread t2 = factory.newThread(new NoopRunnable());
+
+		assertThat(t1.isDaemon()).isTrue();
+		assertThat(t1.getName()).isEqualTo("foo-1");
+		assertThat(t2.isDaemon()).isTrue();
+		assertThat(t2.getName()).isEqualTo("foo-2");
+	}
+
+	@Test
+	public void it_should_submit_task_and_await_result() {
+		Future<String> future = ConcurrentUtils.submit(ConcurrentUtils.defaultExecutor(), new Callable<String>() {
+			@Override
+			public String call() {
+				return Thread.currentThread().isDaemon() ? "daemon" : "user";
+			}
+		});
+
+		assertThat(ConcurrentUtils.await(future)).isEqualTo("daemon");
+	}
+
+	@Test
+	public void it_should_rethrow_unchecked_exception() {
+		final RuntimeException failure = new RuntimeException("Failure");
+		Future<String> future = ConcurrentUtils.submit(ConcurrentUtils.defaultExecutor(), new Callable<String>() {
+			@Override
+			public String call() {
+				throw failure;
+			}
+		});
+
+		try {
+			ConcurrentUtils.await(future);
+			fail("await should have failed");
+		}
+		catch (RuntimeException ex) {
+			assertThat(ex).isSameAs(failure);
+		}
+	}
+
+	@Test
+	public void it_should_wrap_checked_exception() {
+		final IOException failure = new IOException("Failure");
+		Future<String> future = ConcurrentUtils.submit(ConcurrentUtils.defaultExecutor(), new Callable<String>() {
+			@Override
+			public String call() throws Exception {
+				throw failure;
+			}
+		});
+
+		try {
+			ConcurrentUtils.await(future);
+			fail("await should have failed");
+		}
+		catch (IllegalStateException ex) {
+			assertThat(ex.getCause()).isSameAs(failure);
+		}
+	}
+
+	private static class NoopRunnable implements Runnable {
+		@Override
+		public void run() {
+		}
+	}
+}
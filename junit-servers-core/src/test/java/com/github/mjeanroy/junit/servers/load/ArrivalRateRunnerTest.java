@@ -0,0 +1,182 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.load;
+
+import static com.github.mjeanroy.junit.servers.utils.commons.TestUtils.url;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
+import com.github.mjeanroy.junit.servers.client.HttpMethod;
+import com.github.mjeanroy.junit.servers.client.HttpRequest;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+
+public class ArrivalRateRunnerTest {
+
+	@Rule
+	public WireMockRule wireMockRule = new WireMockRule();
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private EmbeddedServer<?> server;
+
+	@Before
+	public void setUp() {
+		String scheme = "http";
+		String host = "localhost";
+		int port = wireMockRule.port();
+		String path = "/";
+
+		server = mock(EmbeddedServer.class);
+		when(server.isStarted()).thenReturn(true);
+		when(server.getScheme()).thenReturn(scheme);
+		when(server.getHost()).thenReturn(host);
+		when(server.getPort()).thenReturn(port);
+		when(server.getPath()).thenReturn(path);
+		when(server.getUrl()).thenReturn(url(scheme, host, port, path));
+	}
+
+	@Test
+	public void it_should_send_requests_at_constant_rate() {
+		stubFor(get(urlEqualTo("/people")).willReturn(aResponse().withStatus(200).withBody("[]")));
+
+		LoadReport report = ArrivalRateRunner.against(server)
+			.strategy(HttpClientStrategy.OK_HTTP3)
+			.rate(200)
+			.requests(100)
+			.request(HttpMethod.GET, "/people")
+			.run();
+
+		assertThat(report.getRequests()).isEqualTo(100);
+		assertThat(report.getErrors()).isZero();
+		assertThat(report.getHistogram().getTotalCount()).isEqualTo(100);
+		assertThat(report.getP50()).isGreaterThan(0).isLessThanOrEqualTo(report.getP99());
+
+		// 100 requests at 200 req/s cannot complete in less than 495ms.
+		assertThat(report.getDurationInMillis()).isGreaterThanOrEqualTo(495);
+
+		verify(100, getRequestedFor(urlEqualTo("/people")));
+	}
+
+	@Test
+	public void it_should_measure_latency_from_intended_send_time() {
+		stubFor(get(urlEqualTo("/")).willReturn(aResponse().withStatus(200).withFixedDelay(200)));
+
+		LoadReport report = ArrivalRateRunner.against(server)
+			.strategy(HttpClientStrategy.ASYNC_HTTP_CLIENT)
+			.rate(100)
+			.requests(20)
+			.run();
+
+		assertThat(report.getErrors()).isZero();
+		assertThat(report.getHistogram().getMin()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+
+		// Responses are slower than the arrival interval: requests are not delayed by pending responses.
+		assertThat(report.getDurationInMillis()).isLessThan(20 * 200);
+	}
+
+	@Test
+	public void it_should_prepare_custom_request() {
+		stubFor(get(urlEqualTo("/people?page=1")).willReturn(aResponse().withStatus(200)));
+
+		LoadReport report = ArrivalRateRunner.against(server)
+			.rate(1000)
+			.requests(10)
+			.request(new LoadRequest() {
+				@Override
+				public HttpRequest prepare(HttpClient client) {
+					return client.prepareGet("/people").addQueryParam("page", "1");
+				}
+			})
+			.run();
+
+		assertThat(report.getErrors()).isZero();
+		verify(10, getRequestedFor(urlEqualTo("/people?page=1")));
+	}
+
+	@Test
+	public void it_should_count_errors() {
+		stubFor(get(urlEqualTo("/")).willReturn(aResponse().withStatus(500)));
+
+		LoadReport report = ArrivalRateRunner.against(server)
+			.rate(1000)
+			.requests(10)
+			.run();
+
+		assertThat(report.getRequests()).isEqualTo(10);
+		assertThat(report.getErrors()).isEqualTo(10);
+	}
+
+	@Test
+	public void it_should_report_pending_requests_as_errors() {
+		stubFor(get(urlEqualTo("/")).willReturn(aResponse().withStatus(200).withFixedDelay(2000)));
+
+		LoadReport report = ArrivalRateRunner.against(server)
+			.strategy(HttpClientStrategy.OK_HTTP3)
+			.rate(1000)
+			.requests(5)
+			.timeout(100, TimeUnit.MILLISECONDS)
+			.run();
+
+		assertThat(report.getRequests()).isEqualTo(5);
+		assertThat(report.getErrors()).isEqualTo(5);
+		assertThat(report.getHistogram().getTotalCount()).isZero();
+	}
+
+	@Test
+	public void it_should_fail_if_server_is_not_started() {
+		when(server.isStarted()).thenReturn(false);
+
+		thrown.expect(IllegalStateException.class);
+		thrown.expectMessage("Server must be started to run load");
+
+		ArrivalRateRunner.against(server).run();
+	}
+
+	@Test
+	public void it_should_fail_with_invalid_rate() {
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage("rate must be strictly positive");
+
+		ArrivalRateRunner.against(server).rate(0);
+	}
+}
@@ -0,0 +1,131 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LatencyHistogramTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	@Test
+	public void it_should_create_empty_histogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		assertThat(histogram.getTotalCount()).isZero();
+		assertThat(histogram.getMin()).isZero();
+		assertThat(histogram.getMax()).isZero();
+		assertThat(histogram.getMean()).isZero();
+		assertThat(histogram.getValueAtPercentile(99)).isZero();
+	}
+
+	@Test
+	public void it_should_record_small_values_exactly() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(i);
+		}
+
+		assertThat(histogram.getTotalCount()).isEqualTo(100);
+		assertThat(histogram.getMin()).isEqualTo(1);
+		assertThat(histogram.getMax()).isEqualTo(100);
+		assertThat(histogram.getMean()).isEqualTo(50.5);
+		assertThat(histogram.getValueAtPercentile(0)).isEqualTo(1);
+		assertThat(histogram.getValueAtPercentile(50)).isEqualTo(50);
+		assertThat(histogram.getValueAtPercentile(99)).isEqualTo(99);
+		assertThat(histogram.getValueAtPercentile(100)).isEqualTo(100);
+	}
+
+	@Test
+	public void it_should_record_large_values_with_bounded_error() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long i = 1; i <= 10000; i++) {
+			histogram.record(i * 1000000L);
+		}
+
+		// Percentiles are the highest value of their bucket, with a relative error lower than 1%.
+		assertThat(histogram.getValueAtPercentile(50)).isBetween(5000000000L, 5050000000L);
+		assertThat(histogram.getValueAtPercentile(99)).isBetween(9900000000L, 9999000000L);
+		assertThat(histogram.getValueAtPercentile(99.9)).isBetween(9990000000L, 10000000000L);
+		assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10000000000L);
+	}
+
+	@Test
+	public void it_should_record_max_value() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(Long.MAX_VALUE);
+
+		assertThat(histogram.getValueAtPercentile(50)).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	public void it_should_add_histogram() {
+		LatencyHistogram h1 = new LatencyHistogram();
+		h1.record(10);
+		h1.record(20);
+
+		LatencyHistogram h2 = new LatencyHistogram();
+		h2.record(5);
+		h2.record(30);
+
+		h1.add(h2);
+
+		assertThat(h1.getTotalCount()).isEqualTo(4);
+		assertThat(h1.getMin()).isEqualTo(5);
+		assertThat(h1.getMax()).isEqualTo(30);
+		assertThat(h1.getMean()).isEqualTo(16.25);
+		assertThat(h1.getValueAtPercentile(50)).isEqualTo(10);
+	}
+
+	@Test
+	public void it_should_reset_histogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(10);
+		histogram.reset();
+
+		assertThat(histogram.getTotalCount()).isZero();
+		assertThat(histogram.getMax()).isZero();
+		assertThat(histogram.getValueAtPercentile(50)).isZero();
+	}
+
+	@Test
+	public void it_should_fail_to_record_negative_value() {
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage("Value must be positive");
+		new LatencyHistogram().record(-1);
+	}
+
+	@Test
+	public void it_should_fail_with_invalid_percentile() {
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage("Percentile must be between 0 and 100");
+		new LatencyHistogram().getValueAtPercentile(101);
+	}
+}
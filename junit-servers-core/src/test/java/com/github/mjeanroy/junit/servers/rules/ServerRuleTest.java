@@ -26,20 +26,33 @@ package com.github.mjeanroy.junit.servers.rules;
 
 import static com.github.mjeanroy.junit.servers.utils.commons.TestUtils.localUrl;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
 import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.exceptions.ServerImplMissingException;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.StartupReport;
 import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration;
 
 public class ServerRuleTest {
@@ -47,8 +60,12 @@ public class ServerRuleTest {
 	@Rule
 	public ExpectedException thrown = ExpectedException.none();
 
+	@Rule
+	public TemporaryFolder tmp = new TemporaryFolder();
+
 	private AbstractConfiguration configuration;
 	private EmbeddedServer<?> server;
+	private Future<?> startup;
 	private ServerRule rule;
 
 	@Before
@@ -63,6 +80,9 @@ public class ServerRuleTest {
 			}
 		});
 
+		startup = mock(Future.class);
+		doReturn(startup).when(server).startAsync();
+
 		rule = new ServerRule(server);
 	}
 
@@ -70,6 +90,90 @@ public class ServerRuleTest {
 	public void it_should_start_server() {
 		rule.before();
 		verify(server).start();
+		verify(server, never()).startAsync();
+	}
+
+	@Test
+	public void it_should_start_server_asynchronously() {
+		rule = new ServerRule(server, true);
+		rule.before();
+		verify(server).startAsync();
+		verify(server, never()).start();
+	}
+
+	@Test
+	public void it_should_wait_for_server_startup() throws Exception {
+		rule = new ServerRule(server, true);
+		rule.before();
+		verify(startup, never()).get();
+
+		rule.getPort();
+		verify(startup).get();
+	}
+
+	@Test
+	public void it_should_fail_if_server_failed_to_start() throws Exception {
+		final RuntimeException failure = new RuntimeException("Failure");
+		when(startup.get()).thenThrow(new ExecutionException(failure));
+
+		rule = new ServerRule(server, true);
+		rule.before();
+
+		thrown.expect(RuntimeException.class);
+		thrown.expectMessage("Failure");
+		rule.getUrl();
+	}
+
+	@Test
+	public void it_should_stop_server_even_if_server_failed_to_start() throws Exception {
+		final RuntimeException failure = new RuntimeException("Failure");
+		when(startup.get()).thenThrow(new ExecutionException(failure));
+
+		rule = new ServerRule(server, true);
+		rule.before();
+
+		try {
+			rule.after();
+			fail("Rule should have failed");
+		}
+		catch (RuntimeException ex) {
+			assertThat(ex).isSameAs(failure);
+		}
+
+		verify(server).stop();
+	}
+
+	@Test
+	public void it_should_not_hide_startup_failure_if_startup_report_cannot_be_written() throws Throwable {
+		final RuntimeException failure = new RuntimeException("Failure");
+		when(startup.get()).thenThrow(new ExecutionException(failure));
+		when(server.getStartupReport()).thenReturn(new StartupReport.Builder("FakeServer").build());
+
+		// A file cannot be used as the output directory.
+		File file = tmp.newFile();
+		rule = new ServerRule(server, true);
+
+		System.setProperty(ServerRule.STARTUP_REPORT_DIR, file.getAbsolutePath());
+		try {
+			Description description = Description.createSuiteDescription(ServerRuleTest.class);
+			rule.apply(new Statement() {
+				@Override
+				public void evaluate() {
+				}
+			}, description).evaluate();
+
+			fail("Rule should have failed");
+		}
+		catch (RuntimeException ex) {
+			assertThat(ex).isSameAs(failure);
+			assertThat(ex.getSuppressed()).hasSize(1);
+			assertThat(ex.getSuppressed()[0]).isInstanceOf(IllegalStateException.class).hasMessage("Cannot write startup report");
+		}
+		finally {
+			System.clearProperty(ServerRule.STARTUP_REPORT_DIR);
+		}
+
+		verify(server).stop();
 	}
 
 	@Test
@@ -78,12 +182,43 @@ public class ServerRuleTest {
 		verify(server).stop();
 	}
 
+	@Test
+	public void it_should_write_startup_report() throws Throwable {
+		File dir = tmp.newFolder();
+		StartupReport.Builder builder = new StartupReport.Builder("FakeServer");
+		StartupReport report = builder.build();
+		when(server.getStartupReport()).thenReturn(report);
+
+		System.setProperty(ServerRule.STARTUP_REPORT_DIR, dir.getAbsolutePath());
+		try {
+			Description description = Description.createSuiteDescription(ServerRuleTest.class);
+			rule.apply(new Statement() {
+				@Override
+				public void evaluate() {
+				}
+			}, description).evaluate();
+		}
+		finally {
+			System.clearProperty(ServerRule.STARTUP_REPORT_DIR);
+		}
+
+		File output = new File(dir, ServerRuleTest.class.getName() + ".startup.json");
+		assertThat(output).exists();
+		assertThat(new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8)).isEqualTo(report.toJson());
+	}
+
 	@Test
 	public void it_should_restart_server() {
 		rule.restart();
 		verify(server).restart();
 	}
 
+	@Test
+	public void it_should_reload_server() {
+		rule.reload();
+		verify(server).reload();
+	}
+
 	@Test
 	public void it_should_check_if_server_is_started() {
 		boolean started = true;
@@ -0,0 +1,183 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.runner;
+
+import com.github.mjeanroy.junit.servers.annotations.TestServer;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.newSetFromMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class CrossContainerRunnerTest {
+
+	@Rule
+	public TemporaryFolder tmp = new TemporaryFolder();
+
+	@Test
+	public void it_should_run_test_class_against_each_server() throws Exception {
+		EmbeddedServer<?> s1 = mock(FirstServer.class);
+		EmbeddedServer<?> s2 = mock(SecondServer.class);
+		doReturn(mock(AbstractConfiguration.class)).when(s1).getConfiguration();
+		doReturn(mock(AbstractConfiguration.class)).when(s2).getConfiguration();
+		Fixture.servers.clear();
+
+		String reportDir = tmp.getRoot().getAbsolutePath();
+		System.setProperty(CrossContainerRunner.REPORT_DIR, reportDir);
+
+		List<EmbeddedServer<?>> servers = new ArrayList<>();
+		servers.add(s1);
+		servers.add(s2);
+
+		CrossContainerRunner runner = new CrossContainerRunner(Fixture.class, servers);
+		Result result;
+		try {
+			result = new JUnitCore().run(runner);
+		}
+		finally {
+			System.clearProperty(CrossContainerRunner.REPORT_DIR);
+		}
+
+		assertThat(result.getFailures()).isEmpty();
+		assertThat(result.getRunCount()).isEqualTo(2);
+		assertThat(Fixture.servers).containsOnly(s1, s2);
+
+		verify(s1).startAsync();
+		verify(s1).stop();
+		verify(s2).startAsync();
+		verify(s2).stop();
+
+		List<String> names = new ArrayList<>();
+		for (Description child : runner.getDescription().getChildren()) {
+			names.add(child.getDisplayName());
+		}
+
+		assertThat(names).hasSize(2);
+		assertThat(names.get(0)).startsWith(Fixture.class.getName() + "[CrossContainerRunnerTest$FirstServer");
+		assertThat(names.get(1)).startsWith(Fixture.class.getName() + "[CrossContainerRunnerTest$SecondServer");
+
+		Map<String, Long> durations = runner.getDurations();
+		assertThat(durations).hasSize(2).containsOnlyKeys(names.toArray(new String[0]));
+
+		File report = new File(reportDir, Fixture.class.getName() + ".containers.json");
+		String json = new String(Files.readAllBytes(report.toPath()), StandardCharsets.UTF_8);
+		assertThat(json).startsWith("{\"" + names.get(0) + "\":").contains(",\"" + names.get(1) + "\":").endsWith("}");
+	}
+
+	@Test
+	public void it_should_run_servers_one_after_another_with_static_injected_fields() throws Exception {
+		EmbeddedServer<?> s1 = mock(FirstServer.class);
+		EmbeddedServer<?> s2 = mock(SecondServer.class);
+		doReturn(mock(AbstractConfiguration.class)).when(s1).getConfiguration();
+		doReturn(mock(AbstractConfiguration.class)).when(s2).getConfiguration();
+		StaticFixture.servers.clear();
+		StaticFixture.running.set(0);
+		StaticFixture.maxRunning.set(0);
+
+		List<EmbeddedServer<?>> servers = new ArrayList<>();
+		servers.add(s1);
+		servers.add(s2);
+
+		Result result = new JUnitCore().run(new CrossContainerRunner(StaticFixture.class, servers));
+
+		assertThat(result.getFailures()).isEmpty();
+		assertThat(result.getRunCount()).isEqualTo(2);
+		assertThat(StaticFixture.servers).containsOnly(s1, s2);
+		assertThat(StaticFixture.maxRunning.get()).isEqualTo(1);
+	}
+
+	interface FirstServer extends EmbeddedServer<AbstractConfiguration> {
+	}
+
+	interface SecondServer extends EmbeddedServer<AbstractConfiguration> {
+	}
+
+	public static class Fixture {
+
+		private static final Set<EmbeddedServer<?>> servers = newSetFromMap(new ConcurrentHashMap<EmbeddedServer<?>, Boolean>());
+
+		@TestServer
+		private EmbeddedServer<?> server;
+
+		public Fixture() {
+		}
+
+		@Test
+		public void test() {
+			if (server != null) {
+				servers.add(server);
+			}
+		}
+	}
+
+	public static class StaticFixture {
+
+		private static final Set<EmbeddedServer<?>> servers = newSetFromMap(new ConcurrentHashMap<EmbeddedServer<?>, Boolean>());
+		private static final AtomicInteger running = new AtomicInteger(0);
+		private static final AtomicInteger maxRunning = new AtomicInteger(0);
+
+		@TestServer
+		private static EmbeddedServer<?> server;
+
+		public StaticFixture() {
+		}
+
+		@Test
+		public void test() throws Exception {
+			EmbeddedServer<?> current = server;
+			int concurrent = running.incrementAndGet();
+			maxRunning.set(Math.max(maxRunning.get(), concurrent));
+
+			try {
+				// Leave time for another server to overwrite the static field, if servers were run concurrently.
+				Thread.sleep(200);
+				assertThat(server).isSameAs(current);
+				servers.add(current);
+			}
+			finally {
+				running.decrementAndGet();
+			}
+		}
+	}
+}
@@ -32,7 +32,10 @@ import org.mockito.ArgumentCaptor;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.util.List;
 
+import static com.github.mjeanroy.junit.servers.runner.ServerAnnotationHandler.newServerAnnotationHandler;
+import static com.github.mjeanroy.junit.servers.utils.commons.Fields.readPrivate;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
@@ -122,6 +125,44 @@ public class HandlersRuleTest {
 		assertThat(annotation.annotationType()).isEqualTo(TestServer.class);
 	}
 
+	@Test
+	public void it_should_compute_injection_plan_once() throws Throwable {
+		when(handler.support(any(Annotation.class))).thenReturn(true);
+
+		rule.before();
+		rule.after();
+
+		ArgumentCaptor<Field> fieldCaptor = ArgumentCaptor.forClass(Field.class);
+		verify(handler).before(same(foo), fieldCaptor.capture());
+		verify(handler).after(same(foo), same(fieldCaptor.getValue()));
+		verify(handler).support(any(Annotation.class));
+
+		Field field = fieldCaptor.getValue();
+		assertThat(field.getName()).isEqualTo("server");
+		assertThat(field.isAccessible()).isTrue();
+	}
+
+	@Test
+	public void it_should_share_injection_plan_between_rules_of_same_class() throws Throwable {
+		EmbeddedServer<?> s1 = mock(EmbeddedServer.class);
+		EmbeddedServer<?> s2 = mock(EmbeddedServer.class);
+		HandlersRule r1 = new HandlersRule(new Foo(), newServerAnnotationHandler(s1));
+		HandlersRule r2 = new HandlersRule(new Foo(), newServerAnnotationHandler(s2));
+
+		r1.before();
+		r2.before();
+
+		List<?> plan = readPrivate(r1, "plan");
+		assertThat(plan).hasSize(1);
+		assertThat(readPrivate(r2, "plan")).isSameAs(plan);
+		assertThat(readPrivate(r1.getTarget(), "server")).isSameAs(s1);
+		assertThat(readPrivate(r2.getTarget(), "server")).isSameAs(s2);
+
+		// Cached fields are left accessible by injections.
+		Field field = readPrivate(plan.get(0), "field");
+		assertThat(field.isAccessible()).isTrue();
+	}
+
 	private static class Foo {
 
 		@TestServer
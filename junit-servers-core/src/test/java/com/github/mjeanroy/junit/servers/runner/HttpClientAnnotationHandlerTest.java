@@ -26,7 +26,11 @@ package com.github.mjeanroy.junit.servers.runner;
 
 import com.github.mjeanroy.junit.servers.annotations.TestHttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
+import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpClient;
+import com.github.mjeanroy.junit.servers.client.impl.okhttp3.OkHttpClient;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import org.apache.commons.lang3.reflect.FieldUtils;
 import org.junit.Test;
 
 import java.lang.annotation.Annotation;
@@ -37,6 +41,8 @@ import static com.github.mjeanroy.junit.servers.utils.commons.Fields.getPrivateF
 import static com.github.mjeanroy.junit.servers.utils.commons.Fields.readPrivate;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public class HttpClientAnnotationHandlerTest {
 
@@ -61,6 +67,92 @@ public class HttpClientAnnotationHandlerTest {
 		handler.before(fixture, field);
 
 		HttpClient client = readPrivate(fixture, "client");
+		assertThat(client).isNotNull().isInstanceOf(LazyHttpClient.class);
+		assertThat(client.isDestroyed()).isFalse();
+		assertThat(((LazyHttpClient) client).isInitialized()).isFalse();
+
+		handler.after(fixture, field);
+		assertThat(readPrivate(fixture, "client")).isNull();
+		assertThat(client.isDestroyed()).isTrue();
+	}
+
+	@Test
+	public void it_should_reuse_shared_client_instance() throws Exception {
+		EmbeddedServer<?> server = mock(EmbeddedServer.class);
+		SharedFixture f1 = new SharedFixture();
+		SharedFixture f2 = new SharedFixture();
+		Field field = SharedFixture.class.getDeclaredField("client");
+
+		HttpClientAnnotationHandler handler = newHttpClientAnnotationHandler(server);
+
+		handler.before(f1, field);
+		HttpClient c1 = readPrivate(f1, "client");
+		assertThat(c1).isNotNull();
+
+		handler.after(f1, field);
+		assertThat(readPrivate(f1, "client")).isNull();
+		assertThat(c1.isDestroyed()).isFalse();
+
+		handler.before(f2, field);
+		HttpClient c2 = readPrivate(f2, "client");
+		assertThat(c2).isSameAs(c1);
+
+		handler.after(f2, field);
+		handler.destroySharedClients();
+		assertThat(c1.isDestroyed()).isTrue();
+	}
+
+	@Test
+	public void it_should_reset_shared_client_once_last_test_has_finished() throws Exception {
+		EmbeddedServer<?> server = mock(EmbeddedServer.class);
+		SharedFixture f1 = new SharedFixture();
+		SharedFixture f2 = new SharedFixture();
+		Field field = SharedFixture.class.getDeclaredField("client");
+
+		HttpClientAnnotationHandler handler = newHttpClientAnnotationHandler(server);
+
+		handler.before(f1, field);
+		handler.before(f2, field);
+
+		AbstractHttpClient client = mock(AbstractHttpClient.class);
+		FieldUtils.writeField(readPrivate(f1, "client"), "client", client, true);
+
+		handler.after(f1, field);
+		verify(client, never()).reset();
+
+		handler.after(f2, field);
+		verify(client).reset();
+	}
+
+	@Test
+	public void it_should_destroy_injected_client_if_field_has_been_reassigned() throws Exception {
+		EmbeddedServer<?> server = mock(EmbeddedServer.class);
+		FixtureClass fixture = new FixtureClass();
+		Field field = FixtureClass.class.getDeclaredField("client");
+
+		AnnotationHandler handler = newHttpClientAnnotationHandler(server);
+
+		handler.before(fixture, field);
+		HttpClient client = readPrivate(fixture, "client");
+
+		FieldUtils.writeField(fixture, "client", mock(HttpClient.class), true);
+		handler.after(fixture, field);
+
+		assertThat(readPrivate(fixture, "client")).isNull();
+		assertThat(client.isDestroyed()).isTrue();
+	}
+
+	@Test
+	public void it_should_set_concrete_client_instance() throws Exception {
+		EmbeddedServer<?> server = mock(EmbeddedServer.class);
+		OkHttpFixture fixture = new OkHttpFixture();
+		Field field = OkHttpFixture.class.getDeclaredField("client");
+
+		AnnotationHandler handler = newHttpClientAnnotationHandler(server);
+
+		handler.before(fixture, field);
+
+		OkHttpClient client = readPrivate(fixture, "client");
 		assertThat(client).isNotNull();
 		assertThat(client.isDestroyed()).isFalse();
 
@@ -68,4 +160,14 @@ public class HttpClientAnnotationHandlerTest {
 		assertThat(readPrivate(fixture, "client")).isNull();
 		assertThat(client.isDestroyed()).isTrue();
 	}
+
+	private static class OkHttpFixture {
+		@TestHttpClient(strategy = HttpClientStrategy.OK_HTTP3)
+		private OkHttpClient client;
+	}
+
+	private static class SharedFixture {
+		@TestHttpClient(shared = true)
+		private HttpClient client;
+	}
 }
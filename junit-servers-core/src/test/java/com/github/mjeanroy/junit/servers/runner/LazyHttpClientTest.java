@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.runner;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
+import com.github.mjeanroy.junit.servers.client.HttpMethod;
+import com.github.mjeanroy.junit.servers.client.HttpRequest;
+import com.github.mjeanroy.junit.servers.client.HttpResponseListener;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static com.github.mjeanroy.junit.servers.utils.commons.Fields.readPrivate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+public class LazyHttpClientTest {
+
+	private HttpClientConfiguration configuration;
+	private LazyHttpClient client;
+
+	@Before
+	public void setUp() {
+		configuration = HttpClientConfiguration.defaultConfiguration();
+		client = new LazyHttpClient(HttpClientStrategy.AUTO, configuration, mock(EmbeddedServer.class));
+	}
+
+	@Test
+	public void it_should_not_build_client_until_first_request() {
+		assertThat(client.getConfiguration()).isSameAs(configuration);
+		assertThat(client.isInitialized()).isFalse();
+		assertThat(client.isDestroyed()).isFalse();
+
+		HttpRequest request = client.prepareRequest(HttpMethod.GET, "http://localhost:8080/foo");
+
+		assertThat(request).isNotNull();
+		assertThat(request.getMethod()).isEqualTo(HttpMethod.GET);
+		assertThat(client.isInitialized()).isTrue();
+
+		HttpClient delegate = readPrivate(client, "client");
+		client.destroy();
+		assertThat(client.isDestroyed()).isTrue();
+		assertThat(delegate.isDestroyed()).isTrue();
+	}
+
+	@Test
+	public void it_should_destroy_without_building_client() {
+		client.reset();
+		client.destroy();
+
+		assertThat(client.isInitialized()).isFalse();
+		assertThat(client.isDestroyed()).isTrue();
+
+		try {
+			client.prepareGet("http://localhost:8080/foo");
+			fail("Building a request with a destroyed client should fail");
+		}
+		catch (IllegalStateException ex) {
+			assertThat(ex.getMessage()).isEqualTo("Cannot create request from a destroyed client");
+		}
+	}
+
+	@Test
+	public void it_should_register_response_listeners_on_underlying_client() {
+		HttpResponseListener l1 = mock(HttpResponseListener.class);
+		HttpResponseListener l2 = mock(HttpResponseListener.class);
+
+		client.addResponseListener(l1);
+		client.prepareGet("http://localhost:8080/foo");
+		client.addResponseListener(l2);
+
+		HttpClient delegate = readPrivate(client, "client");
+		List<HttpResponseListener> listeners = readPrivate(delegate, "listeners");
+		assertThat(listeners).containsExactly(l1, l2);
+
+		client.removeResponseListener(l1);
+		assertThat(listeners).containsExactly(l2);
+
+		client.destroy();
+	}
+}
@@ -0,0 +1,71 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.runner;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParallelSchedulerTest {
+
+	@Test
+	public void it_should_run_children_concurrently_and_wait_for_them() {
+		final int threads = 4;
+		final CountDownLatch started = new CountDownLatch(threads);
+		final AtomicInteger concurrent = new AtomicInteger(0);
+		final AtomicInteger done = new AtomicInteger(0);
+
+		ParallelScheduler scheduler = new ParallelScheduler(threads);
+		for (int i = 0; i < threads; i++) {
+			scheduler.schedule(new Runnable() {
+				@Override
+				public void run() {
+					started.countDown();
+					try {
+						// Each task waits for all the other ones: this would never complete if tasks were run sequentially.
+						if (started.await(10, TimeUnit.SECONDS)) {
+							concurrent.incrementAndGet();
+						}
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+					finally {
+						done.incrementAndGet();
+					}
+				}
+			});
+		}
+
+		scheduler.finished();
+
+		assertThat(done.get()).isEqualTo(threads);
+		assertThat(concurrent.get()).isEqualTo(threads);
+	}
+}
@@ -0,0 +1,302 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.runner;
+
+import static com.github.mjeanroy.junit.servers.runner.HttpClientAnnotationHandler.newHttpClientAnnotationHandler;
+import static com.github.mjeanroy.junit.servers.utils.commons.Fields.readPrivate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.Statement;
+
+import com.github.mjeanroy.junit.servers.annotations.MaxLatency;
+import com.github.mjeanroy.junit.servers.annotations.MinThroughput;
+import com.github.mjeanroy.junit.servers.annotations.TestHttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpResponseFuture;
+import com.github.mjeanroy.junit.servers.client.HttpResponseListener;
+import com.github.mjeanroy.junit.servers.client.impl.DefaultHttpResponseFuture;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+
+public class PerformanceBudgetStatementTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	@Rule
+	public TemporaryFolder tmp = new TemporaryFolder();
+
+	private HttpClientAnnotationHandler handler;
+	private Fixture fixture;
+
+	@Before
+	public void setUp() throws Exception {
+		handler = newHttpClientAnnotationHandler(mock(EmbeddedServer.class));
+		fixture = new Fixture();
+		handler.before(fixture, Fixture.class.getDeclaredField("client"));
+	}
+
+	@Test
+	public void it_should_not_wrap_method_without_budget() throws Exception {
+		Statement next = new RecordingStatement(1);
+		Statement statement = wrap("withoutBudget", next);
+		assertThat(statement).isSameAs(next);
+	}
+
+	@Test
+	public void it_should_run_warmup_and_measured_invocations() throws Throwable {
+		RecordingStatement next = new RecordingStatement(TimeUnit.MILLISECONDS.toNanos(1));
+		Statement statement = wrap("withLatencyBudget", next);
+
+		statement.evaluate();
+
+		assertThat(next.invocations.get()).isEqualTo(15);
+	}
+
+	@Test
+	public void it_should_use_greatest_invocations_of_both_budgets() throws Throwable {
+		RecordingStatement next = new RecordingStatement(TimeUnit.MILLISECONDS.toNanos(1));
+		Statement statement = wrap("withBothBudgets", next);
+
+		statement.evaluate();
+
+		assertThat(next.invocations.get()).isEqualTo(25);
+	}
+
+	@Test
+	public void it_should_fail_with_distribution_if_latency_budget_is_exceeded() throws Throwable {
+		RecordingStatement next = new RecordingStatement(TimeUnit.MILLISECONDS.toNanos(20));
+		Statement statement = wrap("withLatencyBudget", next);
+
+		thrown.expect(AssertionError.class);
+		thrown.expectMessage("Performance budget exceeded: p99 = ");
+		thrown.expectMessage("(budget: 10ms)");
+		thrown.expectMessage("10 requests in 10 invocations");
+		thrown.expectMessage("p99.9  = ");
+		thrown.expectMessage("max    = ");
+
+		statement.evaluate();
+	}
+
+	@Test
+	public void it_should_fail_if_throughput_budget_is_not_met() throws Throwable {
+		Statement next = new Statement() {
+			@Override
+			public void evaluate() throws Throwable {
+				Thread.sleep(10);
+				onResponse(1);
+			}
+		};
+
+		Statement statement = wrap("withThroughputBudget", next);
+
+		thrown.expect(AssertionError.class);
+		thrown.expectMessage("Performance budget exceeded: throughput = ");
+		thrown.expectMessage("(budget: 1000000.0 req/s)");
+
+		statement.evaluate();
+	}
+
+	@Test
+	public void it_should_record_asynchronous_requests() throws Throwable {
+		final AtomicInteger invocations = new AtomicInteger(0);
+		Statement statement = wrap("withLatencyBudget", new Statement() {
+			@Override
+			public void evaluate() {
+				invocations.incrementAndGet();
+				final DefaultHttpResponseFuture future = new DefaultHttpResponseFuture();
+				onPendingResponse(future);
+
+				// Complete the request once the test method has returned.
+				new Thread(new Runnable() {
+					@Override
+					public void run() {
+						future.complete(response(TimeUnit.MILLISECONDS.toNanos(20)));
+					}
+				}).start();
+			}
+		});
+
+		thrown.expect(AssertionError.class);
+		thrown.expectMessage("Performance budget exceeded: p99 = ");
+		thrown.expectMessage("10 requests in 10 invocations");
+
+		try {
+			statement.evaluate();
+		}
+		finally {
+			assertThat(invocations.get()).isEqualTo(15);
+		}
+	}
+
+	@Test
+	public void it_should_remove_listener_once_evaluated() throws Throwable {
+		Statement statement = wrap("withLatencyBudget", new RecordingStatement(1));
+		statement.evaluate();
+		assertThat(listeners()).isEmpty();
+	}
+
+	@Test
+	public void it_should_write_report_if_budget_is_met() throws Throwable {
+		File dir = tmp.newFolder();
+		Statement statement = wrap("withLatencyBudget", new RecordingStatement(TimeUnit.MILLISECONDS.toNanos(1)));
+
+		System.setProperty(JunitServerRunner.PERFORMANCE_REPORT_DIR, dir.getAbsolutePath());
+		try {
+			statement.evaluate();
+		}
+		finally {
+			System.clearProperty(JunitServerRunner.PERFORMANCE_REPORT_DIR);
+		}
+
+		File output = new File(dir, Fixture.class.getName() + ".withLatencyBudget.performance.txt");
+		assertThat(output).exists();
+		assertThat(new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8))
+			.startsWith("10 requests in 10 invocations")
+			.contains("p99    = ");
+	}
+
+	@Test
+	public void it_should_fail_if_no_request_has_been_executed() throws Throwable {
+		Statement statement = wrap("withLatencyBudget", new Statement() {
+			@Override
+			public void evaluate() {
+			}
+		});
+
+		thrown.expect(AssertionError.class);
+		thrown.expectMessage("Performance budget cannot be checked: test method did not execute any http request");
+
+		statement.evaluate();
+	}
+
+	@Test
+	public void it_should_fail_with_invalid_budget() throws Throwable {
+		RecordingStatement next = new RecordingStatement(1);
+		Statement statement = wrap("withInvalidBudget", next);
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage("Invalid duration: '50 minutes'");
+
+		try {
+			statement.evaluate();
+		}
+		finally {
+			assertThat(next.invocations.get()).isZero();
+		}
+	}
+
+	@Test
+	public void it_should_parse_durations() {
+		assertThat(PerformanceBudgetStatement.parseDuration("250ns")).isEqualTo(250);
+		assertThat(PerformanceBudgetStatement.parseDuration("500us")).isEqualTo(500000);
+		assertThat(PerformanceBudgetStatement.parseDuration("50ms")).isEqualTo(50000000);
+		assertThat(PerformanceBudgetStatement.parseDuration(" 1.5 s ")).isEqualTo(1500000000);
+	}
+
+	private Statement wrap(String name, Statement next) throws Exception {
+		FrameworkMethod method = new FrameworkMethod(Fixture.class.getMethod(name));
+		return PerformanceBudgetStatement.wrap(method, next, handler, fixture);
+	}
+
+	private List<HttpResponseListener> listeners() {
+		return readPrivate(handler.injectedClients(fixture).get(0), "listeners");
+	}
+
+	// Listeners are only registered during measured invocations.
+	private void onResponse(long latency) {
+		for (HttpResponseListener listener : listeners()) {
+			listener.onResponse(response(latency));
+		}
+	}
+
+	private void onPendingResponse(HttpResponseFuture future) {
+		for (HttpResponseListener listener : listeners()) {
+			listener.onPendingResponse(future);
+		}
+	}
+
+	private static HttpResponse response(long latency) {
+		HttpResponse response = mock(HttpResponse.class);
+		when(response.getRequestDuration()).thenReturn(latency);
+		return response;
+	}
+
+	private class RecordingStatement extends Statement {
+		private final long latency;
+		private final AtomicInteger invocations;
+
+		private RecordingStatement(long latency) {
+			this.latency = latency;
+			this.invocations = new AtomicInteger(0);
+		}
+
+		@Override
+		public void evaluate() {
+			invocations.incrementAndGet();
+			onResponse(latency);
+		}
+	}
+
+	public static class Fixture {
+		@TestHttpClient
+		private HttpClient client;
+
+		public void withoutBudget() {
+		}
+
+		@MaxLatency(p99 = "10ms", invocations = 10, warmup = 5)
+		public void withLatencyBudget() {
+		}
+
+		@MaxLatency(p50 = "1s", invocations = 10, warmup = 5)
+		@MinThroughput(value = 1, invocations = 20)
+		public void withBothBudgets() {
+		}
+
+		@MinThroughput(value = 1000000, invocations = 5)
+		public void withThroughputBudget() {
+		}
+
+		@MaxLatency(p99 = "50 minutes")
+		public void withInvalidBudget() {
+		}
+	}
+}
@@ -30,13 +30,23 @@ import static com.github.mjeanroy.junit.servers.utils.commons.TestUtils.localUrl
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.concurrent.CountDownLatch;
-
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.mjeanroy.junit.servers.exceptions.ServerNotReadyException;
 import org.junit.Test;
 import org.mockito.InOrder;
 
@@ -155,6 +165,217 @@ public class AbstractEmbeddedServerTest {
 		assertThat(server.getNbStop()).isOne();
 	}
 
+	@Test
+	public void it_should_build_startup_report() {
+		final Hook hook = mock(Hook.class);
+		final FakeConfiguration configuration = new FakeConfiguration.Builder()
+				.withHook(hook)
+				.build();
+
+		server = new FakeEmbeddedServer(configuration);
+		assertThat(server.getStartupReport()).isNull();
+
+		server.start();
+
+		StartupReport report = server.getStartupReport();
+		assertThat(report).isNotNull();
+		assertThat(report.getServer()).isEqualTo("FakeEmbeddedServer");
+		assertThat(report.findPhase("environment")).isNotNull();
+		assertThat(report.findPhase("hook.pre:" + hook.getClass().getName())).isNotNull();
+		assertThat(report.findPhase("hook.onStarted:" + hook.getClass().getName())).isNotNull();
+
+		// Fake server takes one second to start.
+		StartupReport.Phase phase = report.findPhase("server.start");
+		assertThat(phase).isNotNull();
+		assertThat(phase.getDuration()).isGreaterThanOrEqualTo(1000000000L);
+		assertThat(report.getDuration()).isGreaterThanOrEqualTo(phase.getDuration());
+	}
+
+	@Test
+	public void it_should_wait_for_readiness_probe() {
+		final ReadinessProbe probe = mock(ReadinessProbe.class);
+
+		server = new FakeEmbeddedServer(new FakeConfiguration.Builder()
+				.withReadinessProbe(probe)
+				.build());
+
+		when(probe.isReady(server)).thenReturn(false, false, true);
+
+		server.start();
+
+		assertThat(server.isStarted()).isTrue();
+		verify(probe, times(3)).isReady(server);
+		assertThat(server.getStartupReport().findPhase("readiness")).isNotNull();
+	}
+
+	@Test
+	public void it_should_not_be_started_until_readiness_probe_succeeds() throws Exception {
+		final CountDownLatch probing = new CountDownLatch(1);
+		final CountDownLatch ready = new CountDownLatch(1);
+		final AtomicInteger probedPort = new AtomicInteger();
+
+		server = new FakeEmbeddedServer(new FakeConfiguration.Builder()
+				.withPort(8080)
+				.withReadinessProbe(new ReadinessProbe() {
+					@Override
+					public boolean isReady(EmbeddedServer<?> server) {
+						probedPort.set(server.getPort());
+						probing.countDown();
+						try {
+							return ready.await(5, TimeUnit.SECONDS);
+						}
+						catch (InterruptedException ex) {
+							Thread.currentThread().interrupt();
+							return false;
+						}
+					}
+				})
+				.build());
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+			Future<?> first = executor.submit(new Runnable() {
+				@Override
+				public void run() {
+					server.start();
+				}
+			});
+
+			assertThat(probing.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(server.isStarted()).isFalse();
+			assertThat(probedPort.get()).isEqualTo(80);
+
+			Future<?> second = executor.submit(new Runnable() {
+				@Override
+				public void run() {
+					server.start();
+				}
+			});
+
+			Thread.sleep(100);
+			assertThat(second.isDone()).isFalse();
+			assertThat(server.isStarted()).isFalse();
+
+			ready.countDown();
+			first.get(5, TimeUnit.SECONDS);
+			second.get(5, TimeUnit.SECONDS);
+
+			assertThat(server.isStarted()).isTrue();
+			assertThat(server.getNbStart()).isOne();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void it_should_stop_server_if_it_is_not_ready_before_timeout() {
+		final ReadinessProbe probe = mock(ReadinessProbe.class);
+
+		server = new FakeEmbeddedServer(new FakeConfiguration.Builder()
+				.withReadinessProbe(probe)
+				.withReadinessTimeout(100)
+				.build());
+
+		when(probe.isReady(server)).thenReturn(false);
+
+		try {
+			server.start();
+			fail("Server should not be ready");
+		}
+		catch (ServerNotReadyException ex) {
+			assertThat(ex.getMessage()).isEqualTo("Server http://localhost:80/ is not ready after 100ms");
+		}
+
+		assertThat(server.isStarted()).isFalse();
+		assertThat(server.getNbStart()).isEqualTo(1);
+		assertThat(server.getNbStop()).isEqualTo(1);
+		assertThat(server.getStartupReport()).isNull();
+	}
+
+	@Test
+	public void it_should_build_startup_report_on_reload() {
+		server.start();
+		StartupReport startReport = server.getStartupReport();
+
+		server.reload();
+
+		StartupReport reloadReport = server.getStartupReport();
+		assertThat(reloadReport).isNotNull().isNotSameAs(startReport);
+		assertThat(reloadReport.findPhase("server.reload")).isNotNull();
+		assertThat(reloadReport.findPhase("server.start")).isNull();
+	}
+
+	@Test
+	public void it_should_reload_server() {
+		final Hook hook = mock(Hook.class);
+		final FakeConfiguration configuration = new FakeConfiguration.Builder()
+				.withHook(hook)
+				.build();
+
+		server = new FakeEmbeddedServer(configuration);
+		server.start();
+		server.reload();
+
+		assertThat(server.isStarted()).isTrue();
+		assertThat(server.getNbStart()).isEqualTo(2);
+		assertThat(server.getNbStop()).isOne();
+
+		verify(hook, times(1)).pre(server);
+		verify(hook, never()).post(server);
+		verify(hook, times(2)).onStarted(server, server.getServletContext());
+	}
+
+	@Test
+	public void it_should_start_server_on_reload_if_it_is_not_started() {
+		server.reload();
+
+		assertThat(server.isStarted()).isTrue();
+		assertThat(server.getNbStart()).isOne();
+		assertThat(server.getNbStop()).isZero();
+	}
+
+	@Test
+	public void it_should_start_server_asynchronously() throws Exception {
+		Future<EmbeddedServer<FakeConfiguration>> future = server.startAsync();
+
+		assertThat(future.get()).isSameAs(server);
+		assertThat(server.isStarted()).isTrue();
+		assertThat(server.getNbStart()).isOne();
+		assertThat(server.getNbStop()).isZero();
+	}
+
+	@Test
+	public void it_should_stop_server_asynchronously() throws Exception {
+		server.start();
+
+		Future<EmbeddedServer<FakeConfiguration>> future = server.stopAsync();
+
+		assertThat(future.get()).isSameAs(server);
+		assertThat(server.isStarted()).isFalse();
+		assertThat(server.getNbStart()).isOne();
+		assertThat(server.getNbStop()).isOne();
+	}
+
+	@Test
+	public void it_should_start_server_asynchronously_with_custom_executor() throws Exception {
+		final Thread[] threads = new Thread[1];
+		final Executor executor = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				threads[0] = new Thread(command, "custom");
+				threads[0].start();
+			}
+		};
+
+		Future<EmbeddedServer<FakeConfiguration>> future = server.startAsync(executor);
+
+		assertThat(future.get()).isSameAs(server);
+		assertThat(threads[0]).isNotNull();
+		assertThat(server.isStarted()).isTrue();
+	}
+
 	@Test
 	public void it_should_block_until_server_is_started() throws Exception {
 		assertThat(server.isStarted()).isFalse();
@@ -227,6 +448,60 @@ public class AbstractEmbeddedServerTest {
 		assertThat(server.getNbStop()).isOne();
 	}
 
+	@Test
+	public void it_should_start_independent_servers_in_parallel() throws Exception {
+		final int nbServers = 3;
+		final FakeEmbeddedServer[] servers = new FakeEmbeddedServer[nbServers];
+		final CountDownLatch startSignal = new CountDownLatch(1);
+		final CountDownLatch doneSignal = new CountDownLatch(nbServers);
+
+		for (int i = 0; i < nbServers; i++) {
+			servers[i] = new FakeEmbeddedServer();
+			new Thread(startWorker(servers[i], startSignal, doneSignal)).start();
+		}
+
+		final long start = System.nanoTime();
+		startSignal.countDown();
+		doneSignal.await();
+		final long elapsedMs = (System.nanoTime() - start) / 1000000;
+
+		// Each server takes one second to start: with a global lock, it would take (at least) three seconds.
+		assertThat(elapsedMs).isLessThan(nbServers * 1000L - 500L);
+
+		for (FakeEmbeddedServer server : servers) {
+			assertThat(server.isStarted()).isTrue();
+			assertThat(server.getNbStart()).isOne();
+			server.stop();
+		}
+	}
+
+	@Test
+	public void it_should_be_stopped_if_server_failed_to_start() {
+		final String name = "junit-servers-failure";
+		final Hook hook = mock(Hook.class);
+		final FakeConfiguration configuration = new FakeConfiguration.Builder()
+				.withProperty(name, "foo")
+				.withHook(hook)
+				.build();
+
+		server = new FakeEmbeddedServer(configuration);
+
+		final RuntimeException failure = new RuntimeException("Failure");
+		doThrow(failure).when(hook).pre(server);
+
+		try {
+			server.start();
+			fail("Server should not have been started");
+		}
+		catch (RuntimeException ex) {
+			assertThat(ex).isSameAs(failure);
+		}
+
+		assertThat(server.isStarted()).isFalse();
+		assertThat(server.getNbStart()).isZero();
+		assertThat(System.getProperty(name)).isNull();
+	}
+
 	@Test
 	public void it_should_set_environment_properties() {
 		String name1 = "foo";
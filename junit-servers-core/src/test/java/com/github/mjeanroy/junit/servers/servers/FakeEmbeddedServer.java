@@ -94,7 +94,7 @@ class FakeEmbeddedServer extends AbstractEmbeddedServer<FakeServer, FakeConfigur
 
 	@Override
 	public ServletContext getServletContext() {
-		return isStarted() ? servletContext : null;
+		return isRunning() ? servletContext : null;
 	}
 
 	@Override
@@ -0,0 +1,98 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.ServerSocket;
+
+import javax.servlet.ServletContext;
+
+import org.junit.Test;
+
+public class ReadinessProbesTest {
+
+	@Test
+	public void it_should_check_servlet_context_attribute() {
+		ServletContext servletContext = mock(ServletContext.class);
+		EmbeddedServer<?> server = mock(EmbeddedServer.class);
+		when(server.getServletContext()).thenReturn(servletContext);
+
+		ReadinessProbe probe = ReadinessProbes.servletContextAttribute("foo");
+		assertThat(probe.isReady(server)).isFalse();
+
+		when(servletContext.getAttribute("foo")).thenReturn(new Object());
+		assertThat(probe.isReady(server)).isTrue();
+	}
+
+	@Test
+	public void it_should_not_be_ready_without_servlet_context() {
+		EmbeddedServer<?> server = mock(EmbeddedServer.class);
+		ReadinessProbe probe = ReadinessProbes.servletContextAttribute("foo");
+		assertThat(probe.isReady(server)).isFalse();
+	}
+
+	@Test
+	public void it_should_not_be_ready_if_server_does_not_answer() throws Exception {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+
+		EmbeddedServer<?> server = mock(EmbeddedServer.class);
+		when(server.getScheme()).thenReturn("http");
+		when(server.getHost()).thenReturn("localhost");
+		when(server.getPort()).thenReturn(port);
+		when(server.getPath()).thenReturn("/");
+
+		ReadinessProbe probe = ReadinessProbes.httpGet("/health", 200);
+		assertThat(probe.isReady(server)).isFalse();
+	}
+
+	@Test
+	public void it_should_implement_equals_hashCode() {
+		assertThat(ReadinessProbes.httpGet("/health", 200))
+			.isEqualTo(ReadinessProbes.httpGet("/health", 200))
+			.isNotEqualTo(ReadinessProbes.httpGet("/health", 204))
+			.isNotEqualTo(ReadinessProbes.httpGet("/ready", 200))
+			.isNotEqualTo(ReadinessProbes.servletContextAttribute("/health"));
+
+		assertThat(ReadinessProbes.httpGet("/health", 200).hashCode()).isEqualTo(ReadinessProbes.httpGet("/health", 200).hashCode());
+
+		assertThat(ReadinessProbes.servletContextAttribute("foo"))
+			.isEqualTo(ReadinessProbes.servletContextAttribute("foo"))
+			.isNotEqualTo(ReadinessProbes.servletContextAttribute("bar"));
+
+		assertThat(ReadinessProbes.servletContextAttribute("foo").hashCode()).isEqualTo(ReadinessProbes.servletContextAttribute("foo").hashCode());
+	}
+
+	@Test
+	public void it_should_implement_to_string() {
+		assertThat(ReadinessProbes.httpGet("/health", 200).toString()).isEqualTo("HttpGetProbe{path: \"/health\", expectedStatus: 200}");
+		assertThat(ReadinessProbes.servletContextAttribute("foo").toString()).isEqualTo("ServletContextAttributeProbe{name: \"foo\"}");
+	}
+}
@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+
+public class StartupReportTest {
+
+	@Test
+	public void it_should_record_phases() {
+		StartupReport.Builder builder = new StartupReport.Builder("FakeServer");
+
+		long start = System.nanoTime();
+		builder.record("foo", start);
+		builder.record("bar", start);
+
+		StartupReport report = builder.build();
+
+		assertThat(report.getServer()).isEqualTo("FakeServer");
+		assertThat(report.getDuration()).isGreaterThan(0);
+		assertThat(report.getDurationInMillis()).isEqualTo(report.getDuration() / 1000000);
+		assertThat(report.getPhases()).hasSize(2);
+		assertThat(report.getPhases().get(0).getName()).isEqualTo("foo");
+		assertThat(report.getPhases().get(1).getName()).isEqualTo("bar");
+		assertThat(report.getPhases().get(0).getOffset()).isGreaterThanOrEqualTo(0);
+		assertThat(report.getPhases().get(0).getDuration()).isGreaterThanOrEqualTo(0);
+		assertThat(report.findPhase("bar")).isSameAs(report.getPhases().get(1));
+		assertThat(report.findPhase("baz")).isNull();
+	}
+
+	@Test
+	public void it_should_serialize_to_json() {
+		StartupReport.Builder builder = new StartupReport.Builder("FakeServer");
+		builder.record("hook.pre:\"foo\\bar\"", System.nanoTime());
+		StartupReport report = builder.build();
+		StartupReport.Phase phase = report.getPhases().get(0);
+
+		assertThat(report.toJson()).isEqualTo(
+				"{" +
+					"\"server\":\"FakeServer\"," +
+					"\"duration\":" + report.getDuration() + "," +
+					"\"phases\":[" +
+						"{" +
+							"\"name\":\"hook.pre:\\\"foo\\\\bar\\\"\"," +
+							"\"offset\":" + phase.getOffset() + "," +
+							"\"duration\":" + phase.getDuration() +
+						"}" +
+					"]" +
+				"}"
+		);
+	}
+
+	@Test
+	public void it_should_implement_equals_hash_code() {
+		EqualsVerifier.forClass(StartupReport.class)
+				.suppress(Warning.STRICT_INHERITANCE)
+				.verify();
+
+		EqualsVerifier.forClass(StartupReport.Phase.class)
+				.suppress(Warning.STRICT_INHERITANCE)
+				.verify();
+	}
+}
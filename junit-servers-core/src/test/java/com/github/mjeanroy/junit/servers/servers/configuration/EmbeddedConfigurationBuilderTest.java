@@ -25,6 +25,7 @@
 package com.github.mjeanroy.junit.servers.servers.configuration;
 
 import com.github.mjeanroy.junit.servers.servers.Hook;
+import com.github.mjeanroy.junit.servers.servers.ReadinessProbe;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -220,6 +221,19 @@ public class EmbeddedConfigurationBuilderTest {
 				.containsOnly(hook);
 	}
 
+	@Test
+	public void it_should_change_readiness_probe() {
+		ReadinessProbe probe = mock(ReadinessProbe.class);
+		assertThat(builder.getReadinessProbe()).isNull();
+		assertThat(builder.getReadinessTimeout()).isEqualTo(30000L);
+
+		EmbeddedConfigurationBuilder result = builder.withReadinessProbe(probe).withReadinessTimeout(1000L);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getReadinessProbe()).isSameAs(probe);
+		assertThat(result.getReadinessTimeout()).isEqualTo(1000L);
+	}
+
 	private static class EmbeddedConfiguration extends AbstractConfiguration {
 
 		public EmbeddedConfiguration(EmbeddedConfigurationBuilder builder) {
@@ -66,7 +66,9 @@ public class EmbeddedConfigurationTest {
 						"webapp: \"src/main/webapp\", " +
 						"classpath: \"/target/classes\", " +
 						"overrideDescriptor: null, " +
-						"parentClasspath: []" +
+						"parentClasspath: [], " +
+						"readinessProbe: null, " +
+						"readinessTimeout: 0" +
 				"}");
 	}
 
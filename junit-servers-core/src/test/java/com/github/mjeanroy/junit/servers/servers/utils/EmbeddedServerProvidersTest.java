@@ -0,0 +1,141 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers.utils;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.mjeanroy.junit.servers.exceptions.ServerImplMissingException;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServerProvider;
+import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration;
+import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfigurationBuilder;
+
+@SuppressWarnings("unchecked")
+public class EmbeddedServerProvidersTest {
+
+	private EmbeddedServerProvider<AbstractConfiguration> generic;
+	private EmbeddedServerProvider<CustomConfiguration> custom;
+	private EmbeddedServer<AbstractConfiguration> genericServer;
+	private EmbeddedServer<CustomConfiguration> customServer;
+
+	@Before
+	public void setUp() {
+		genericServer = mock(EmbeddedServer.class);
+		customServer = mock(EmbeddedServer.class);
+
+		generic = mock(EmbeddedServerProvider.class);
+		when(generic.getConfigurationClass()).thenReturn(AbstractConfiguration.class);
+		when(generic.getPriority()).thenReturn(10);
+		when(generic.instantiate(any(AbstractConfiguration.class))).thenReturn(genericServer);
+
+		custom = mock(EmbeddedServerProvider.class);
+		when(custom.getConfigurationClass()).thenReturn(CustomConfiguration.class);
+		when(custom.getPriority()).thenReturn(20);
+		when(custom.instantiate(any(CustomConfiguration.class))).thenReturn(customServer);
+	}
+
+	@Test
+	public void it_should_sort_providers_by_priority() {
+		EmbeddedServerProviders providers = new EmbeddedServerProviders(asList(generic, custom));
+		assertThat(providers.getProviders()).containsExactly(custom, generic);
+	}
+
+	@Test
+	public void it_should_instantiate_server_with_provider_supporting_configuration() {
+		EmbeddedServerProviders providers = new EmbeddedServerProviders(asList(generic, custom));
+
+		CustomConfiguration customConfiguration = mock(CustomConfiguration.class);
+		AbstractConfiguration configuration = mock(AbstractConfiguration.class);
+
+		assertThat(providers.instantiate(customConfiguration)).isSameAs(customServer);
+		assertThat(providers.instantiate(configuration)).isSameAs(genericServer);
+		verify(custom).instantiate(customConfiguration);
+		verify(generic).instantiate(configuration);
+	}
+
+	@Test
+	public void it_should_instantiate_server_with_highest_priority_provider_without_configuration() {
+		EmbeddedServerProviders providers = new EmbeddedServerProviders(asList(generic, custom));
+		doReturn(customServer).when(custom).instantiate(null);
+
+		assertThat(providers.instantiate(null)).isSameAs(customServer);
+	}
+
+	@Test
+	public void it_should_resolve_provider_once_per_configuration_class() {
+		EmbeddedServerProviders providers = new EmbeddedServerProviders(asList(custom, generic));
+		AbstractConfiguration configuration = mock(AbstractConfiguration.class);
+
+		providers.instantiate(configuration);
+		providers.instantiate(configuration);
+
+		verify(custom, times(1)).getConfigurationClass();
+		verify(generic, times(1)).getConfigurationClass();
+		verify(generic, times(2)).instantiate(configuration);
+		verify(custom, never()).instantiate(any(CustomConfiguration.class));
+	}
+
+	@Test
+	public void it_should_instantiate_one_server_per_provider() {
+		EmbeddedServerProviders providers = new EmbeddedServerProviders(asList(generic, custom));
+		AbstractConfiguration configuration = mock(AbstractConfiguration.class);
+		doReturn(customServer).when(custom).instantiate(null);
+
+		assertThat(providers.instantiateAll(Collections.singletonList(configuration))).containsExactly(customServer, genericServer);
+		verify(custom).instantiate(null);
+		verify(generic).instantiate(configuration);
+	}
+
+	@Test(expected = ServerImplMissingException.class)
+	public void it_should_fail_if_configuration_is_not_supported() {
+		EmbeddedServerProviders providers = new EmbeddedServerProviders(Collections.singletonList(custom));
+		providers.instantiate(mock(AbstractConfiguration.class));
+	}
+
+	@Test(expected = ServerImplMissingException.class)
+	public void it_should_fail_without_providers() {
+		EmbeddedServerProviders providers = new EmbeddedServerProviders(Collections.<EmbeddedServerProvider<?>>emptyList());
+		providers.instantiate(null);
+	}
+
+	private abstract static class CustomConfiguration extends AbstractConfiguration {
+		protected CustomConfiguration(AbstractConfigurationBuilder<?, ?> builder) {
+			super(builder);
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers.utils;
+
+import static com.github.mjeanroy.junit.servers.utils.commons.Fields.readPrivate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.mjeanroy.junit.servers.commons.Mapper;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration;
+
+public class ServerPoolTest {
+
+	private List<EmbeddedServer<?>> servers;
+	private Mapper<AbstractConfiguration, EmbeddedServer<?>> factory;
+
+	@Before
+	public void setUp() {
+		servers = new ArrayList<>();
+		factory = new Mapper<AbstractConfiguration, EmbeddedServer<?>>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public EmbeddedServer<?> apply(AbstractConfiguration configuration) {
+				EmbeddedServer<AbstractConfiguration> server = mock(EmbeddedServer.class);
+				when(server.getConfiguration()).thenReturn(configuration == null ? mock(AbstractConfiguration.class) : configuration);
+				servers.add(server);
+				return server;
+			}
+		};
+	}
+
+	@Test
+	public void it_should_share_server_for_equal_configurations() {
+		ServerPool pool = new ServerPool(0, factory);
+		AbstractConfiguration configuration = mock(AbstractConfiguration.class);
+
+		EmbeddedServer<?> s1 = pool.get(configuration);
+		EmbeddedServer<?> s2 = pool.get(configuration);
+
+		assertThat(s1).isNotSameAs(s2);
+		assertThat(servers).hasSize(1);
+		assertThat(pool.size()).isEqualTo(1);
+		assertThat(s1.getConfiguration()).isSameAs(configuration);
+		assertThat(s2.getConfiguration()).isSameAs(configuration);
+	}
+
+	@Test
+	public void it_should_not_share_server_for_different_configurations() {
+		ServerPool pool = new ServerPool(0, factory);
+
+		pool.get(mock(AbstractConfiguration.class));
+		pool.get(mock(AbstractConfiguration.class));
+
+		assertThat(servers).hasSize(2);
+		assertThat(pool.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void it_should_use_default_configuration_as_key() {
+		ServerPool pool = new ServerPool(0, factory);
+
+		EmbeddedServer<?> server = pool.get((AbstractConfiguration) null);
+
+		assertThat(servers).hasSize(1);
+		assertThat(pool.size()).isEqualTo(1);
+		assertThat(server.getConfiguration()).isSameAs(servers.get(0).getConfiguration());
+	}
+
+	@Test
+	public void it_should_create_default_configuration_once() {
+		ServerPool pool = new ServerPool(0, factory);
+
+		EmbeddedServer<?> s1 = pool.get((AbstractConfiguration) null);
+		EmbeddedServer<?> s2 = pool.get((AbstractConfiguration) null);
+		EmbeddedServer<?> s3 = pool.get((AbstractConfiguration) null);
+
+		assertThat(servers).hasSize(1);
+		assertThat(pool.size()).isEqualTo(1);
+		assertThat(s2.getConfiguration()).isSameAs(s1.getConfiguration());
+		assertThat(s3.getConfiguration()).isSameAs(s1.getConfiguration());
+	}
+
+	@Test
+	public void it_should_stop_server_when_last_user_releases_it() {
+		ServerPool pool = new ServerPool(0, factory);
+		AbstractConfiguration configuration = mock(AbstractConfiguration.class);
+
+		EmbeddedServer<?> s1 = pool.get(configuration);
+		EmbeddedServer<?> s2 = pool.get(configuration);
+		EmbeddedServer<?> server = servers.get(0);
+
+		s1.start();
+		s2.start();
+		verify(server, times(2)).start();
+
+		s1.stop();
+		s1.stop();
+		verify(server, never()).stop();
+
+		s2.stop();
+		verify(server).stop();
+	}
+
+	@Test
+	public void it_should_stop_idle_server_after_grace_period() {
+		ServerPool pool = new ServerPool(100, factory);
+		EmbeddedServer<?> s1 = pool.get(mock(AbstractConfiguration.class));
+		EmbeddedServer<?> server = servers.get(0);
+
+		s1.start();
+		s1.stop();
+
+		verify(server, never()).stop();
+		verify(server, timeout(2000)).stop();
+	}
+
+	@Test
+	public void it_should_not_stop_server_reused_during_grace_period() throws Exception {
+		ServerPool pool = new ServerPool(200, factory);
+		AbstractConfiguration configuration = mock(AbstractConfiguration.class);
+		EmbeddedServer<?> s1 = pool.get(configuration);
+		EmbeddedServer<?> s2 = pool.get(configuration);
+		EmbeddedServer<?> server = servers.get(0);
+
+		s1.start();
+		s1.stop();
+		s2.start();
+
+		Thread.sleep(500);
+		verify(server, never()).stop();
+
+		s2.stop();
+		verify(server, timeout(2000)).stop();
+	}
+
+	@Test
+	public void it_should_stop_all_servers_on_shutdown() {
+		ServerPool pool = new ServerPool(60000, factory);
+		pool.get(mock(AbstractConfiguration.class)).start();
+		pool.get(mock(AbstractConfiguration.class)).start();
+
+		pool.shutdown();
+
+		verify(servers.get(0)).stop();
+		verify(servers.get(1)).stop();
+	}
+
+	@Test
+	public void it_should_register_shutdown_hook_on_demand_and_remove_it_on_shutdown() {
+		ServerPool pool = new ServerPool(60000, factory);
+		EmbeddedServer<?> server = pool.get(mock(AbstractConfiguration.class));
+		assertThat(readPrivate(pool, "shutdownHook")).isNull();
+
+		server.start();
+		Thread hook = readPrivate(pool, "shutdownHook");
+		assertThat(hook).isNotNull();
+
+		pool.shutdown();
+		assertThat(readPrivate(pool, "shutdownHook")).isNull();
+		assertThat(Runtime.getRuntime().removeShutdownHook(hook)).isFalse();
+	}
+}
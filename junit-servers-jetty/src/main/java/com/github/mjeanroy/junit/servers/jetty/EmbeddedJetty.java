@@ -36,9 +36,11 @@ import java.util.Collection;
 import javax.servlet.ServletContext;
 
 import org.eclipse.jetty.annotations.AnnotationConfiguration;
+import org.eclipse.jetty.quickstart.PreconfigureDescriptorProcessor;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.HotSwapHandler;
 import org.eclipse.jetty.util.resource.PathResource;
 import org.eclipse.jetty.util.resource.Resource;
 import org.eclipse.jetty.webapp.Configuration;
@@ -52,6 +54,7 @@ import org.eclipse.jetty.webapp.WebXmlConfiguration;
 import com.github.mjeanroy.junit.servers.exceptions.ServerInitializationException;
 import com.github.mjeanroy.junit.servers.exceptions.ServerStartException;
 import com.github.mjeanroy.junit.servers.exceptions.ServerStopException;
+import com.github.mjeanroy.junit.servers.jetty.JettyQuickStart.CachedQuickStartConfiguration;
 import com.github.mjeanroy.junit.servers.servers.AbstractEmbeddedServer;
 
 /**
@@ -64,6 +67,12 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 	 */
 	private final Server server;
 
+	/**
+	 * Root handler of Jetty Server, holding {@link #webAppContext}: this handler
+	 * allows the web app context to be replaced while server is running.
+	 */
+	private final HotSwapHandler handler;
+
 	/**
 	 * Jetty Web App Context.
 	 */
@@ -88,6 +97,7 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 	 */
 	public EmbeddedJetty(EmbeddedJettyConfiguration configuration) {
 		super(configuration);
+		this.handler = new HotSwapHandler();
 		this.server = initServer();
 	}
 
@@ -95,6 +105,7 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 		Server server = new Server(configuration.getPort());
 		server.setStopAtShutdown(configuration.isStopAtShutdown());
 		server.setStopTimeout(configuration.getStopTimeout());
+		server.setHandler(handler);
 		return server;
 	}
 
@@ -115,8 +126,14 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 	@Override
 	protected void doStart() {
 		try {
+			long phaseStart = System.nanoTime();
 			webAppContext = initContext();
+			recordStartupPhase("jetty.context.create", phaseStart);
+
+			phaseStart = System.nanoTime();
 			server.start();
+			recordStartupPhase("jetty.server.start", phaseStart);
+
 			connector = findConnector();
 		}
 		catch (Exception ex) {
@@ -148,7 +165,11 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 			classLoader = threadCl;
 		}
 
-		WebAppContext ctx = new WebAppContext();
+		// With quickstart mode, the first boot generates the descriptor, next boots use it to skip scanning.
+		final File quickStartDescriptor = quickStartDescriptor();
+		final boolean quickStart = quickStartDescriptor != null && quickStartDescriptor.isFile();
+
+		WebAppContext ctx = quickStartDescriptor == null || quickStart ? new WebAppContext() : new QuickStartGeneratorContext(quickStartDescriptor);
 		ctx.setClassLoader(classLoader);
 		ctx.setContextPath(path);
 
@@ -163,16 +184,25 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 			ctx.setOverrideDescriptor(overrideDescriptor);
 		}
 
-		ctx.setConfigurations(new Configuration[]{
-				new WebInfConfiguration(),
-				new WebXmlConfiguration(),
-				new AnnotationConfiguration(),
-				new JettyWebXmlConfiguration(),
-				new MetaInfConfiguration(),
-				new FragmentConfiguration()
-		});
+		if (quickStart) {
+			// Descriptors, annotations and fragments have already been processed: the quickstart
+			// descriptor contains the result.
+			ctx.setConfigurations(new Configuration[]{
+					new TimedConfiguration(new CachedQuickStartConfiguration(quickStartDescriptor)),
+					new TimedConfiguration(new JettyWebXmlConfiguration())
+			});
+		} else {
+			ctx.setConfigurations(new Configuration[]{
+					new TimedConfiguration(new WebInfConfiguration()),
+					new TimedConfiguration(new WebXmlConfiguration()),
+					new TimedConfiguration(new AnnotationConfiguration()),
+					new TimedConfiguration(new JettyWebXmlConfiguration()),
+					new TimedConfiguration(new MetaInfConfiguration()),
+					new TimedConfiguration(new FragmentConfiguration())
+			});
+		}
 
-		if (isNotBlank(classpath)) {
+		if (!quickStart && isNotBlank(classpath)) {
 			// Fix to scan Spring WebApplicationInitializer
 			// This will add compiled classes to jetty classpath
 			// See: http://stackoverflow.com/questions/13222071/spring-3-1-webapplicationinitializer-embedded-jetty-8-annotationconfiguration
@@ -187,11 +217,61 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 		ctx.setServer(server);
 
 		// Add server context
-		server.setHandler(ctx);
+		handler.setHandler(ctx);
 
 		return ctx;
 	}
 
+	/**
+	 * Get the quickstart descriptor to use (or to generate), {@code null} if quickstart
+	 * mode is disabled.
+	 *
+	 * @return The quickstart descriptor.
+	 */
+	private File quickStartDescriptor() {
+		if (!configuration.isQuickStartEnabled()) {
+			return null;
+		}
+
+		long phaseStart = System.nanoTime();
+		File descriptor = JettyQuickStart.descriptorFile(configuration);
+		recordStartupPhase("jetty.quickstart.resolve", phaseStart);
+		return descriptor;
+	}
+
+	/**
+	 * Reload web application: a new web app context is created, started and replaces the
+	 * previous one, the server (and its connector) is not stopped.
+	 */
+	@Override
+	protected void doReload() {
+		final WebAppContext oldContext = webAppContext;
+
+		try {
+			if (oldContext != null) {
+				oldContext.stop();
+			}
+
+			// Handler is already started: new context has to be started manually, and must be
+			// managed by the handler to be stopped with the server.
+			WebAppContext newContext = initContext();
+			if (!newContext.isStarted()) {
+				newContext.start();
+			}
+
+			handler.manage(newContext);
+
+			webAppContext = newContext;
+
+			if (oldContext != null) {
+				oldContext.destroy();
+			}
+		}
+		catch (Exception ex) {
+			throw new ServerStartException(ex);
+		}
+	}
+
 	@Override
 	protected void doStop() {
 		try {
@@ -206,7 +286,7 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 
 	@Override
 	public String getScheme() {
-		return isStarted() ? server.getURI().getScheme() : super.getScheme();
+		return isRunning() ? server.getURI().getScheme() : super.getScheme();
 	}
 
 	@Override
@@ -227,4 +307,104 @@ public class EmbeddedJetty extends AbstractEmbeddedServer<Server, EmbeddedJettyC
 		}
 		return null;
 	}
+
+	/**
+	 * Web app context, generating the quickstart descriptor once the web application
+	 * has been configured and before it is started.
+	 */
+	private class QuickStartGeneratorContext extends WebAppContext {
+
+		/**
+		 * The descriptor to generate.
+		 */
+		private final File descriptor;
+
+		/**
+		 * Descriptor processor, collecting extra XML that must be added to the generated descriptor.
+		 */
+		private final PreconfigureDescriptorProcessor processor;
+
+		/**
+		 * Create context.
+		 *
+		 * @param descriptor The descriptor to generate.
+		 */
+		private QuickStartGeneratorContext(File descriptor) {
+			this.descriptor = descriptor;
+			this.processor = new PreconfigureDescriptorProcessor();
+			getMetaData().addDescriptorProcessor(processor);
+		}
+
+		@Override
+		protected void startWebapp() throws Exception {
+			long phaseStart = System.nanoTime();
+			JettyQuickStart.generate(this, processor.getXML(), descriptor);
+			recordStartupPhase("jetty.quickstart.generate", phaseStart);
+
+			super.startWebapp();
+		}
+	}
+
+	/**
+	 * Jetty configuration, recording duration of each configuration phase
+	 * in the startup report.
+	 */
+	private class TimedConfiguration implements Configuration {
+
+		/**
+		 * The original configuration.
+		 */
+		private final Configuration delegate;
+
+		/**
+		 * The configuration name, used in phase names.
+		 */
+		private final String name;
+
+		/**
+		 * Create configuration.
+		 *
+		 * @param delegate The original configuration.
+		 */
+		private TimedConfiguration(Configuration delegate) {
+			this.delegate = delegate;
+			this.name = delegate.getClass().getSimpleName();
+		}
+
+		@Override
+		public void preConfigure(WebAppContext context) throws Exception {
+			long phaseStart = System.nanoTime();
+			delegate.preConfigure(context);
+			recordStartupPhase("jetty.configuration.preConfigure:" + name, phaseStart);
+		}
+
+		@Override
+		public void configure(WebAppContext context) throws Exception {
+			long phaseStart = System.nanoTime();
+			delegate.configure(context);
+			recordStartupPhase("jetty.configuration.configure:" + name, phaseStart);
+		}
+
+		@Override
+		public void postConfigure(WebAppContext context) throws Exception {
+			long phaseStart = System.nanoTime();
+			delegate.postConfigure(context);
+			recordStartupPhase("jetty.configuration.postConfigure:" + name, phaseStart);
+		}
+
+		@Override
+		public void deconfigure(WebAppContext context) throws Exception {
+			delegate.deconfigure(context);
+		}
+
+		@Override
+		public void destroy(WebAppContext context) throws Exception {
+			delegate.destroy(context);
+		}
+
+		@Override
+		public void cloneConfigure(WebAppContext template, WebAppContext context) throws Exception {
+			delegate.cloneConfigure(template, context);
+		}
+	}
 }
@@ -24,8 +24,10 @@
 
 package com.github.mjeanroy.junit.servers.jetty;
 
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
 import static com.github.mjeanroy.junit.servers.commons.Preconditions.positive;
 
+import java.io.File;
 import java.util.Objects;
 
 import org.eclipse.jetty.util.resource.Resource;
@@ -49,6 +51,12 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 	 */
 	private static final boolean DEFAULT_STOP_AT_SHUTDOWN = true;
 
+	/**
+	 * The default directory used to store quickstart descriptors, when quickstart mode
+	 * is enabled with {@link Builder#enableQuickStart()}.
+	 */
+	static final String DEFAULT_QUICKSTART_DIR = new File(System.getProperty("java.io.tmpdir"), "junit-servers-jetty-quickstart").getAbsolutePath();
+
 	/**
 	 * Configure the stop timeout in milliseconds: set a graceful stop time.
 	 *
@@ -73,6 +81,20 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 	 */
 	private final Resource baseResource;
 
+	/**
+	 * The directory where quickstart descriptors are stored (quickstart mode is disabled
+	 * if this directory is {@code null}).
+	 *
+	 * <p>
+	 *
+	 * When quickstart mode is enabled, the first boot of a web application scans annotations
+	 * and fragments as usual and generates a quickstart descriptor in this directory: this
+	 * descriptor is identified by a hash of the classpath and the webapp content, so that next
+	 * boots (including boots in another JVM) can skip these scans as long as the application
+	 * does not change.
+	 */
+	private final String quickStartDir;
+
 	/**
 	 * Get configuration builder.
 	 *
@@ -97,6 +119,7 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 		this.stopTimeout = builder.getStopTimeout();
 		this.stopAtShutdown = builder.isStopAtShutdown();
 		this.baseResource = builder.getBaseResource();
+		this.quickStartDir = builder.getQuickStartDir();
 	}
 
 	/**
@@ -126,6 +149,24 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 		return baseResource;
 	}
 
+	/**
+	 * Get {@link #quickStartDir}.
+	 *
+	 * @return {@link #quickStartDir}
+	 */
+	public String getQuickStartDir() {
+		return quickStartDir;
+	}
+
+	/**
+	 * Check if quickstart mode is enabled, i.e if {@link #quickStartDir} is defined.
+	 *
+	 * @return {@code true} if quickstart mode is enabled, {@code false} otherwise.
+	 */
+	public boolean isQuickStartEnabled() {
+		return quickStartDir != null;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (o == this) {
@@ -138,7 +179,8 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 					&& super.equals(c)
 					&& Objects.equals(stopTimeout, c.stopTimeout)
 					&& Objects.equals(stopAtShutdown, c.stopAtShutdown)
-					&& Objects.equals(baseResource, c.baseResource);
+					&& Objects.equals(baseResource, c.baseResource)
+					&& Objects.equals(quickStartDir, c.quickStartDir);
 		}
 
 		return false;
@@ -151,7 +193,7 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(super.hashCode(), stopTimeout, stopAtShutdown, baseResource);
+		return Objects.hash(super.hashCode(), stopTimeout, stopAtShutdown, baseResource, quickStartDir);
 	}
 
 	@Override
@@ -163,9 +205,12 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 			.append("classpath", getClasspath())
 			.append("overrideDescriptor", getOverrideDescriptor())
 			.append("parentClasspath", getParentClasspath())
+			.append("readinessProbe", getReadinessProbe())
+			.append("readinessTimeout", getReadinessTimeout())
 			.append("stopTimeout", stopTimeout)
 			.append("stopAtShutdown", stopAtShutdown)
 			.append("baseResource", baseResource)
+			.append("quickStartDir", quickStartDir)
 			.build();
 	}
 
@@ -199,6 +244,12 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 		 */
 		private Resource baseResource;
 
+		/**
+		 * The directory where quickstart descriptors are stored, {@code null} to disable
+		 * quickstart mode.
+		 */
+		private String quickStartDir;
+
 		private Builder() {
 			stopTimeout = DEFAULT_STOP_TIMEOUT;
 			stopAtShutdown = DEFAULT_STOP_AT_SHUTDOWN;
@@ -241,6 +292,15 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 			return baseResource;
 		}
 
+		/**
+		 * Get current {@link #quickStartDir} value.
+		 *
+		 * @return {@link #quickStartDir}.
+		 */
+		public String getQuickStartDir() {
+			return quickStartDir;
+		}
+
 		/**
 		 * Update {@link #stopTimeout} value.
 		 *
@@ -284,5 +344,49 @@ public class EmbeddedJettyConfiguration extends AbstractConfiguration {
 			this.baseResource = resource;
 			return this;
 		}
+
+		/**
+		 * Enable quickstart mode, using default directory to store quickstart descriptors.
+		 *
+		 * @return this
+		 * @see EmbeddedJettyConfiguration#DEFAULT_QUICKSTART_DIR
+		 */
+		public Builder enableQuickStart() {
+			return withQuickStartDir(DEFAULT_QUICKSTART_DIR);
+		}
+
+		/**
+		 * Disable quickstart mode.
+		 *
+		 * @return this
+		 */
+		public Builder disableQuickStart() {
+			this.quickStartDir = null;
+			return this;
+		}
+
+		/**
+		 * Enable quickstart mode and change {@link #quickStartDir} value.
+		 *
+		 * @param quickStartDir New {@link #quickStartDir} value.
+		 * @return this
+		 * @throws NullPointerException If {@code quickStartDir} is {@code null}.
+		 */
+		public Builder withQuickStartDir(String quickStartDir) {
+			this.quickStartDir = notNull(quickStartDir, "quickStartDir");
+			return this;
+		}
+
+		/**
+		 * Enable quickstart mode and change {@link #quickStartDir} value.
+		 *
+		 * @param quickStartDir New {@link #quickStartDir} value (the absolute path will be used).
+		 * @return this
+		 * @throws NullPointerException If {@code quickStartDir} is {@code null}.
+		 */
+		public Builder withQuickStartDir(File quickStartDir) {
+			notNull(quickStartDir, "quickStartDir");
+			return withQuickStartDir(quickStartDir.getAbsolutePath());
+		}
 	}
 }
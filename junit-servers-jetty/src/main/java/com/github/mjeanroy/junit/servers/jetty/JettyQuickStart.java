@@ -0,0 +1,292 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.jetty;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+import org.eclipse.jetty.quickstart.QuickStartConfiguration;
+import org.eclipse.jetty.quickstart.QuickStartDescriptorGenerator;
+import org.eclipse.jetty.util.resource.Resource;
+import org.eclipse.jetty.webapp.WebAppContext;
+
+import com.github.mjeanroy.junit.servers.commons.Predicate;
+
+/**
+ * Static utilities used to implement Jetty quickstart mode: quickstart descriptors
+ * are stored on disk and identified by a hash of the web application inputs (classpath,
+ * webapp directory, descriptors), so that a descriptor generated by a previous boot (even
+ * in another JVM) can be safely re-used as long as these inputs did not change.
+ */
+final class JettyQuickStart {
+
+	/**
+	 * Filter matching files of a classpath directory that may change the scan results: classes and
+	 * {@code META-INF} resources (fragments, TLD, service loaders, etc.).
+	 */
+	private static final Predicate<String> CLASSES = new Predicate<String>() {
+		@Override
+		public boolean apply(String path) {
+			return path.endsWith(".class") || path.startsWith("META-INF/");
+		}
+	};
+
+	/**
+	 * Filter matching files of the webapp directory that may change the scan results: static
+	 * resources are ignored.
+	 */
+	private static final Predicate<String> WEBAPP = new Predicate<String>() {
+		@Override
+		public boolean apply(String path) {
+			return path.startsWith("WEB-INF/");
+		}
+	};
+
+	// Ensure non instantiation.
+	private JettyQuickStart() {
+	}
+
+	/**
+	 * Get the quickstart descriptor file of given configuration: this file may not exist
+	 * yet, in which case it should be generated during web application startup.
+	 *
+	 * @param configuration Jetty configuration, with quickstart mode enabled.
+	 * @return The quickstart descriptor.
+	 */
+	static File descriptorFile(EmbeddedJettyConfiguration configuration) {
+		MessageDigest digest = newDigest();
+
+		update(digest, configuration.getPath());
+		update(digest, configuration.getWebapp());
+		update(digest, configuration.getClasspath());
+		update(digest, configuration.getOverrideDescriptor());
+		update(digest, configuration.getBaseResource() == null ? null : configuration.getBaseResource().toString());
+
+		fingerprint(digest, configuration.getWebapp(), WEBAPP);
+		fingerprint(digest, configuration.getClasspath(), CLASSES);
+		fingerprint(digest, configuration.getOverrideDescriptor(), CLASSES);
+
+		for (URL url : configuration.getParentClasspath()) {
+			update(digest, url.toString());
+			if ("file".equals(url.getProtocol())) {
+				fingerprint(digest, url.getFile(), CLASSES);
+			}
+		}
+
+		for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+			fingerprintClasspathEntry(digest, entry);
+		}
+
+		return new File(configuration.getQuickStartDir(), "quickstart-" + toHex(digest.digest()) + ".xml");
+	}
+
+	/**
+	 * Generate quickstart descriptor of given context: the context must have been configured,
+	 * i.e this method should be called before the web application is started.
+	 *
+	 * <p>
+	 *
+	 * The descriptor is first written to a temporary file, then renamed: a concurrent boot
+	 * will never read a partially written descriptor.
+	 *
+	 * @param context The configured web app context.
+	 * @param extraXml The extra XML, collected during descriptors processing.
+	 * @param descriptor The descriptor file to generate.
+	 * @throws IOException If an error occurred while writing descriptor.
+	 */
+	static void generate(WebAppContext context, String extraXml, File descriptor) throws IOException {
+		File dir = descriptor.getParentFile();
+		if (!dir.isDirectory() && !dir.mkdirs() && !dir.isDirectory()) {
+			throw new IOException("Cannot create quickstart directory: " + dir);
+		}
+
+		File tmp = File.createTempFile(descriptor.getName(), ".tmp", dir);
+		try {
+			try (OutputStream out = new FileOutputStream(tmp)) {
+				new QuickStartDescriptorGenerator(context, extraXml).generateQuickStartWebXml(out);
+			}
+
+			if (!tmp.renameTo(descriptor) && !descriptor.exists()) {
+				throw new IOException("Cannot create quickstart descriptor: " + descriptor);
+			}
+		}
+		finally {
+			if (tmp.exists()) {
+				// Rename failed, or descriptor has already been generated by a concurrent boot.
+				tmp.delete();
+			}
+		}
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-1");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			// Should not happen, SHA-1 is required on every java platform.
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		String str = value == null ? "<null>" : value;
+		digest.update(str.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	/**
+	 * Update digest with given JVM classpath entry: a "pathing" jar (i.e a jar containing only a manifest
+	 * with a {@code Class-Path} attribute, such as the one created by surefire) is generated on each run,
+	 * so the entries it references are fingerprinted instead of the jar itself.
+	 *
+	 * @param digest The digest.
+	 * @param entry The classpath entry.
+	 */
+	private static void fingerprintClasspathEntry(MessageDigest digest, String entry) {
+		File file = new File(entry);
+		if (file.isFile()) {
+			try (JarFile jar = new JarFile(file)) {
+				Manifest manifest = jar.getManifest();
+				String classPath = manifest == null ? null : manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+				if (classPath != null && jar.size() <= 2) {
+					URL base = file.toURI().toURL();
+					for (String ref : classPath.trim().split("\\s+")) {
+						URL url = new URL(base, ref);
+						update(digest, url.toString());
+						if ("file".equals(url.getProtocol())) {
+							fingerprint(digest, new File(url.toURI()), CLASSES);
+						}
+					}
+
+					return;
+				}
+			}
+			catch (IOException | URISyntaxException | IllegalArgumentException ex) {
+				// Not a valid jar (or not a valid reference): fingerprint the file itself.
+			}
+		}
+
+		update(digest, entry);
+		fingerprint(digest, file, CLASSES);
+	}
+
+	/**
+	 * Update digest with the name, size and last modification date of given file: if
+	 * file is a directory, the files it contains and that are accepted by given filter are
+	 * fingerprinted recursively.
+	 *
+	 * @param digest The digest.
+	 * @param path The file path, may be {@code null}.
+	 * @param filter The filter, applied on the path relative to given file.
+	 */
+	private static void fingerprint(MessageDigest digest, String path, Predicate<String> filter) {
+		if (path == null || path.isEmpty()) {
+			return;
+		}
+
+		fingerprint(digest, new File(path), filter);
+	}
+
+	private static void fingerprint(MessageDigest digest, File file, Predicate<String> filter) {
+		if (file.isDirectory()) {
+			fingerprint(digest, file, "", filter);
+		}
+		else {
+			fingerprintFile(digest, file.getName(), file);
+		}
+	}
+
+	private static void fingerprint(MessageDigest digest, File dir, String prefix, Predicate<String> filter) {
+		File[] children = dir.listFiles();
+		if (children == null) {
+			return;
+		}
+
+		// Ensure a stable order, whatever the file system.
+		Arrays.sort(children);
+
+		for (File child : children) {
+			String relativePath = prefix + child.getName();
+			if (child.isDirectory()) {
+				fingerprint(digest, child, relativePath + "/", filter);
+			}
+			else if (filter.apply(relativePath)) {
+				fingerprintFile(digest, relativePath, child);
+			}
+		}
+	}
+
+	private static void fingerprintFile(MessageDigest digest, String name, File file) {
+		update(digest, name);
+		update(digest, String.valueOf(file.length()));
+		update(digest, String.valueOf(file.lastModified()));
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+			sb.append(Character.forDigit(b & 0xF, 16));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Quickstart configuration, reading the quickstart descriptor from the cache
+	 * directory instead of the {@code WEB-INF} directory of the web application.
+	 */
+	static class CachedQuickStartConfiguration extends QuickStartConfiguration {
+
+		/**
+		 * The quickstart descriptor.
+		 */
+		private final File descriptor;
+
+		/**
+		 * Create configuration.
+		 *
+		 * @param descriptor The quickstart descriptor.
+		 */
+		CachedQuickStartConfiguration(File descriptor) {
+			this.descriptor = descriptor;
+		}
+
+		@Override
+		public Resource getQuickStartWebXml(WebAppContext context) throws Exception {
+			return Resource.newResource(descriptor);
+		}
+	}
+}
@@ -134,4 +134,30 @@ public class EmbeddedJettyConfigurationBuilderTest {
 		assertThat(result).isSameAs(builder);
 		assertThat(result.isStopAtShutdown()).isFalse();
 	}
+
+	@Test
+	public void it_should_enable_quickstart_with_default_directory() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableQuickStart();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getQuickStartDir()).isEqualTo(EmbeddedJettyConfiguration.DEFAULT_QUICKSTART_DIR);
+	}
+
+	@Test
+	public void it_should_change_quickstart_directory() throws Exception {
+		File dir = folder.newFolder();
+
+		EmbeddedJettyConfiguration.Builder result = builder.withQuickStartDir(dir);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getQuickStartDir()).isEqualTo(dir.getAbsolutePath());
+	}
+
+	@Test
+	public void it_should_disable_quickstart() {
+		EmbeddedJettyConfiguration.Builder result = builder.withQuickStartDir("/tmp/quickstart").disableQuickStart();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getQuickStartDir()).isNull();
+	}
 }
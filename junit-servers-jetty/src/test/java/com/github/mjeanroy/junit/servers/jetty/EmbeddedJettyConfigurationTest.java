@@ -61,6 +61,7 @@ public class EmbeddedJettyConfigurationTest {
 				.withStopTimeout(stopTimeout)
 				.disableStopAtShutdown()
 				.withBaseResource(resource)
+				.withQuickStartDir("/tmp/quickstart")
 				.build();
 
 		assertThat(result.getPort()).isEqualTo(port);
@@ -70,6 +71,15 @@ public class EmbeddedJettyConfigurationTest {
 		assertThat(result.getStopTimeout()).isEqualTo(stopTimeout);
 		assertThat(result.isStopAtShutdown()).isFalse();
 		assertThat(result.getBaseResource()).isSameAs(resource);
+		assertThat(result.getQuickStartDir()).isEqualTo("/tmp/quickstart");
+		assertThat(result.isQuickStartEnabled()).isTrue();
+	}
+
+	@Test
+	public void it_should_disable_quickstart_by_default() {
+		EmbeddedJettyConfiguration result = EmbeddedJettyConfiguration.defaultConfiguration();
+		assertThat(result.getQuickStartDir()).isNull();
+		assertThat(result.isQuickStartEnabled()).isFalse();
 	}
 
 	@Test
@@ -91,9 +101,12 @@ public class EmbeddedJettyConfigurationTest {
 				"classpath: \".\", " +
 				"overrideDescriptor: null, " +
 				"parentClasspath: [], " +
+				"readinessProbe: null, " +
+				"readinessTimeout: 30000, " +
 				"stopTimeout: 30000, " +
 				"stopAtShutdown: true, " +
-				"baseResource: null" +
+				"baseResource: null, " +
+				"quickStartDir: null" +
 			"}"
 		);
 	}
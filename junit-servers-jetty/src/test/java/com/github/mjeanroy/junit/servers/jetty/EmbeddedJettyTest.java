@@ -35,6 +35,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import com.github.mjeanroy.junit.servers.servers.StartupReport;
+
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -100,6 +102,22 @@ public class EmbeddedJettyTest {
 		assertThat(jetty.getPort()).isZero();
 	}
 
+	@Test
+	public void it_should_build_startup_report() {
+		jetty = new EmbeddedJetty();
+		jetty.start();
+
+		StartupReport report = jetty.getStartupReport();
+		assertThat(report).isNotNull();
+		assertThat(report.getServer()).isEqualTo("EmbeddedJetty");
+		assertThat(report.findPhase("server.start")).isNotNull();
+		assertThat(report.findPhase("jetty.context.create")).isNotNull();
+		assertThat(report.findPhase("jetty.server.start")).isNotNull();
+		assertThat(report.findPhase("jetty.configuration.preConfigure:WebInfConfiguration")).isNotNull();
+		assertThat(report.findPhase("jetty.configuration.configure:AnnotationConfiguration")).isNotNull();
+		assertThat(report.findPhase("jetty.configuration.postConfigure:FragmentConfiguration")).isNotNull();
+	}
+
 	@Test
 	public void it_should_get_servlet_context() {
 		jetty = new EmbeddedJetty();
@@ -125,7 +143,7 @@ public class EmbeddedJettyTest {
 
 		jetty.start();
 
-		WebAppContext ctx = (WebAppContext) jetty.getDelegate().getHandler();
+		WebAppContext ctx = jetty.getDelegate().getChildHandlerByClass(WebAppContext.class);
 		ClassLoader cl = ctx.getClassLoader();
 
 		assertThat(cl).isNotNull();
@@ -159,6 +177,84 @@ public class EmbeddedJettyTest {
 		assertThat(content).isNotEmpty().contains("Hello World");
 	}
 
+	@Test
+	public void it_should_reload_web_app_context_without_stopping_jetty() throws Exception {
+		URL resource = getClass().getResource("/custom-web.xml");
+		File descriptor = new File(resource.getFile());
+
+		jetty = new EmbeddedJetty(EmbeddedJettyConfiguration.builder()
+				.withWebapp(descriptor.getParentFile())
+				.withOverrideDescriptor(descriptor.getAbsolutePath())
+				.build());
+
+		jetty.start();
+
+		int port = jetty.getPort();
+		WebAppContext oldContext = jetty.getDelegate().getChildHandlerByClass(WebAppContext.class);
+
+		jetty.reload();
+
+		WebAppContext newContext = jetty.getDelegate().getChildHandlerByClass(WebAppContext.class);
+		assertThat(jetty.isStarted()).isTrue();
+		assertThat(jetty.getPort()).isEqualTo(port);
+		assertThat(jetty.getServletContext()).isSameAs(newContext.getServletContext());
+		assertThat(newContext).isNotNull().isNotSameAs(oldContext);
+		assertThat(newContext.isStarted()).isTrue();
+		assertThat(oldContext.isStopped()).isTrue();
+
+		OkHttpClient client = new OkHttpClient();
+		Request rq = new Request.Builder().url(jetty.getUrl() + "hello").build();
+		Response rsp = client.newCall(rq).execute();
+		assertThat(rsp.code()).isEqualTo(200);
+
+		jetty.stop();
+		assertThat(newContext.isStopped()).isTrue();
+	}
+
+	@Test
+	public void it_should_generate_and_use_quickstart_descriptor() throws Exception {
+		URL resource = getClass().getResource("/custom-web.xml");
+		File descriptor = new File(resource.getFile());
+		File quickStartDir = tmp.newFolder();
+
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+				.withWebapp(descriptor.getParentFile())
+				.withOverrideDescriptor(descriptor.getAbsolutePath())
+				.withQuickStartDir(quickStartDir)
+				.build();
+
+		jetty = new EmbeddedJetty(configuration);
+		jetty.start();
+
+		StartupReport firstReport = jetty.getStartupReport();
+		assertThat(firstReport.findPhase("jetty.quickstart.generate")).isNotNull();
+		assertThat(firstReport.findPhase("jetty.configuration.configure:AnnotationConfiguration")).isNotNull();
+		assertThat(quickStartDir.listFiles()).hasSize(1);
+		assertThat(get(jetty.getUrl() + "hello")).contains("Hello World");
+
+		jetty.stop();
+
+		jetty = new EmbeddedJetty(configuration);
+		jetty.start();
+
+		StartupReport secondReport = jetty.getStartupReport();
+		assertThat(secondReport.findPhase("jetty.quickstart.generate")).isNull();
+		assertThat(secondReport.findPhase("jetty.configuration.configure:AnnotationConfiguration")).isNull();
+		assertThat(secondReport.findPhase("jetty.configuration.configure:CachedQuickStartConfiguration")).isNotNull();
+		assertThat(quickStartDir.listFiles()).hasSize(1);
+		assertThat(get(jetty.getUrl() + "hello")).contains("Hello World");
+	}
+
+	private static String get(String url) throws Exception {
+		OkHttpClient client = new OkHttpClient();
+		Request rq = new Request.Builder().url(url).build();
+		Response rsp = client.newCall(rq).execute();
+		assertThat(rsp.code()).isEqualTo(200);
+
+		ResponseBody body = rsp.body();
+		return body == null ? null : body.string();
+	}
+
 	private static String localUrl(int port) {
 		return "http://localhost:" + port + "/";
 	}
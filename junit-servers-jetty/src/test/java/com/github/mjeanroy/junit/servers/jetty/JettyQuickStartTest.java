@@ -0,0 +1,98 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.jetty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JettyQuickStartTest {
+
+	@Rule
+	public TemporaryFolder tmp = new TemporaryFolder();
+
+	private File webapp;
+
+	private File quickStartDir;
+
+	@Before
+	public void setUp() throws Exception {
+		webapp = tmp.newFolder("webapp");
+		quickStartDir = tmp.newFolder("quickstart");
+		assertThat(new File(webapp, "WEB-INF").mkdir()).isTrue();
+	}
+
+	@Test
+	public void it_should_compute_stable_descriptor_file() {
+		File d1 = JettyQuickStart.descriptorFile(configuration("/"));
+		File d2 = JettyQuickStart.descriptorFile(configuration("/"));
+
+		assertThat(d1).isEqualTo(d2);
+		assertThat(d1.getParentFile()).isEqualTo(quickStartDir);
+		assertThat(d1.getName()).startsWith("quickstart-").endsWith(".xml");
+	}
+
+	@Test
+	public void it_should_compute_new_descriptor_file_if_configuration_changed() {
+		File d1 = JettyQuickStart.descriptorFile(configuration("/"));
+		File d2 = JettyQuickStart.descriptorFile(configuration("/foo"));
+
+		assertThat(d1).isNotEqualTo(d2);
+	}
+
+	@Test
+	public void it_should_compute_new_descriptor_file_if_webapp_changed() throws Exception {
+		File d1 = JettyQuickStart.descriptorFile(configuration("/"));
+
+		assertThat(new File(webapp, "WEB-INF/web.xml").createNewFile()).isTrue();
+		File d2 = JettyQuickStart.descriptorFile(configuration("/"));
+
+		assertThat(d1).isNotEqualTo(d2);
+	}
+
+	@Test
+	public void it_should_ignore_static_resources() throws Exception {
+		File d1 = JettyQuickStart.descriptorFile(configuration("/"));
+
+		assertThat(new File(webapp, "index.html").createNewFile()).isTrue();
+		File d2 = JettyQuickStart.descriptorFile(configuration("/"));
+
+		assertThat(d1).isEqualTo(d2);
+	}
+
+	private EmbeddedJettyConfiguration configuration(String path) {
+		return EmbeddedJettyConfiguration.builder()
+				.withPath(path)
+				.withWebapp(webapp)
+				.withClasspath(webapp.getAbsolutePath())
+				.withQuickStartDir(quickStartDir)
+				.build();
+	}
+}
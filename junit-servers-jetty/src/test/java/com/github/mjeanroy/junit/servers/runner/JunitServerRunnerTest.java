@@ -26,18 +26,33 @@ package com.github.mjeanroy.junit.servers.runner;
 
 import com.github.mjeanroy.junit.servers.jetty.EmbeddedJetty;
 import com.github.mjeanroy.junit.servers.jetty.EmbeddedJettyConfiguration;
+import com.github.mjeanroy.junit.servers.annotations.MaxLatency;
+import com.github.mjeanroy.junit.servers.annotations.MinThroughput;
+import com.github.mjeanroy.junit.servers.annotations.ParallelMethods;
+import com.github.mjeanroy.junit.servers.annotations.TestHttpClient;
 import com.github.mjeanroy.junit.servers.annotations.TestServerConfiguration;
+import com.github.mjeanroy.junit.servers.annotations.SharedServer;
 import com.github.mjeanroy.junit.servers.annotations.TestServer;
+import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.rules.ServerRule;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration;
 import org.assertj.core.api.Condition;
 import org.junit.Test;
 import org.junit.rules.TestRule;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.github.mjeanroy.junit.servers.jetty.EmbeddedJettyConfiguration.defaultConfiguration;
+import static java.util.Collections.newSetFromMap;
 import static org.apache.commons.lang3.reflect.FieldUtils.readField;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -78,6 +93,35 @@ public class JunitServerRunnerTest {
 				.isSameAs(configuration);
 	}
 
+	@Test
+	public void it_should_use_shared_server() throws Exception {
+		JunitServerRunner r1 = new JunitServerRunner(Shared.class);
+		JunitServerRunner r2 = new JunitServerRunner(Shared.class);
+
+		EmbeddedServer<?> s1 = (EmbeddedServer<?>) readField(r1, "server", true);
+		EmbeddedServer<?> s2 = (EmbeddedServer<?>) readField(r2, "server", true);
+
+		assertThat(s1).isNotNull().isNotInstanceOf(EmbeddedJetty.class).isNotSameAs(s2);
+		assertThat(s1.getConfiguration()).isSameAs(configuration);
+		assertThat(s2.getConfiguration()).isSameAs(configuration);
+
+		try {
+			s1.start();
+			s2.start();
+			assertThat(s1.isStarted()).isTrue();
+			assertThat(s2.isStarted()).isTrue();
+			assertThat(s1.getPort()).isEqualTo(s2.getPort());
+
+			s1.stop();
+			assertThat(s1.isStarted()).isFalse();
+			assertThat(s2.isStarted()).isTrue();
+		}
+		finally {
+			s1.stop();
+			s2.stop();
+		}
+	}
+
 	@Test
 	public void it_should_contain_rules() throws Exception {
 		JunitServerRunner runner = new JunitServerRunner(Foo.class);
@@ -118,6 +162,33 @@ public class JunitServerRunnerTest {
 				});
 	}
 
+	@Test
+	public void it_should_run_test_methods_concurrently() throws Exception {
+		Parallel.clients.clear();
+		Parallel.latch = new CountDownLatch(4);
+
+		Result result = new JUnitCore().run(Parallel.class);
+
+		assertThat(result.getFailures()).isEmpty();
+		assertThat(result.getRunCount()).isEqualTo(4);
+		assertThat(Parallel.clients).hasSize(4);
+	}
+
+	@Test
+	public void it_should_check_performance_budgets() throws Exception {
+		Budgets.invocations.set(0);
+
+		Result result = new JUnitCore().run(Budgets.class);
+
+		assertThat(result.getRunCount()).isEqualTo(2);
+		assertThat(result.getFailureCount()).isEqualTo(1);
+		assertThat(result.getFailures().get(0).getDescription().getMethodName()).isEqualTo("exceeded");
+		assertThat(result.getFailures().get(0).getMessage()).startsWith("Performance budget exceeded: p50 = ");
+
+		// 5 warmup and 20 measured invocations for the first test, 10 invocations for the second one.
+		assertThat(Budgets.invocations.get()).isEqualTo(35);
+	}
+
 	public static class Foo {
 		@TestServer
 		private static EmbeddedServer<?> server;
@@ -152,4 +223,104 @@ public class JunitServerRunnerTest {
 
 		}
 	}
+
+	@SharedServer
+	public static class Shared {
+
+		@TestServerConfiguration
+		private static EmbeddedJettyConfiguration initConfiguration() {
+			return configuration;
+		}
+
+		public Shared() {
+		}
+
+		@Test
+		public void fooTest() {
+
+		}
+	}
+
+	@RunWith(JunitServerRunner.class)
+	@ParallelMethods(threads = 4)
+	public static class Parallel {
+
+		private static final Set<HttpClient> clients = newSetFromMap(new ConcurrentHashMap<HttpClient, Boolean>());
+
+		private static volatile CountDownLatch latch = new CountDownLatch(4);
+
+		@TestHttpClient
+		private HttpClient client;
+
+		@TestServerConfiguration
+		private static EmbeddedJettyConfiguration initConfiguration() {
+			return configuration;
+		}
+
+		public Parallel() {
+		}
+
+		@Test
+		public void test1() throws Exception {
+			run();
+		}
+
+		@Test
+		public void test2() throws Exception {
+			run();
+		}
+
+		@Test
+		public void test3() throws Exception {
+			run();
+		}
+
+		@Test
+		public void test4() throws Exception {
+			run();
+		}
+
+		private void run() throws Exception {
+			clients.add(client);
+
+			// Each test waits for the other ones: this would time out if tests were run sequentially.
+			latch.countDown();
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		}
+	}
+
+	@RunWith(JunitServerRunner.class)
+	public static class Budgets {
+
+		private static final AtomicInteger invocations = new AtomicInteger(0);
+
+		@TestHttpClient
+		private HttpClient client;
+
+		@TestServerConfiguration
+		private static EmbeddedJettyConfiguration initConfiguration() {
+			return configuration;
+		}
+
+		public Budgets() {
+		}
+
+		@Test
+		@MaxLatency(p99 = "10s", invocations = 20, warmup = 5)
+		@MinThroughput(value = 1, invocations = 20)
+		public void met() {
+			run();
+		}
+
+		@Test
+		@MaxLatency(p50 = "1ns", invocations = 10)
+		public void exceeded() {
+			run();
+		}
+
+		private void run() {
+			invocations.incrementAndGet();
+			client.prepareGet("/").execute();
+		}
+	}
 }
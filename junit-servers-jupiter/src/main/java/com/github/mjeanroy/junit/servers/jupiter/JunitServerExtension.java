@@ -0,0 +1,274 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.jupiter;
+
+import static com.github.mjeanroy.junit.servers.servers.utils.ServerPool.defaultServerPool;
+
+import com.github.mjeanroy.junit.servers.annotations.SharedServer;
+import com.github.mjeanroy.junit.servers.annotations.TestHttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration;
+import com.github.mjeanroy.junit.servers.servers.utils.Servers;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * JUnit Jupiter extension that starts an embedded server before all tests of a test class,
+ * and stops it once all tests have been executed.
+ *
+ * <p>
+ *
+ * The server is kept in the {@link ExtensionContext.Store} of the test class (and not in a
+ * static field), so that test classes and test methods can be executed concurrently (for
+ * example with {@code @Execution(CONCURRENT)}).
+ *
+ * <p>
+ *
+ * Following parameters can be injected in constructors, lifecycle methods and test methods:
+ * <ul>
+ *   <li>The {@link EmbeddedServer}.</li>
+ *   <li>The server configuration (any parameter whose type is assignable from the configuration type).</li>
+ *   <li>
+ *     A {@link HttpClient} (optionally annotated with {@link TestHttpClient} to select the strategy):
+ *     each parameter gets its own client, destroyed once the test method (or the test class) has
+ *     been executed.
+ *   </li>
+ * </ul>
+ *
+ * <p>
+ *
+ * The server configuration is read from a static field or method annotated with
+ * {@link com.github.mjeanroy.junit.servers.annotations.TestServerConfiguration}, or can be given
+ * when the extension is registered programmatically:
+ *
+ * <pre><code>
+ *   &#064;RegisterExtension
+ *   static JunitServerExtension extension = new JunitServerExtension(configuration);
+ * </code></pre>
+ */
+public class JunitServerExtension implements BeforeAllCallback, ParameterResolver {
+
+	/**
+	 * The namespace of the values stored by the extension.
+	 */
+	private static final Namespace NAMESPACE = Namespace.create(JunitServerExtension.class);
+
+	/**
+	 * The key of the embedded server in the store.
+	 */
+	private static final String SERVER_KEY = "server";
+
+	/**
+	 * The server configuration, {@code null} to read it from the test class.
+	 */
+	private final AbstractConfiguration configuration;
+
+	/**
+	 * Create extension, the server configuration will be read from the test class.
+	 */
+	public JunitServerExtension() {
+		this(null);
+	}
+
+	/**
+	 * Create extension with given server configuration.
+	 *
+	 * @param configuration The server configuration.
+	 */
+	public JunitServerExtension(AbstractConfiguration configuration) {
+		this.configuration = configuration;
+	}
+
+	@Override
+	public void beforeAll(ExtensionContext context) {
+		server(context);
+	}
+
+	@Override
+	public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		Class<?> type = parameterContext.getParameter().getType();
+		if (EmbeddedServer.class.isAssignableFrom(type) || HttpClient.class.isAssignableFrom(type)) {
+			return true;
+		}
+
+		return AbstractConfiguration.class.isAssignableFrom(type) && type.isInstance(server(extensionContext).getConfiguration());
+	}
+
+	@Override
+	public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		Class<?> type = parameterContext.getParameter().getType();
+		EmbeddedServer<?> server = server(extensionContext);
+
+		if (EmbeddedServer.class.isAssignableFrom(type)) {
+			return checkType(type, server);
+		}
+
+		if (HttpClient.class.isAssignableFrom(type)) {
+			return checkType(type, client(parameterContext, extensionContext, server));
+		}
+
+		return server.getConfiguration();
+	}
+
+	/**
+	 * Get the embedded server of the test class, start it if it has not been started yet.
+	 *
+	 * @param context The extension context.
+	 * @return The started server.
+	 */
+	private EmbeddedServer<?> server(ExtensionContext context) {
+		ExtensionContext classContext = classContext(context);
+		final Class<?> testClass = classContext.getRequiredTestClass();
+		ServerResource resource = classContext.getStore(NAMESPACE).getOrComputeIfAbsent(SERVER_KEY, key -> {
+			EmbeddedServer<?> server = instantiate(testClass);
+			server.start();
+			return new ServerResource(server);
+		}, ServerResource.class);
+
+		return resource.server;
+	}
+
+	/**
+	 * Get the http client bound to the given parameter, create it if it does not exist yet.
+	 *
+	 * @param parameterContext The parameter context.
+	 * @param context The extension context.
+	 * @param server The embedded server.
+	 * @return The http client.
+	 */
+	private HttpClient client(ParameterContext parameterContext, ExtensionContext context, EmbeddedServer<?> server) {
+		TestHttpClient annotation = parameterContext.findAnnotation(TestHttpClient.class).orElse(null);
+		HttpClientStrategy strategy = annotation == null ? HttpClientStrategy.AUTO : annotation.strategy();
+
+		ClientResource resource = context.getStore(NAMESPACE).getOrComputeIfAbsent(parameterContext.getParameter(), key ->
+			new ClientResource(strategy.build(server)), ClientResource.class
+		);
+
+		return resource.client;
+	}
+
+	/**
+	 * Instantiate the embedded server for the given test class.
+	 *
+	 * @param testClass The test class.
+	 * @return The embedded server.
+	 */
+	private EmbeddedServer<?> instantiate(Class<?> testClass) {
+		if (configuration != null) {
+			return testClass.isAnnotationPresent(SharedServer.class) ? defaultServerPool().get(configuration) : Servers.instantiate(configuration);
+		}
+
+		return testClass.isAnnotationPresent(SharedServer.class) ? defaultServerPool().get(testClass) : Servers.instantiate(testClass);
+	}
+
+	/**
+	 * Find the extension context of the top level test class: nested test classes use
+	 * the server of their enclosing class.
+	 *
+	 * @param context The current extension context.
+	 * @return The class extension context.
+	 */
+	private static ExtensionContext classContext(ExtensionContext context) {
+		ExtensionContext current = context;
+		while (current.getParent().isPresent() && current.getParent().get().getTestClass().isPresent()) {
+			current = current.getParent().get();
+		}
+
+		return current;
+	}
+
+	/**
+	 * Ensure that given value can be assigned to a parameter of given type.
+	 *
+	 * @param type The parameter type.
+	 * @param value The value.
+	 * @return The value.
+	 * @throws ParameterResolutionException If the value cannot be assigned to the parameter.
+	 */
+	private static Object checkType(Class<?> type, Object value) {
+		if (!type.isInstance(value)) {
+			throw new ParameterResolutionException(String.format("Cannot inject %s into a parameter of type %s", value.getClass().getName(), type.getName()));
+		}
+
+		return value;
+	}
+
+	/**
+	 * Embedded server stored in the extension store: the server is stopped when the store is closed,
+	 * i.e once all tests of the test class have been executed.
+	 */
+	private static class ServerResource implements CloseableResource {
+		/**
+		 * The embedded server.
+		 */
+		private final EmbeddedServer<?> server;
+
+		/**
+		 * Create the resource.
+		 *
+		 * @param server The embedded server.
+		 */
+		private ServerResource(EmbeddedServer<?> server) {
+			this.server = server;
+		}
+
+		@Override
+		public void close() {
+			server.stop();
+		}
+	}
+
+	/**
+	 * Http client stored in the extension store: the client is destroyed when the store is closed,
+	 * i.e once the test method (or the test class) has been executed.
+	 */
+	private static class ClientResource implements CloseableResource {
+		/**
+		 * The http client.
+		 */
+		private final HttpClient client;
+
+		/**
+		 * Create the resource.
+		 *
+		 * @param client The http client.
+		 */
+		private ClientResource(HttpClient client) {
+			this.client = client;
+		}
+
+		@Override
+		public void close() {
+			client.destroy();
+		}
+	}
+}
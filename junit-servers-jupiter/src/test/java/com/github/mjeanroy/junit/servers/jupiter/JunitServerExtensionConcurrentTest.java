@@ -0,0 +1,75 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.jupiter;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.jetty.EmbeddedJettyConfiguration;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.mjeanroy.junit.servers.jetty.EmbeddedJettyConfiguration.defaultConfiguration;
+import static java.util.Collections.newSetFromMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Execution(ExecutionMode.CONCURRENT)
+class JunitServerExtensionConcurrentTest {
+
+	private static final EmbeddedJettyConfiguration configuration = defaultConfiguration();
+
+	@RegisterExtension
+	static final JunitServerExtension extension = new JunitServerExtension(configuration);
+
+	private static final Set<EmbeddedServer<?>> servers = newSetFromMap(new ConcurrentHashMap<>());
+
+	private static final Set<HttpClient> clients = newSetFromMap(new ConcurrentHashMap<>());
+
+	@AfterAll
+	static void afterAll() {
+		assertThat(servers).hasSize(1);
+		assertThat(clients).hasSize(8);
+		for (HttpClient client : clients) {
+			assertThat(client.isDestroyed()).isTrue();
+		}
+	}
+
+	@RepeatedTest(8)
+	void it_should_query_server_concurrently(EmbeddedServer<?> server, HttpClient client) {
+		servers.add(server);
+		clients.add(client);
+
+		assertThat(server.getConfiguration()).isSameAs(configuration);
+
+		HttpResponse response = client.prepareGet("/").execute();
+		assertThat(response.status()).isEqualTo(404);
+	}
+}
@@ -0,0 +1,113 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.jupiter;
+
+import com.github.mjeanroy.junit.servers.annotations.TestHttpClient;
+import com.github.mjeanroy.junit.servers.annotations.TestServerConfiguration;
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientStrategy;
+import com.github.mjeanroy.junit.servers.client.impl.okhttp3.OkHttpClient;
+import com.github.mjeanroy.junit.servers.jetty.EmbeddedJetty;
+import com.github.mjeanroy.junit.servers.jetty.EmbeddedJettyConfiguration;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.configuration.AbstractConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.github.mjeanroy.junit.servers.jetty.EmbeddedJettyConfiguration.defaultConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(JunitServerExtension.class)
+class JunitServerExtensionTest {
+
+	@TestServerConfiguration
+	private static final EmbeddedJettyConfiguration configuration = defaultConfiguration();
+
+	private static final List<EmbeddedServer<?>> servers = new CopyOnWriteArrayList<>();
+
+	private static final List<HttpClient> clients = new CopyOnWriteArrayList<>();
+
+	private final EmbeddedServer<?> server;
+
+	JunitServerExtensionTest(EmbeddedServer<?> server) {
+		this.server = server;
+	}
+
+	@AfterAll
+	static void afterAll() {
+		assertThat(servers).isNotEmpty();
+		assertThat(servers.get(0).isStarted()).isTrue();
+		assertThat(clients).isNotEmpty();
+		for (HttpClient client : clients) {
+			assertThat(client.isDestroyed()).isTrue();
+		}
+	}
+
+	@Test
+	void it_should_inject_started_server(EmbeddedServer<?> server) {
+		servers.add(server);
+		assertThat(server).isSameAs(this.server).isInstanceOf(EmbeddedJetty.class);
+		assertThat(server.isStarted()).isTrue();
+		assertThat(server.getConfiguration()).isSameAs(configuration);
+		assertThat(servers).containsOnly(server);
+	}
+
+	@Test
+	void it_should_inject_same_server_in_all_tests(EmbeddedJetty server) {
+		servers.add(server);
+		assertThat(server).isSameAs(this.server);
+		assertThat(servers).containsOnly(server);
+	}
+
+	@Test
+	void it_should_inject_configuration(AbstractConfiguration c1, EmbeddedJettyConfiguration c2) {
+		assertThat(c1).isSameAs(configuration);
+		assertThat(c2).isSameAs(configuration);
+	}
+
+	@Test
+	void it_should_inject_http_clients(HttpClient c1, @TestHttpClient(strategy = HttpClientStrategy.OK_HTTP3) HttpClient c2) {
+		clients.add(c1);
+		clients.add(c2);
+
+		assertThat(c1).isNotNull().isNotSameAs(c2);
+		assertThat(c1.isDestroyed()).isFalse();
+		assertThat(c2).isInstanceOf(OkHttpClient.class);
+		assertThat(c2.isDestroyed()).isFalse();
+	}
+
+	@Nested
+	class NestedTest {
+		@Test
+		void it_should_inject_enclosing_server(EmbeddedServer<?> server) {
+			assertThat(server).isSameAs(JunitServerExtensionTest.this.server);
+		}
+	}
+}
@@ -29,18 +29,40 @@ import com.github.mjeanroy.junit.servers.exceptions.ServerStartException;
 import com.github.mjeanroy.junit.servers.exceptions.ServerStopException;
 import com.github.mjeanroy.junit.servers.servers.AbstractEmbeddedServer;
 import org.apache.catalina.Context;
+import org.apache.catalina.Host;
+import org.apache.catalina.LifecycleListener;
 import org.apache.catalina.WebResourceRoot;
 import org.apache.catalina.connector.Connector;
 import org.apache.catalina.startup.Tomcat;
 import org.apache.catalina.webresources.StandardRoot;
+import org.apache.tomcat.JarScanFilter;
+import org.apache.tomcat.JarScanType;
+import org.apache.tomcat.JarScanner;
+import org.apache.tomcat.JarScannerCallback;
+import org.apache.tomcat.util.scan.StandardJarScanFilter;
 import org.apache.tomcat.util.scan.StandardJarScanner;
 
 import javax.servlet.ServletContext;
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
-
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import static com.github.mjeanroy.junit.servers.commons.ConcurrentUtils.defaultExecutor;
 import static com.github.mjeanroy.junit.servers.commons.Strings.isNotBlank;
 import static com.github.mjeanroy.junit.servers.tomcat.EmbeddedTomcatConfiguration.defaultConfiguration;
 
@@ -49,11 +71,24 @@ import static com.github.mjeanroy.junit.servers.tomcat.EmbeddedTomcatConfigurati
  */
 public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomcatConfiguration> {
 
+	/**
+	 * Suffix added to the name of a base directory before its deletion.
+	 */
+	private static final String TRASH_SUFFIX = ".deleted-";
+
 	/**
 	 * Tomcat instance.
 	 */
 	private final Tomcat tomcat;
 
+	/**
+	 * Tomcat base directory: this is the configured base directory, or a unique
+	 * directory created in it when the server is started for the first time.
+	 *
+	 * @see EmbeddedTomcatConfiguration#isUniqueBaseDir()
+	 */
+	private volatile String baseDir;
+
 	/**
 	 * Tomcat context.
 	 */
@@ -73,27 +108,49 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 	 */
 	public EmbeddedTomcat(EmbeddedTomcatConfiguration configuration) {
 		super(configuration);
-		this.tomcat = initServer();
+		this.tomcat = new Tomcat();
+		this.tomcat.setPort(configuration.getPort());
+
+		// A unique base directory is created on first start, so that a server that is never
+		// started does not leave it on disk.
+		if (!configuration.isUniqueBaseDir()) {
+			initServer(configuration.getBaseDir());
+		}
+	}
+
+	private String createUniqueBaseDir() {
+		try {
+			Path parent = Paths.get(configuration.getBaseDir()).toAbsolutePath();
+			Files.createDirectories(parent);
+			return Files.createTempDirectory(parent, "tomcat-").toString();
+		}
+		catch (IOException ex) {
+			throw new ServerInitializationException(ex);
+		}
 	}
 
-	private Tomcat initServer() {
-		Tomcat tomcat = new Tomcat();
-		tomcat.setBaseDir(configuration.getBaseDir());
-		tomcat.setPort(configuration.getPort());
+	private void initServer(String baseDir) {
+		this.baseDir = baseDir;
+		tomcat.setBaseDir(baseDir);
 
+		// Note that tomcat host is created here: tomcat base directory cannot be changed after.
 		tomcat.getHost().setAutoDeploy(true);
 		tomcat.getHost().setDeployOnStartup(true);
 
 		if (configuration.isEnableNaming()) {
 			tomcat.enableNaming();
 		}
-
-		return tomcat;
 	}
 
 	private Context initContext() {
 		try {
-			return createContext();
+			Context context = createContext();
+			if (context != null) {
+				configureJarScanFilter(context.getJarScanner());
+				context.setJarScanner(new TimedJarScanner(context.getJarScanner()));
+			}
+
+			return context;
 		}
 		catch (Exception ex) {
 			throw new ServerInitializationException(ex);
@@ -123,7 +180,13 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 		if (webappDirectory.exists()) {
 			String webappAbsolutePath = webappDirectory.getAbsolutePath();
 			tomcat.getHost().setAppBase(webappAbsolutePath);
-			context = tomcat.addWebapp(path, webappAbsolutePath);
+			if (configuration.isScanCacheEnabled()) {
+				ScanCache scanCache = new ScanCache(configuration.getScanCacheDir());
+				LifecycleListener contextConfig = new ScanCachingContextConfig(scanCache);
+				context = tomcat.addWebapp(tomcat.getHost(), path, webappAbsolutePath, contextConfig);
+			} else {
+				context = tomcat.addWebapp(path, webappAbsolutePath);
+			}
 
 			// Add additional classpath entry
 			if (isNotBlank(classpath)) {
@@ -194,6 +257,56 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 		return context;
 	}
 
+	/**
+	 * Apply jar scan patterns of the configuration to the filter of given jar scanner: patterns are
+	 * added to the default patterns of the filter (that may be defined with system properties).
+	 *
+	 * @param jarScanner The jar scanner.
+	 */
+	private void configureJarScanFilter(JarScanner jarScanner) {
+		final List<String> includes = configuration.getJarScanIncludes();
+		final List<String> excludes = configuration.getJarScanExcludes();
+		final boolean skipTldScan = configuration.isSkipTldScan();
+
+		if (includes.isEmpty() && excludes.isEmpty() && !skipTldScan) {
+			return;
+		}
+
+		if (!(jarScanner.getJarScanFilter() instanceof StandardJarScanFilter)) {
+			jarScanner.setJarScanFilter(new StandardJarScanFilter());
+		}
+
+		// If include patterns are defined, jars are not scanned unless they match one of these patterns.
+		final StandardJarScanFilter filter = (StandardJarScanFilter) jarScanner.getJarScanFilter();
+		final boolean defaultScan = includes.isEmpty();
+
+		filter.setDefaultPluggabilityScan(defaultScan);
+		filter.setPluggabilityScan(concat(filter.getPluggabilityScan(), includes));
+		filter.setPluggabilitySkip(concat(filter.getPluggabilitySkip(), excludes));
+
+		if (skipTldScan) {
+			filter.setDefaultTldScan(false);
+			filter.setTldScan("");
+		} else {
+			filter.setDefaultTldScan(defaultScan);
+			filter.setTldScan(concat(filter.getTldScan(), includes));
+			filter.setTldSkip(concat(filter.getTldSkip(), excludes));
+		}
+	}
+
+	private static String concat(String patterns, List<String> newPatterns) {
+		StringBuilder sb = new StringBuilder(patterns == null ? "" : patterns.trim());
+		for (String pattern : newPatterns) {
+			if (sb.length() > 0) {
+				sb.append(",");
+			}
+
+			sb.append(pattern);
+		}
+
+		return sb.toString();
+	}
+
 	@Override
 	public Tomcat getDelegate() {
 		return tomcat;
@@ -201,9 +314,45 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 
 	@Override
 	protected void doStart() {
+		if (baseDir == null) {
+			initServer(createUniqueBaseDir());
+		}
+
 		try {
+			long phaseStart = System.nanoTime();
 			context = initContext();
+			recordStartupPhase("tomcat.context.create", phaseStart);
+
+			phaseStart = System.nanoTime();
 			tomcat.start();
+			recordStartupPhase("tomcat.server.start", phaseStart);
+		}
+		catch (Exception ex) {
+			throw new ServerStartException(ex);
+		}
+	}
+
+	/**
+	 * Reload web application: the context is removed from the tomcat host (and destroyed), then
+	 * a new context is created and deployed. Tomcat connector is not stopped.
+	 */
+	@Override
+	protected void doReload() {
+		try {
+			Host host = tomcat.getHost();
+
+			// Context must be fully configured before being started, so the host
+			// is stopped (the connector remains bound) while context is re-created.
+			host.stop();
+
+			Context oldContext = context;
+			if (oldContext != null) {
+				// Removing the context from its host will destroy it.
+				host.removeChild(oldContext);
+			}
+
+			context = initContext();
+			host.start();
 		}
 		catch (Exception ex) {
 			throw new ServerStartException(ex);
@@ -222,7 +371,7 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 			}
 
 			if (!configuration.isKeepBaseDir()) {
-				deleteDirectory(configuration.getBaseDir());
+				deleteBaseDir();
 			}
 		}
 		catch (Exception ex) {
@@ -249,18 +398,53 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 		return tomcat.getConnector();
 	}
 
-	private static void deleteDirectory(String path) {
-		if (path == null) {
+	/**
+	 * Get {@link #baseDir}.
+	 *
+	 * @return {@link #baseDir}, {@code null} if a unique base directory is used and server has never been started.
+	 */
+	public String getBaseDir() {
+		return baseDir;
+	}
+
+	/**
+	 * Delete base directory.
+	 *
+	 * <p>
+	 *
+	 * A unique base directory is renamed (so that it can be re-created immediately, if the server
+	 * is restarted), then deleted in background: pending deletions are awaited when the JVM shuts down.
+	 * A base directory that is not unique may be used by other servers: it is deleted synchronously
+	 * and is never renamed.
+	 */
+	private void deleteBaseDir() {
+		final File dir = new File(baseDir);
+		if (!dir.exists()) {
+			return;
+		}
+
+		if (!configuration.isUniqueBaseDir()) {
+			deleteDirectory(dir);
 			return;
 		}
 
-		File file = new File(path);
+		final File trash = new File(dir.getAbsoluteFile().getParentFile(), dir.getName() + TRASH_SUFFIX + UUID.randomUUID());
+		if (!dir.renameTo(trash)) {
+			// Directory cannot be renamed: delete it now, it may be re-used by next start.
+			deleteDirectory(dir);
+			return;
+		}
+
+		BaseDirCleaner.delete(trash);
+	}
+
+	private static void deleteDirectory(File file) {
 		if (file.exists()) {
 			File[] files = file.listFiles();
 			if (files != null && files.length > 0) {
 				for (File f : files) {
 					if (f.isDirectory()) {
-						deleteDirectory(f.getAbsolutePath());
+						deleteDirectory(f);
 					}
 
 					f.delete();
@@ -270,4 +454,103 @@ public class EmbeddedTomcat extends AbstractEmbeddedServer<Tomcat, EmbeddedTomca
 			file.delete();
 		}
 	}
+
+	/**
+	 * Delete directories in background: deletions still pending when the JVM shuts down
+	 * are awaited by a shutdown hook, so that directories are not left on disk.
+	 */
+	private static final class BaseDirCleaner {
+
+		/**
+		 * Pending deletions.
+		 */
+		private static final Set<Future<?>> pending = Collections.newSetFromMap(new ConcurrentHashMap<Future<?>, Boolean>());
+
+		static {
+			Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+				@Override
+				public void run() {
+					awaitPendingDeletions();
+				}
+			}, "junit-servers-tomcat-cleanup"));
+		}
+
+		/**
+		 * Delete given directory in background.
+		 *
+		 * @param dir The directory.
+		 */
+		private static void delete(final File dir) {
+			FutureTask<Void> task = new FutureTask<Void>(new Callable<Void>() {
+				@Override
+				public Void call() {
+					deleteDirectory(dir);
+					return null;
+				}
+			}) {
+				@Override
+				protected void done() {
+					pending.remove(this);
+				}
+			};
+
+			pending.add(task);
+			defaultExecutor().execute(task);
+		}
+
+		/**
+		 * Wait for pending deletions.
+		 */
+		private static void awaitPendingDeletions() {
+			for (Future<?> future : pending) {
+				try {
+					future.get();
+				}
+				catch (ExecutionException | CancellationException ex) {
+					// Nothing more can be done.
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Jar scanner, recording duration of each scan in the startup report.
+	 */
+	private class TimedJarScanner implements JarScanner {
+
+		/**
+		 * The original jar scanner.
+		 */
+		private final JarScanner delegate;
+
+		/**
+		 * Create scanner.
+		 *
+		 * @param delegate The original jar scanner.
+		 */
+		private TimedJarScanner(JarScanner delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void scan(JarScanType scanType, ServletContext context, JarScannerCallback callback) {
+			long phaseStart = System.nanoTime();
+			delegate.scan(scanType, context, callback);
+			recordStartupPhase("tomcat.jar-scan:" + scanType, phaseStart);
+		}
+
+		@Override
+		public JarScanFilter getJarScanFilter() {
+			return delegate.getJarScanFilter();
+		}
+
+		@Override
+		public void setJarScanFilter(JarScanFilter jarScanFilter) {
+			delegate.setJarScanFilter(jarScanFilter);
+		}
+	}
 }
@@ -24,8 +24,13 @@
 
 package com.github.mjeanroy.junit.servers.tomcat;
 
+import static com.github.mjeanroy.junit.servers.commons.Preconditions.notBlank;
 import static com.github.mjeanroy.junit.servers.commons.Preconditions.notNull;
+import static java.util.Collections.unmodifiableList;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import org.apache.catalina.startup.Tomcat;
@@ -54,6 +59,11 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 	 */
 	private static final boolean DEFAULT_KEEP_BASE_DIR = false;
 
+	/**
+	 * The default value for the {@link Builder#uniqueBaseDir} flag.
+	 */
+	private static final boolean DEFAULT_UNIQUE_BASE_DIR = false;
+
 	/**
 	 * The default value for the {@link Builder#enableNaming} flag.
 	 */
@@ -64,6 +74,17 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 	 */
 	private static final boolean DEFAULT_FORCE_META_INF = true;
 
+	/**
+	 * The default value for the {@link Builder#skipTldScan} flag.
+	 */
+	private static final boolean DEFAULT_SKIP_TLD_SCAN = false;
+
+	/**
+	 * The default directory used to store scan cache, when cache is enabled
+	 * with {@link Builder#enableScanCache()}.
+	 */
+	static final String DEFAULT_SCAN_CACHE_DIR = new File(System.getProperty("java.io.tmpdir"), "junit-servers-tomcat-scan-cache").getAbsolutePath();
+
 	/**
 	 * Get configuration builder.
 	 *
@@ -95,6 +116,17 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 	 */
 	private final boolean keepBaseDir;
 
+	/**
+	 * Use a unique directory, created in {@link #baseDir}, as the Tomcat base directory of each
+	 * server instance: parallel instances (or forked JVMs) never share their work directories.
+	 *
+	 * <p>
+	 *
+	 * Note that {@link #baseDir} may be located on a memory file system (such as {@code /dev/shm}
+	 * on Linux) to speed up I/O.
+	 */
+	private final boolean uniqueBaseDir;
+
 	/**
 	 * Flag used to enable / disable naming.
 	 * This is a flag to enables JNDI naming.
@@ -109,6 +141,40 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 	 */
 	private final boolean forceMetaInf;
 
+	/**
+	 * Name patterns of jars that must be scanned for TLD, web fragments and annotations (for example
+	 * {@code "spring-web*.jar"}): if this list is not empty, other jars are not scanned.
+	 *
+	 * @see org.apache.tomcat.util.scan.StandardJarScanFilter
+	 */
+	private final List<String> jarScanIncludes;
+
+	/**
+	 * Name patterns of jars that must not be scanned for TLD, web fragments and annotations (for
+	 * example {@code "hibernate-*.jar"}).
+	 *
+	 * @see org.apache.tomcat.util.scan.StandardJarScanFilter
+	 */
+	private final List<String> jarScanExcludes;
+
+	/**
+	 * Flag used to skip TLD scanning of jars.
+	 */
+	private final boolean skipTldScan;
+
+	/**
+	 * The directory where the scan cache is stored (cache is disabled if this directory
+	 * is {@code null}).
+	 *
+	 * <p>
+	 *
+	 * When the cache is enabled, jars whose annotation scan did not find any web component (servlet,
+	 * filter, listener, or class handled by a {@link javax.servlet.ServletContainerInitializer}) are
+	 * remembered, so that next boots (including boots in another JVM) skip them as long as they are
+	 * not modified.
+	 */
+	private final String scanCacheDir;
+
 	/**
 	 * Build new tomcat configuration.
 	 *
@@ -118,8 +184,13 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 		super(builder);
 		this.baseDir = builder.getBaseDir();
 		this.keepBaseDir = builder.isKeepBaseDir();
+		this.uniqueBaseDir = builder.isUniqueBaseDir();
 		this.enableNaming = builder.isEnableNaming();
 		this.forceMetaInf = builder.isForceMetaInf();
+		this.jarScanIncludes = new ArrayList<>(builder.getJarScanIncludes());
+		this.jarScanExcludes = new ArrayList<>(builder.getJarScanExcludes());
+		this.skipTldScan = builder.isSkipTldScan();
+		this.scanCacheDir = builder.getScanCacheDir();
 	}
 
 	/**
@@ -140,6 +211,15 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 		return keepBaseDir;
 	}
 
+	/**
+	 * Get {@link #uniqueBaseDir}.
+	 *
+	 * @return {@link #uniqueBaseDir}
+	 */
+	public boolean isUniqueBaseDir() {
+		return uniqueBaseDir;
+	}
+
 	/**
 	 * Get {@link #enableNaming}.
 	 *
@@ -158,6 +238,51 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 		return forceMetaInf;
 	}
 
+	/**
+	 * Get {@link #jarScanIncludes}, as a non-modifiable list.
+	 *
+	 * @return {@link #jarScanIncludes}
+	 */
+	public List<String> getJarScanIncludes() {
+		return unmodifiableList(jarScanIncludes);
+	}
+
+	/**
+	 * Get {@link #jarScanExcludes}, as a non-modifiable list.
+	 *
+	 * @return {@link #jarScanExcludes}
+	 */
+	public List<String> getJarScanExcludes() {
+		return unmodifiableList(jarScanExcludes);
+	}
+
+	/**
+	 * Get {@link #skipTldScan}.
+	 *
+	 * @return {@link #skipTldScan}
+	 */
+	public boolean isSkipTldScan() {
+		return skipTldScan;
+	}
+
+	/**
+	 * Get {@link #scanCacheDir}.
+	 *
+	 * @return {@link #scanCacheDir}
+	 */
+	public String getScanCacheDir() {
+		return scanCacheDir;
+	}
+
+	/**
+	 * Check if scan cache is enabled, i.e if {@link #scanCacheDir} is defined.
+	 *
+	 * @return {@code true} if scan cache is enabled, {@code false} otherwise.
+	 */
+	public boolean isScanCacheEnabled() {
+		return scanCacheDir != null;
+	}
+
 	@Override
 	public String toString() {
 		return ToStringBuilder.create(getClass())
@@ -167,10 +292,17 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 			.append("classpath", getClasspath())
 			.append("overrideDescriptor", getOverrideDescriptor())
 			.append("parentClasspath", getParentClasspath())
+			.append("readinessProbe", getReadinessProbe())
+			.append("readinessTimeout", getReadinessTimeout())
 			.append("baseDir", baseDir)
 			.append("keepBaseDir", keepBaseDir)
+			.append("uniqueBaseDir", uniqueBaseDir)
 			.append("enableNaming", enableNaming)
 			.append("forceMetaInf", forceMetaInf)
+			.append("jarScanIncludes", jarScanIncludes)
+			.append("jarScanExcludes", jarScanExcludes)
+			.append("skipTldScan", skipTldScan)
+			.append("scanCacheDir", scanCacheDir)
 			.build();
 	}
 
@@ -185,8 +317,13 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 			return super.equals(c)
 					&& Objects.equals(baseDir, c.baseDir)
 					&& Objects.equals(keepBaseDir, c.keepBaseDir)
+					&& Objects.equals(uniqueBaseDir, c.uniqueBaseDir)
 					&& Objects.equals(enableNaming, c.enableNaming)
-					&& Objects.equals(forceMetaInf, c.forceMetaInf);
+					&& Objects.equals(forceMetaInf, c.forceMetaInf)
+					&& Objects.equals(jarScanIncludes, c.jarScanIncludes)
+					&& Objects.equals(jarScanExcludes, c.jarScanExcludes)
+					&& Objects.equals(skipTldScan, c.skipTldScan)
+					&& Objects.equals(scanCacheDir, c.scanCacheDir);
 		}
 
 		return false;
@@ -199,7 +336,7 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(super.hashCode(), baseDir, keepBaseDir, enableNaming, forceMetaInf);
+		return Objects.hash(super.hashCode(), baseDir, keepBaseDir, uniqueBaseDir, enableNaming, forceMetaInf, jarScanIncludes, jarScanExcludes, skipTldScan, scanCacheDir);
 	}
 
 	/**
@@ -225,6 +362,14 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 		 */
 		private boolean keepBaseDir = DEFAULT_KEEP_BASE_DIR;
 
+		/**
+		 * Use a unique directory, created in {@link #baseDir}, for each server instance.
+		 * Default is {@link EmbeddedTomcatConfiguration#DEFAULT_UNIQUE_BASE_DIR}.
+		 *
+		 * @see EmbeddedTomcatConfiguration#DEFAULT_UNIQUE_BASE_DIR
+		 */
+		private boolean uniqueBaseDir = DEFAULT_UNIQUE_BASE_DIR;
+
 		/**
 		 * Enable/Disable naming: this is a flag to enables JNDI naming.
 		 * Default is {@link EmbeddedTomcatConfiguration#DEFAULT_ENABLE_NAMING}.
@@ -240,10 +385,37 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 		 */
 		private boolean forceMetaInf;
 
+		/**
+		 * Name patterns of jars that must be scanned, other jars are not scanned if this
+		 * list is not empty.
+		 */
+		private final List<String> jarScanIncludes;
+
+		/**
+		 * Name patterns of jars that must not be scanned.
+		 */
+		private final List<String> jarScanExcludes;
+
+		/**
+		 * Skip TLD scanning of jars.
+		 * Default is {@link EmbeddedTomcatConfiguration#DEFAULT_SKIP_TLD_SCAN}.
+		 *
+		 * @see EmbeddedTomcatConfiguration#DEFAULT_SKIP_TLD_SCAN
+		 */
+		private boolean skipTldScan;
+
+		/**
+		 * The directory where the scan cache is stored, {@code null} to disable the cache.
+		 */
+		private String scanCacheDir;
+
 		private Builder() {
 			baseDir = DEFAULT_BASE_DIR;
 			enableNaming = DEFAULT_ENABLE_NAMING;
 			forceMetaInf = DEFAULT_FORCE_META_INF;
+			skipTldScan = DEFAULT_SKIP_TLD_SCAN;
+			jarScanIncludes = new ArrayList<>();
+			jarScanExcludes = new ArrayList<>();
 
 			withClasspath(DEFAULT_CLASSPATH);
 		}
@@ -276,6 +448,15 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 			return keepBaseDir;
 		}
 
+		/**
+		 * Get current {@link #uniqueBaseDir} value.
+		 *
+		 * @return {@link #uniqueBaseDir}
+		 */
+		public boolean isUniqueBaseDir() {
+			return uniqueBaseDir;
+		}
+
 		/**
 		 * Get current {@link #enableNaming} value.
 		 *
@@ -294,6 +475,42 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 			return forceMetaInf;
 		}
 
+		/**
+		 * Get current {@link #jarScanIncludes} value.
+		 *
+		 * @return {@link #jarScanIncludes}
+		 */
+		public List<String> getJarScanIncludes() {
+			return jarScanIncludes;
+		}
+
+		/**
+		 * Get current {@link #jarScanExcludes} value.
+		 *
+		 * @return {@link #jarScanExcludes}
+		 */
+		public List<String> getJarScanExcludes() {
+			return jarScanExcludes;
+		}
+
+		/**
+		 * Get current {@link #skipTldScan} value.
+		 *
+		 * @return {@link #skipTldScan}
+		 */
+		public boolean isSkipTldScan() {
+			return skipTldScan;
+		}
+
+		/**
+		 * Get current {@link #scanCacheDir} value.
+		 *
+		 * @return {@link #scanCacheDir}
+		 */
+		public String getScanCacheDir() {
+			return scanCacheDir;
+		}
+
 		/**
 		 * Change tomcat base directory.
 		 *
@@ -326,6 +543,26 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 			return self();
 		}
 
+		/**
+		 * Use a unique directory, created in the base directory, for each server instance.
+		 *
+		 * @return this.
+		 */
+		public Builder enableUniqueBaseDir() {
+			this.uniqueBaseDir = true;
+			return self();
+		}
+
+		/**
+		 * Use the base directory for each server instance (this is the default).
+		 *
+		 * @return this.
+		 */
+		public Builder disableUniqueBaseDir() {
+			this.uniqueBaseDir = false;
+			return self();
+		}
+
 		/**
 		 * Enable naming (i.e enable JNDI) on tomcat server.
 		 *
@@ -362,6 +599,98 @@ public class EmbeddedTomcatConfiguration extends AbstractConfiguration {
 			return toggleMetaInf(false);
 		}
 
+		/**
+		 * Add new pattern to the {@link #jarScanIncludes} list: once a pattern has been added, only
+		 * jars matching one of these patterns are scanned.
+		 *
+		 * @param pattern Jar name pattern, such as {@code "spring-web*.jar"}.
+		 * @return this.
+		 * @throws NullPointerException If {@code pattern} is {@code null}.
+		 * @throws IllegalArgumentException If {@code pattern} is empty or blank.
+		 */
+		public Builder withJarScanInclude(String pattern) {
+			this.jarScanIncludes.add(notBlank(pattern, "pattern"));
+			return self();
+		}
+
+		/**
+		 * Add new pattern to the {@link #jarScanExcludes} list: jars matching one of these
+		 * patterns are not scanned.
+		 *
+		 * @param pattern Jar name pattern, such as {@code "hibernate-*.jar"}.
+		 * @return this.
+		 * @throws NullPointerException If {@code pattern} is {@code null}.
+		 * @throws IllegalArgumentException If {@code pattern} is empty or blank.
+		 */
+		public Builder withJarScanExclude(String pattern) {
+			this.jarScanExcludes.add(notBlank(pattern, "pattern"));
+			return self();
+		}
+
+		/**
+		 * Skip TLD scanning of jars.
+		 *
+		 * @return this.
+		 */
+		public Builder skipTldScan() {
+			this.skipTldScan = true;
+			return self();
+		}
+
+		/**
+		 * Scan jars for TLD (this is the default).
+		 *
+		 * @return this.
+		 */
+		public Builder scanTld() {
+			this.skipTldScan = false;
+			return self();
+		}
+
+		/**
+		 * Enable scan cache, using default directory to store it.
+		 *
+		 * @return this.
+		 * @see EmbeddedTomcatConfiguration#DEFAULT_SCAN_CACHE_DIR
+		 */
+		public Builder enableScanCache() {
+			return withScanCacheDir(DEFAULT_SCAN_CACHE_DIR);
+		}
+
+		/**
+		 * Disable scan cache.
+		 *
+		 * @return this.
+		 */
+		public Builder disableScanCache() {
+			this.scanCacheDir = null;
+			return self();
+		}
+
+		/**
+		 * Enable scan cache and change {@link #scanCacheDir} value.
+		 *
+		 * @param scanCacheDir New {@link #scanCacheDir} value.
+		 * @return this.
+		 * @throws NullPointerException If {@code scanCacheDir} is {@code null}.
+		 */
+		public Builder withScanCacheDir(String scanCacheDir) {
+			this.scanCacheDir = notNull(scanCacheDir, "scanCacheDir");
+			return self();
+		}
+
+		/**
+		 * Enable scan cache and change {@link #scanCacheDir} value.
+		 *
+		 * @param scanCacheDir New {@link #scanCacheDir} value (the absolute path will be used).
+		 * @return this.
+		 * @throws NullPointerException If {@code scanCacheDir} is {@code null}.
+		 */
+		public Builder withScanCacheDir(File scanCacheDir) {
+			notNull(scanCacheDir, "scanCacheDir");
+			return withScanCacheDir(scanCacheDir.getAbsolutePath());
+		}
+
 		private Builder toggleNaming(boolean enableNaming) {
 			this.enableNaming = enableNaming;
 			return self();
@@ -0,0 +1,256 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.tomcat;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistent set of jars whose annotation scan did not find anything: each entry
+ * is a hash of the jar location, size and modification date, and of the scan context
+ * (i.e the types handled by the application {@link javax.servlet.ServletContainerInitializer}),
+ * so a modified jar, or a new initializer, will always be scanned again.
+ *
+ * <p>
+ *
+ * The cache is an optimization: I/O errors while reading or writing it are ignored,
+ * the jars will just be scanned again.
+ */
+final class ScanCache {
+
+	/**
+	 * The name of the cache file, in the cache directory.
+	 */
+	private static final String FILE_NAME = "empty-jars.cache";
+
+	/**
+	 * The cache file.
+	 */
+	private final File file;
+
+	/**
+	 * The cache entries.
+	 */
+	private final Set<String> entries;
+
+	/**
+	 * Flag set when an entry has been added since the cache has been loaded.
+	 */
+	private volatile boolean modified;
+
+	/**
+	 * Create the cache, and load entries stored in given directory.
+	 *
+	 * @param dir The cache directory.
+	 */
+	ScanCache(String dir) {
+		this.file = new File(dir, FILE_NAME);
+		this.entries = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+		this.entries.addAll(read(file));
+	}
+
+	/**
+	 * Compute the key of given jar: the key is {@code null} if the jar is not a
+	 * local file (in which case it cannot be cached).
+	 *
+	 * @param url The jar URL.
+	 * @param context The scan context.
+	 * @return The key, may be {@code null}.
+	 */
+	static String key(URL url, String context) {
+		File jar = toFile(url);
+		if (jar == null || !jar.isFile()) {
+			return null;
+		}
+
+		MessageDigest digest = newDigest();
+		update(digest, jar.getAbsolutePath());
+		update(digest, String.valueOf(jar.length()));
+		update(digest, String.valueOf(jar.lastModified()));
+		update(digest, context);
+		return toHex(digest.digest());
+	}
+
+	/**
+	 * Check if the jar identified by given key is known to be empty.
+	 *
+	 * @param key The jar key.
+	 * @return {@code true} if jar is empty, {@code false} otherwise.
+	 */
+	boolean contains(String key) {
+		return entries.contains(key);
+	}
+
+	/**
+	 * Mark the jar identified by given key as empty.
+	 *
+	 * @param key The jar key.
+	 */
+	void add(String key) {
+		if (entries.add(key)) {
+			modified = true;
+		}
+	}
+
+	/**
+	 * Get the number of entries in this cache.
+	 *
+	 * @return Number of entries.
+	 */
+	int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Write cache entries on disk, if new entries have been added: entries written
+	 * by another JVM in the meantime are kept.
+	 */
+	synchronized void save() {
+		if (!modified) {
+			return;
+		}
+
+		File dir = file.getParentFile();
+		if (!dir.isDirectory() && !dir.mkdirs() && !dir.isDirectory()) {
+			return;
+		}
+
+		Set<String> merged = new TreeSet<>(read(file));
+		merged.addAll(entries);
+
+		File tmp = null;
+		try {
+			tmp = File.createTempFile(FILE_NAME, ".tmp", dir);
+			try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tmp), StandardCharsets.UTF_8))) {
+				for (String entry : merged) {
+					writer.write(entry);
+					writer.write('\n');
+				}
+			}
+
+			if (!tmp.renameTo(file)) {
+				// Rename may fail if target exists on some file systems.
+				file.delete();
+				tmp.renameTo(file);
+			}
+
+			modified = false;
+		}
+		catch (IOException ex) {
+			// Ignore, cache will be written next time.
+		}
+		finally {
+			if (tmp != null && tmp.exists()) {
+				tmp.delete();
+			}
+		}
+	}
+
+	private static Collection<String> read(File file) {
+		Set<String> entries = new TreeSet<>();
+		if (!file.isFile()) {
+			return entries;
+		}
+
+		try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+			BufferedReader br = new BufferedReader(reader);
+			String line;
+			while ((line = br.readLine()) != null) {
+				String entry = line.trim();
+				if (!entry.isEmpty()) {
+					entries.add(entry);
+				}
+			}
+		}
+		catch (IOException ex) {
+			// Ignore, jars will be scanned again.
+		}
+
+		return entries;
+	}
+
+	private static File toFile(URL url) {
+		try {
+			if ("file".equals(url.getProtocol())) {
+				return new File(url.toURI());
+			}
+
+			if ("jar".equals(url.getProtocol())) {
+				// Jar URL, such as: jar:file:/path/to/file.jar!/
+				String spec = url.getFile();
+				int separator = spec.indexOf("!/");
+				URL jarUrl = new URL(separator < 0 ? spec : spec.substring(0, separator));
+				return "file".equals(jarUrl.getProtocol()) ? new File(jarUrl.toURI()) : null;
+			}
+		}
+		catch (IOException | URISyntaxException | IllegalArgumentException ex) {
+			// Not a local file.
+		}
+
+		return null;
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-1");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			// Should not happen, SHA-1 is required on every java platform.
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+			sb.append(Character.forDigit(b & 0xF, 16));
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.tomcat;
+
+import java.net.URL;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.catalina.startup.ContextConfig;
+import org.apache.tomcat.util.descriptor.web.WebXml;
+
+/**
+ * Tomcat context configuration, skipping annotation scan of jars known to be empty,
+ * see {@link ScanCache}.
+ */
+class ScanCachingContextConfig extends ContextConfig {
+
+	/**
+	 * The scan cache.
+	 */
+	private final ScanCache cache;
+
+	/**
+	 * Create configuration.
+	 *
+	 * @param cache The scan cache.
+	 */
+	ScanCachingContextConfig(ScanCache cache) {
+		this.cache = cache;
+	}
+
+	@Override
+	protected synchronized void configureStart() {
+		try {
+			super.configureStart();
+		}
+		finally {
+			cache.save();
+		}
+	}
+
+	@Override
+	protected void processAnnotationsJar(URL url, WebXml fragment, boolean handlesTypesOnly) {
+		String key = ScanCache.key(url, scanContext(handlesTypesOnly));
+		if (key != null && cache.contains(key)) {
+			return;
+		}
+
+		// Web fragment descriptor may already define components, that annotations may
+		// complete: in this case, the jar is not cached.
+		boolean empty = isEmpty(fragment);
+		int handledClasses = countHandledClasses();
+
+		super.processAnnotationsJar(url, fragment, handlesTypesOnly);
+
+		if (key != null && empty && isEmpty(fragment) && handledClasses == countHandledClasses()) {
+			cache.add(key);
+		}
+	}
+
+	/**
+	 * Get the scan context: the result of a scan depends on the types handled by
+	 * initializers, and on the kind of scan (annotations, or handled types only).
+	 *
+	 * @param handlesTypesOnly The kind of scan.
+	 * @return The scan context.
+	 */
+	private String scanContext(boolean handlesTypesOnly) {
+		Set<String> types = new TreeSet<>();
+		for (Class<?> type : typeInitializerMap.keySet()) {
+			types.add(type.getName());
+		}
+
+		return handlesTypesOnly + ";" + handlesTypesAnnotations + ";" + handlesTypesNonAnnotations + ";" + types;
+	}
+
+	private int countHandledClasses() {
+		int count = 0;
+		for (Set<Class<?>> classes : initializerClassMap.values()) {
+			count += classes.size();
+		}
+		return count;
+	}
+
+	private static boolean isEmpty(WebXml fragment) {
+		return fragment.getServlets().isEmpty() && fragment.getFilters().isEmpty() && fragment.getListeners().isEmpty();
+	}
+}
@@ -139,6 +139,22 @@ public class EmbeddedTomcatConfigurationBuilderTest {
 		assertThat(result.isKeepBaseDir()).isFalse();
 	}
 
+	@Test
+	public void it_should_enable_unique_base_dir() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableUniqueBaseDir();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isUniqueBaseDir()).isTrue();
+	}
+
+	@Test
+	public void it_should_disable_unique_base_dir() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableUniqueBaseDir().disableUniqueBaseDir();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isUniqueBaseDir()).isFalse();
+	}
+
 	@Test
 	public void it_should_enable_naming() {
 		EmbeddedTomcatConfiguration.Builder result = builder.enableNaming();
@@ -170,4 +186,47 @@ public class EmbeddedTomcatConfigurationBuilderTest {
 		assertThat(result).isSameAs(builder);
 		assertThat(result.isForceMetaInf()).isFalse();
 	}
+
+	@Test
+	public void it_should_add_jar_scan_patterns() {
+		EmbeddedTomcatConfiguration.Builder result = builder
+				.withJarScanInclude("spring-*.jar")
+				.withJarScanExclude("spring-test-*.jar");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getJarScanIncludes()).containsExactly("spring-*.jar");
+		assertThat(result.getJarScanExcludes()).containsExactly("spring-test-*.jar");
+	}
+
+	@Test
+	public void it_should_skip_tld_scan() {
+		EmbeddedTomcatConfiguration.Builder result = builder.skipTldScan();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isSkipTldScan()).isTrue();
+	}
+
+	@Test
+	public void it_should_scan_tld() {
+		EmbeddedTomcatConfiguration.Builder result = builder.skipTldScan().scanTld();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isSkipTldScan()).isFalse();
+	}
+
+	@Test
+	public void it_should_enable_scan_cache() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableScanCache();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getScanCacheDir()).isEqualTo(EmbeddedTomcatConfiguration.DEFAULT_SCAN_CACHE_DIR);
+	}
+
+	@Test
+	public void it_should_disable_scan_cache() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableScanCache().disableScanCache();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getScanCacheDir()).isNull();
+	}
 }
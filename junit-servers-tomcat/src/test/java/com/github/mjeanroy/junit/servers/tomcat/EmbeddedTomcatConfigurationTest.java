@@ -60,6 +60,11 @@ public class EmbeddedTomcatConfigurationTest {
 				.disableNaming()
 				.disableForceMetaInf()
 				.keepBaseDir()
+				.enableUniqueBaseDir()
+				.withJarScanInclude("spring-*.jar")
+				.withJarScanExclude("spring-test-*.jar")
+				.skipTldScan()
+				.withScanCacheDir("/tmp/scan-cache")
 				.build();
 
 		assertThat(result.getPort()).isEqualTo(port);
@@ -69,6 +74,12 @@ public class EmbeddedTomcatConfigurationTest {
 		assertThat(result.isForceMetaInf()).isFalse();
 		assertThat(result.isEnableNaming()).isFalse();
 		assertThat(result.isKeepBaseDir()).isTrue();
+		assertThat(result.isUniqueBaseDir()).isTrue();
+		assertThat(result.getJarScanIncludes()).containsExactly("spring-*.jar");
+		assertThat(result.getJarScanExcludes()).containsExactly("spring-test-*.jar");
+		assertThat(result.isSkipTldScan()).isTrue();
+		assertThat(result.getScanCacheDir()).isEqualTo("/tmp/scan-cache");
+		assertThat(result.isScanCacheEnabled()).isTrue();
 	}
 
 	@Test
@@ -90,10 +101,17 @@ public class EmbeddedTomcatConfigurationTest {
 				"classpath: \"./target/classes\", " +
 				"overrideDescriptor: null, " +
 				"parentClasspath: [], " +
+				"readinessProbe: null, " +
+				"readinessTimeout: 30000, " +
 				"baseDir: \"./tomcat-work\", " +
 				"keepBaseDir: false, " +
+				"uniqueBaseDir: false, " +
 				"enableNaming: true, " +
-				"forceMetaInf: true" +
+				"forceMetaInf: true, " +
+				"jarScanIncludes: [], " +
+				"jarScanExcludes: [], " +
+				"skipTldScan: false, " +
+				"scanCacheDir: null" +
 			"}");
 	}
 }
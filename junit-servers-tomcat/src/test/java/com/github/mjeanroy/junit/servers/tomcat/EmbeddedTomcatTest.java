@@ -29,15 +29,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.File;
 import java.net.URL;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.catalina.Container;
 import org.apache.catalina.Context;
 import org.apache.catalina.LifecycleState;
+import org.apache.tomcat.JarScanFilter;
+import org.apache.tomcat.JarScanType;
 import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import com.github.mjeanroy.junit.servers.servers.StartupReport;
+
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -135,6 +140,109 @@ public class EmbeddedTomcatTest {
 		assertThat(baseDir).exists();
 	}
 
+	@Test
+	public void it_should_delete_unique_base_dir_in_background() throws Exception {
+		File parent = tmp.newFolder();
+		tomcat = new EmbeddedTomcat(defaultConfigurationBuilder()
+				.withBaseDir(parent.getAbsolutePath())
+				.enableUniqueBaseDir()
+				.deleteBaseDir()
+				.build());
+
+		tomcat.start();
+		tomcat.stop();
+
+		assertThat(new File(tomcat.getBaseDir())).doesNotExist();
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (parent.list().length > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+
+		assertThat(parent.list()).isEmpty();
+
+		// Base directory can be re-used immediately.
+		tomcat.start();
+		assertThat(tomcat.isStarted()).isTrue();
+	}
+
+	@Test
+	public void it_should_use_unique_base_dir() throws Exception {
+		File parent = tmp.newFolder();
+		EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+				.withBaseDir(parent.getAbsolutePath())
+				.enableUniqueBaseDir()
+				.disableNaming()
+				.build();
+
+		tomcat = new EmbeddedTomcat(configuration);
+		EmbeddedTomcat other = new EmbeddedTomcat(configuration);
+
+		try {
+			tomcat.start();
+			other.start();
+			assertThat(tomcat.isStarted()).isTrue();
+			assertThat(other.isStarted()).isTrue();
+
+			assertThat(tomcat.getBaseDir()).isNotEqualTo(other.getBaseDir());
+			assertThat(new File(tomcat.getBaseDir()).getParentFile()).isEqualTo(parent);
+			assertThat(new File(other.getBaseDir()).getParentFile()).isEqualTo(parent);
+		}
+		finally {
+			other.stop();
+		}
+
+		assertThat(new File(other.getBaseDir())).doesNotExist();
+		assertThat(new File(tomcat.getBaseDir())).exists();
+	}
+
+	@Test
+	public void it_should_not_create_unique_base_dir_before_start() throws Exception {
+		File parent = tmp.newFolder();
+		tomcat = new EmbeddedTomcat(defaultConfigurationBuilder()
+				.withBaseDir(parent.getAbsolutePath())
+				.enableUniqueBaseDir()
+				.build());
+
+		assertThat(tomcat.getBaseDir()).isNull();
+		assertThat(parent.list()).isEmpty();
+
+		tomcat.start();
+		assertThat(tomcat.getBaseDir()).isNotNull();
+		assertThat(parent.list()).hasSize(1);
+	}
+
+	@Test
+	public void it_should_not_rename_shared_base_dir() throws Exception {
+		File parent = tmp.newFolder();
+		File baseDir = new File(parent, "tomcat-work");
+		tomcat = new EmbeddedTomcat(defaultConfigurationBuilder()
+				.withBaseDir(baseDir.getAbsolutePath())
+				.deleteBaseDir()
+				.build());
+
+		tomcat.start();
+		tomcat.stop();
+
+		assertThat(baseDir).doesNotExist();
+		assertThat(parent.list()).isEmpty();
+	}
+
+	@Test
+	public void it_should_build_startup_report() {
+		tomcat = new EmbeddedTomcat(defaultConfiguration());
+		tomcat.start();
+
+		StartupReport report = tomcat.getStartupReport();
+		assertThat(report).isNotNull();
+		assertThat(report.getServer()).isEqualTo("EmbeddedTomcat");
+		assertThat(report.findPhase("server.start")).isNotNull();
+		assertThat(report.findPhase("tomcat.context.create")).isNotNull();
+		assertThat(report.findPhase("tomcat.server.start")).isNotNull();
+		assertThat(report.findPhase("tomcat.jar-scan:TLD")).isNotNull();
+		assertThat(report.findPhase("tomcat.jar-scan:PLUGGABILITY")).isNotNull();
+	}
+
 	@Test
 	public void it_should_get_servlet_context() {
 		tomcat = new EmbeddedTomcat(defaultConfiguration());
@@ -209,6 +317,77 @@ public class EmbeddedTomcatTest {
 		assertThat(content).isNotEmpty().contains("Hello World");
 	}
 
+	@Test
+	public void it_should_reload_context_without_stopping_tomcat() throws Exception {
+		URL resource = getClass().getResource("/custom-web.xml");
+		File descriptor = new File(resource.getFile());
+
+		tomcat = new EmbeddedTomcat(defaultConfigurationBuilder()
+				.withOverrideDescriptor(descriptor.getAbsolutePath())
+				.build());
+
+		tomcat.start();
+
+		int port = tomcat.getPort();
+		Context oldContext = readPrivate(tomcat, "context");
+
+		tomcat.reload();
+
+		Context newContext = readPrivate(tomcat, "context");
+		assertThat(tomcat.isStarted()).isTrue();
+		assertThat(tomcat.getPort()).isEqualTo(port);
+		assertThat(newContext).isNotNull().isNotSameAs(oldContext);
+		assertThat(newContext.getState()).isEqualTo(LifecycleState.STARTED);
+		assertThat(oldContext.getState()).isEqualTo(LifecycleState.DESTROYED);
+
+		OkHttpClient client = new OkHttpClient();
+		Request rq = new Request.Builder().url(tomcat.getUrl()).build();
+		Response rsp = client.newCall(rq).execute();
+		assertThat(rsp.code()).isEqualTo(200);
+
+		tomcat.stop();
+		assertThat(newContext.getState()).isEqualTo(LifecycleState.DESTROYED);
+	}
+
+	@Test
+	public void it_should_configure_jar_scan_filter() {
+		tomcat = new EmbeddedTomcat(defaultConfigurationBuilder()
+				.withJarScanInclude("spring-*.jar")
+				.withJarScanExclude("spring-test-*.jar")
+				.skipTldScan()
+				.build());
+
+		tomcat.start();
+
+		Context ctx = readPrivate(tomcat, "context");
+		JarScanFilter filter = ctx.getJarScanner().getJarScanFilter();
+		assertThat(filter.check(JarScanType.PLUGGABILITY, "spring-web-4.3.jar")).isTrue();
+		assertThat(filter.check(JarScanType.PLUGGABILITY, "spring-test-4.3.jar")).isFalse();
+		assertThat(filter.check(JarScanType.PLUGGABILITY, "hibernate-5.0.jar")).isFalse();
+		assertThat(filter.check(JarScanType.TLD, "spring-web-4.3.jar")).isFalse();
+	}
+
+	@Test
+	public void it_should_cache_empty_jars() throws Exception {
+		File cacheDir = tmp.newFolder();
+		EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+				.withScanCacheDir(cacheDir)
+				.build();
+
+		tomcat = new EmbeddedTomcat(configuration);
+		tomcat.start();
+		tomcat.stop();
+
+		ScanCache cache = new ScanCache(cacheDir.getAbsolutePath());
+		assertThat(cache.size()).isPositive();
+
+		tomcat = new EmbeddedTomcat(configuration);
+		tomcat.start();
+		tomcat.stop();
+
+		assertThat(new ScanCache(cacheDir.getAbsolutePath()).size()).isEqualTo(cache.size());
+	}
+
 	private static EmbeddedTomcatConfiguration defaultConfiguration() {
 		return defaultConfigurationBuilder().build();
 	}
@@ -0,0 +1,102 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.tomcat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.net.URL;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ScanCacheTest {
+
+	@Rule
+	public TemporaryFolder tmp = new TemporaryFolder();
+
+	@Test
+	public void it_should_compute_key_of_local_jar() throws Exception {
+		File jar = tmp.newFile("foo.jar");
+		URL url = jar.toURI().toURL();
+
+		String key = ScanCache.key(url, "ctx");
+		assertThat(key).isNotEmpty().isEqualTo(ScanCache.key(url, "ctx"));
+		assertThat(ScanCache.key(new URL("jar:" + url + "!/"), "ctx")).isEqualTo(key);
+		assertThat(ScanCache.key(url, "another")).isNotEqualTo(key);
+	}
+
+	@Test
+	public void it_should_compute_new_key_if_jar_changed() throws Exception {
+		File jar = tmp.newFile("foo.jar");
+		URL url = jar.toURI().toURL();
+		String key = ScanCache.key(url, "ctx");
+
+		assertThat(jar.setLastModified(jar.lastModified() - 10000)).isTrue();
+
+		assertThat(ScanCache.key(url, "ctx")).isNotEqualTo(key);
+	}
+
+	@Test
+	public void it_should_not_compute_key_of_remote_jar() throws Exception {
+		assertThat(ScanCache.key(new URL("http://localhost/foo.jar"), "ctx")).isNull();
+	}
+
+	@Test
+	public void it_should_save_and_load_entries() throws Exception {
+		String dir = tmp.newFolder().getAbsolutePath();
+
+		ScanCache cache = new ScanCache(dir);
+		assertThat(cache.size()).isZero();
+
+		cache.add("foo");
+		cache.add("bar");
+		cache.save();
+
+		ScanCache other = new ScanCache(dir);
+		assertThat(other.size()).isEqualTo(2);
+		assertThat(other.contains("foo")).isTrue();
+		assertThat(other.contains("bar")).isTrue();
+		assertThat(other.contains("baz")).isFalse();
+	}
+
+	@Test
+	public void it_should_merge_entries_saved_concurrently() throws Exception {
+		String dir = tmp.newFolder().getAbsolutePath();
+
+		ScanCache c1 = new ScanCache(dir);
+		ScanCache c2 = new ScanCache(dir);
+
+		c1.add("foo");
+		c2.add("bar");
+		c1.save();
+		c2.save();
+
+		ScanCache other = new ScanCache(dir);
+		assertThat(other.contains("foo")).isTrue();
+		assertThat(other.contains("bar")).isTrue();
+	}
+}